@@ -225,8 +225,27 @@ public class Main_class extends Application
 				Time_counter_control.get_instance().get_time_counters().clear();
 			}
 		});
-		
-		
+
+
+		/* Time counters engine doesn't count time in background while there is
+		 * nothing to show */
+		final ChangeListener<Boolean> window_state_listener =
+				new ChangeListener<Boolean>()
+		{
+			@Override
+			public void changed(
+					final ObservableValue<? extends Boolean> observable,
+					final Boolean oldValue, final Boolean newValue)
+			{
+				Time_counter_control.get_instance().set_idle(
+						primary_stage.isIconified() || !primary_stage.isShowing());
+			}
+		};
+
+		primary_stage.iconifiedProperty().addListener(window_state_listener);
+		primary_stage.showingProperty().addListener(window_state_listener);
+
+
 		primary_stage.show();
 	}
 }
@@ -15,34 +15,40 @@
  */
 package app.tar.graphical_shell;
 
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
 import java.time.format.TextStyle;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Stream;
 
 import app.tar.graphical_shell.events.Locale_change_listener;
 import app.tar.time_obj.Instance_counter;
+import app.tar.time_obj.Latency_monitor;
 import app.tar.time_obj.Mode;
 import app.tar.time_obj.Settings;
 import app.tar.time_obj.Solo_counter;
 import app.tar.time_obj.Time_counter;
 import app.tar.time_obj.Time_counter_control;
+import app.tar.time_obj.Time_counter_state;
 import app.tar.time_obj.Settings.Locale_setting;
 import app.tar.time_obj.Solo_counter.Initial_time_values;
 import app.tar.time_obj.Time_counter.Time_counter_text_value;
-import app.tar.time_obj.containers.Modified_ArrayList;
+import app.tar.time_obj.containers.Time_counter_registry;
+import app.tar.time_obj.events.Batch_operation_event;
+import app.tar.time_obj.events.Batch_operation_listener;
+import app.tar.time_obj.events.Batch_operation_type;
 import app.tar.time_obj.events.Numeric_overflow_event;
 import app.tar.time_obj.events.Numeric_overflow_listener;
 import app.tar.time_obj.events.Time_counter_event;
@@ -302,6 +308,10 @@ class Time_counters_pane
 	/** Common listener for all {@link Solo_counter}{@code s} represented in
 	 * {@link #time_counters_pane_children}. */
 	private static final Numeric_overflow_listener numeric_overflow_listener;
+	/** Applies engine batch operations results to
+	 * {@link #time_counters_pane_children} within single FX&nbsp;application
+	 * thread task per operation. */
+	private static final Batch_operation_listener batch_operation_listener;
 	
 	
 	static
@@ -716,9 +726,28 @@ class Time_counters_pane
 			}
 		};
 		
+		batch_operation_listener = new Batch_operation_listener()
+		{
+			@Override
+			public void batch_operation_performed(
+					final Batch_operation_event event)
+			{
+				Platform.runLater(new Runnable()
+				{
+					@Override
+					public void run()
+					{
+						apply_batch_operation(event);
+					}
+				});
+			}
+		};
+		
 		final Time_counter_control time_counter_control =
 				Time_counter_control.get_instance();
 		
+		time_counter_control.add_Batch_operation_listener(
+				batch_operation_listener);
 		time_counter_control.read_time_counters_from_file();
 		
 		gui_settings.add_Locale_change_listener(new Locale_change_listener()
@@ -738,7 +767,7 @@ class Time_counters_pane
 				}
 				
 				// Time counters contained in "Time_counter_control" singleton 
-				final Modified_ArrayList time_counters;
+				final Time_counter_registry time_counters;
 				
 				try
 				{
@@ -818,7 +847,7 @@ class Time_counters_pane
 		});
 		
 		// Time counters saved previously
-		final Modified_ArrayList time_counters =
+		final Time_counter_registry time_counters =
 				time_counter_control.get_time_counters();
 		
 		/* Create controls for each time counter and place them into necessary
@@ -1152,6 +1181,9 @@ class Time_counters_pane
 					time_counter_resources.getString("modes.elapsed_from") + ' ');
 			final Instance_counter cast_to_Instance_counter1 =
 					(Instance_counter)time_counter;
+			// Date time the time counter value is calculated relatively to
+			final ZonedDateTime time_instance1 =
+					cast_to_Instance_counter1.get_time_instance();
 			
 			// Program locale
 			final Locale_setting program_locale1 =
@@ -1163,11 +1195,11 @@ class Time_counters_pane
 					program_locale1.variant_code);
 			
 			elapsed_from_tooltip.append(
-					cast_to_Instance_counter1.time_instance.getDayOfWeek().getDisplayName(
+					time_instance1.getDayOfWeek().getDisplayName(
 							TextStyle.SHORT, locale_to_pass1));
 			elapsed_from_tooltip.append(' ');
 			elapsed_from_tooltip.append(
-					cast_to_Instance_counter1.time_instance.format(
+					time_instance1.format(
 							DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM).withLocale(
 									locale_to_pass1)));
 			
@@ -1186,6 +1218,9 @@ class Time_counters_pane
 					time_counter_resources.getString("modes.remains_till") + ' ');
 			final Instance_counter cast_to_Instance_counter2 =
 					(Instance_counter)time_counter;
+			// Date time the time counter value is calculated relatively to
+			final ZonedDateTime time_instance2 =
+					cast_to_Instance_counter2.get_time_instance();
 			
 			// Program locale
 			final Locale_setting program_locale2 =
@@ -1197,11 +1232,11 @@ class Time_counters_pane
 					program_locale2.variant_code);
 			
 			remains_till_tooltip.append(
-					cast_to_Instance_counter2.time_instance.getDayOfWeek().getDisplayName(
+					time_instance2.getDayOfWeek().getDisplayName(
 							TextStyle.SHORT, locale_to_pass2));
 			remains_till_tooltip.append(' ');
 			remains_till_tooltip.append(
-					cast_to_Instance_counter2.time_instance.format(
+					time_instance2.format(
 							DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM).withLocale(
 									locale_to_pass2)));
 			
@@ -1295,6 +1330,8 @@ class Time_counters_pane
 					public void run()
 					{
 						time_counter_value.setText(new_value.time_value_text);
+						Latency_monitor.get_instance().record_display(
+								time_counter, new_value);
 					}
 				});
 			}
@@ -2484,59 +2521,51 @@ class Time_counters_pane
 	
 	/**
 	 * Starts/resumes all {@link Solo_counter} objects which are working in
-	 * passed {@code modes}.
-	 * <p><b>Warning!</b> Since {@link Instance_counter}
-	 * does&nbsp;not&nbsp;support starting/resuming its time&nbsp;counter, it is
-	 * <u>prohibited</u> to pass {@link Mode#M_elapsed_from} and
-	 * {@link Mode#M_remains_till} enumeration constants as arguments, and may
-	 * result in runtime exception.
-	 * <p><i>Note.</i> Task is performed
-	 * <u>not&nbsp;in&nbsp;FX&nbsp;application thread</u>.
+	 * passed {@code modes} using single engine batch operation (see
+	 * {@link Time_counter_control#start_all(Mode...)}). Controls are refreshed
+	 * by {@link #batch_operation_listener}.
+	 * <p><i>Notes.</i>
+	 * <ul><li>Since {@link Instance_counter} does&nbsp;not&nbsp;support
+	 * starting/resuming its time&nbsp;counter, the&nbsp;method
+	 * <u>does&nbsp;nothing</u> for passed {@link Mode#M_elapsed_from} and
+	 * {@link Mode#M_remains_till} arguments.</li>
+	 * <li>Task is performed <u>not&nbsp;in&nbsp;FX&nbsp;application thread</u>.</li></ul>
 	 * 
 	 * @param modes {@link Time_counter} objects types which are needed to be
 	 * started/resumed.
-	 * 
-	 * @exception ClassCastException {@link Mode#M_elapsed_from} and/or
-	 * {@link Mode#M_remains_till} are passed. {@link Time_counter}{@code s},
-	 * operating in these modes, <u>do&nbsp;not</u> support required by method
-	 * operation.
 	 */
 	static void start_all(final Mode... modes)
 	{
-		start_pause_all(true, modes);
+		perform_batch_operation(Batch_operation_type.BOT_start, modes);
 	}
 	
 	
 	/**
 	 * Pauses all {@link Solo_counter} objects which are working in passed
-	 * {@code modes}.
-	 * <p><b>Warning!</b> Since {@link Instance_counter}
-	 * does&nbsp;not&nbsp;support pausing its time&nbsp;counter, it is
-	 * <u>prohibited</u> to pass {@link Mode#M_elapsed_from} and
-	 * {@link Mode#M_remains_till} enumeration constants as arguments, and may
-	 * result in runtime exception.
-	 * <p><i>Note.</i> Task is performed
-	 * <u>not&nbsp;in&nbsp;FX&nbsp;application thread</u>.
+	 * {@code modes} using single engine batch operation (see
+	 * {@link Time_counter_control#pause_all(Mode...)}). Controls are refreshed
+	 * by {@link #batch_operation_listener}.
+	 * <p><i>Notes.</i>
+	 * <ul><li>Since {@link Instance_counter} does&nbsp;not&nbsp;support
+	 * pausing its time&nbsp;counter, the&nbsp;method <u>does&nbsp;nothing</u>
+	 * for passed {@link Mode#M_elapsed_from} and {@link Mode#M_remains_till}
+	 * arguments.</li>
+	 * <li>Task is performed <u>not&nbsp;in&nbsp;FX&nbsp;application thread</u>.</li></ul>
 	 * 
 	 * @param modes {@link Time_counter} objects types which are needed to be
-	 * started/resumed.
-	 * 
-	 * @exception ClassCastException {@link Mode#M_elapsed_from} and/or
-	 * {@link Mode#M_remains_till} are passed. {@link Time_counter}{@code s},
-	 * operating in these modes, <u>do&nbsp;not</u> support required by method
-	 * operation.
+	 * paused.
 	 */
 	static void pause_all(final Mode... modes)
 	{
-		start_pause_all(false, modes);
+		perform_batch_operation(Batch_operation_type.BOT_pause, modes);
 	}
 	
 	
-	/* There are no circumstances in which ClassCastException may be thrown
-	 * in contrast to "start_pause_all()" method */
 	/**
 	 * Restarts all {@link Solo_counter} objects which are working in passed
-	 * {@code modes}.
+	 * {@code modes} using single engine batch operation (see
+	 * {@link Time_counter_control#restart_all(Mode...)}). Controls are
+	 * refreshed by {@link #batch_operation_listener}.
 	 * <p><i>Notes.</i>
 	 * <ul><li>Since {@link Instance_counter} does&nbsp;not&nbsp;support
 	 * restarting its time&nbsp;counter, the&nbsp;method <u>does&nbsp;nothing</u>
@@ -2549,48 +2578,15 @@ class Time_counters_pane
 	 */
 	static void restart_all(final Mode... modes)
 	{
-		new Thread(new Runnable()
-		{
-			@Override
-			public void run()
-			{
-				get_time_counters_by_mode(modes).forEach(new Consumer<Node>()
-				{
-					@Override
-					public void accept(final Node t)
-					{
-						// Time counter representative pane children nodes
-						final ObservableList<Node> representative_controls =
-								((HBox)t).getChildren();
-						
-						// Searching for Restart button
-						for (final Node control : representative_controls)
-						{
-							// If Restart button is found
-							if (restart_button_id.equals(control.getId()))
-							{
-								Platform.runLater(new Runnable()
-								{
-									@Override
-									public void run()
-									{
-										((Button)control).fire();
-									}
-								});
-								
-								break;
-							}
-						}
-					}
-				});
-			}
-		}).start();
+		perform_batch_operation(Batch_operation_type.BOT_restart, modes);
 	}
 	
 	
 	/**
 	 * Closes all {@link Time_counter} objects which are working in passed
-	 * {@code modes}.
+	 * {@code modes} using single engine batch operation (see
+	 * {@link Time_counter_control#close_all(Mode...)}). Representing controls
+	 * are removed by {@link #batch_operation_listener}.
 	 * <p><i>Note.</i> Method is executed
 	 * <u>not&nbsp;in&nbsp;FX&nbsp;application thread</u>.
 	 * 
@@ -2602,133 +2598,7 @@ class Time_counters_pane
 	 */
 	static void close_all(final Mode... modes)
 	{
-		new Thread(new Runnable()
-		{
-			@Override
-			public void run()
-			{
-				// All "Mode" enumeration constants
-				final Mode[] mode_values = Mode.values();
-				
-				// Check whether need to close all time counters
-				if (modes.length == mode_values.length)
-				{
-					/* Not 'null' value for the specified mode means that
-					 * related time counters need to be closed */
-					final EnumMap<Mode, Boolean> required_modes =
-							new EnumMap<>(Mode.class);
-					
-//					// Initialize "required_modes" container
-//					for (final Mode i : mode_values)
-//					{
-//						required_modes.put(i, false);
-//					}
-					
-					// Search for time counters types that need to be closed
-					for (final Mode i : modes)
-					{
-						required_modes.put(i, true);
-					}
-					
-					/* 'true' - all time counters need to be removed */
-					boolean need_to_remove_all = true;
-					
-					/* Check whether need to close all time counters. This
-					 * happens when all "required_modes" container values are
-					 * not 'null' */
-					for (final Mode i : mode_values)
-					{
-						if (required_modes.get(i) == null)
-						{
-							need_to_remove_all = false;
-							
-							break;
-						}
-					}
-					
-					// If all time counters need to be removed
-					if (need_to_remove_all)
-					{
-						try
-						{
-							time_counters_pane_children_lock.lockInterruptibly();
-						}
-						catch (final InterruptedException exc)
-						{
-							logger.log(
-									Level.INFO,
-									"Thread interrupts. Exception stack trace:",
-									exc);
-							Thread.currentThread().interrupt();
-						}
-						
-						try
-						{
-							Platform.runLater(new Runnable()
-							{
-								@Override
-								public void run()
-								{
-									time_counters_pane_children.clear();
-								}
-							});
-							
-							Time_counter_control.get_instance().get_time_counters().clear();
-							
-							///// Menu bar managing section ---------------/////
-							time_counters_quantity_lock.lock();
-							
-							try
-							{
-								set_time_counters_quantity_to_0();
-								disable_all_actions_menu_items();
-							}
-							finally
-							{
-								time_counters_quantity_lock.unlock();
-							}
-							/////------------------------------------------/////
-						}
-						finally
-						{
-							time_counters_pane_children_lock.unlock();
-						}
-						
-						return;
-					}
-				}
-				
-				get_time_counters_by_mode(modes).forEach(new Consumer<Node>()
-				{
-					@Override
-					public void accept(final Node t)
-					{
-						// Time counter representative pane children nodes
-						final ObservableList<Node> representative_controls =
-								((HBox)t).getChildren();
-						
-						// Searching for Close button
-						for (final Node control : representative_controls)
-						{
-							// If Restart button is found
-							if (close_button_id.equals(control.getId()))
-							{
-								Platform.runLater(new Runnable()
-								{
-									@Override
-									public void run()
-									{
-										((Button)control).fire();
-									}
-								});
-								
-								break;
-							}
-						}
-					}
-				});
-			}
-		}).start();
+		perform_batch_operation(Batch_operation_type.BOT_close, modes);
 	}
 	
 	
@@ -2738,147 +2608,346 @@ class Time_counters_pane
 	//                                                                         *
 	//**************************************************************************
 	/**
-	 * Auxiliary for {@link #start_all(Mode...)} and {@link #pause_all(Mode...)}
-	 * methods.
-	 * <p>Starts or pauses all {@link Solo_counter} objects which are
-	 * working in passed {@code modes}, depending on {@code start} argument value.
-	 * <p><b>Warning!</b> Since {@link Instance_counter}
-	 * does&nbsp;not&nbsp;support starting/pausing its time&nbsp;counter, it is
-	 * <u>prohibited</u> to pass {@link Mode#M_elapsed_from} and
-	 * {@link Mode#M_remains_till} enumeration constants as arguments, and may
-	 * result in runtime exception.
-	 * <p><i>Note.</i> The&nbsp;method is executed
+	 * Auxiliary for {@link #start_all(Mode...)}, {@link #pause_all(Mode...)},
+	 * {@link #restart_all(Mode...)} and {@link #close_all(Mode...)} methods.
+	 * <p>Performs specified engine batch {@code operation} over time&nbsp;counters
+	 * working in passed {@code modes}
 	 * <u>not&nbsp;in&nbsp;FX&nbsp;application thread</u>.
 	 * 
-	 * @param start {@code true} &#0151; the&nbsp;method starts all
-	 * {@link Solo_counter}{@code s}; {@code false}&nbsp;&#0151; pauses all.
+	 * @param operation Batch operation to perform.
 	 * 
-	 * @param modes {@link Time_counter} objects types which are needed to be
-	 * started or paused.
+	 * @param modes {@link Time_counter} objects types to perform
+	 * the&nbsp;operation over.
 	 * 
-	 * @exception ClassCastException {@link Mode#M_elapsed_from} and/or
-	 * {@link Mode#M_remains_till} are passed. {@link Time_counter}{@code s},
-	 * operating in these modes, <u>do&nbsp;not</u> support required by method
-	 * operation.
+	 * @exception NullPointerException There is {@code null} passed among
+	 * arguments.
 	 */
-	private static void start_pause_all(
-			final boolean start, final Mode... modes)
+	private static void perform_batch_operation(
+			final Batch_operation_type operation, final Mode... modes)
 	{
+		for (final Mode i : modes)
+		{
+			// Modes cannot be null
+			if (i == null)
+			{
+				throw new NullPointerException(
+						Mode.class.getName() + " argument is null");
+			}
+		}
+		
 		new Thread(new Runnable()
 		{
 			@Override
 			public void run()
 			{
-				get_time_counters_by_mode(modes).forEach(new Consumer<Node>()
+				// Time counters engine
+				final Time_counter_control time_counter_control =
+						Time_counter_control.get_instance();
+				
+				switch (operation)
 				{
-					@Override
-					public void accept(final Node t)
-					{
-						// Time counter represented by "t" controls pane
-						final Time_counter time_counter =
-								(Time_counter)t.getUserData();
-						
-						/* true - time counter is currently running;
-						 * false - is paused */
-						final boolean is_runnging =
-								((Solo_counter)time_counter).is_running();
-						
-						// If need to start all AND time counter is paused
-						if (start && !is_runnging)
-						{
-							fire_start_button((HBox)t);
-						}
-						// If need to pause all AND time counter is running
-						else if (!start && is_runnging)
-						{
-							fire_start_button((HBox)t);
-						}
-					}
-				});
+				case BOT_start:
+					time_counter_control.start_all(modes);
+					
+					break;
+					
+					
+				case BOT_pause:
+					time_counter_control.pause_all(modes);
+					
+					break;
+					
+					
+				case BOT_restart:
+					time_counter_control.restart_all(modes);
+					
+					break;
+					
+					
+				case BOT_close:
+					time_counter_control.close_all(modes);
+					
+					break;
+					
+					
+				default:
+					throw new EnumConstantNotPresentException(
+							Batch_operation_type.class, operation.name());
+				}
 			}
 		}).start();
 	}
 	
 	
 	/**
-	 * Auxiliary for {@link #start_pause_all(boolean, Mode...)},
-	 * {@link #restart_all(Mode...)} and {@link #close_all(Mode...)} methods.
-	 * <p>Filters {@link #time_counters_pane_children} to find
-	 * {@link HBox}{@code es} that represent {@link Time_counter}{@code s}
-	 * working in specified {@code modes}.
-	 * 
-	 * @param modes {@link Time_counter} objects types which need to be found.
+	 * {@link #batch_operation_listener} auxiliary.
+	 * <p>Applies engine batch operation result to
+	 * {@link #time_counters_pane_children} within single pass: removes
+	 * representatives of closed time&nbsp;counters, or refreshes
+	 * representatives of started/paused/restarted ones. Then recounts
+	 * menu&nbsp;bar state once (see {@link #recount_time_counters_quantity()}).
+	 * <p><b>Warning!</b> Must be executed in FX&nbsp;application thread.
 	 * 
-	 * @return {@link Time_counter} representatives ({@link HBox} panes).
+	 * @param event Engine batch operation event.
 	 */
-	private static Stream<Node> get_time_counters_by_mode(final Mode... modes)
+	private static void apply_batch_operation(final Batch_operation_event event)
 	{
-		// Thread-safe snapshot of "time_counters_pane" children
-		final CopyOnWriteArrayList<Node> snapshot =
-				new CopyOnWriteArrayList<>(time_counters_pane_children);
+		// Time counters which representatives need to be changed
+		final Set<Time_counter> changed =
+				Collections.newSetFromMap(new IdentityHashMap<Time_counter, Boolean>());
 		
-		return snapshot.stream().filter(new Predicate<Node>()
+		changed.addAll(event.time_counters);
+		
+		try
 		{
-			@Override
-			public boolean test(final Node t)
+			time_counters_pane_children_lock.lockInterruptibly();
+		}
+		catch (final InterruptedException exc)
+		{
+			logger.log(Level.INFO,
+					"Thread interrupts. Exception stack trace:", exc);
+			Thread.currentThread().interrupt();
+		}
+		
+		try
+		{
+			// If time counters have been closed
+			if (event.operation.equals(Batch_operation_type.BOT_close))
 			{
-				// Time counter represented by "t" controls pane
-				final Time_counter time_counter = (Time_counter)t.getUserData();
+				// Time counters quantity before removing
+				final int quantity_before = time_counters_pane_children.size();
 				
-				// Compare "time_counter" object mode with required
-				for (int i = 0; i < modes.length; ++i)
+				time_counters_pane_children.removeIf(new Predicate<Node>()
 				{
-					// If required mode is found
-					if (time_counter.instance_mode.equals(modes[i]))
+					@Override
+					public boolean test(final Node t)
 					{
-						return true;
+						return changed.contains(t.getUserData());
 					}
-				}
+				});
 				
-				return false;
+				time_counters_pane.setPrefRows(
+						time_counters_pane.getPrefRows() -
+						(quantity_before - time_counters_pane_children.size()));
 			}
-		});
+			else
+			{
+				for (final Node i : time_counters_pane_children)
+				{
+					// Time counter represented by "i" controls pane
+					final Object time_counter = i.getUserData();
+					
+					// If time counter state has been changed by the operation
+					if (changed.contains(time_counter))
+					{
+						refresh_solo_counter_controls(
+								(HBox)i, (Solo_counter)time_counter);
+					}
+				}
+			}
+			
+			///// Menu bar managing section -------------------------------/////
+			time_counters_quantity_lock.lock();
+			
+			try
+			{
+				recount_time_counters_quantity();
+			}
+			finally
+			{
+				time_counters_quantity_lock.unlock();
+			}
+			/////----------------------------------------------------------/////
+		}
+		finally
+		{
+			time_counters_pane_children_lock.unlock();
+		}
 	}
 	
 	
 	/**
-	 * {@link #start_pause_all(boolean, Mode...)} method auxiliary.
-	 * <p>Searches and
-	 * fires <i>Start/Resume/Pause</i> button on the&nbsp;given
-	 * {@code time_counter_representative} pane.
+	 * {@link #apply_batch_operation(Batch_operation_event)} method auxiliary.
+	 * <p>Brings <i>Start/Resume/Pause</i> button, <i>Restart</i> button and
+	 * value label on the&nbsp;given {@code time_counter_representative} pane in
+	 * accordance with {@code solo_counter} current state.
+	 * <p><b>Warning!</b> Must be executed in FX&nbsp;application thread.
 	 * 
-	 * @param time_counter_representative Pane to fire <i>Start/Resume/Pause</i>
-	 * button on.
+	 * @param time_counter_representative Pane representing
+	 * {@code solo_counter}.
 	 * 
-	 * @exception NullPointerException Passed argument is {@code null}.
+	 * @param solo_counter Time&nbsp;counter which state is shown.
 	 */
-	private static void fire_start_button(final HBox time_counter_representative)
+	private static void refresh_solo_counter_controls(
+			final HBox time_counter_representative,
+			final Solo_counter solo_counter)
 	{
-		// Time counter representative pane children nodes
-		final ObservableList<Node> representative_controls =
-				((HBox)time_counter_representative).getChildren();
-		
-		// Searching for Start/Resume/Pause button
-		for (final Node control : representative_controls)
+		/* true - time counter is currently running;
+		 * false - is paused */
+		final boolean is_running = solo_counter.is_running();
+		// 'true' — time counter is in numeric overflow state
+		final boolean numeric_overflow_status =
+				solo_counter.numeric_overflow_status();
+		// 'true' — time counter value is positive
+		final boolean is_positive =
+				solo_counter.get_time_counter_text_value().is_positive;
+		
+		for (final Node control : time_counter_representative.getChildren())
 		{
+			// Control identifier
+			final String id = control.getId();
+			
 			// If Start/Resume/Pause button is found
-			if (start_button_id.equals(control.getId()))
+			if (start_button_id.equals(id))
 			{
-				Platform.runLater(new Runnable()
-				{
-					@Override
-					public void run()
-					{
-						((Button)control).fire();
-					}
-				});
+				// Start/Resume/Pause button
+				final Button start_button = (Button)control;
 				
-				break;
+				start_button.setDisable(numeric_overflow_status);
+				
+				// If time counter is running
+				if (is_running)
+				{
+					start_button.setGraphic(new ImageView(pause_image));
+					start_button.getTooltip().setText(hints_resources.getString(
+							"start_button_tooltips.pause"));
+				}
+				// If time counter is in its initial state or cannot be resumed
+				else if (numeric_overflow_status ||
+						!solo_counter.counting_had_started())
+				{
+					start_button.setGraphic(new ImageView(start_image));
+					start_button.getTooltip().setText(hints_resources.getString(
+							"start_button_tooltips.start"));
+				}
+				else
+				{
+					start_button.setGraphic(new ImageView(resume_image));
+					start_button.getTooltip().setText(hints_resources.getString(
+							"start_button_tooltips.resume"));
+				}
+			}
+			// If Restart button is found
+			else if (restart_button_id.equals(id))
+			{
+				control.setDisable(
+						!is_running && !solo_counter.counting_had_started());
+			}
+			// If label representing time counter value is found
+			else if (control instanceof Label)
+			{
+				// If time counter is running
+				if (is_running)
+				{
+					((Label)control).setTextFill(
+							is_positive ? default_color : time_elapsed_color);
+				}
+				// If time counter value cannot change anymore
+				else if (numeric_overflow_status)
+				{
+					((Label)control).setTextFill(time_elapsed_color);
+				}
+				else
+				{
+					((Label)control).setTextFill(is_positive ?
+							default_disabled_color : time_elapsed_disabled_color);
+				}
 			}
 		}
 	}
 	
 	
+	/**
+	 * Recounts all fields responsible for managing <i>Actions</i>
+	 * menu&nbsp;items from menu&nbsp;bar using {@link Time_counter_registry}
+	 * quantities by mode and state (in constant time), and enables/disables
+	 * all such menu&nbsp;items at&nbsp;once. Used after engine batch operation
+	 * instead of per&#8209;time&nbsp;counter incremental changes.
+	 * <p><b>Warning!</b> {@link #time_counters_pane_children_lock} and
+	 * {@link #time_counters_quantity_lock} must be held by the&nbsp;caller.
+	 */
+	private static void recount_time_counters_quantity()
+	{
+		// Time counters registry keeping quantities by mode and state
+		final Time_counter_registry registry =
+				Time_counter_control.get_instance().get_time_counters();
+		
+		for (final Mode i : Mode.values())
+		{
+			time_counters_quantity.put(i, registry.get_quantity(i));
+		}
+		
+		running_stopwatches = registry.get_quantity(
+				Mode.M_stopwatch, Time_counter_state.TCS_running);
+		paused_stopwatches = registry.get_quantity(
+				Mode.M_stopwatch, Time_counter_state.TCS_paused);
+		restarted_stopwatches = registry.get_quantity(
+				Mode.M_stopwatch, Time_counter_state.TCS_initial);
+		overflowed_stopwatches = registry.get_quantity(
+				Mode.M_stopwatch, Time_counter_state.TCS_overflowed);
+		running_timers = registry.get_quantity(
+				Mode.M_countdown, Time_counter_state.TCS_running);
+		paused_timers = registry.get_quantity(
+				Mode.M_countdown, Time_counter_state.TCS_paused);
+		restarted_timers = registry.get_quantity(
+				Mode.M_countdown, Time_counter_state.TCS_initial);
+		overflowed_timers = registry.get_quantity(
+				Mode.M_countdown, Time_counter_state.TCS_overflowed);
+		
+		// Stopwatches quantity
+		final int stopwatches = time_counters_quantity.get(Mode.M_stopwatch);
+		// Timers quantity
+		final int timers = time_counters_quantity.get(Mode.M_countdown);
+		// "Elapsed from" time counters quantity
+		final int elapsed_from = time_counters_quantity.get(Mode.M_elapsed_from);
+		// "Remains till" time counters quantity
+		final int remains_till = time_counters_quantity.get(Mode.M_remains_till);
+		// Stopwatches that can be started
+		final int startable_stopwatches =
+				paused_stopwatches - overflowed_stopwatches;
+		// Timers that can be started
+		final int startable_timers = paused_timers - overflowed_timers;
+		// Stopwatches that can be restarted
+		final int restartable_stopwatches =
+				running_stopwatches + paused_stopwatches - restarted_stopwatches;
+		// Timers that can be restarted
+		final int restartable_timers =
+				running_timers + paused_timers - restarted_timers;
+		
+		Top_pane.set_disable_save_menu_item(
+				stopwatches + timers + elapsed_from + remains_till == 0);
+		
+		Top_pane.set_disable_stopwatches_submenu(stopwatches == 0);
+		Top_pane.set_disable_start_stopwatches_menu_item(
+				startable_stopwatches == 0);
+		Top_pane.set_disable_pause_stopwatches_menu_item(
+				running_stopwatches == 0);
+		Top_pane.set_disable_restart_stopwatches_menu_item(
+				restartable_stopwatches == 0);
+		
+		Top_pane.set_disable_timers_submenu(timers == 0);
+		Top_pane.set_disable_start_timers_menu_item(startable_timers == 0);
+		Top_pane.set_disable_pause_timers_menu_item(running_timers == 0);
+		Top_pane.set_disable_restart_timers_menu_item(restartable_timers == 0);
+		
+		Top_pane.set_disable_stopwatches_timers_submenu(stopwatches + timers == 0);
+		Top_pane.set_disable_start_stopwatches_timers_menu_item(
+				startable_stopwatches + startable_timers == 0);
+		Top_pane.set_disable_pause_stopwatches_timers_menu_item(
+				running_stopwatches + running_timers == 0);
+		Top_pane.set_disable_restart_stopwatches_timers_menu_item(
+				restartable_stopwatches + restartable_timers == 0);
+		
+		Top_pane.set_disable_elapsed_from_submenu(elapsed_from == 0);
+		Top_pane.set_disable_remains_till_submenu(remains_till == 0);
+		Top_pane.set_disable_elapsed_from_remains_till_submenu(
+				elapsed_from + remains_till == 0);
+		
+		Top_pane.set_disable_close_all_time_counters_menu_item(
+				stopwatches + timers + elapsed_from + remains_till == 0);
+	}
+	
+	
 	/**
 	 * Auxiliary for {@link #add_time_counter_to_pane(Time_counter)} method and
 	 * {@link EventHandler} for <i>Close</i> button
@@ -29,7 +29,7 @@ import app.tar.graphical_shell.events.Locale_change_listener;
 import app.tar.time_obj.Mode;
 import app.tar.time_obj.Time_counter;
 import app.tar.time_obj.Time_counter_control;
-import app.tar.time_obj.containers.Modified_ArrayList;
+import app.tar.time_obj.containers.Time_counter_registry;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
@@ -77,7 +77,7 @@ class Top_pane
 	private static final GUI_settings gui_settings;
 	
 	/** Contains all existing {@link Time_counter} objects. */
-	private static final Modified_ArrayList time_counters;
+	private static final Time_counter_registry time_counters;
 	
 	/** Resource bundle representing <i>.properties</i> resource which contains
 	 * hints and tooltips texts. */
@@ -0,0 +1,1268 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.soak_harness;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import app.tar.time_obj.Days_in_year;
+import app.tar.time_obj.Instance_counter;
+import app.tar.time_obj.Mode;
+import app.tar.time_obj.Solo_counter;
+import app.tar.time_obj.Time_counter;
+import app.tar.time_obj.Time_counter.Time_counter_text_value;
+import app.tar.time_obj.Time_counter_control;
+import app.tar.time_obj.Time_display_style;
+import app.tar.time_obj.Time_unit_layout;
+import app.tar.time_obj.Time_unit_name;
+import app.tar.time_obj.events.Time_counter_event;
+import app.tar.time_obj.events.Time_counter_text_listener;
+
+
+/**
+ * Headless scale/soak harness. Builds {@link Solo_counter} and
+ * {@link Instance_counter} objects in configurable mix of modes, layouts and
+ * listener counts, runs them through {@link Time_counter_control} for
+ * the&nbsp;specified duration and reports CPU&nbsp;time, live thread count,
+ * heap after&nbsp;GC, tick latency percentiles and missed second&#8209;flips
+ * as JSON.
+ * <p>Arguments are passed as {@code key=value} pairs (all are optional):
+ * <ul><li>{@code counters}&nbsp;&#0151; total time&nbsp;counters quantity
+ * (default&nbsp;{@code 1000});</li>
+ * <li>{@code mix}&nbsp;&#0151; relative weights of modes in
+ * {@code stopwatch:1,countdown:1,elapsed_from:1,remains_till:1} form;</li>
+ * <li>{@code styles}&nbsp;&#0151; {@code all} or comma&#8209;separated
+ * {@link Time_display_style} constant names, which are assigned to
+ * time&nbsp;counters in turn (default&nbsp;{@code all});</li>
+ * <li>{@code layouts}&nbsp;&#0151; {@code all} or comma&#8209;separated
+ * {@link Time_unit_layout} constant names (default&nbsp;{@code all});</li>
+ * <li>{@code listeners}&nbsp;&#0151; {@link Time_counter_text_listener}
+ * quantity per time&nbsp;counter (default&nbsp;{@code 1});</li>
+ * <li>{@code warmup}&nbsp;&#0151; seconds to run before measuring
+ * (default&nbsp;{@code 5});</li>
+ * <li>{@code duration}&nbsp;&#0151; measured seconds
+ * (default&nbsp;{@code 60});</li>
+ * <li>{@code countdown_max}&nbsp;&#0151; maximum initial countdown value in
+ * seconds; countdowns shorter than the&nbsp;run reach zero while measuring
+ * (default&nbsp;{@code 86400});</li>
+ * <li>{@code instance_range}&nbsp;&#0151; maximum distance in seconds
+ * between current time and {@link Instance_counter} target time
+ * (default&nbsp;{@code 31536000});</li>
+ * <li>{@code seed}&nbsp;&#0151; random seed (default&nbsp;{@code 1});</li>
+ * <li>{@code report}&nbsp;&#0151; report file path, or {@code -} to print
+ * the&nbsp;report to standard output (default&nbsp;{@code -});</li>
+ * <li>{@code footprint}&nbsp;&#0151; idle time&nbsp;counters quantity per
+ * mode created after the&nbsp;run to measure heap retained by each of them;
+ * {@code 0} turns the&nbsp;check off (default&nbsp;{@code 10000});</li>
+ * <li>{@code footprint_limit}&nbsp;&#0151; maximum allowed heap in bytes
+ * retained by idle time&nbsp;counter of any mode
+ * (default&nbsp;{@code 1024}).</li></ul>
+ * <i>Notes.</i>
+ * <ul><li>Tick latency is measured from the&nbsp;expected second&#8209;flip:
+ * the&nbsp;wall&#8209;clock second boundary for {@link Instance_counter}s
+ * and the&nbsp;start instant phase for {@link Solo_counter}s.</li>
+ * <li>The&nbsp;harness uses {@link Time_counter_control} singleton and
+ * {@link app.tar.time_obj.Settings} the&nbsp;same way as GUI does, so it
+ * should be run in a&nbsp;directory where settings file may be created. It
+ * <u>never</u> saves time&nbsp;counters.</li>
+ * <li>Process exits with {@code 0} status on success, {@code 2} on
+ * incorrect arguments, {@code 3} if footprint limit is exceeded and
+ * {@code 1} on report writing failure.</li></ul>
+ *
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public class Soak_harness
+{
+	///// Inner classes private ===========================================/////
+	/**
+	 * Harness run parameters.
+	 *
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	private static class Config
+	{
+		///// Fields default-access of-instance ===========================/////
+		/** Total time&nbsp;counters quantity. */
+		int counters = 1000;
+		/** Relative weights of {@link Mode}{@code s}. */
+		final EnumMap<Mode, Integer> mix = new EnumMap<>(Mode.class);
+		/** Display styles assigned to time&nbsp;counters in turn. */
+		Time_display_style[] styles = Time_display_style.values();
+		/** Time&nbsp;unit layouts assigned to time&nbsp;counters in turn. */
+		Time_unit_layout[] layouts = Time_unit_layout.values();
+		/** Listeners quantity per time&nbsp;counter. */
+		int listeners = 1;
+		/** Warm&#8209;up seconds. */
+		int warmup = 5;
+		/** Measured seconds. */
+		int duration = 60;
+		/** Maximum initial countdown value in seconds. */
+		long countdown_max = TimeUnit.DAYS.toSeconds(1);
+		/** Maximum distance in seconds between now and target time. */
+		long instance_range = TimeUnit.DAYS.toSeconds(365);
+		/** Random seed. */
+		long seed = 1;
+		/** Report file path or {@code "-"} for standard output. */
+		String report = "-";
+		/** Idle time&nbsp;counters quantity per mode created to measure
+		 * footprint. {@code 0} turns the&nbsp;check off. */
+		int footprint = 10000;
+		/** Maximum allowed footprint of idle time&nbsp;counter in bytes. */
+		long footprint_limit = 1024;
+
+
+		///// Nonstatic initializer =======================================/////
+		{
+			for (final Mode i : Mode.values())
+			{
+				mix.put(i, 1);
+			}
+		}
+	}
+
+
+	/**
+	 * Latency histogram with 1&nbsp;millisecond resolution.
+	 * The&nbsp;last bucket accumulates all bigger values.
+	 *
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	private static class Histogram
+	{
+		///// Fields private of-instance ==================================/////
+		/** Samples quantity per millisecond. */
+		private final AtomicLongArray buckets;
+		/** The&nbsp;biggest recorded value in milliseconds. */
+		private final AtomicLong max;
+
+
+		///// Constructors default-access =================================/////
+		/**
+		 * @param range_ms Values range in milliseconds.
+		 */
+		Histogram(final int range_ms)
+		{
+			buckets = new AtomicLongArray(range_ms + 1);
+			max = new AtomicLong();
+		}
+
+
+		///// Methods default-access of-instance ==========================/////
+		/**
+		 * Records {@code value_ms} sample.
+		 *
+		 * @param value_ms Value in milliseconds. Negative values are recorded
+		 * as&nbsp;{@code 0}.
+		 */
+		void record(final long value_ms)
+		{
+			// Index of bucket to increment
+			final int index = (int)Math.max(0,
+					Math.min(value_ms, buckets.length() - 1));
+
+			buckets.incrementAndGet(index);
+
+			// The biggest recorded value at the moment
+			long current_max = max.get();
+
+			while (value_ms > current_max &&
+					!max.compareAndSet(current_max, value_ms))
+			{
+				current_max = max.get();
+			}
+		}
+
+
+		/**
+		 * @return Histogram summary: samples quantity, percentiles and
+		 * maximum value.
+		 */
+		Map<String, Object> summary()
+		{
+			// Samples quantity
+			long count = 0;
+
+			for (int i = 0, end = buckets.length(); i < end; ++i)
+			{
+				count += buckets.get(i);
+			}
+
+			// Summary to return
+			final Map<String, Object> result = new LinkedHashMap<>();
+
+			result.put("samples", count);
+			result.put("p50", percentile(count, 0.5));
+			result.put("p90", percentile(count, 0.9));
+			result.put("p99", percentile(count, 0.99));
+			result.put("p999", percentile(count, 0.999));
+			result.put("max", max.get());
+
+			return result;
+		}
+
+
+		///// Methods private of-instance =================================/////
+		/**
+		 * @param count Samples quantity.
+		 *
+		 * @param fraction Percentile in range from {@code 0} to {@code 1}.
+		 *
+		 * @return Value in milliseconds, below or equal to which
+		 * {@code fraction} of samples are. {@code 0} is returned if there
+		 * are no samples.
+		 */
+		private long percentile(final long count, final double fraction)
+		{
+			// Samples quantity which have to be covered
+			final long threshold = (long)Math.ceil(count * fraction);
+			// Covered samples quantity
+			long covered = 0;
+
+			for (int i = 0, end = buckets.length(); i < end; ++i)
+			{
+				covered += buckets.get(i);
+
+				// If requested samples quantity is reached
+				if (covered >= threshold && covered > 0)
+				{
+					return i;
+				}
+			}
+
+			return 0;
+		}
+	}
+
+
+	/**
+	 * {@link Time_counter_text_listener} which records tick latency and
+	 * second&#8209;flips of a&nbsp;single time&nbsp;counter. Only the&nbsp;first
+	 * listener of each time&nbsp;counter records statistics; the&nbsp;rest
+	 * only load the&nbsp;engine.
+	 *
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	private static class Probe implements Time_counter_text_listener
+	{
+		///// Fields private of-instance ==================================/////
+		/** Time&nbsp;counter mode. */
+		private final Mode mode;
+		/** {@code true}&nbsp;&#0151; this listener records statistics. */
+		private final boolean is_recording;
+		/** Expected second&#8209;flip phase (epoch milliseconds). */
+		private volatile long phase_ms;
+		/** Index of the&nbsp;last observed second&#8209;flip. */
+		private final AtomicLong last_flip;
+
+
+		///// Constructors default-access =================================/////
+		/**
+		 * @param mode Time&nbsp;counter mode.
+		 *
+		 * @param is_recording {@code true}&nbsp;&#0151; this listener records
+		 * statistics.
+		 */
+		Probe(final Mode mode, final boolean is_recording)
+		{
+			this.mode = mode;
+			this.is_recording = is_recording;
+			phase_ms = 0;
+			last_flip = new AtomicLong(Long.MIN_VALUE);
+		}
+
+
+		///// Methods public of-instance ==================================/////
+		@Override
+		public void time_counter_text_changed(
+				final Time_counter_event<?> event,
+				final Time_counter_text_value new_value)
+		{
+			// If this listener only loads the engine
+			if (!is_recording)
+			{
+				return;
+			}
+
+			// Time elapsed since the phase
+			final long since_phase = System.currentTimeMillis() - phase_ms;
+			// Second-flip which the notification belongs to
+			final long flip = Math.floorDiv(since_phase, 1000);
+			// Previous observed second-flip
+			final long previous = last_flip.getAndSet(flip);
+
+			// If statistics is not gathered at the moment
+			if (!measuring)
+			{
+				return;
+			}
+
+			notifications.incrementAndGet();
+
+			// If there is no previous second-flip to compare with
+			if (previous == Long.MIN_VALUE)
+			{
+				return;
+			}
+
+			// If this second has been already observed
+			if (flip <= previous)
+			{
+				duplicate_flips.incrementAndGet();
+
+				return;
+			}
+
+			// Time elapsed since the expected second-flip
+			final long latency = Math.floorMod(since_phase, 1000);
+
+			latency_total.record(latency);
+			latency_by_mode.get(mode).record(latency);
+			observed_flips.incrementAndGet();
+
+			// If at least one second-flip has been missed
+			if (flip - previous > 1)
+			{
+				missed_flips.addAndGet(flip - previous - 1);
+			}
+		}
+	}
+
+
+	///// Fields private static ===========================================/////
+	/** Logs this class events. */
+	private static final Logger logger;
+
+	/** Latency histogram range in milliseconds. */
+	private static final int histogram_range;
+
+	/** {@code true}&nbsp;&#0151; statistics is gathered at the&nbsp;moment. */
+	private static volatile boolean measuring;
+
+	/** Tick latency for all time&nbsp;counters. */
+	private static final Histogram latency_total;
+	/** Tick latency per {@link Mode}. */
+	private static final EnumMap<Mode, Histogram> latency_by_mode;
+
+	/** Recorded notifications quantity. */
+	private static final AtomicLong notifications;
+	/** Observed second&#8209;flips quantity. */
+	private static final AtomicLong observed_flips;
+	/** Missed second&#8209;flips quantity. */
+	private static final AtomicLong missed_flips;
+	/** Notifications repeating already observed second. */
+	private static final AtomicLong duplicate_flips;
+	/** {@code true}&nbsp;&#0151; idle time&nbsp;counter of some mode
+	 * exceeds {@link Config#footprint_limit}. */
+	private static volatile boolean footprint_exceeded;
+
+
+	static
+	{
+		logger = Logger.getLogger(Soak_harness.class.getName());
+		histogram_range = 10000;
+		measuring = false;
+		latency_total = new Histogram(histogram_range);
+		latency_by_mode = new EnumMap<>(Mode.class);
+
+		for (final Mode i : Mode.values())
+		{
+			latency_by_mode.put(i, new Histogram(histogram_range));
+		}
+
+		notifications = new AtomicLong();
+		observed_flips = new AtomicLong();
+		missed_flips = new AtomicLong();
+		duplicate_flips = new AtomicLong();
+		footprint_exceeded = false;
+	}
+
+
+	///// Constructors private ============================================/////
+	/**
+	 * The&nbsp;class is not&nbsp;instantiable.
+	 */
+	private Soak_harness() {}
+
+
+	///// Methods public static ===========================================/////
+	/**
+	 * Runs the&nbsp;harness.
+	 *
+	 * @param args {@code key=value} pairs described in the&nbsp;class
+	 * description.
+	 */
+	public static void main(final String[] args)
+	{
+		// Harness run parameters
+		final Config config;
+
+		try
+		{
+			config = parse_arguments(args);
+		}
+		catch (final IllegalArgumentException exc)
+		{
+			System.err.println(exc.getMessage());
+			System.exit(2);
+
+			return;
+		}
+
+		// Resulting report
+		final Map<String, Object> report = run(config);
+		// Report text
+		final StringBuilder json = new StringBuilder();
+
+		write_json(report, json, 0);
+		json.append(System.lineSeparator());
+
+		// If the report has to be printed to standard output
+		if (config.report.equals("-"))
+		{
+			System.out.print(json);
+			System.out.flush();
+		}
+		else
+		{
+			try (final Writer writer = new OutputStreamWriter(
+					new FileOutputStream(config.report), StandardCharsets.UTF_8))
+			{
+				writer.write(json.toString());
+			}
+			catch (final IOException exc)
+			{
+				logger.log(Level.SEVERE, "Cannot write report to " + config.report
+						+ " file. Exception stack trace:", exc);
+				System.exit(1);
+			}
+		}
+
+		// Time counters' executors threads are not daemon ones
+		System.exit(footprint_exceeded ? 3 : 0);
+	}
+
+
+	///// Methods private static ==========================================/////
+	/**
+	 * Parses command line arguments.
+	 *
+	 * @param args {@code key=value} pairs.
+	 *
+	 * @return Harness run parameters.
+	 *
+	 * @exception IllegalArgumentException At&nbsp;least one argument
+	 * is&nbsp;incorrect.
+	 */
+	private static Config parse_arguments(final String[] args)
+	{
+		// Parameters to return
+		final Config config = new Config();
+
+		for (final String i : args)
+		{
+			// Key and value separator position
+			final int separator = i.indexOf('=');
+
+			// If the argument isn't in "key=value" form
+			if (separator < 1)
+			{
+				throw new IllegalArgumentException("Argument \"" + i
+						+ "\" isn\'t in key=value form");
+			}
+
+			// Argument key
+			final String key = i.substring(0, separator);
+			// Argument value
+			final String value = i.substring(separator + 1);
+
+			try
+			{
+				switch (key)
+				{
+				case "counters":
+					config.counters = Integer.parseInt(value);
+
+					break;
+
+				case "mix":
+					config.mix.clear();
+
+					for (final String j : value.split(","))
+					{
+						// Mode name and weight separator position
+						final int colon = j.indexOf(':');
+						// Mode name without "M_" prefix
+						final String mode_name =
+								(colon < 0 ? j : j.substring(0, colon)).trim();
+
+						config.mix.put(Mode.valueOf("M_" + mode_name),
+								colon < 0 ? 1 : Integer.parseInt(j.substring(colon + 1).trim()));
+					}
+
+					break;
+
+				case "styles":
+					// If all styles are requested
+					if (!value.equals("all"))
+					{
+						// Style names
+						final String[] names = value.split(",");
+
+						config.styles = new Time_display_style[names.length];
+
+						for (int j = 0; j < names.length; ++j)
+						{
+							config.styles[j] =
+									Time_display_style.valueOf(names[j].trim());
+						}
+					}
+
+					break;
+
+				case "layouts":
+					// If all layouts are requested
+					if (!value.equals("all"))
+					{
+						// Layout names
+						final String[] names = value.split(",");
+
+						config.layouts = new Time_unit_layout[names.length];
+
+						for (int j = 0; j < names.length; ++j)
+						{
+							config.layouts[j] =
+									Time_unit_layout.valueOf(names[j].trim());
+						}
+					}
+
+					break;
+
+				case "listeners":
+					config.listeners = Integer.parseInt(value);
+
+					break;
+
+				case "warmup":
+					config.warmup = Integer.parseInt(value);
+
+					break;
+
+				case "duration":
+					config.duration = Integer.parseInt(value);
+
+					break;
+
+				case "countdown_max":
+					config.countdown_max = Long.parseLong(value);
+
+					break;
+
+				case "instance_range":
+					config.instance_range = Long.parseLong(value);
+
+					break;
+
+				case "seed":
+					config.seed = Long.parseLong(value);
+
+					break;
+
+				case "report":
+					config.report = value;
+
+					break;
+
+				case "footprint":
+					config.footprint = Integer.parseInt(value);
+
+					break;
+
+				case "footprint_limit":
+					config.footprint_limit = Long.parseLong(value);
+
+					break;
+
+				default:
+					throw new IllegalArgumentException("Unknown argument \"" + key + "\"");
+				}
+			}
+			catch (final NumberFormatException exc)
+			{
+				throw new IllegalArgumentException(
+						"Incorrect \"" + key + "\" argument value", exc);
+			}
+		}
+
+		// Modes weights sum
+		int weights_sum = 0;
+
+		for (final Integer i : config.mix.values())
+		{
+			// Weights cannot be negative
+			if (i < 0)
+			{
+				throw new IllegalArgumentException("Negative mode weight");
+			}
+
+			weights_sum += i;
+		}
+
+		// If at least one of arguments is out of range
+		if (config.counters < 0 || weights_sum == 0 || config.listeners < 1 ||
+				config.warmup < 0 || config.duration < 1 ||
+				config.countdown_max < 1 || config.instance_range < 1 ||
+				config.footprint < 0 || config.footprint_limit < 1)
+		{
+			throw new IllegalArgumentException("At least one argument is out of range");
+		}
+
+		return config;
+	}
+
+
+	/**
+	 * Performs harness run.
+	 *
+	 * @param config Run parameters.
+	 *
+	 * @return Report to be serialized to JSON.
+	 */
+	private static Map<String, Object> run(final Config config)
+	{
+		// Thread information provider
+		final ThreadMXBean thread_bean = ManagementFactory.getThreadMXBean();
+		// Resulting report
+		final Map<String, Object> report = new LinkedHashMap<>();
+		// Timings of harness stages
+		final Map<String, Object> timings = new LinkedHashMap<>();
+		// Thread counts
+		final Map<String, Object> threads = new LinkedHashMap<>();
+		// Heap usage
+		final Map<String, Object> heap = new LinkedHashMap<>();
+		// Time counters quantity per mode
+		final EnumMap<Mode, Long> created = new EnumMap<>(Mode.class);
+		// All created time counters
+		final List<Time_counter> counters = new ArrayList<>(config.counters);
+		// Solo counters to start
+		final List<Solo_counter> solo_counters = new ArrayList<>();
+		// Probes of "solo_counters" elements with the same indexes
+		final List<Probe> solo_probes = new ArrayList<>();
+		// Probes which record statistics (one per time counter)
+		final List<Probe> probes = new ArrayList<>(config.counters);
+
+		report.put("harness_version", 1);
+		report.put("config", describe_config(config));
+
+		// Initializes the engine before baseline measuring
+		Time_counter_control.get_instance();
+
+		// Random values source
+		final Random random = new Random(config.seed);
+		// Time counters target date time base
+		final ZonedDateTime now =
+				ZonedDateTime.now(ZoneId.systemDefault()).truncatedTo(ChronoUnit.SECONDS);
+
+		// Heap usage before time counters creation
+		final long heap_baseline = heap_after_gc();
+
+		heap.put("baseline_bytes", heap_baseline);
+		threads.put("baseline", thread_bean.getThreadCount());
+
+		// Stage start time
+		long stage_start = System.nanoTime();
+		// Modes sequence built according to the weights
+		final List<Mode> modes_sequence = new ArrayList<>();
+
+		for (final Map.Entry<Mode, Integer> i : config.mix.entrySet())
+		{
+			for (int j = 0, end = i.getValue(); j < end; ++j)
+			{
+				modes_sequence.add(i.getKey());
+			}
+		}
+
+		for (int i = 0; i < config.counters; ++i)
+		{
+			// Mode of time counter to create
+			final Mode mode = modes_sequence.get(i % modes_sequence.size());
+			// Created time counter
+			final Time_counter counter =
+					create_counter(config, mode, i, random, now);
+
+			// If the time counter is to be started
+			if (counter instanceof Solo_counter)
+			{
+				solo_counters.add((Solo_counter)counter);
+			}
+
+			// Time counters quantity in this mode
+			final Long quantity = created.get(mode);
+
+			created.put(mode, quantity == null ? 1 : quantity + 1);
+			counters.add(counter);
+
+			for (int j = 0; j < config.listeners; ++j)
+			{
+				// Listener to subscribe
+				final Probe probe = new Probe(mode, j == 0);
+
+				// If this probe records statistics
+				if (j == 0)
+				{
+					probes.add(probe);
+					
+					// If the probe phase is set when the counter starts
+					if (counter instanceof Solo_counter)
+					{
+						solo_probes.add(probe);
+					}
+				}
+
+				counter.add_Time_counter_text_listener(probe);
+			}
+		}
+
+		timings.put("build", elapsed_ms(stage_start));
+		stage_start = System.nanoTime();
+
+		// Solo counters are started after all probes are subscribed
+		for (int i = 0, end = solo_counters.size(); i < end; ++i)
+		{
+			solo_probes.get(i).phase_ms = System.currentTimeMillis();
+			solo_counters.get(i).start();
+		}
+
+		timings.put("start", elapsed_ms(stage_start));
+
+		// Heap usage after time counters creation
+		final long heap_after_build = heap_after_gc();
+
+		heap.put("after_build_bytes", heap_after_build);
+		heap.put("bytes_per_counter", config.counters == 0 ?
+				0 : (heap_after_build - heap_baseline) / config.counters);
+		threads.put("after_build", thread_bean.getThreadCount());
+		sleep_seconds(config.warmup);
+		timings.put("warmup", TimeUnit.SECONDS.toMillis(config.warmup));
+
+		///// Measured window /////
+		thread_bean.resetPeakThreadCount();
+
+		// Process CPU time at the window start
+		final long cpu_start = process_cpu_time();
+		// Window start time
+		final long window_start = System.nanoTime();
+
+		measuring = true;
+		sleep_seconds(config.duration);
+		measuring = false;
+
+		// Window duration in milliseconds
+		final long window_ms = elapsed_ms(window_start);
+		// Process CPU time at the window end
+		final long cpu_end = process_cpu_time();
+
+		timings.put("window", window_ms);
+		threads.put("peak", thread_bean.getPeakThreadCount());
+		threads.put("end_of_window", thread_bean.getThreadCount());
+		//------------------------/////
+
+		heap.put("end_bytes", heap_after_gc());
+		stage_start = System.nanoTime();
+		Time_counter_control.get_instance().get_time_counters().clear();
+		timings.put("teardown", elapsed_ms(stage_start));
+
+		// Counters quantity per mode for report
+		final Map<String, Object> counters_report = new LinkedHashMap<>();
+
+		counters_report.put("total", counters.size());
+
+		for (final Map.Entry<Mode, Long> i : created.entrySet())
+		{
+			counters_report.put(i.getKey().name(), i.getValue());
+		}
+
+		report.put("counters", counters_report);
+		report.put("listeners_total", (long)counters.size() * config.listeners);
+		report.put("timings_ms", timings);
+
+		// CPU usage
+		final Map<String, Object> cpu = new LinkedHashMap<>();
+
+		// If process CPU time is available
+		if (cpu_start >= 0 && cpu_end >= 0)
+		{
+			// CPU time consumed within the window
+			final long cpu_ms = TimeUnit.NANOSECONDS.toMillis(cpu_end - cpu_start);
+
+			cpu.put("process_cpu_ms", cpu_ms);
+			cpu.put("cpu_utilization", (double)cpu_ms / window_ms /
+					Runtime.getRuntime().availableProcessors());
+			cpu.put("cpu_us_per_counter_second", config.counters == 0 ?
+					0 : TimeUnit.MILLISECONDS.toMicros(cpu_ms) * 1000.0 /
+							window_ms / config.counters);
+		}
+		else
+		{
+			cpu.put("process_cpu_ms", -1);
+		}
+
+		cpu.put("available_processors", Runtime.getRuntime().availableProcessors());
+		report.put("cpu", cpu);
+		report.put("threads", threads);
+		report.put("heap", heap);
+
+		// Tick latency report
+		final Map<String, Object> latency = new LinkedHashMap<>();
+
+		latency.put("all", latency_total.summary());
+
+		for (final Mode i : created.keySet())
+		{
+			latency.put(i.name(), latency_by_mode.get(i).summary());
+		}
+
+		report.put("tick_latency_ms", latency);
+
+		// Second-flips report
+		final Map<String, Object> flips = new LinkedHashMap<>();
+
+		flips.put("notifications", notifications.get());
+		flips.put("observed", observed_flips.get());
+		flips.put("missed", missed_flips.get());
+		flips.put("duplicate", duplicate_flips.get());
+		report.put("second_flips", flips);
+
+		// If idle time counters footprint has to be checked
+		if (config.footprint > 0)
+		{
+			report.put("footprint", measure_footprint(config, now));
+		}
+
+		return report;
+	}
+
+
+	/**
+	 * Creates time&nbsp;counter without listeners. Display style and
+	 * time&nbsp;unit layout are chosen according to {@code index}.
+	 *
+	 * @param config Run parameters.
+	 *
+	 * @param mode Mode of time&nbsp;counter to create.
+	 *
+	 * @param index Time&nbsp;counter sequence number.
+	 *
+	 * @param random Random values source.
+	 *
+	 * @param now Time&nbsp;counters target date time base.
+	 *
+	 * @return Created time&nbsp;counter.
+	 */
+	private static Time_counter create_counter(final Config config,
+			final Mode mode, final int index, final Random random,
+			final ZonedDateTime now)
+	{
+		// Display style of time counter to create
+		final Time_display_style style = config.styles[index % config.styles.length];
+		// Time unit layout of time counter to create
+		final Time_unit_layout layout =
+				config.layouts[(index / config.styles.length) % config.layouts.length];
+
+		switch (mode)
+		{
+		case M_stopwatch:
+			return new Solo_counter(mode, null, null, Days_in_year.DIY_360,
+					style, Time_unit_name.TUN_days, Time_unit_name.TUN_seconds,
+					layout);
+
+		case M_countdown:
+			// Initial countdown value in seconds
+			final long initial = 1 + (long)(random.nextDouble() * config.countdown_max);
+			// Seconds in day
+			final long seconds_in_day = TimeUnit.DAYS.toSeconds(1);
+
+			return new Solo_counter(mode,
+					Period.ofDays((int)(initial / seconds_in_day)),
+					LocalTime.ofSecondOfDay(initial % seconds_in_day),
+					index % 2 == 0 ? Days_in_year.DIY_360 : Days_in_year.DIY_365,
+					style, Time_unit_name.TUN_days, Time_unit_name.TUN_seconds,
+					layout);
+
+		case M_elapsed_from:
+			return new Instance_counter(mode,
+					now.minusSeconds((long)(random.nextDouble() * config.instance_range)),
+					style, Time_unit_name.TUN_days, Time_unit_name.TUN_seconds,
+					layout);
+
+		case M_remains_till:
+			return new Instance_counter(mode,
+					now.plusSeconds((long)(random.nextDouble() * config.instance_range)),
+					style, Time_unit_name.TUN_days, Time_unit_name.TUN_seconds,
+					layout);
+
+		default:
+			throw new EnumConstantNotPresentException(Mode.class, mode.name());
+		}
+	}
+
+
+	/**
+	 * Measures heap retained by idle time&nbsp;counters (registered, but
+	 * not started and without listeners) of each mode and compares it with
+	 * {@link Config#footprint_limit}. The&nbsp;time&nbsp;counters are removed
+	 * after measuring. Sets {@link #footprint_exceeded}
+	 * if the&nbsp;limit is exceeded.
+	 *
+	 * @param config Run parameters.
+	 *
+	 * @param now Time&nbsp;counters target date time base.
+	 *
+	 * @return Footprint report.
+	 */
+	private static Map<String, Object> measure_footprint(
+			final Config config, final ZonedDateTime now)
+	{
+		// Random values source independent of the main run one
+		final Random random = new Random(config.seed);
+		// Footprint report
+		final Map<String, Object> result = new LinkedHashMap<>();
+		// Bytes per time counter for each mode
+		final Map<String, Object> bytes_per_counter = new LinkedHashMap<>();
+		// true - each mode fits the limit
+		boolean passed = true;
+
+		for (final Mode i : Mode.values())
+		{
+			// Measured time counters
+			final Time_counter[] counters = new Time_counter[config.footprint];
+			// Heap usage before time counters creation
+			final long heap_before = heap_after_gc();
+
+			for (int j = 0; j < counters.length; ++j)
+			{
+				counters[j] = create_counter(config, i, j, random, now);
+			}
+
+			// Heap retained by each time counter
+			final long bytes = (heap_after_gc() - heap_before) / counters.length;
+
+			// The time counters are reachable till this point
+			Arrays.fill(counters, null);
+			Time_counter_control.get_instance().get_time_counters().clear();
+			bytes_per_counter.put(i.name(), bytes);
+
+			// If the mode doesn't fit the limit
+			if (bytes > config.footprint_limit)
+			{
+				logger.log(Level.SEVERE, "Idle " + i.name() + " time counter takes "
+						+ bytes + " bytes, which exceeds "
+						+ config.footprint_limit + " bytes limit");
+				passed = false;
+			}
+		}
+
+		footprint_exceeded = !passed;
+		result.put("counters_per_mode", config.footprint);
+		result.put("limit_bytes", config.footprint_limit);
+		result.put("bytes_per_counter", bytes_per_counter);
+		result.put("passed", passed);
+
+		return result;
+	}
+
+
+	/**
+	 * @param config Run parameters.
+	 *
+	 * @return Run parameters representation for the&nbsp;report.
+	 */
+	private static Map<String, Object> describe_config(final Config config)
+	{
+		// Representation to return
+		final Map<String, Object> result = new LinkedHashMap<>();
+		// Modes weights
+		final Map<String, Object> mix = new LinkedHashMap<>();
+		// Display styles names
+		final List<Object> styles = new ArrayList<>();
+		// Time unit layouts names
+		final List<Object> layouts = new ArrayList<>();
+
+		for (final Map.Entry<Mode, Integer> i : config.mix.entrySet())
+		{
+			mix.put(i.getKey().name(), i.getValue());
+		}
+
+		for (final Time_display_style i : config.styles)
+		{
+			styles.add(i.name());
+		}
+
+		for (final Time_unit_layout i : config.layouts)
+		{
+			layouts.add(i.name());
+		}
+
+		result.put("counters", config.counters);
+		result.put("mix", mix);
+		result.put("styles", styles);
+		result.put("layouts", layouts);
+		result.put("listeners", config.listeners);
+		result.put("warmup_s", config.warmup);
+		result.put("duration_s", config.duration);
+		result.put("countdown_max_s", config.countdown_max);
+		result.put("instance_range_s", config.instance_range);
+		result.put("seed", config.seed);
+		result.put("java_version", System.getProperty("java.version"));
+
+		return result;
+	}
+
+
+	/**
+	 * Performs garbage collection and returns used heap size.
+	 *
+	 * @return Used heap in bytes.
+	 */
+	private static long heap_after_gc()
+	{
+		for (int i = 0; i < 3; ++i)
+		{
+			System.gc();
+
+			try
+			{
+				Thread.sleep(100);
+			}
+			catch (final InterruptedException exc)
+			{
+				logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+	}
+
+
+	/**
+	 * @return Process CPU time in nanoseconds, or {@code -1} if the&nbsp;JVM
+	 * does&nbsp;not provide it.
+	 */
+	private static long process_cpu_time()
+	{
+		// Operating system information provider
+		final OperatingSystemMXBean os_bean =
+				ManagementFactory.getOperatingSystemMXBean();
+
+		// If HotSpot-specific extension is available
+		if (os_bean instanceof com.sun.management.OperatingSystemMXBean)
+		{
+			return ((com.sun.management.OperatingSystemMXBean)os_bean).
+					getProcessCpuTime();
+		}
+
+		return -1;
+	}
+
+
+	/**
+	 * @param start_nanos {@link System#nanoTime()} value at the&nbsp;stage
+	 * start.
+	 *
+	 * @return Milliseconds elapsed since {@code start_nanos}.
+	 */
+	private static long elapsed_ms(final long start_nanos)
+	{
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start_nanos);
+	}
+
+
+	/**
+	 * Sleeps specified {@code seconds} quantity.
+	 *
+	 * @param seconds Seconds to sleep.
+	 */
+	private static void sleep_seconds(final int seconds)
+	{
+		try
+		{
+			TimeUnit.SECONDS.sleep(seconds);
+		}
+		catch (final InterruptedException exc)
+		{
+			logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
+			Thread.currentThread().interrupt();
+		}
+	}
+
+
+	/**
+	 * Serializes report {@code value} to JSON. Supported types are
+	 * {@link Map} (with {@link String} keys), {@link List}, {@link Number},
+	 * {@link Boolean} and {@link String}.
+	 *
+	 * @param value Value to serialize.
+	 *
+	 * @param output Output to append JSON text to.
+	 *
+	 * @param indent Current indentation level.
+	 */
+	private static void write_json(
+			final Object value, final StringBuilder output, final int indent)
+	{
+		// If the value is JSON object
+		if (value instanceof Map)
+		{
+			output.append('{');
+
+			// true - the first member is being written
+			boolean is_first = true;
+
+			for (final Map.Entry<?, ?> i : ((Map<?, ?>)value).entrySet())
+			{
+				output.append(is_first ? "" : ",");
+				new_line(output, indent + 1);
+				write_json(i.getKey().toString(), output, indent + 1);
+				output.append(": ");
+				write_json(i.getValue(), output, indent + 1);
+				is_first = false;
+			}
+
+			new_line(output, indent);
+			output.append('}');
+		}
+		// If the value is JSON array
+		else if (value instanceof List)
+		{
+			output.append('[');
+
+			// true - the first element is being written
+			boolean is_first = true;
+
+			for (final Object i : (List<?>)value)
+			{
+				output.append(is_first ? "" : ", ");
+				write_json(i, output, indent + 1);
+				is_first = false;
+			}
+
+			output.append(']');
+		}
+		// If the value is floating point number
+		else if (value instanceof Double)
+		{
+			// Value to write
+			final double number = (Double)value;
+
+			// JSON doesn't support NaN and infinity
+			if (Double.isNaN(number) || Double.isInfinite(number))
+			{
+				output.append("null");
+			}
+			else
+			{
+				output.append(String.format(Locale.ROOT, "%.6f", number));
+			}
+		}
+		else if (value instanceof Number || value instanceof Boolean)
+		{
+			output.append(value);
+		}
+		else if (value == null)
+		{
+			output.append("null");
+		}
+		else
+		{
+			output.append('"');
+
+			for (final char i : value.toString().toCharArray())
+			{
+				switch (i)
+				{
+				case '"':
+					output.append("\\\"");
+
+					break;
+
+				case '\\':
+					output.append("\\\\");
+
+					break;
+
+				default:
+					// If this is control character
+					if (i < 0x20)
+					{
+						output.append(String.format("\\u%04x", (int)i));
+					}
+					else
+					{
+						output.append(i);
+					}
+				}
+			}
+
+			output.append('"');
+		}
+	}
+
+
+	/**
+	 * Appends line separator and indentation to {@code output}.
+	 *
+	 * @param output Output to append to.
+	 *
+	 * @param indent Indentation level.
+	 */
+	private static void new_line(final StringBuilder output, final int indent)
+	{
+		output.append('\n');
+
+		for (int i = 0; i < indent; ++i)
+		{
+			output.append("  ");
+		}
+	}
+}
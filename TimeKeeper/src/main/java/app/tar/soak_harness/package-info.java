@@ -0,0 +1,29 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * Headless scale/soak harness for {@link app.tar.time_obj} engine.
+ * <p>{@link app.tar.soak_harness.Soak_harness} builds the&nbsp;specified
+ * quantity of {@link app.tar.time_obj.Solo_counter} and
+ * {@link app.tar.time_obj.Instance_counter} objects in configurable mix of
+ * modes, layouts and listener counts, runs them through
+ * {@link app.tar.time_obj.Time_counter_control} for the&nbsp;specified
+ * duration and writes machine&#8209;readable (JSON) report. The&nbsp;harness
+ * <u>does&nbsp;not</u> need JavaFX.
+ *
+ * @since 1.0
+ * @author Igor Taranenko
+ */
+package app.tar.soak_harness;
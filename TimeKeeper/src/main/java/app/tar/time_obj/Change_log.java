@@ -0,0 +1,346 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * Preallocated ring buffer of time&nbsp;counters value changes, published
+ * by {@link Time_counter_control} each time time&nbsp;counter listeners are
+ * notified about text value change. Each entry has unique sequence number;
+ * sequence numbers are assigned in publishing order starting from zero.
+ * <p>Consumers pull entries at&nbsp;their own pace using
+ * {@link #poll(long, Entry[])}, remembering the&nbsp;sequence number to
+ * continue from. The&nbsp;buffer keeps {@link #capacity} latest entries
+ * only: if a&nbsp;consumer falls behind, older entries are overwritten and
+ * the&nbsp;consumer detects the&nbsp;overrun by a&nbsp;gap in sequence
+ * numbers of read entries.
+ * <p>Neither publishing nor reading acquires locks. Publisher waits only if
+ * the&nbsp;slot it&nbsp;writes to is still being written by a&nbsp;publisher
+ * of the&nbsp;previous buffer lap.<br>
+ * The&nbsp;object can be obtained using
+ * {@link Time_counter_control#get_change_log()}.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public final class Change_log
+{
+	///// Nested classes public ===========================================/////
+	/**
+	 * Reusable container which {@link Change_log} entry is copied to.
+	 * 
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	public static final class Entry
+	{
+		///// Fields private of-instance ==================================/////
+		/** Entry sequence number. */
+		private long sequence;
+		/** Changed time&nbsp;counter. */
+		private Time_counter time_counter;
+		/** Time&nbsp;unit values. Index is {@link Time_unit_name} ordinal. */
+		private final long[] values;
+		/** Time&nbsp;counter value sign. */
+		private boolean is_positive;
+		
+		
+		///// Constructors public =========================================/////
+		/**
+		 * Creates empty container.
+		 */
+		public Entry()
+		{
+			sequence = -1;
+			time_counter = null;
+			values = new long[units_quantity];
+			is_positive = true;
+		}
+		
+		
+		///// Methods public of-instance ==================================/////
+		/**
+		 * @return Entry sequence number. {@code -1} if nothing has&nbsp;been
+		 * copied to the&nbsp;container yet.
+		 */
+		public long get_sequence()
+		{
+			return sequence;
+		}
+		
+		
+		/**
+		 * @return Changed time&nbsp;counter.
+		 */
+		public Time_counter get_time_counter()
+		{
+			return time_counter;
+		}
+		
+		
+		/**
+		 * @param time_unit Time&nbsp;unit which value is needed.
+		 * 
+		 * @return {@code time_unit} value at&nbsp;the&nbsp;moment of change.
+		 * 
+		 * @exception NullPointerException {@code time_unit} argument is
+		 * {@code null}.
+		 */
+		public long get_value(final Time_unit_name time_unit)
+		{
+			return values[time_unit.ordinal()];
+		}
+		
+		
+		/**
+		 * @return Time&nbsp;counter value sign at&nbsp;the&nbsp;moment of
+		 * change (see&nbsp;{@link Time_counter#is_positive_value()}).
+		 */
+		public boolean is_positive()
+		{
+			return is_positive;
+		}
+	}
+	
+	
+	///// Fields public of-instance =======================================/////
+	/** Maximum quantity of retained entries. Is a&nbsp;power of two. */
+	public final int capacity;
+	
+	
+	///// Fields private static ===========================================/////
+	/** {@link Time_unit_name} constants. */
+	private static final Time_unit_name[] time_units;
+	/** {@link Time_unit_name} constants quantity. */
+	private static final int units_quantity;
+	/** Values row length in {@link #values}: time&nbsp;unit values followed
+	 * by value sign. */
+	private static final int row_length;
+	/** {@link #published} element value while the&nbsp;slot is being
+	 * written. */
+	private static final long writing_mark;
+	
+	
+	static
+	{
+		time_units = Time_unit_name.values();
+		units_quantity = time_units.length;
+		row_length = units_quantity + 1;
+		writing_mark = Long.MIN_VALUE;
+	}
+	
+	
+	///// Fields private of-instance ======================================/////
+	/** Sequence number to be assigned to the&nbsp;next published entry. */
+	private final AtomicLong next_sequence;
+	/** {@link #capacity}&nbsp;&#8209;&nbsp;1. Converts sequence number to
+	 * slot index. */
+	private final int mask;
+	/** Sequence number of the&nbsp;entry stored in each slot, or
+	 * {@link #writing_mark} while the&nbsp;slot is being written. Initially
+	 * each slot contains sequence number of the&nbsp;virtual previous lap
+	 * (i.e.&nbsp;negative). */
+	private final AtomicLongArray published;
+	/** Time&nbsp;counter of each slot. */
+	private final AtomicReferenceArray<Time_counter> time_counters;
+	/** Time&nbsp;unit values and value sign ({@code 1}&nbsp;&#0151; positive,
+	 * {@code 0}&nbsp;&#0151; negative) of each slot, {@link #row_length}
+	 * elements per slot. */
+	private final AtomicLongArray values;
+	
+	
+	///// Constructors default-access =====================================/////
+	/**
+	 * @param capacity Maximum quantity of retained entries. Is rounded up to
+	 * a&nbsp;power of two.
+	 * 
+	 * @exception IllegalArgumentException {@code capacity} is less than
+	 * {@code 1} or greater than {@code 2^30}.
+	 */
+	Change_log(final int capacity)
+	{
+		// If capacity cannot be represented as power of two int
+		if (capacity < 1 || capacity > 1 << 30)
+		{
+			throw new IllegalArgumentException("Incorrect capacity argument");
+		}
+		
+		this.capacity = Integer.highestOneBit(capacity) == capacity ?
+				capacity : Integer.highestOneBit(capacity) << 1;
+		next_sequence = new AtomicLong();
+		mask = this.capacity - 1;
+		published = new AtomicLongArray(this.capacity);
+		time_counters = new AtomicReferenceArray<>(this.capacity);
+		values = new AtomicLongArray(this.capacity * row_length);
+		
+		for (int i = 0; i < this.capacity; ++i)
+		{
+			published.set(i, i - this.capacity);
+		}
+	}
+	
+	
+	///// Methods public of-instance ======================================/////
+	/**
+	 * @return Sequence number to be assigned to the&nbsp;next published
+	 * entry. Consumer which wants to receive only future changes starts
+	 * polling from this number.
+	 */
+	public long get_next_sequence()
+	{
+		return next_sequence.get();
+	}
+	
+	
+	/**
+	 * Copies published entries starting from {@code sequence} to
+	 * {@code entries} in sequence order. Stops when {@code entries} is full,
+	 * all published entries are read or the&nbsp;next entry is still being
+	 * published.
+	 * <p>If entries starting from {@code sequence} have&nbsp;been overwritten
+	 * already, reading continues from the&nbsp;oldest retained entry. So
+	 * the&nbsp;overrun is detected by comparing the&nbsp;first read entry
+	 * sequence number with {@code sequence} (and each next entry sequence
+	 * number with the&nbsp;previous one): the&nbsp;difference minus one is
+	 * the&nbsp;quantity of lost entries.<br>
+	 * <i>Performance note.</i> Does&nbsp;not acquire locks.
+	 * 
+	 * @param sequence Sequence number of the&nbsp;first entry to read.
+	 * Is&nbsp;usually the&nbsp;last read entry sequence number plus one.
+	 * 
+	 * @param entries Containers to copy entries to. Each element
+	 * <u>must&nbsp;not</u> be {@code null}.
+	 * 
+	 * @return Quantity of read entries (filled {@code entries} elements
+	 * starting from the&nbsp;first one).
+	 * 
+	 * @exception NullPointerException {@code entries} argument or its element
+	 * is {@code null}.
+	 * 
+	 * @exception IllegalArgumentException {@code sequence} is negative.
+	 */
+	public int poll(long sequence, final Entry[] entries)
+	{
+		// Sequence cannot be negative
+		if (sequence < 0)
+		{
+			throw new IllegalArgumentException("Negative sequence argument");
+		}
+		
+		// Quantity of read entries
+		int read = 0;
+		
+		while (read < entries.length)
+		{
+			// Sequence number of the oldest entry which may be retained
+			final long oldest = next_sequence.get() - capacity;
+			
+			// If the entry to read has been overwritten
+			if (sequence < oldest)
+			{
+				sequence = oldest;
+			}
+			
+			// Slot containing the entry
+			final int slot = (int)(sequence & mask);
+			
+			// If the entry isn't published yet or is being overwritten
+			if (published.get(slot) != sequence)
+			{
+				// If the entry is being overwritten
+				if (sequence < next_sequence.get() - capacity)
+				{
+					continue;
+				}
+				
+				break;
+			}
+			
+			// Container to copy the entry to
+			final Entry entry = entries[read];
+			// Index of the first slot value
+			final int row = slot * row_length;
+			
+			entry.time_counter = time_counters.get(slot);
+			
+			for (int i = 0; i < units_quantity; ++i)
+			{
+				entry.values[i] = values.get(row + i);
+			}
+			
+			entry.is_positive = values.get(row + units_quantity) != 0;
+			
+			// If the entry has been overwritten while copying
+			if (published.get(slot) != sequence)
+			{
+				continue;
+			}
+			
+			entry.sequence = sequence;
+			++read;
+			++sequence;
+		}
+		
+		return read;
+	}
+	
+	
+	///// Methods default-access of-instance ==============================/////
+	/**
+	 * Publishes time&nbsp;counter value change.<br>
+	 * <i>Performance note.</i> Does&nbsp;not acquire locks.
+	 * 
+	 * @param time_counter Changed time&nbsp;counter.
+	 * 
+	 * @param time_unit_values Time&nbsp;unit values. Index is
+	 * {@link Time_unit_name} ordinal.
+	 * 
+	 * @param is_positive Time&nbsp;counter value sign.
+	 */
+	void publish(final Time_counter time_counter,
+			final long[] time_unit_values, final boolean is_positive)
+	{
+		// Sequence number of the entry
+		final long sequence = next_sequence.getAndIncrement();
+		// Slot to write the entry to
+		final int slot = (int)(sequence & mask);
+		
+		/* Wait until the previous lap entry of the slot is published (is
+		 * possible only if the buffer is overrun by concurrent publishers) */
+		while (published.get(slot) != sequence - capacity)
+		{
+			Thread.yield();
+		}
+		
+		published.set(slot, writing_mark);
+		time_counters.set(slot, time_counter);
+		
+		// Index of the first slot value
+		final int row = slot * row_length;
+		
+		for (int i = 0; i < units_quantity; ++i)
+		{
+			values.set(row + i, time_unit_values[i]);
+		}
+		
+		values.set(row + units_quantity, is_positive ? 1 : 0);
+		published.set(slot, sequence);
+	}
+}
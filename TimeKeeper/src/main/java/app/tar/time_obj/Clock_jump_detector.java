@@ -0,0 +1,187 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * Detects the&nbsp;engine clock jumps by comparing its progression against
+ * {@link System#nanoTime()} one. {@link System#nanoTime()} is monotonic and is
+ * not affected by system time corrections (and does&nbsp;not advance while
+ * the&nbsp;system is suspended), so the&nbsp;difference between the&nbsp;two
+ * progressions since the&nbsp;previous check is the&nbsp;jump.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+final class Clock_jump_detector
+{
+	///// Fields private of-instance ======================================/////
+	/** The&nbsp;least jump in milliseconds which is reported. */
+	private volatile long threshold_millis;
+	/** {@link System#nanoTime()} reading at the&nbsp;previous check.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #lock}. */
+	private long previous_nanos;
+	/** Clock reading in milliseconds at the&nbsp;previous check.
+	 * {@link Long#MIN_VALUE} if there is nothing to compare with.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #lock}. */
+	private long previous_millis;
+	/** Synchronizes access to {@link #previous_nanos} and
+	 * {@link #previous_millis}. */
+	private final ReentrantLock lock;
+	/** Quantity of detected jumps. */
+	private final AtomicLong jumps;
+	/** The&nbsp;last detected jump in milliseconds. {@code 0} if there
+	 * were no jumps. */
+	private volatile long last_jump_millis;
+	
+	
+	///// Constructors default-access =====================================/////
+	/**
+	 * @param threshold_millis The&nbsp;least jump in milliseconds which is
+	 * reported.
+	 */
+	Clock_jump_detector(final long threshold_millis)
+	{
+		this.threshold_millis = threshold_millis;
+		previous_millis = Long.MIN_VALUE;
+		lock = new ReentrantLock();
+		jumps = new AtomicLong();
+		last_jump_millis = 0;
+	}
+	
+	
+	///// Methods default-access of-instance ==============================/////
+	/**
+	 * Compares {@code clock} progression since the&nbsp;previous check with
+	 * {@link System#nanoTime()} one.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param clock Checked clock.
+	 * 
+	 * @return Detected jump in milliseconds (positive&nbsp;&#0151; forward,
+	 * negative&nbsp;&#0151; backward); {@code 0} if the&nbsp;clock
+	 * progression differs less than the&nbsp;threshold or there is nothing to
+	 * compare with.
+	 */
+	long check(final Clock clock)
+	{
+		lock.lock();
+		
+		try
+		{
+			// Readings of both clocks are taken as close as possible
+			final long now_nanos = System.nanoTime();
+			final long now_millis = clock.millis();
+			// Previous readings
+			final long before_nanos = previous_nanos;
+			final long before_millis = previous_millis;
+			
+			previous_nanos = now_nanos;
+			previous_millis = now_millis;
+			
+			// If there is nothing to compare with
+			if (before_millis == Long.MIN_VALUE)
+			{
+				return 0;
+			}
+			
+			// Clock progression difference
+			final long jump = now_millis - before_millis -
+					TimeUnit.NANOSECONDS.toMillis(now_nanos - before_nanos);
+			
+			// If the difference is within the threshold
+			if (Math.abs(jump) < threshold_millis)
+			{
+				return 0;
+			}
+			
+			jumps.incrementAndGet();
+			last_jump_millis = jump;
+			
+			return jump;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Forgets the&nbsp;previous check readings, so the&nbsp;next
+	 * {@link #check(Clock)} call reports no jump. Is called when the&nbsp;clock
+	 * is replaced or has&nbsp;not been checked for a&nbsp;while on purpose.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 */
+	void reset()
+	{
+		lock.lock();
+		
+		try
+		{
+			previous_millis = Long.MIN_VALUE;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * @param threshold_millis The&nbsp;least jump in milliseconds which is
+	 * reported.
+	 */
+	void set_threshold_millis(final long threshold_millis)
+	{
+		this.threshold_millis = threshold_millis;
+	}
+	
+	
+	/**
+	 * @return The&nbsp;least jump in milliseconds which is reported.
+	 */
+	long get_threshold_millis()
+	{
+		return threshold_millis;
+	}
+	
+	
+	/**
+	 * @return Quantity of detected jumps.
+	 */
+	long get_jumps()
+	{
+		return jumps.get();
+	}
+	
+	
+	/**
+	 * @return The&nbsp;last detected jump in milliseconds. {@code 0} if there
+	 * were no jumps.
+	 */
+	long get_last_jump_millis()
+	{
+		return last_jump_millis;
+	}
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+
+/**
+ * The&nbsp;way running {@link Solo_counter}s handle the&nbsp;engine clock
+ * jump (NTP step, manual system time change, resume from hibernation) detected
+ * by {@link Time_counter_control}. Is set using
+ * {@link Time_counter_control#set_clock_jump_policy(Clock_jump_policy)}.
+ * {@link Instance_counter}s always show the&nbsp;difference with
+ * the&nbsp;clock time, so the&nbsp;policy does&nbsp;not concern them.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public enum Clock_jump_policy
+{
+	/** Forward jump is counted as passed time (the&nbsp;right choice for
+	 * resume from hibernation, when the&nbsp;time has really passed). Since
+	 * time&nbsp;counters do&nbsp;not count backward, after backward jump they
+	 * keep counting from their current values. This is the&nbsp;default
+	 * policy. */
+	CJP_count_jump,
+	/** The&nbsp;jump is&nbsp;not counted: time&nbsp;counters keep counting real
+	 * elapsed time measured by monotonic {@link System#nanoTime()} (the&nbsp;right
+	 * choice for clock corrections). */
+	CJP_skip_jump
+}
@@ -0,0 +1,514 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+
+/**
+ * Min&#8209;heap of {@link Deadline}s ordered by due instant, served by
+ * a&nbsp;single timer. The&nbsp;timer is always set to the&nbsp;earliest
+ * deadline only, so the&nbsp;cost of each deadline is paid when it is
+ * scheduled, moved or reached, and <u>does&nbsp;not</u> depend on how often
+ * time&nbsp;counters are ticked. Scheduling, rescheduling and canceling
+ * take logarithmic time.
+ * <p>Due instants are compared with {@link Time_counter_control#get_clock()}
+ * reading. When the&nbsp;engine clock is moved by {@link Simulated_clock},
+ * {@link Time_counter_control} fires reached deadlines synchronously by
+ * {@link #fire_due()}.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+final class Deadline_index
+{
+	///// Nested classes default-access ===================================/////
+	/**
+	 * Action to be performed when specified instant comes. An&nbsp;object can
+	 * be queued only once: scheduling already queued object moves it.
+	 * 
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	static abstract class Deadline
+	{
+		///// Fields private of-instance ==================================/////
+		/** Due instant in milliseconds from the&nbsp;epoch.<br>
+		 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+		 * {@link Deadline_index#lock}. */
+		private long due_millis;
+		/** Index in {@link Deadline_index#heap}. {@code -1} if
+		 * the&nbsp;object is&nbsp;not queued.<br>
+		 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+		 * {@link Deadline_index#lock}. */
+		private int heap_slot;
+		
+		
+		///// Constructors default-access =================================/////
+		/**
+		 * Creates deadline which is&nbsp;not queued.
+		 */
+		Deadline()
+		{
+			heap_slot = -1;
+		}
+		
+		
+		///// Methods default-access of-instance ==========================/////
+		/**
+		 * Is called by the&nbsp;engine when due instant comes. The&nbsp;object
+		 * is already removed from the&nbsp;index at&nbsp;the&nbsp;moment and
+		 * can be scheduled again. Is&nbsp;called <u>without</u> holding
+		 * {@link Deadline_index} lock.
+		 * 
+		 * @param due_millis Instant the&nbsp;object has&nbsp;been scheduled
+		 * for, in milliseconds from the&nbsp;epoch.
+		 */
+		abstract void deadline_reached(long due_millis);
+	}
+	
+	
+	///// Fields private static ===========================================/////
+	/** Logs this class's events. */
+	private static final Logger logger;
+	
+	
+	static
+	{
+		logger = Logger.getLogger(Deadline_index.class.getName());
+	}
+	
+	
+	///// Fields private of-instance ======================================/////
+	/** Binary min&#8209;heap by {@link Deadline#due_millis}. Only first
+	 * {@link #size} elements are used.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #lock}. */
+	private Deadline[] heap;
+	/** Queued deadlines quantity.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #lock}. */
+	private int size;
+	
+	/** Executes {@link #timer_task}. */
+	private final ScheduledExecutorService executor;
+	/** Fires reached deadlines. */
+	private final Runnable timer_task;
+	/** {@link #timer_task} scheduling result. {@code null} if there are no
+	 * queued deadlines.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #lock}. */
+	private ScheduledFuture<?> timer_future;
+	/** Deadline instant {@link #timer_future} is set for.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #lock}. */
+	private long timer_due_millis;
+	
+	/** Synchronizes access to the&nbsp;heap and the&nbsp;timer.<br>
+	 * <b>Warning!</b> Other locks <u>must&nbsp;not</u> be acquired while
+	 * holding this lock, because deadlines are scheduled while holding
+	 * time&nbsp;counters' locks. */
+	private final ReentrantLock lock;
+	
+	
+	///// Constructors default-access =====================================/////
+	/**
+	 * @param executor Engine scheduler to set the&nbsp;timer on.
+	 */
+	Deadline_index(final ScheduledExecutorService executor)
+	{
+		heap = new Deadline[16];
+		size = 0;
+		this.executor = executor;
+		timer_task = new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				/* The engine clock may have jumped while there were no engine
+				 * ticks (e.g. in idle mode) */
+				Time_counter_control.get_instance().detect_clock_jump();
+				fire_due();
+			}
+		};
+		timer_future = null;
+		lock = new ReentrantLock();
+	}
+	
+	
+	///// Methods default-access of-instance ==============================/////
+	/**
+	 * Queues {@code deadline} to be reached at {@code due_millis}. If
+	 * {@code deadline} is queued already, it is moved.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param deadline Deadline to queue.
+	 * 
+	 * @param due_millis Due instant in milliseconds from the&nbsp;epoch.
+	 */
+	void schedule(final Deadline deadline, final long due_millis)
+	{
+		lock.lock();
+		
+		try
+		{
+			// If the deadline is queued already
+			if (deadline.heap_slot != -1)
+			{
+				// If the deadline is not moved
+				if (deadline.due_millis == due_millis)
+				{
+					return;
+				}
+				
+				remove_at(deadline.heap_slot);
+			}
+			
+			deadline.due_millis = due_millis;
+			
+			// If the heap needs to grow
+			if (size == heap.length)
+			{
+				heap = Arrays.copyOf(heap, size * 2);
+			}
+			
+			heap[size] = deadline;
+			deadline.heap_slot = size;
+			++size;
+			sift_up(deadline.heap_slot);
+			set_timer();
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Removes {@code deadline} from the&nbsp;index. Does&nbsp;nothing if it
+	 * is&nbsp;not queued.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param deadline Deadline to remove.
+	 */
+	void cancel(final Deadline deadline)
+	{
+		lock.lock();
+		
+		try
+		{
+			// If the deadline isn't queued
+			if (deadline.heap_slot == -1)
+			{
+				return;
+			}
+			
+			remove_at(deadline.heap_slot);
+			set_timer();
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @return Queued deadlines quantity.
+	 */
+	int size()
+	{
+		lock.lock();
+		
+		try
+		{
+			return size;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Performs {@link #fire_due()} and resets the&nbsp;timer even if
+	 * the&nbsp;earliest deadline is unchanged. The&nbsp;timer delay is
+	 * computed from the&nbsp;engine clock reading, so it becomes wrong after
+	 * the&nbsp;clock jump.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 */
+	void resync()
+	{
+		lock.lock();
+		
+		try
+		{
+			// If the timer is set
+			if (timer_future != null)
+			{
+				timer_future.cancel(false);
+				timer_future = null;
+			}
+		}
+		finally
+		{
+			lock.unlock();
+		}
+		
+		fire_due();
+	}
+	
+	
+	/**
+	 * Removes all deadlines which instant has come according to
+	 * the&nbsp;engine clock and calls their
+	 * {@link Deadline#deadline_reached(long)} in due order, then sets
+	 * the&nbsp;timer to the&nbsp;next deadline. Is performed by the&nbsp;timer
+	 * and when the&nbsp;engine clock is moved or changed.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 */
+	void fire_due()
+	{
+		// Engine clock reading
+		final long now = Time_counter_control.get_instance().get_clock().millis();
+		// Reached deadlines in due order
+		final ArrayList<Deadline> reached = new ArrayList<>();
+		// Instants reached deadlines have been scheduled for
+		long[] reached_due = null;
+		
+		lock.lock();
+		
+		try
+		{
+			/* The timer is pending if the call is not made by it (e.g. when
+			 * the engine clock is moved), so it is cancelled to be reset */
+			if (timer_future != null)
+			{
+				timer_future.cancel(false);
+				timer_future = null;
+			}
+			
+			while (size != 0 && heap[0].due_millis <= now)
+			{
+				// Reached deadline
+				final Deadline deadline = heap[0];
+				
+				// If the buffer needs to grow
+				if (reached_due == null || reached.size() == reached_due.length)
+				{
+					reached_due = (reached_due == null ?
+							new long[4] : Arrays.copyOf(reached_due, reached.size() * 2));
+				}
+				
+				reached_due[reached.size()] = deadline.due_millis;
+				reached.add(deadline);
+				remove_at(0);
+			}
+			
+			set_timer();
+		}
+		finally
+		{
+			lock.unlock();
+		}
+		
+		for (int i = 0, end = reached.size(); i < end; ++i)
+		{
+			try
+			{
+				reached.get(i).deadline_reached(reached_due[i]);
+			}
+			// Single failed action must not affect others
+			catch (final RuntimeException exc)
+			{
+				logger.log(Level.SEVERE, "Deadline action failed. Exception"
+						+ " stack trace:", exc);
+			}
+		}
+	}
+	
+	
+	///// Methods private of-instance =====================================/////
+	/**
+	 * Sets the&nbsp;timer to the&nbsp;earliest deadline if it is&nbsp;not set
+	 * to it yet, or cancels the&nbsp;timer if there are no deadlines.<br>
+	 * <b>Warning!</b> {@link #lock} must be held by the&nbsp;caller.
+	 */
+	private void set_timer()
+	{
+		// If there are no deadlines
+		if (size == 0)
+		{
+			// If the timer is set
+			if (timer_future != null)
+			{
+				timer_future.cancel(false);
+				timer_future = null;
+			}
+			
+			return;
+		}
+		
+		// The earliest deadline instant
+		final long due_millis = heap[0].due_millis;
+		
+		// If the timer is already set to the earliest deadline
+		if (timer_future != null && timer_due_millis == due_millis)
+		{
+			return;
+		}
+		
+		// If the timer is set to another deadline
+		if (timer_future != null)
+		{
+			timer_future.cancel(false);
+		}
+		
+		// Engine clock
+		final Clock clock = Time_counter_control.get_instance().get_clock();
+		
+		timer_due_millis = due_millis;
+		timer_future = executor.schedule(timer_task,
+				Math.max(0, due_millis - clock.millis()), TimeUnit.MILLISECONDS);
+	}
+	
+	
+	/**
+	 * Removes the&nbsp;heap element at {@code slot}.<br>
+	 * <b>Warning!</b> {@link #lock} must be held by the&nbsp;caller.
+	 * 
+	 * @param slot Index of the&nbsp;element to remove.
+	 */
+	private void remove_at(final int slot)
+	{
+		// Removed deadline
+		final Deadline removed = heap[slot];
+		
+		--size;
+		removed.heap_slot = -1;
+		
+		// If removed element isn't the last one
+		if (slot != size)
+		{
+			// The last element takes place of removed one
+			final Deadline last = heap[size];
+			
+			heap[slot] = last;
+			last.heap_slot = slot;
+			sift_down(slot);
+			
+			// If the last element hasn't moved down
+			if (heap[slot] == last)
+			{
+				sift_up(slot);
+			}
+		}
+		
+		heap[size] = null;
+	}
+	
+	
+	/**
+	 * Moves the&nbsp;heap element at {@code slot} up to its place.<br>
+	 * <b>Warning!</b> {@link #lock} must be held by the&nbsp;caller.
+	 * 
+	 * @param slot Index of the&nbsp;element to move.
+	 */
+	private void sift_up(int slot)
+	{
+		// Element to move
+		final Deadline deadline = heap[slot];
+		
+		while (slot > 0)
+		{
+			// Parent element index
+			final int parent_slot = (slot - 1) >>> 1;
+			// Parent element
+			final Deadline parent = heap[parent_slot];
+			
+			// If the element has reached its place
+			if (parent.due_millis <= deadline.due_millis)
+			{
+				break;
+			}
+			
+			heap[slot] = parent;
+			parent.heap_slot = slot;
+			slot = parent_slot;
+		}
+		
+		heap[slot] = deadline;
+		deadline.heap_slot = slot;
+	}
+	
+	
+	/**
+	 * Moves the&nbsp;heap element at {@code slot} down to its place.<br>
+	 * <b>Warning!</b> {@link #lock} must be held by the&nbsp;caller.
+	 * 
+	 * @param slot Index of the&nbsp;element to move.
+	 */
+	private void sift_down(int slot)
+	{
+		// Element to move
+		final Deadline deadline = heap[slot];
+		// Index of the first element without children
+		final int half = size >>> 1;
+		
+		while (slot < half)
+		{
+			// Index of the earliest child
+			int child_slot = (slot << 1) + 1;
+			// Right child index
+			final int right_slot = child_slot + 1;
+			
+			// If the right child is earlier
+			if (right_slot < size &&
+					heap[right_slot].due_millis < heap[child_slot].due_millis)
+			{
+				child_slot = right_slot;
+			}
+			
+			// The earliest child
+			final Deadline child = heap[child_slot];
+			
+			// If the element has reached its place
+			if (deadline.due_millis <= child.due_millis)
+			{
+				break;
+			}
+			
+			heap[slot] = child;
+			child.heap_slot = slot;
+			slot = child_slot;
+		}
+		
+		heap[slot] = deadline;
+		deadline.heap_slot = slot;
+	}
+}
@@ -0,0 +1,260 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+import app.tar.time_obj.dialog.User_notification_dialog;
+
+
+/**
+ * Java Flight Recorder instrumentation of the&nbsp;engine: periodic ticks,
+ * text rendering, listeners dispatch, time&nbsp;counters file I/O and
+ * {@link User_notification_dialog} blocking waits.
+ * <p>Events are disabled by default. To record them the&nbsp;program should be
+ * started with <i>timekeeper.jfc</i> settings shipped with
+ * {@code app.tar.time_obj} package (extract it from the&nbsp;program jar to
+ * a&nbsp;file first), e.g.:<br>
+ * {@code -XX:StartFlightRecording:settings=default,settings=timekeeper.jfc,filename=timekeeper.jfr}<br>
+ * Event thresholds may be tuned in the&nbsp;file without rebuilding
+ * the&nbsp;program.
+ * <p>{@code jdk.jfr} API is available only since Java&nbsp;8u262 and
+ * Java&nbsp;11. On older runtimes all methods of this class do nothing.
+ * <p><i>Performance note.</i> When event is disabled, its begin/end pair costs
+ * one short&#8209;lived object allocation; event fields (strings mostly) are
+ * built only if the&nbsp;event is going to be committed.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public final class Flight_recorder
+{
+	///// Fields private static ===========================================/////
+	/** {@code true}&nbsp;&#0151; {@code jdk.jfr} API is available at
+	 * runtime. */
+	private static final boolean available;
+	
+	
+	static
+	{
+		// JFR API availability
+		boolean jfr_available;
+		
+		try
+		{
+			Class.forName("jdk.jfr.Event");
+			jfr_available = true;
+		}
+		catch (final ClassNotFoundException | LinkageError exc)
+		{
+			jfr_available = false;
+		}
+		
+		available = jfr_available;
+	}
+	
+	
+	///// Constructors private ============================================/////
+	/**
+	 * The&nbsp;class is not&nbsp;instantiable.
+	 */
+	private Flight_recorder() {}
+	
+	
+	///// Methods public static ===========================================/////
+	/**
+	 * @return {@code true}&nbsp;&#0151; Java Flight Recorder events are
+	 * supported by the&nbsp;runtime; {@code false}&nbsp;&#0151; otherwise.
+	 */
+	public static boolean is_available()
+	{
+		return available;
+	}
+	
+	
+	/**
+	 * Starts measuring blocking wait for user notification to be handled.
+	 * 
+	 * @return Event handle to be passed to
+	 * {@link #end_notification_wait(Object, Enum)}. May be {@code null}.
+	 */
+	public static Object begin_notification_wait()
+	{
+		return available ? Flight_recorder_events.begin_notification_wait() : null;
+	}
+	
+	
+	/**
+	 * Finishes measuring blocking wait for user notification to be handled.
+	 * 
+	 * @param event Handle returned by {@link #begin_notification_wait()}.
+	 * 
+	 * @param type Notification type.
+	 */
+	public static void end_notification_wait(
+			final Object event, final Enum<?> type)
+	{
+		// There is no event if JFR is unavailable
+		if (event != null)
+		{
+			Flight_recorder_events.end_notification_wait(event, type.name());
+		}
+	}
+	
+	
+	///// Methods default-access static ===================================/////
+	/**
+	 * Starts measuring periodic engine task.
+	 * 
+	 * @return Event handle to be passed to
+	 * {@link #end_tick(Object, String, int)}. May be {@code null}.
+	 */
+	static Object begin_tick()
+	{
+		return available ? Flight_recorder_events.begin_tick() : null;
+	}
+	
+	
+	/**
+	 * Finishes measuring periodic engine task.
+	 * 
+	 * @param event Handle returned by {@link #begin_tick()}.
+	 * 
+	 * @param task Engine task name.
+	 * 
+	 * @param counters Quantity of processed time&nbsp;counters.
+	 */
+	static void end_tick(final Object event, final String task, final int counters)
+	{
+		// There is no event if JFR is unavailable
+		if (event != null)
+		{
+			Flight_recorder_events.end_tick(event, task, counters);
+		}
+	}
+	
+	
+	/**
+	 * Starts measuring time&nbsp;counter text rendering.
+	 * 
+	 * @return Event handle to be passed to
+	 * {@link #end_render(Object, Mode, Time_display_style, Time_unit_name, Time_unit_name, int)}.
+	 * May be {@code null}.
+	 */
+	static Object begin_render()
+	{
+		return available ? Flight_recorder_events.begin_render() : null;
+	}
+	
+	
+	/**
+	 * Finishes measuring time&nbsp;counter text rendering.
+	 * 
+	 * @param event Handle returned by {@link #begin_render()}.
+	 * 
+	 * @param mode Time&nbsp;counter mode.
+	 * 
+	 * @param style Time display style.
+	 * 
+	 * @param leftmost The&nbsp;leftmost displayed time&nbsp;unit.
+	 * 
+	 * @param rightmost The&nbsp;rightmost displayed time&nbsp;unit.
+	 * 
+	 * @param length Rendered text length.
+	 */
+	static void end_render(final Object event, final Mode mode,
+			final Time_display_style style, final Time_unit_name leftmost,
+			final Time_unit_name rightmost, final int length)
+	{
+		// There is no event if JFR is unavailable
+		if (event != null)
+		{
+			Flight_recorder_events.end_render(
+					event, mode, style, leftmost, rightmost, length);
+		}
+	}
+	
+	
+	/**
+	 * Starts measuring single time&nbsp;counter text listener invocation.
+	 * 
+	 * @return Event handle to be passed to
+	 * {@link #end_dispatch(Object, Mode, Object)}. May be {@code null}.
+	 */
+	static Object begin_dispatch()
+	{
+		return available ? Flight_recorder_events.begin_dispatch() : null;
+	}
+	
+	
+	/**
+	 * Finishes measuring single time&nbsp;counter text listener invocation.
+	 * 
+	 * @param event Handle returned by {@link #begin_dispatch()}.
+	 * 
+	 * @param mode Time&nbsp;counter mode.
+	 * 
+	 * @param listener Invoked listener.
+	 */
+	static void end_dispatch(
+			final Object event, final Mode mode, final Object listener)
+	{
+		// There is no event if JFR is unavailable
+		if (event != null)
+		{
+			Flight_recorder_events.end_dispatch(event, mode, listener);
+		}
+	}
+	
+	
+	/**
+	 * Starts measuring time&nbsp;counters file writing or reading.
+	 * 
+	 * @return Event handle to be passed to
+	 * {@link #end_file_io(Object, boolean, boolean, String, int)}. May be
+	 * {@code null}.
+	 */
+	static Object begin_file_io()
+	{
+		return available ? Flight_recorder_events.begin_file_io() : null;
+	}
+	
+	
+	/**
+	 * Finishes measuring time&nbsp;counters file writing or reading.
+	 * 
+	 * @param event Handle returned by {@link #begin_file_io()}.
+	 * 
+	 * @param write {@code true}&nbsp;&#0151; the&nbsp;file has&nbsp;been
+	 * written; {@code false}&nbsp;&#0151; read.
+	 * 
+	 * @param succeeded {@code true}&nbsp;&#0151; all time&nbsp;counters
+	 * have&nbsp;been written or read; {@code false}&nbsp;&#0151;
+	 * the&nbsp;operation failed or was partial.
+	 * 
+	 * @param file_name File name.
+	 * 
+	 * @param records Quantity of written or read time&nbsp;counters.
+	 */
+	static void end_file_io(final Object event, final boolean write,
+			final boolean succeeded, final String file_name, final int records)
+	{
+		// There is no event if JFR is unavailable
+		if (event != null)
+		{
+			Flight_recorder_events.end_file_io(
+					event, write, succeeded, file_name, records);
+		}
+	}
+}
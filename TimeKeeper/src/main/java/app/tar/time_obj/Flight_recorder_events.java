@@ -0,0 +1,406 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+import java.io.File;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+/**
+ * Java Flight Recorder event types of the&nbsp;engine. This is the&nbsp;only
+ * class referencing {@code jdk.jfr} API; it is loaded by
+ * {@link Flight_recorder} only if the&nbsp;API is available at runtime, but
+ * compiling it requires JDK&nbsp;8u262 or later (enforced by
+ * <i>pom.xml</i>).
+ * Events are disabled by default and are enabled by
+ * <i>timekeeper.jfc</i> recording settings (see&nbsp;{@link Flight_recorder}).
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+final class Flight_recorder_events
+{
+	///// Nested classes private ==========================================/////
+	/**
+	 * Periodic engine task execution.
+	 * 
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	@Name("app.tar.time_obj.Tick")
+	@Label("Engine Tick")
+	@Description("Periodic engine task counting time of running time counters")
+	@Category({ "TimeKeeper", "Engine" })
+	@Enabled(false)
+	@StackTrace(false)
+	private static final class Tick_event extends Event
+	{
+		/** Engine task name. */
+		@Label("Task")
+		String task;
+		
+		/** Quantity of processed time&nbsp;counters. */
+		@Label("Counters Processed")
+		int counters;
+	}
+	
+	
+	/**
+	 * Time&nbsp;counter text rendering.
+	 * 
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	@Name("app.tar.time_obj.Render")
+	@Label("Text Render")
+	@Description("Time counter value formatting to text")
+	@Category({ "TimeKeeper", "Engine" })
+	@Enabled(false)
+	@StackTrace(false)
+	private static final class Render_event extends Event
+	{
+		/** Time&nbsp;counter mode. */
+		@Label("Mode")
+		String mode;
+		
+		/** Time display style and displayed time&nbsp;units range. */
+		@Label("Layout")
+		String layout;
+		
+		/** Rendered text length. */
+		@Label("Length")
+		int length;
+	}
+	
+	
+	/**
+	 * Single {@link app.tar.time_obj.events.Time_counter_text_listener}
+	 * invocation.
+	 * 
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	@Name("app.tar.time_obj.Dispatch")
+	@Label("Listener Dispatch")
+	@Description("Time counter text listener invocation")
+	@Category({ "TimeKeeper", "Listeners" })
+	@Enabled(false)
+	@StackTrace(false)
+	private static final class Dispatch_event extends Event
+	{
+		/** Time&nbsp;counter mode. */
+		@Label("Mode")
+		String mode;
+		
+		/** Listener class name. */
+		@Label("Listener")
+		String listener;
+	}
+	
+	
+	/**
+	 * Time&nbsp;counters file writing or reading.
+	 * 
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	@Name("app.tar.time_obj.File_io")
+	@Label("Time Counters File I/O")
+	@Description("Time counters saving to or reading from file")
+	@Category({ "TimeKeeper", "File" })
+	@Enabled(false)
+	@StackTrace(false)
+	private static final class File_io_event extends Event
+	{
+		/** {@code true}&nbsp;&#0151; the&nbsp;file has&nbsp;been written;
+		 * {@code false}&nbsp;&#0151; read. */
+		@Label("Write")
+		boolean write;
+		
+		/** {@code true}&nbsp;&#0151; all time&nbsp;counters have&nbsp;been
+		 * written or read; {@code false}&nbsp;&#0151; the&nbsp;operation
+		 * failed or was partial. */
+		@Label("Succeeded")
+		boolean succeeded;
+		
+		/** File name. */
+		@Label("File")
+		String file;
+		
+		/** File size. */
+		@Label("Bytes")
+		@DataAmount
+		long bytes;
+		
+		/** Quantity of written or read time&nbsp;counters. */
+		@Label("Records")
+		int records;
+	}
+	
+	
+	/**
+	 * Blocking wait for user notification to be handled.
+	 * 
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	@Name("app.tar.time_obj.Notification_wait")
+	@Label("User Notification Wait")
+	@Description("Thread blocked until user notification is handled")
+	@Category({ "TimeKeeper", "Listeners" })
+	@Enabled(false)
+	private static final class Notification_wait_event extends Event
+	{
+		/** Notification type. */
+		@Label("Type")
+		String type;
+	}
+	
+	
+	///// Constructors private ============================================/////
+	/**
+	 * The&nbsp;class is not&nbsp;instantiable.
+	 */
+	private Flight_recorder_events() {}
+	
+	
+	///// Methods default-access static ===================================/////
+	/**
+	 * @return Started tick event.
+	 */
+	static Object begin_tick()
+	{
+		// Event to return
+		final Tick_event event = new Tick_event();
+		
+		event.begin();
+		
+		return event;
+	}
+	
+	
+	/**
+	 * Ends and commits (if needed) tick event.
+	 * 
+	 * @param event Event returned by {@link #begin_tick()}.
+	 * 
+	 * @param task Engine task name.
+	 * 
+	 * @param counters Quantity of processed time&nbsp;counters.
+	 */
+	static void end_tick(final Object event, final String task, final int counters)
+	{
+		// Event to commit
+		final Tick_event tick = (Tick_event)event;
+		
+		tick.end();
+		
+		// If the event is recorded
+		if (tick.shouldCommit())
+		{
+			tick.task = task;
+			tick.counters = counters;
+			tick.commit();
+		}
+	}
+	
+	
+	/**
+	 * @return Started render event.
+	 */
+	static Object begin_render()
+	{
+		// Event to return
+		final Render_event event = new Render_event();
+		
+		event.begin();
+		
+		return event;
+	}
+	
+	
+	/**
+	 * Ends and commits (if needed) render event.
+	 * 
+	 * @param event Event returned by {@link #begin_render()}.
+	 * 
+	 * @param mode Time&nbsp;counter mode.
+	 * 
+	 * @param style Time display style.
+	 * 
+	 * @param leftmost The&nbsp;leftmost displayed time&nbsp;unit.
+	 * 
+	 * @param rightmost The&nbsp;rightmost displayed time&nbsp;unit.
+	 * 
+	 * @param length Rendered text length.
+	 */
+	static void end_render(final Object event, final Mode mode,
+			final Time_display_style style, final Time_unit_name leftmost,
+			final Time_unit_name rightmost, final int length)
+	{
+		// Event to commit
+		final Render_event render = (Render_event)event;
+		
+		render.end();
+		
+		// If the event is recorded
+		if (render.shouldCommit())
+		{
+			render.mode = mode.name();
+			render.layout = style.name() + ' ' + leftmost.name() + ".." +
+					rightmost.name();
+			render.length = length;
+			render.commit();
+		}
+	}
+	
+	
+	/**
+	 * @return Started dispatch event.
+	 */
+	static Object begin_dispatch()
+	{
+		// Event to return
+		final Dispatch_event event = new Dispatch_event();
+		
+		event.begin();
+		
+		return event;
+	}
+	
+	
+	/**
+	 * Ends and commits (if needed) dispatch event.
+	 * 
+	 * @param event Event returned by {@link #begin_dispatch()}.
+	 * 
+	 * @param mode Time&nbsp;counter mode.
+	 * 
+	 * @param listener Invoked listener.
+	 */
+	static void end_dispatch(
+			final Object event, final Mode mode, final Object listener)
+	{
+		// Event to commit
+		final Dispatch_event dispatch = (Dispatch_event)event;
+		
+		dispatch.end();
+		
+		// If the event is recorded
+		if (dispatch.shouldCommit())
+		{
+			dispatch.mode = mode.name();
+			dispatch.listener = listener.getClass().getName();
+			dispatch.commit();
+		}
+	}
+	
+	
+	/**
+	 * @return Started file I/O event.
+	 */
+	static Object begin_file_io()
+	{
+		// Event to return
+		final File_io_event event = new File_io_event();
+		
+		event.begin();
+		
+		return event;
+	}
+	
+	
+	/**
+	 * Ends and commits (if needed) file I/O event.
+	 * 
+	 * @param event Event returned by {@link #begin_file_io()}.
+	 * 
+	 * @param write {@code true}&nbsp;&#0151; the&nbsp;file has&nbsp;been
+	 * written; {@code false}&nbsp;&#0151; read.
+	 * 
+	 * @param succeeded {@code true}&nbsp;&#0151; all time&nbsp;counters
+	 * have&nbsp;been written or read; {@code false}&nbsp;&#0151;
+	 * the&nbsp;operation failed or was partial.
+	 * 
+	 * @param file_name File name.
+	 * 
+	 * @param records Quantity of written or read time&nbsp;counters.
+	 */
+	static void end_file_io(final Object event, final boolean write,
+			final boolean succeeded, final String file_name, final int records)
+	{
+		// Event to commit
+		final File_io_event file_io = (File_io_event)event;
+		
+		file_io.end();
+		
+		// If the event is recorded
+		if (file_io.shouldCommit())
+		{
+			file_io.write = write;
+			file_io.succeeded = succeeded;
+			file_io.file = file_name;
+			file_io.bytes = new File(file_name).length();
+			file_io.records = records;
+			file_io.commit();
+		}
+	}
+	
+	
+	/**
+	 * @return Started notification wait event.
+	 */
+	static Object begin_notification_wait()
+	{
+		// Event to return
+		final Notification_wait_event event = new Notification_wait_event();
+		
+		event.begin();
+		
+		return event;
+	}
+	
+	
+	/**
+	 * Ends and commits (if needed) notification wait event.
+	 * 
+	 * @param event Event returned by {@link #begin_notification_wait()}.
+	 * 
+	 * @param type Notification type name.
+	 */
+	static void end_notification_wait(final Object event, final String type)
+	{
+		// Event to commit
+		final Notification_wait_event wait = (Notification_wait_event)event;
+		
+		wait.end();
+		
+		// If the event is recorded
+		if (wait.shouldCommit())
+		{
+			wait.type = type;
+			wait.commit();
+		}
+	}
+}
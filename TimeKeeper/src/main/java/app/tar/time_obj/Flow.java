@@ -0,0 +1,133 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+
+/**
+ * Interrelated interfaces for demand&#8209;driven delivery of time&nbsp;counters
+ * values. Follow the&nbsp;contract of {@code java.util.concurrent.Flow}
+ * interfaces of the&nbsp;same names (available since Java&nbsp;9), so
+ * adapting them to that API is&nbsp;one&nbsp;line per method.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public final class Flow
+{
+	///// Nested interfaces public ========================================/////
+	/**
+	 * Producer of items received by {@link Subscriber}s according to their
+	 * demand.
+	 * 
+	 * @param <T> Published item type.
+	 * 
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	public interface Publisher<T>
+	{
+		/**
+		 * Adds {@code subscriber}. {@link Subscriber#onSubscribe(Subscription)}
+		 * is invoked before any other subscriber method.
+		 * 
+		 * @param subscriber Subscriber to add.
+		 * 
+		 * @exception NullPointerException {@code subscriber} argument is
+		 * {@code null}.
+		 */
+		void subscribe(Subscriber<? super T> subscriber);
+	}
+	
+	
+	/**
+	 * Receiver of items. Methods are invoked sequentially (never
+	 * concurrently) for each subscription.
+	 * 
+	 * @param <T> Received item type.
+	 * 
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	public interface Subscriber<T>
+	{
+		/**
+		 * Is invoked once before any other method.
+		 * 
+		 * @param subscription Subscription to request items and to cancel
+		 * receiving.
+		 */
+		void onSubscribe(Subscription subscription);
+		
+		
+		/**
+		 * Receives the&nbsp;next item. Is invoked only according to
+		 * requested demand.
+		 * 
+		 * @param item Received item.
+		 */
+		void onNext(T item);
+		
+		
+		/**
+		 * Is invoked when the&nbsp;subscription is terminated with
+		 * {@code throwable}. No&nbsp;other methods are invoked after.
+		 * 
+		 * @param throwable Termination reason.
+		 */
+		void onError(Throwable throwable);
+		
+		
+		/**
+		 * Is invoked when the&nbsp;publisher has no&nbsp;more items.
+		 * No&nbsp;other methods are invoked after.
+		 */
+		void onComplete();
+	}
+	
+	
+	/**
+	 * Link between {@link Publisher} and {@link Subscriber}.
+	 * 
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	public interface Subscription
+	{
+		/**
+		 * Adds {@code n} items to unfulfilled demand. Non&#8209;positive
+		 * {@code n} terminates the&nbsp;subscription with
+		 * {@link IllegalArgumentException} passed to
+		 * {@link Subscriber#onError(Throwable)}.
+		 * 
+		 * @param n Requested items quantity.
+		 */
+		void request(long n);
+		
+		
+		/**
+		 * Stops receiving items. Items may still be received for a&nbsp;short
+		 * time after the&nbsp;call.
+		 */
+		void cancel();
+	}
+	
+	
+	///// Constructors private ============================================/////
+	/**
+	 * This class is a&nbsp;container of interfaces only.
+	 */
+	private Flow() {}
+}
@@ -18,28 +18,23 @@ package app.tar.time_obj;
 import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.time.DateTimeException;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.time.format.TextStyle;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
-import java.util.Locale;
 import java.util.ResourceBundle;
-import java.util.concurrent.BrokenBarrierException;
-import java.util.concurrent.CyclicBarrier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import app.tar.time_obj.Settings.Locale_setting;
-import app.tar.time_obj.dialog.User_notification_dialog;
-import app.tar.time_obj.dialog.User_notification_type;
-import app.tar.time_obj.events.User_notification_event;
-
 
 /**
  * Implements time&nbsp;counter working in {@link Mode#M_elapsed_from} and
@@ -56,14 +51,41 @@ public class Instance_counter extends Time_counter implements Serializable
 {
 	/** Serializable class version number. */
 	private static final long serialVersionUID = 2878683840155077705L;
+	
+	/** Serialized fields. The&nbsp;target time is persisted in the&nbsp;same
+	 * compact form it is stored in, with the&nbsp;zone identifier instead of
+	 * {@link #zone_index}. Objects serialized with the&nbsp;former
+	 * {@code ZonedDateTime time_instance} field are read too.
+	 * 
+	 * @serialField time_instance_seconds long Target instant seconds from
+	 * the&nbsp;epoch.
+	 * 
+	 * @serialField time_instance_nanos int Target instant nanoseconds of
+	 * the&nbsp;second.
+	 * 
+	 * @serialField zone String Target time&nbsp;zone identifier
+	 * (see&nbsp;{@link ZoneId#getId()}). */
+	private static final ObjectStreamField[] serialPersistentFields = {
+			new ObjectStreamField("time_instance_seconds", long.class),
+			new ObjectStreamField("time_instance_nanos", int.class),
+			new ObjectStreamField("zone", String.class) };
 
 	
-	///// Fields default-access static ====================================/////
-	/** Барьер всех экземпляров данного класса для синхронного выполнения
-	 * метода {@link #difference_calculation(boolean)}. Устанавливается из
-	 * {@link Time_counter_control}. */
-	static CyclicBarrier difference_calculation_barrier;
+	///// Nested classes private ==========================================/////
+	/**
+	 * Notifies time&nbsp;elapsed listeners when the&nbsp;target time comes.
+	 */
+	private final class Expiry extends Deadline_index.Deadline
+	{
+		@Override
+		void deadline_reached(final long due_millis)
+		{
+			notify_time_elapsed_listeners();
+		}
+	}
+
 	
+	///// Fields default-access static ====================================/////
 	/** Resource bundle representing <i>.properties</i> file which contains
 	 * dialog messages according to the&nbsp;program locale. */
 	static ResourceBundle message_resources;
@@ -73,48 +95,62 @@ public class Instance_counter extends Time_counter implements Serializable
 	/** Отвечает за логирование событий. */
 	private static final Logger logger;
 	
-	/** Текущие дата и время. */
-	private static ZonedDateTime time_current;
-	
-	/** Часовой пояс с локальными настройками сезонного перевода времени. */
-	private static ZoneId zone_id;
-	
 	
 	static
 	{
 		logger = Logger.getLogger(Instance_counter.class.getName());
-		
-		try
-		{
-			zone_id = ZoneId.systemDefault();
-		}
-		catch(final DateTimeException exc)
-		{
-			logger.log(Level.WARNING,
-					"Cannot obtain system ZoneId. Exception stack trace:", exc);
-			zone_id = null;
-		}
-		
 		message_resources = settings.get_message_resources();
 	}
 	
 	
-	///// Fields public of-instance =======================================/////
+	///// Fields default-access of-instance ===============================/////
+	/** Index of the&nbsp;target time&nbsp;zone in {@link Zone_table}. */
+	transient int zone_index;
+	
+	/** Index of this object in {@link Time_counter_control}{@code 's} list of
+	 * synchronously executed objects. {@code -1} if the&nbsp;object is
+	 * not&nbsp;listed. Is managed by {@link Time_counter_control} only. */
+	transient int instance_slot;
+	
+	/** The&nbsp;target time deadline in {@link Time_counter_control}
+	 * expiry deadlines index. Is queued while the&nbsp;target time is in
+	 * the&nbsp;future and the&nbsp;object is listed in
+	 * {@link Time_counter_control}. */
+	transient Deadline_index.Deadline expiry;
+	
+	/** Current date and time in the&nbsp;target time&nbsp;zone shared
+	 * with other listed objects of the&nbsp;zone. {@code null} if
+	 * the&nbsp;object is&nbsp;not listed. Is managed by
+	 * {@link Time_counter_control} only. */
+	transient Zone_state zone_state;
+	
+	
+	///// Поля private экземпляра =========================================/////
 	/** Значение даты и времени, относительно которого будет вестись подсчет
 	 * оставшегося/прошедшего времени (еще называемое здесь&nbsp;&#0151;
-	 * <i>"целевое" время</i>).
-	 * 
-	 * @serial После десериализации не&nbsp;должен быть {@code null}. При
-	 * несоответствии условию проверки генерируется исключение
-	 * {@link InvalidObjectException}. */
-	public final ZonedDateTime time_instance;
+	 * <i>"целевое" время</i>), in seconds from the&nbsp;epoch. Together with
+	 * {@link #time_instance_nanos} and {@link #zone_index} replaces
+	 * {@link ZonedDateTime} object graph, which is materialized by
+	 * {@link #get_time_instance()} only. */
+	private long time_instance_seconds;
 	
+	/** Nanoseconds of the&nbsp;target time second. */
+	private int time_instance_nanos;
 	
-	///// Поля private экземпляра =========================================/////
-	/** Смещение целевого времени {@link #time_instance} в секундах
-	 * относительно гринвичского времени. */
+	/** Смещение целевого времени в секундах относительно гринвичского
+	 * времени. */
 	private transient int time_instance_offset;
 	
+	/** Difference between current time offset and
+	 * {@link #time_instance_offset} in seconds. Is valid while
+	 * {@link #offset_transitions} matches {@link #zone_state}'s
+	 * {@link Zone_state#transitions}. */
+	private transient int offset_difference;
+	
+	/** {@link Zone_state#transitions} value {@link #offset_difference} has
+	 * been computed for. */
+	private transient int offset_transitions;
+	
 	
 	///// Constructors public =============================================/////
 	/**
@@ -129,15 +165,9 @@ public class Instance_counter extends Time_counter implements Serializable
 	 * 
 	 * @param time_instance Date and time values relatively to which
 	 * elapsed/remaining time will be counted. <u>Cannot</u> be {@code null}.<br>
-	 * <i>Note.</i> The&nbsp;argument's {@link ZoneId} is compared with
-	 * {@code Instance_counter}'s stored value (can be obtained using
-	 * {@link #get_time_counter_text_value()}). <u>If values do&nbsp;not
-	 * match</u>, {@code Instance_counter} object will try to ensure system
-	 * zone&nbsp;rules are same as its own stored value (using
-	 * {@link ZoneId#systemDefault()} method). <u>If such checking fails</u>,
-	 * the&nbsp;argument's zone&nbsp;rules will be set as default. <u>If
-	 * mentioned checking succeed</u>, {@code Instance_counter}'s stored
-	 * zone&nbsp;rules will be updated from obtained value.
+	 * <i>Note.</i> Current date and time are taken in the&nbsp;argument's
+	 * {@link ZoneId} (see&nbsp;{@link #get_zone()}), so time&nbsp;counters of
+	 * different time&nbsp;zones can run together.
 	 * 
 	 * @exception IllegalArgumentException Inappropriate {@code mode} argument
 	 * passed.
@@ -151,8 +181,7 @@ public class Instance_counter extends Time_counter implements Serializable
 		super(mode);
 		
 		common_constructors_method(mode, time_instance);
-		this.time_instance = time_instance;
-		difference_calculation(false);
+		difference_calculation();
 		Time_counter_control.get_instance().get_time_counters().add(this);
 	}
 	
@@ -171,15 +200,9 @@ public class Instance_counter extends Time_counter implements Serializable
 	 * 
 	 * @param time_instance Date and time values relatively to which
 	 * elapsed/remaining time will be counted. <u>Cannot</u> be {@code null}.<br>
-	 * <i>Note.</i> The&nbsp;argument's {@link ZoneId} is compared with
-	 * {@code Instance_counter}'s stored value (can be obtained using
-	 * {@link #get_time_counter_text_value()}). <u>If values do&nbsp;not
-	 * match</u>, {@code Instance_counter} object will try to ensure system
-	 * zone&nbsp;rules are same as its own stored value (using
-	 * {@link ZoneId#systemDefault()} method). <u>If such checking fails</u>,
-	 * the&nbsp;argument's zone&nbsp;rules will be set as default. <u>If
-	 * mentioned checking succeed</u>, {@code Instance_counter}'s stored
-	 * zone&nbsp;rules will be updated from obtained value.
+	 * <i>Note.</i> Current date and time are taken in the&nbsp;argument's
+	 * {@link ZoneId} (see&nbsp;{@link #get_zone()}), so time&nbsp;counters of
+	 * different time&nbsp;zones can run together.
 	 * 
 	 * @param time_display_style Time&nbsp;counter display style.
 	 * 
@@ -224,35 +247,171 @@ public class Instance_counter extends Time_counter implements Serializable
 				rightmost_displayed_time_unit, time_unit_layout);
 		
 		common_constructors_method(mode, time_instance);
-		this.time_instance = time_instance;
-		difference_calculation(false);
+		difference_calculation();
 		Time_counter_control.get_instance().get_time_counters().add(this);
 	}
 	
 
+	///// Methods public of-instance ======================================/////
+	/**
+	 * @return Значение даты и времени, относительно которого ведется подсчет
+	 * оставшегося/прошедшего времени (<i>"целевое" время</i>). Is created on
+	 * each call from the&nbsp;compact form the&nbsp;object stores.
+	 */
+	public ZonedDateTime get_time_instance()
+	{
+		return ZonedDateTime.ofInstant(
+				Instant.ofEpochSecond(time_instance_seconds, time_instance_nanos),
+				Zone_table.get(zone_index));
+	}
+	
+	
+	/**
+	 * @return Time&nbsp;zone current date and time are taken in. Is
+	 * the&nbsp;target time zone.
+	 */
+	public ZoneId get_zone()
+	{
+		return Zone_table.get(zone_index);
+	}
+	
+	
 	///// Methods default-access of-instance ==============================/////
 	/**
 	 * Вычисляет разницу во времени между текущей датой и целевой датой
-	 * {@link #time_instance}.
-	 * @param is_synchronous {@code true}&nbsp;&#0151; all instances of
-	 * {@code Instance_counter} class are executed synchronously using
-	 * {@link #difference_calculation_barrier}; {@code false}&nbsp;&#0151;
-	 * the&nbsp;method need to be executed singly (commonly at instance
-	 * initialization).
+	 * (see&nbsp;{@link #get_time_instance()}) and notifies listeners. Current
+	 * date and time are obtained from {@link Time_counter_control#get_clock()}.
+	 * Is executed singly (commonly at instance initialization).
 	 */
-	final void difference_calculation(final boolean is_synchronous)
+	final void difference_calculation()
 	{
-		time_current = ZonedDateTime.now(zone_id);
+		// Current date and time
+		final ZonedDateTime time_current = ZonedDateTime.ofInstant(
+				Time_counter_control.get_instance().get_clock().instant(),
+				Zone_table.get(zone_index));
+		
+		difference_calculation(time_current,
+				time_current.getOffset().getTotalSeconds() - time_instance_offset);
+		notify_time_counter_text_listeners();
+	}
+	
+	
+	/**
+	 * Вычисляет разницу во времени между текущей датой {@link #zone_state}
+	 * и целевой датой. Listeners <u>are&nbsp;not</u> notified:
+	 * {@link Time_counter_control} moves all {@link Zone_state}s to
+	 * the&nbsp;same instant, calculates all instances of
+	 * {@code Instance_counter} class and notifies their listeners afterwards.
+	 * Offset difference with the&nbsp;target time is rechecked only when
+	 * the&nbsp;zone offset transition is crossed.<br>
+	 * <b>Warning!</b> The&nbsp;object must be listed in
+	 * {@link Time_counter_control}.
+	 */
+	final void zone_difference_calculation()
+	{
+		// If the zone offset has changed since the last calculation
+		if (offset_transitions != zone_state.transitions)
+		{
+			offset_difference = zone_state.offset_seconds - time_instance_offset;
+			offset_transitions = zone_state.transitions;
+		}
+		
+		difference_calculation(zone_state.time_current, offset_difference);
+	}
+	
+	
+	/**
+	 * Queues {@link #expiry} deadline if the&nbsp;target time is in
+	 * the&nbsp;future according to {@link Time_counter_control#get_clock()}
+	 * and reschedules time&nbsp;thresholds.
+	 * Is called by {@link Time_counter_control} when the&nbsp;object is
+	 * listed.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 */
+	final void schedule_expiry()
+	{
+		// Time counters engine
+		final Time_counter_control control = Time_counter_control.get_instance();
+		// Target instant in milliseconds
+		final long target_millis = time_instance_millis();
+		
+		// If target time hasn't come yet
+		if (target_millis > control.get_clock().millis())
+		{
+			control.get_deadline_index().schedule(expiry, target_millis);
+		}
+		
+		schedule_thresholds();
+	}
+	
+	
+	/**
+	 * @return Instant when time remaining to ({@link Mode#M_remains_till}) or
+	 * elapsed from ({@link Mode#M_elapsed_from}) the&nbsp;target time
+	 * reaches {@code threshold_seconds}. {@link Long#MIN_VALUE} if
+	 * the&nbsp;instant is&nbsp;not in the&nbsp;future.
+	 */
+	@Override
+	long threshold_due_millis(final long threshold_seconds)
+	{
+		// Threshold offset relative to target time in milliseconds
+		final long offset_millis = threshold_seconds * 1000;
+		// Instant when the threshold is reached
+		final long due_millis = time_instance_millis() +
+				(instance_mode.equals(Mode.M_remains_till) ?
+						-offset_millis : offset_millis);
+		
+		// If the threshold is already passed
+		if (due_millis <= Time_counter_control.get_instance().get_clock().millis())
+		{
+			return Long.MIN_VALUE;
+		}
+		
+		return due_millis;
+	}
+	
+	
+	/**
+	 * Schedules thresholds only if the&nbsp;object is listed in
+	 * {@link Time_counter_control}.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 */
+	@Override
+	void reschedule_thresholds()
+	{
+		// If the object is ticked by the engine
+		if (instance_slot != -1)
+		{
+			schedule_thresholds();
+		}
+	}
+	
+	
+	///// Methods private of-instance =====================================/////
+	/**
+	 * Вычисляет разницу во времени между текущей датой {@code time_current}
+	 * и целевой датой. Both are compared as local date and time according to
+	 * the&nbsp;target time offset.
+	 * 
+	 * @param time_current Current date and time in the&nbsp;target
+	 * time&nbsp;zone.
+	 * 
+	 * @param offset_difference Difference between {@code time_current} offset
+	 * and {@link #time_instance_offset} in seconds.
+	 */
+	private void difference_calculation(final ZonedDateTime time_current,
+			final int offset_difference)
+	{
+		// Target date and time without time zone
+		final LocalDateTime time_instance_local = LocalDateTime.ofEpochSecond(
+				time_instance_seconds, time_instance_nanos,
+				ZoneOffset.ofTotalSeconds(time_instance_offset));
 		
-		/* Разница в смещениях относительно гринвичского времени между текущим
-		 * и целевым временем в секундах */
-		final int offset_difference =
-				time_current.getOffset().getTotalSeconds() - time_instance_offset;
-
 		// Если часовые пояса текущего и целевого времени совпадают
 		if (offset_difference == 0)
 		{
-			difference_calculation_sub_method(time_current,
+			difference_calculation_sub_method(time_current.toLocalDateTime(),
+					time_instance_local,
 					instance_mode.equals(Mode.M_remains_till) ? true : false);
 		}
 		else
@@ -276,60 +435,26 @@ public class Instance_counter extends Time_counter implements Serializable
 			}
 			
 			difference_calculation_sub_method(time_current_local,
+					time_instance_local,
 					instance_mode.equals(Mode.M_remains_till) ? true : false);
 		}
-		
-		build_time_string();
-		
-		// If method is executing synchronously with same class instances
-		if (is_synchronous)
-		{
-			try
-			{
-				difference_calculation_barrier.await();
-			}
-			catch (final InterruptedException exc)
-			{
-				logger.log(Level.INFO, "Thread interrupts after encountering "
-						+ InterruptedException.class.getName() + " while waiting"
-								+ " for all same threads to reach this point."
-								+ " Exception stack trace:", exc);
-				Thread.currentThread().interrupt();
-			}
-			// При возникновении данного исключения поток доведет выполнение до конца
-			catch (final BrokenBarrierException exc)
-			{
-				logger.log(Level.INFO, "Thread encountered broken common barrier"
-						+ " while waiting for all same threads to reach this"
-								+ " point. It will continue executing. Exception"
-								+ " stack trace:", exc);
-			}
-		}
-		
-		notify_time_counter_text_listeners();
 	}
 	
 	
-	// TODO: Метод, обновляющий локальные настройки временной зоны "ZoneId"
-	
-	
-	///// Methods private of-instance =====================================/////
 	/**
-	 * Auxiliary method for {@link #difference_calculation(boolean)}.
+	 * Auxiliary method for {@link #difference_calculation(ZonedDateTime, int)}.
 	 * Is&nbsp;in&nbsp;charge for converting time&nbsp;units, obtained from
 	 * {@link Temporal#until(Temporal, java.time.temporal.TemporalUnit)}, into
 	 * values for {@link Time_counter#time_unit_values}.
 	 * 
-	 * @param <Type1> This generic type is common for {@link ZonedDateTime} and
-	 * {@link LocalDateTime}, which are expected as {@code date_time_now}
-	 * argument.
-	 * 
 	 * @param date_time_now Current date and time.
 	 * 
+	 * @param time_instance Target date and time.
+	 * 
 	 * @param calculation_till {@code true} means calculating time in
 	 * {@link Mode#M_remains_till}&nbsp;mode. In this case
 	 * time&nbsp;difference <u>will be positive if
-	 * target&nbsp;time&nbsp;({@link #time_instance}) has&nbsp;not yet come</u>
+	 * target&nbsp;time&nbsp;({@code time_instance}) has&nbsp;not yet come</u>
 	 * (in&nbsp;other words, when current time&nbsp;value <u>is&nbsp;less</u>
 	 * than target&nbsp;time). If current time&nbsp;value <u>is&nbsp;greater
 	 * than target&nbsp;time</u>, time&nbsp;difference <u>will be negative</u>.<br>
@@ -337,18 +462,20 @@ public class Instance_counter extends Time_counter implements Serializable
 	 * in {@link Mode#M_elapsed_from}), the&nbsp;reverse situation occurs.
 	 * In&nbsp;this case time&nbsp;difference <u>will be positive if current
 	 * time&nbsp;value is&nbsp;greater than
-	 * target&nbsp;time&nbsp;({@link #time_instance})</u> (in&nbsp;other words,
+	 * target&nbsp;time&nbsp;({@code time_instance})</u> (in&nbsp;other words,
 	 * when target&nbsp;time <u>has&nbsp;already&nbsp;come</u>). If
 	 * target&nbsp;time&nbsp;value <u>is&nbsp;greater than current&nbsp;time</u>,
 	 * time&nbsp;difference <u>will be negative</u>.
 	 */
-	private <Type1 extends Temporal>
-	void difference_calculation_sub_method(
-			Type1 date_time_now, boolean calculation_till)
+	private void difference_calculation_sub_method(
+			LocalDateTime date_time_now, final LocalDateTime time_instance,
+			final boolean calculation_till)
 	{
 		// Round time value down to have 0 nanoseconds
-		date_time_now = (Type1)date_time_now.minus(date_time_now.get(
-				ChronoField.NANO_OF_SECOND), ChronoUnit.NANOS);
+		if (date_time_now.getNano() != 0)
+		{
+			date_time_now = date_time_now.withNano(0);
+		}
 		
 		// Кол-во полных месяцев между текущей и целевой датой и временем
 		long months = date_time_now.until(time_instance, ChronoUnit.MONTHS);
@@ -380,34 +507,20 @@ public class Instance_counter extends Time_counter implements Serializable
 			previous_value_sign = set_time_counter_value_sign(current_value_sign);
 		}
 
-		// If time value reached zero
-		if (current_value_sign != previous_value_sign)
+		/* If time value sign has changed while the object is executed
+		 * synchronously (time elapsed listeners are notified by "expiry"
+		 * deadline; the sign can return if the clock has been moved back) */
+		if (current_value_sign != previous_value_sign && instance_slot != -1)
 		{
-			notify_time_elapsed_listeners();
+			schedule_expiry();
 		}
 		
 		/* Если разница во времени между текущей и целевой датами насчитывает
 		 * хотя бы один полный месяц */
 		if (months != 0)
 		{
-			final LocalDate date_now;  // Чистая текущая дата без времени
-			
-			// Если параметром метода является класс "ZonedDateTime"
-			if (date_time_now instanceof ZonedDateTime)
-			{
-				date_now = ((ZonedDateTime)date_time_now).toLocalDate();
-			}
-			// Если параметром метода является класс "LocalDateTime"
-			else if (date_time_now instanceof LocalDateTime)
-			{
-				date_now = ((LocalDateTime)date_time_now).toLocalDate();
-			}
-			else
-			{
-				throw new IllegalArgumentException("Internal class error. Illegal "
-						+ Temporal.class.getName()
-						+ " argument passed to template method");
-			}
+			// Чистая текущая дата без времени
+			final LocalDate date_now = date_time_now.toLocalDate();
 			
 			/* TODO: ? Правильно ли использовать "time_instance" вместо чистой
 			 * даты (без временной зоны) этого поля? */
@@ -556,12 +669,8 @@ public class Instance_counter extends Time_counter implements Serializable
 		seconds = seconds - minutes * 60;
 		minutes = minutes - hours * 60;
 		hours %= 24;
-		time_unit_values.put(Time_unit_name.TUN_years, Math.abs(years));
-		time_unit_values.put(Time_unit_name.TUN_months, Math.abs(months));
-		time_unit_values.put(Time_unit_name.TUN_days, Math.abs(days));
-		time_unit_values.put(Time_unit_name.TUN_hours, Math.abs(hours));
-		time_unit_values.put(Time_unit_name.TUN_minutes, Math.abs(minutes));
-		time_unit_values.put(Time_unit_name.TUN_seconds, Math.abs(seconds));
+		set_time_unit_values(Math.abs(years), Math.abs(months), Math.abs(days),
+				Math.abs(hours), Math.abs(minutes), Math.abs(seconds));
 	}
 	
 	
@@ -583,16 +692,28 @@ public class Instance_counter extends Time_counter implements Serializable
 	private void readObject(final ObjectInputStream input_stream)
 			throws IOException, ClassNotFoundException
 	{
-		input_stream.defaultReadObject();
+		// Serialized fields
+		final ObjectInputStream.GetField fields = input_stream.readFields();
 
 		try
 		{
-			/* Если не удалось получить часовой пояс с локальными настройками
-			 * сезонного перевода времени во время статической инициализации */
-			if (zone_id == null)
+			// If the object is serialized in the former form
+			if (fields.defaulted("zone"))
 			{
-				zone_id = time_instance.getZone();
+				// Target time stored in the former form
+				final ZonedDateTime time_instance =
+						(ZonedDateTime)fields.get("time_instance", null);
+				
+				set_time_instance(time_instance.toInstant(), time_instance.getZone());
 			}
+			else
+			{
+				set_time_instance(Instant.ofEpochSecond(
+								fields.get("time_instance_seconds", 0L),
+								fields.get("time_instance_nanos", 0)),
+						ZoneId.of((String)fields.get("zone", null)));
+			}
+			
 			
 			/* Если режим работы экземпляра счетчика времени является
 			 * неподходящим для данного класса */
@@ -611,9 +732,72 @@ public class Instance_counter extends Time_counter implements Serializable
 			throw new InvalidObjectException(
 					"At least one of deserialized fields is null");
 		}
+		// Stored values are out of range OR zone identifier is unknown
+		catch (final ClassCastException | IllegalArgumentException |
+				DateTimeException exc)
+		{
+			logger.log(Level.SEVERE, "Deserialized object has incorrect target"
+					+ " time. This object cannot be used. Exception stack trace:",
+					exc);
+			throw new InvalidObjectException("Incorrect target time");
+		}
 		
-		time_instance_offset = time_instance.getOffset().getTotalSeconds();
-		difference_calculation(false);
+		instance_slot = -1;
+		expiry = new Expiry();
+		zone_state = null;
+		offset_transitions = -1;
+		difference_calculation();
+	}
+	
+	
+	/**
+	 * Serializes the&nbsp;object in the&nbsp;form described by
+	 * {@link #serialPersistentFields}.
+	 * 
+	 * @param output_stream Выходной поток, в который записывается экземпляр
+	 * класса.
+	 * 
+	 * @throws IOException Ошибка в работе выходного потока.
+	 */
+	private void writeObject(final ObjectOutputStream output_stream)
+			throws IOException
+	{
+		// Serialized fields
+		final ObjectOutputStream.PutField fields = output_stream.putFields();
+		
+		fields.put("time_instance_seconds", time_instance_seconds);
+		fields.put("time_instance_nanos", time_instance_nanos);
+		fields.put("zone", Zone_table.get(zone_index).getId());
+		output_stream.writeFields();
+	}
+	
+	
+	/**
+	 * Stores the&nbsp;target time in the&nbsp;compact form.
+	 * 
+	 * @param instant Target instant.
+	 * 
+	 * @param zone Target time&nbsp;zone.
+	 * 
+	 * @exception NullPointerException At least one of passed arguments
+	 * is&nbsp;{@code null}.
+	 */
+	private void set_time_instance(final Instant instant, final ZoneId zone)
+	{
+		zone_index = Zone_table.intern(zone);
+		time_instance_seconds = instant.getEpochSecond();
+		time_instance_nanos = instant.getNano();
+		time_instance_offset =
+				zone.getRules().getOffset(instant).getTotalSeconds();
+	}
+	
+	
+	/**
+	 * @return The&nbsp;target instant in milliseconds from the&nbsp;epoch.
+	 */
+	private long time_instance_millis()
+	{
+		return time_instance_seconds * 1000 + time_instance_nanos / 1000000;
 	}
 	
 	
@@ -646,72 +830,11 @@ public class Instance_counter extends Time_counter implements Serializable
 					+ Mode.class.getName() + " value passed to constructor");
 		}
 		
-		time_instance_offset = time_instance_init.getOffset().getTotalSeconds();
-		
-		// If failed to obtain zone rules while static initialization
-		if (zone_id == null)
-		{
-			zone_id = time_instance_init.getZone();
-		}
-		/* If saved zone rules doesn't match with "time_instance_init"
-		 * zone rules */
-		else if (!zone_id.equals(time_instance_init.getZone()))
-		{
-			// System zone rules to compare with rules stored in class
-			final ZoneId system_zone_id;
-			
-			try
-			{
-				system_zone_id = ZoneId.systemDefault();
-			}
-			catch(final DateTimeException exc)
-			{
-				// New time zone id to set
-				final ZoneId new_zone_id = time_instance_init.getZone();
-				// Program locale
-				final Locale_setting program_locale = settings.get_locale_setting();
-				// Locale to obtain ZoneId display name
-				final Locale locale_obj = new Locale(
-						program_locale.language_code,
-						program_locale.country_code, program_locale.variant_code);
-				
-				User_notification_dialog.notify_listener_and_continue(
-						new User_notification_event(this),
-						User_notification_type.UNT_time_zone_error,
-						message_resources.getString("zone_id_error.1")
-								+ zone_id.getDisplayName(TextStyle.FULL, locale_obj)
-								+ message_resources.getString("zone_id_error.2")
-								+ new_zone_id.getDisplayName(TextStyle.FULL, locale_obj)
-								+ message_resources.getString("zone_id_error.3"));
-				/* TODO: Consider synchronizing with "difference_calculation()"
-				 * method execution */
-				zone_id = new_zone_id;
-				
-				return;
-			}
-			
-			// If system zone id doesn't match with one stored in class
-			if (!system_zone_id.equals(zone_id))
-			{
-				// Program locale
-				final Locale_setting program_locale = settings.get_locale_setting();
-				// Locale to obtain ZoneId display name
-				final Locale locale_obj = new Locale(
-						program_locale.language_code,
-						program_locale.country_code, program_locale.variant_code);
-				
-				User_notification_dialog.notify_listener_and_continue(
-						new User_notification_event(this),
-						User_notification_type.UNT_informing,
-						message_resources.getString("zone_id_change.1")
-								+ zone_id.getDisplayName(TextStyle.FULL, locale_obj)
-								+ message_resources.getString("zone_id_change.2")
-								+ system_zone_id.getDisplayName(TextStyle.FULL, locale_obj)
-								+ message_resources.getString("zone_id_change.3"));
-				/* TODO: Consider synchronizing with "difference_calculation()"
-				 * method execution */
-				zone_id = system_zone_id;
-			}
-		}
+		set_time_instance(
+				time_instance_init.toInstant(), time_instance_init.getZone());
+		instance_slot = -1;
+		expiry = new Expiry();
+		zone_state = null;
+		offset_transitions = -1;
 	}
 }
@@ -0,0 +1,257 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * Latency histogram with logarithmic bucketing in the&nbsp;manner of
+ * HdrHistogram: values below {@code 128} are counted exactly, bigger values
+ * are counted in buckets which width is at&nbsp;most 1/64th of
+ * the&nbsp;value (i.e.&nbsp;relative error is below 1.6&nbsp;%). Values are
+ * recorded in microseconds up&nbsp;to {@link #highest_trackable_value};
+ * bigger values are counted in the&nbsp;last bucket (the&nbsp;exact maximum
+ * is kept separately).
+ * <p>Recording does&nbsp;not acquire locks and allocates nothing.
+ * The&nbsp;object is obtained via
+ * {@link Latency_monitor#get_histogram(Latency_stage, Mode)}.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public final class Latency_histogram
+{
+	///// Fields public static ============================================/////
+	/** The&nbsp;biggest value (in microseconds) which is counted in its own
+	 * bucket (about 71&nbsp;minutes). */
+	public static final long highest_trackable_value;
+	
+	
+	///// Fields private static ===========================================/////
+	/** Values below this one are counted exactly. */
+	private static final int sub_bucket_count;
+	/** Quantity of buckets per each power of two above
+	 * {@link #sub_bucket_count}. */
+	private static final int sub_bucket_half_count;
+	/** Binary logarithm of {@link #sub_bucket_half_count}. */
+	private static final int sub_bucket_half_count_magnitude;
+	
+	
+	static
+	{
+		sub_bucket_half_count_magnitude = 6;
+		sub_bucket_half_count = 1 << sub_bucket_half_count_magnitude;
+		sub_bucket_count = sub_bucket_half_count * 2;
+		highest_trackable_value = (1L << 32) - 1;
+	}
+	
+	
+	///// Fields private of-instance ======================================/////
+	/** Samples quantity per bucket (see&nbsp;{@link #index_of(long)}). */
+	private final AtomicLongArray counts;
+	/** The&nbsp;biggest recorded value. */
+	private final AtomicLong max;
+	/** Sum of all recorded values. */
+	private final AtomicLong sum;
+	
+	
+	///// Constructors default-access =====================================/////
+	/**
+	 * Creates empty histogram.
+	 */
+	Latency_histogram()
+	{
+		counts = new AtomicLongArray(index_of(highest_trackable_value) + 1);
+		max = new AtomicLong();
+		sum = new AtomicLong();
+	}
+	
+	
+	///// Methods public of-instance ======================================/////
+	/**
+	 * @return Recorded samples quantity.
+	 */
+	public long get_count()
+	{
+		// Samples quantity
+		long result = 0;
+		
+		for (int i = 0, end = counts.length(); i < end; ++i)
+		{
+			result += counts.get(i);
+		}
+		
+		return result;
+	}
+	
+	
+	/**
+	 * @return The&nbsp;biggest recorded value in microseconds. {@code 0} if
+	 * there are no samples.
+	 */
+	public long get_max()
+	{
+		return max.get();
+	}
+	
+	
+	/**
+	 * @return Average recorded value in microseconds. {@code 0} if there are
+	 * no samples.
+	 */
+	public double get_mean()
+	{
+		// Samples quantity
+		final long count = get_count();
+		
+		return count == 0 ? 0 : (double)sum.get() / count;
+	}
+	
+	
+	/**
+	 * @param percentile Percentile in range from {@code 0} to {@code 100}
+	 * inclusive.
+	 * 
+	 * @return The&nbsp;biggest value in microseconds (with bucket precision),
+	 * below or equal to which {@code percentile} of samples are. {@code 0}
+	 * is returned if there are no samples.
+	 * 
+	 * @exception IllegalArgumentException {@code percentile} is out of
+	 * the&nbsp;range.
+	 */
+	public long get_value_at_percentile(final double percentile)
+	{
+		// Argument must be in range
+		if (!(percentile >= 0 && percentile <= 100))
+		{
+			throw new IllegalArgumentException(
+					"Percentile is out of range: " + percentile);
+		}
+		
+		// Samples quantity which have to be covered
+		final long threshold =
+				Math.max(1, (long)Math.ceil(get_count() * percentile / 100));
+		// Covered samples quantity
+		long covered = 0;
+		
+		for (int i = 0, end = counts.length(); i < end; ++i)
+		{
+			covered += counts.get(i);
+			
+			// If requested samples quantity is reached
+			if (covered >= threshold)
+			{
+				return Math.min(highest_equivalent_value(i), max.get());
+			}
+		}
+		
+		return 0;
+	}
+	
+	
+	/**
+	 * Clears the&nbsp;histogram.<br>
+	 * <i>Note.</i> Samples recorded concurrently with the&nbsp;call may be
+	 * partially kept.
+	 */
+	public void reset()
+	{
+		for (int i = 0, end = counts.length(); i < end; ++i)
+		{
+			counts.set(i, 0);
+		}
+		
+		max.set(0);
+		sum.set(0);
+	}
+	
+	
+	///// Methods default-access of-instance ==============================/////
+	/**
+	 * Records {@code value} sample.
+	 * 
+	 * @param value Value in microseconds. Negative values are recorded
+	 * as&nbsp;{@code 0}.
+	 */
+	void record(final long value)
+	{
+		// Value to record
+		final long to_record = Math.max(0, value);
+		
+		counts.incrementAndGet(
+				index_of(Math.min(to_record, highest_trackable_value)));
+		sum.addAndGet(to_record);
+		
+		// The biggest recorded value at the moment
+		long current_max = max.get();
+		
+		while (to_record > current_max &&
+				!max.compareAndSet(current_max, to_record))
+		{
+			current_max = max.get();
+		}
+	}
+	
+	
+	///// Methods private static ==========================================/////
+	/**
+	 * @param value Non&#8209;negative value which does&nbsp;not exceed
+	 * {@link #highest_trackable_value}.
+	 * 
+	 * @return Index of bucket in {@link #counts} which {@code value} is
+	 * counted in.
+	 */
+	private static int index_of(final long value)
+	{
+		// If the value is counted exactly
+		if (value < sub_bucket_count)
+		{
+			return (int)value;
+		}
+		
+		// Shift leaving the value in the upper half of sub-buckets
+		final int shift = 63 - Long.numberOfLeadingZeros(value) -
+				sub_bucket_half_count_magnitude;
+		
+		return sub_bucket_count + (shift - 1) * sub_bucket_half_count +
+				(int)(value >>> shift) - sub_bucket_half_count;
+	}
+	
+	
+	/**
+	 * @param index Bucket index in {@link #counts}.
+	 * 
+	 * @return The&nbsp;biggest value which is counted in the&nbsp;bucket.
+	 */
+	private static long highest_equivalent_value(final int index)
+	{
+		// If the bucket counts single value
+		if (index < sub_bucket_count)
+		{
+			return index;
+		}
+		
+		// Shift of the bucket values
+		final int shift = (index - sub_bucket_count) / sub_bucket_half_count + 1;
+		// The bucket position among sub-buckets
+		final long sub_bucket = (index - sub_bucket_count) %
+				sub_bucket_half_count + sub_bucket_half_count;
+		
+		return ((sub_bucket + 1) << shift) - 1;
+	}
+}
@@ -0,0 +1,335 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+
+import app.tar.time_obj.events.Time_counter_text_listener;
+
+
+/**
+ * Measures how late time&nbsp;counter value flips reach the&nbsp;screen.
+ * A&nbsp;flip is the&nbsp;moment the&nbsp;value changes by a&nbsp;second:
+ * {@link Solo_counter}'s split&nbsp;second phase boundary or wall&nbsp;clock
+ * second boundary for {@link Instance_counter}. Latency of each
+ * {@link Latency_stage} is measured from the&nbsp;flip and is aggregated in
+ * {@link Latency_histogram}s per stage and per time&nbsp;counter
+ * {@link Mode}:
+ * <ol><li>{@link Latency_stage#LS_tick}&nbsp;&#0151; the&nbsp;engine has
+ * calculated new value;</li>
+ * <li>{@link Latency_stage#LS_render}&nbsp;&#0151; the&nbsp;text has&nbsp;been
+ * rendered for delivery;</li>
+ * <li>{@link Latency_stage#LS_dispatch}&nbsp;&#0151;
+ * {@link Time_counter_text_listener} is being invoked;</li>
+ * <li>{@link Latency_stage#LS_display}&nbsp;&#0151; the&nbsp;graphical shell
+ * has shown the&nbsp;text (see&nbsp;{@link #record_display(Time_counter,
+ * Time_counter.Time_counter_text_value)}).</li></ol>
+ * <p>Monitoring is turned off by default and costs a&nbsp;single volatile
+ * read per flip then. It is turned on via {@link #set_enabled(boolean)} or
+ * by {@code -Dapp.tar.time_obj.latency_monitor=true} system property;
+ * in the&nbsp;latter case histograms are dumped
+ * (see&nbsp;{@link #dump()}) to the&nbsp;standard error stream on exit.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public final class Latency_monitor
+{
+	///// Fields public static ============================================/////
+	/** System property which turns monitoring on at&nbsp;startup and makes
+	 * histograms to be dumped on exit. */
+	public static final String enabling_property;
+	
+	
+	///// Fields private static ===========================================/////
+	/** The&nbsp;only class instance. */
+	private static final Latency_monitor instance;
+	
+	/** {@link Latency_stage} constants. */
+	private static final Latency_stage[] stages;
+	/** {@link Mode} constants. */
+	private static final Mode[] modes;
+	
+	
+	static
+	{
+		enabling_property = "app.tar.time_obj.latency_monitor";
+		stages = Latency_stage.values();
+		modes = Mode.values();
+		instance = new Latency_monitor();
+	}
+	
+	
+	///// Fields private of-instance ======================================/////
+	/** {@code true}&nbsp;&#0151; flips are measured;
+	 * {@code false}&nbsp;&#0151; otherwise. */
+	private volatile boolean enabled;
+	/** Histograms. The&nbsp;first index is {@link Latency_stage} ordinal,
+	 * the&nbsp;second one is {@link Mode} ordinal; the&nbsp;last column
+	 * aggregates all modes. Is created on first demand (see
+	 * {@link #get_histograms()}). */
+	private volatile Latency_histogram[][] histograms;
+	/** Synchronizes {@link #histograms} creation. */
+	private final ReentrantLock histograms_lock;
+	
+	
+	///// Constructors private ============================================/////
+	/**
+	 * Turns monitoring on if {@link #enabling_property} is set.
+	 */
+	private Latency_monitor()
+	{
+		histograms = null;
+		histograms_lock = new ReentrantLock();
+		enabled = Boolean.getBoolean(enabling_property);
+		
+		// If histograms have to be dumped on exit
+		if (enabled)
+		{
+			Runtime.getRuntime().addShutdownHook(
+					new Thread("Latency_monitor dump")
+			{
+				@Override
+				public void run()
+				{
+					System.err.print(dump());
+				}
+			});
+		}
+	}
+	
+	
+	///// Methods public static ===========================================/////
+	/**
+	 * @return The&nbsp;only class instance.
+	 */
+	public static Latency_monitor get_instance()
+	{
+		return instance;
+	}
+	
+	
+	///// Methods public of-instance ======================================/////
+	/**
+	 * @return {@code true}&nbsp;&#0151; flips are measured;
+	 * {@code false}&nbsp;&#0151; otherwise.
+	 */
+	public boolean is_enabled()
+	{
+		return enabled;
+	}
+	
+	
+	/**
+	 * Turns monitoring on or off. Already recorded samples are kept.
+	 * 
+	 * @param enabled {@code true}&nbsp;&#0151; turn monitoring on;
+	 * {@code false}&nbsp;&#0151; turn it off.
+	 */
+	public void set_enabled(final boolean enabled)
+	{
+		// If histograms are needed
+		if (enabled)
+		{
+			get_histograms();
+		}
+		
+		this.enabled = enabled;
+	}
+	
+	
+	/**
+	 * @param stage Measured stage.
+	 * 
+	 * @param mode Time&nbsp;counters mode. {@code null} means all modes.
+	 * 
+	 * @return Live histogram of {@code stage} latencies in microseconds.
+	 * 
+	 * @exception NullPointerException {@code stage} argument is
+	 * {@code null}.
+	 */
+	public Latency_histogram get_histogram(
+			final Latency_stage stage, final Mode mode)
+	{
+		return get_histograms()[stage.ordinal()]
+				[mode == null ? modes.length : mode.ordinal()];
+	}
+	
+	
+	/**
+	 * Clears all histograms.
+	 */
+	public void reset()
+	{
+		for (final Latency_histogram[] i : get_histograms())
+		{
+			for (final Latency_histogram j : i)
+			{
+				j.reset();
+			}
+		}
+	}
+	
+	
+	/**
+	 * @return Text table containing samples quantity, percentiles and
+	 * maximum value (in milliseconds) of each non&#8209;empty histogram.
+	 */
+	public String dump()
+	{
+		// Dump being built
+		final StringBuilder result = new StringBuilder(
+				"Time counter flip latency, ms (stage, mode: samples, p50, p90, p99, p99.9, max)\n");
+		
+		for (final Latency_stage i : stages)
+		{
+			for (int j = 0; j <= modes.length; ++j)
+			{
+				// Histogram to dump
+				final Latency_histogram histogram = get_histogram(
+						i, j == modes.length ? null : modes[j]);
+				// Samples quantity
+				final long count = histogram.get_count();
+				
+				// If there is nothing to dump
+				if (count == 0)
+				{
+					continue;
+				}
+				
+				result.append(String.format(Locale.ROOT,
+						"%-11s %-14s %10d %9.3f %9.3f %9.3f %9.3f %9.3f%n",
+						i.name(), j == modes.length ? "all" : modes[j].name(),
+						count,
+						histogram.get_value_at_percentile(50) / 1000.0,
+						histogram.get_value_at_percentile(90) / 1000.0,
+						histogram.get_value_at_percentile(99) / 1000.0,
+						histogram.get_value_at_percentile(99.9) / 1000.0,
+						histogram.get_max() / 1000.0));
+			}
+		}
+		
+		return result.toString();
+	}
+	
+	
+	/**
+	 * Records {@link Latency_stage#LS_display} latency. Is intended to be
+	 * called by the&nbsp;graphical shell right after {@code value} is shown.
+	 * Does nothing if monitoring is turned off or {@code value} is&nbsp;not
+	 * caused by a&nbsp;value flip.
+	 * 
+	 * @param time_counter Time&nbsp;counter which {@code value} is shown.
+	 * 
+	 * @param value Shown value received by
+	 * {@link Time_counter_text_listener}.
+	 * 
+	 * @exception NullPointerException At&nbsp;least one of passed arguments
+	 * is&nbsp;{@code null}.
+	 */
+	public void record_display(final Time_counter time_counter,
+			final Time_counter.Time_counter_text_value value)
+	{
+		// If nothing is measured
+		if (!enabled)
+		{
+			return;
+		}
+		
+		record(Latency_stage.LS_display, time_counter.instance_mode,
+				value.flip_nanos);
+	}
+	
+	
+	///// Methods default-access of-instance ==============================/////
+	/**
+	 * Records {@code stage} latency of the&nbsp;flip happened at
+	 * {@code flip_nanos}. Does nothing if monitoring is turned off or
+	 * {@code flip_nanos} is {@link Long#MIN_VALUE} (the&nbsp;change is&nbsp;not
+	 * caused by a&nbsp;value flip).
+	 * 
+	 * @param stage Measured stage.
+	 * 
+	 * @param mode Time&nbsp;counter mode.
+	 * 
+	 * @param flip_nanos {@link System#nanoTime()} reading corresponding to
+	 * the&nbsp;flip.
+	 */
+	void record(final Latency_stage stage, final Mode mode, final long flip_nanos)
+	{
+		// If nothing is measured
+		if (!enabled || flip_nanos == Long.MIN_VALUE)
+		{
+			return;
+		}
+		
+		// Latency in microseconds
+		final long latency = (System.nanoTime() - flip_nanos) / 1000;
+		// Stage histograms
+		final Latency_histogram[] stage_histograms =
+				get_histograms()[stage.ordinal()];
+		
+		stage_histograms[mode.ordinal()].record(latency);
+		stage_histograms[modes.length].record(latency);
+	}
+	
+	
+	///// Methods private of-instance =====================================/////
+	/**
+	 * @return {@link #histograms}, which are created by the&nbsp;first call.
+	 */
+	private Latency_histogram[][] get_histograms()
+	{
+		// Histograms to return
+		Latency_histogram[][] result = histograms;
+		
+		// If histograms are created already
+		if (result != null)
+		{
+			return result;
+		}
+		
+		histograms_lock.lock();
+		
+		try
+		{
+			// If histograms have been created by another thread
+			if (histograms != null)
+			{
+				return histograms;
+			}
+			
+			result = new Latency_histogram[stages.length][modes.length + 1];
+			
+			for (final Latency_histogram[] i : result)
+			{
+				for (int j = 0; j < i.length; ++j)
+				{
+					i[j] = new Latency_histogram();
+				}
+			}
+			
+			histograms = result;
+			
+			return result;
+		}
+		finally
+		{
+			histograms_lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+
+/**
+ * Stage of the&nbsp;path which a&nbsp;time&nbsp;counter value flip passes
+ * from the&nbsp;engine to the&nbsp;screen. Each stage latency is measured
+ * from the&nbsp;second boundary at&nbsp;which the&nbsp;value has flipped
+ * (see&nbsp;{@link Latency_monitor}).
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public enum Latency_stage
+{
+	/** The&nbsp;engine has calculated new time&nbsp;counter value. */
+	LS_tick,
+	/** Time&nbsp;counter text has&nbsp;been rendered to be delivered. */
+	LS_render,
+	/** {@link app.tar.time_obj.events.Time_counter_text_listener} is being
+	 * invoked by listeners notification executor. */
+	LS_dispatch,
+	/** The&nbsp;text has&nbsp;been shown to the&nbsp;user (is recorded by
+	 * the&nbsp;graphical shell via
+	 * {@link Latency_monitor#record_display(Time_counter,
+	 * Time_counter.Time_counter_text_value)}). */
+	LS_display
+}
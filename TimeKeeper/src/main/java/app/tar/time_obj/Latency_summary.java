@@ -0,0 +1,113 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+
+/**
+ * Immutable summary of {@link Latency_histogram}: samples quantity,
+ * percentiles and maximum value in microseconds. Is exposed via
+ * {@link Time_counter_control_MXBean} as composite data, so getters follow
+ * JavaBeans naming required by JMX.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public final class Latency_summary
+{
+	///// Fields private of-instance ======================================/////
+	/** Samples quantity. */
+	private final long count;
+	/** Median. */
+	private final long p50;
+	/** 90th percentile. */
+	private final long p90;
+	/** 99th percentile. */
+	private final long p99;
+	/** 99.9th percentile. */
+	private final long p999;
+	/** Maximum value. */
+	private final long max;
+	
+	
+	///// Constructors default-access =====================================/////
+	/**
+	 * @param histogram Histogram to summarize.
+	 */
+	Latency_summary(final Latency_histogram histogram)
+	{
+		count = histogram.get_count();
+		p50 = histogram.get_value_at_percentile(50);
+		p90 = histogram.get_value_at_percentile(90);
+		p99 = histogram.get_value_at_percentile(99);
+		p999 = histogram.get_value_at_percentile(99.9);
+		max = histogram.get_max();
+	}
+	
+	
+	///// Methods public of-instance ======================================/////
+	/**
+	 * @return Samples quantity.
+	 */
+	public long getCount()
+	{
+		return count;
+	}
+	
+	
+	/**
+	 * @return Median in microseconds.
+	 */
+	public long getP50()
+	{
+		return p50;
+	}
+	
+	
+	/**
+	 * @return 90th percentile in microseconds.
+	 */
+	public long getP90()
+	{
+		return p90;
+	}
+	
+	
+	/**
+	 * @return 99th percentile in microseconds.
+	 */
+	public long getP99()
+	{
+		return p99;
+	}
+	
+	
+	/**
+	 * @return 99.9th percentile in microseconds.
+	 */
+	public long getP999()
+	{
+		return p999;
+	}
+	
+	
+	/**
+	 * @return Maximum value in microseconds.
+	 */
+	public long getMax()
+	{
+		return max;
+	}
+}
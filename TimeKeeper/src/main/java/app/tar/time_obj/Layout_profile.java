@@ -0,0 +1,602 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * Time&nbsp;counter layout: display style, time&nbsp;units displaying range
+ * and time&nbsp;units names layout. Profiles are immutable and interned
+ * (see&nbsp;{@link #get_instance(Time_display_style, Time_unit_name, Time_unit_name, Time_unit_layout)}),
+ * so all time&nbsp;counters having the&nbsp;same layout refer to
+ * the&nbsp;same profile and profiles can be compared by reference. Each
+ * profile resolves displayed time&nbsp;units range on creation and
+ * time&nbsp;units names once for each program locale, and renders
+ * time&nbsp;counter text without looking them&nbsp;up again.<br>
+ * Time&nbsp;counters using one profile are switched to another one
+ * at&nbsp;once by
+ * {@link Time_counter_control#change_layout_profile(Layout_profile, Layout_profile)}.
+ *
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public final class Layout_profile
+{
+	///// Nested classes private ==========================================/////
+	/**
+	 * Profile text parts resolved from particular resource bundle.
+	 *
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	private static final class Text_parts
+	{
+		///// Fields default-access of-instance ===========================/////
+		/** Resource bundle which the&nbsp;parts are resolved from. */
+		final ResourceBundle resources;
+		/** Text preceding time&nbsp;counter value. */
+		final String prefix;
+		/** Time&nbsp;units names. Index is {@link Time_unit_name} ordinal.
+		 * {@code null} for {@link Time_unit_layout#TUL_full_name}. */
+		final String[] names;
+		
+		
+		///// Constructors default-access =================================/////
+		/**
+		 * Resolves text parts for specified profile.
+		 *
+		 * @param resources Resource bundle representing <i>.properties</i>
+		 * file which contains resources for time&nbsp;counters.
+		 *
+		 * @param time_display_style Time&nbsp;counter display style.
+		 *
+		 * @param time_unit_layout The&nbsp;way in which time&nbsp;units names
+		 * are displayed.
+		 */
+		Text_parts(final ResourceBundle resources,
+				final Time_display_style time_display_style,
+				final Time_unit_layout time_unit_layout)
+		{
+			this.resources = resources;
+			prefix = time_display_style.equals(Time_display_style.TDS_custom_strict) ?
+					resources.getString("strict_display_mode_mark") : "";
+			
+			// Time units names keys for the layout
+			final String[] keys = name_keys[time_unit_layout.ordinal()];
+			
+			// If names depend on time unit values
+			if (keys == null)
+			{
+				names = null;
+			}
+			else
+			{
+				names = new String[keys.length];
+				
+				for (int i = 0; i < keys.length; ++i)
+				{
+					names[i] = resources.getString(keys[i]);
+				}
+			}
+		}
+	}
+	
+	
+	///// Fields default-access static ====================================/////
+	/** Resource bundle representing <i>.properties</i> file which contains
+	 * resources for time&nbsp;counters. Is replaced when program locale is
+	 * changed (see&nbsp;{@link Settings#set_locale_setting(app.tar.time_obj.Settings.Locale_setting)}). */
+	static volatile ResourceBundle time_counter_resources;
+	
+	
+	///// Fields private static ===========================================/////
+	/** All {@link Time_unit_name} constants. */
+	private static final Time_unit_name[] time_units;
+	/** Minimal width of each time&nbsp;unit value in time&nbsp;counter
+	 * text. Index is {@link Time_unit_name} ordinal. */
+	private static final int[] value_widths;
+	/** {@code true}&nbsp;&#0151; time&nbsp;unit value is padded to
+	 * {@link #value_widths} with zeros; {@code false}&nbsp;&#0151; with
+	 * spaces. Index is {@link Time_unit_name} ordinal. */
+	private static final boolean[] values_zero_padded;
+	/** {@code true}&nbsp;&#0151; time&nbsp;unit value digits are grouped
+	 * by thousands according to default locale. Index is
+	 * {@link Time_unit_name} ordinal. */
+	private static final boolean[] values_grouped;
+	/** Keys of time&nbsp;units names from
+	 * <i>app/tar/time_obj/time_counter_resources.properties</i> file. First
+	 * index is {@link Time_unit_layout} ordinal, second one is
+	 * {@link Time_unit_name} ordinal. {@code null} for
+	 * {@link Time_unit_layout#TUL_full_name} since full names depend on
+	 * time&nbsp;unit value
+	 * (see&nbsp;{@link Time_unit_full_name_resource_provider}). */
+	private static final String[][] name_keys;
+	
+	/** Interned profiles. Index is calculated by
+	 * {@link #index(Time_display_style, Time_unit_name, Time_unit_name, Time_unit_layout)}. */
+	private static final AtomicReferenceArray<Layout_profile> profiles;
+	
+	
+	static
+	{
+		time_counter_resources =
+				Settings.get_instance().get_time_counter_resources();
+		time_units = Time_unit_name.values();
+		
+		/* Time unit values formatting (former "%,10d", "%2d", "%3d", "%2d",
+		 * "%02d" and "%02d" conversions) */
+		value_widths = new int[] { 10, 2, 3, 2, 2, 2 };
+		values_zero_padded =
+				new boolean[] { false, false, false, false, true, true };
+		values_grouped =
+				new boolean[] { true, false, false, false, false, false };
+		name_keys = new String[Time_unit_layout.values().length][];
+		name_keys[Time_unit_layout.TUL_value_sign.ordinal()] = new String[] {
+				"TUL_value_sign.years", "TUL_value_sign.months",
+				"TUL_value_sign.days", "TUL_value_sign.hours",
+				"TUL_value_sign.minutes", "TUL_value_sign.seconds" };
+		name_keys[Time_unit_layout.TUL_short_name.ordinal()] = new String[] {
+				"TUL_short_name.years", "TUL_short_name.months",
+				"TUL_short_name.days", "TUL_short_name.hours",
+				"TUL_short_name.minutes", "TUL_short_name.seconds" };
+		name_keys[Time_unit_layout.TUL_digits_only.ordinal()] = new String[] {
+				"TUL_digits_only.years", "TUL_digits_only.months",
+				"TUL_digits_only.days", "TUL_digits_only.hours",
+				"TUL_digits_only.minutes", "TUL_digits_only.seconds" };
+		
+		assert value_widths.length == time_units.length :
+			"Array size with values doesn\'t match with "
+				+ Time_unit_name.class.getName() + " enumeration constants quantity";
+		
+		profiles = new AtomicReferenceArray<>(Time_display_style.values().length
+				* time_units.length * time_units.length
+				* Time_unit_layout.values().length);
+	}
+	
+	
+	///// Fields private of-instance ======================================/////
+	/** Time&nbsp;counter display style. */
+	private final Time_display_style time_display_style;
+	/** The&nbsp;leftmost (biggest) time&nbsp;unit of displaying range. */
+	private final Time_unit_name leftmost_time_unit;
+	/** The&nbsp;rightmost (smallest) time&nbsp;unit of displaying range. */
+	private final Time_unit_name rightmost_time_unit;
+	/** The&nbsp;way in which time&nbsp;units names are displayed. */
+	private final Time_unit_layout time_unit_layout;
+	
+	/** Text parts resolved from {@link #time_counter_resources}. Are
+	 * resolved again by {@link #render(long[], boolean)} if the&nbsp;resources
+	 * have&nbsp;been replaced. */
+	private volatile Text_parts text_parts;
+	/** Ordinal of the&nbsp;leftmost time&nbsp;unit which is displayed
+	 * regardless of time&nbsp;unit values. */
+	private final int first_unit;
+	/** Ordinal of the&nbsp;rightmost displayed time&nbsp;unit. */
+	private final int last_unit;
+	/** {@code true}&nbsp;&#0151; time&nbsp;units bigger than
+	 * {@link #first_unit} are displayed starting from the&nbsp;biggest
+	 * nonzero one. */
+	private final boolean is_increase_able;
+	
+	
+	///// Constructors private ============================================/////
+	/**
+	 * Creates profile and resolves its text parts.
+	 *
+	 * @param time_display_style Time&nbsp;counter display style.
+	 *
+	 * @param leftmost_time_unit The&nbsp;leftmost time&nbsp;unit of
+	 * displaying range.
+	 *
+	 * @param rightmost_time_unit The&nbsp;rightmost time&nbsp;unit of
+	 * displaying range.
+	 *
+	 * @param time_unit_layout The&nbsp;way in which time&nbsp;units names are
+	 * displayed.
+	 */
+	private Layout_profile(final Time_display_style time_display_style,
+			final Time_unit_name leftmost_time_unit,
+			final Time_unit_name rightmost_time_unit,
+			final Time_unit_layout time_unit_layout)
+	{
+		this.time_display_style = time_display_style;
+		this.leftmost_time_unit = leftmost_time_unit;
+		this.rightmost_time_unit = rightmost_time_unit;
+		this.time_unit_layout = time_unit_layout;
+		
+		switch (time_display_style)
+		{
+		case TDS_if_reaches:
+			first_unit = Time_unit_name.TUN_seconds.ordinal();
+			last_unit = Time_unit_name.TUN_seconds.ordinal();
+			is_increase_able = true;
+			
+			break;
+		
+		case TDS_show_all:
+			first_unit = 0;
+			last_unit = time_units.length - 1;
+			is_increase_able = false;
+			
+			break;
+		
+		case TDS_custom_strict:
+			first_unit = leftmost_time_unit.ordinal();
+			last_unit = rightmost_time_unit.ordinal();
+			is_increase_able = false;
+			
+			break;
+		
+		case TDS_increase_able:
+			first_unit = leftmost_time_unit.ordinal();
+			last_unit = rightmost_time_unit.ordinal();
+			is_increase_able = true;
+			
+			break;
+		
+		default:
+			throw new EnumConstantNotPresentException(
+					Time_display_style.class, time_display_style.name());
+		}
+		
+		text_parts = new Text_parts(
+				time_counter_resources, time_display_style, time_unit_layout);
+	}
+	
+	
+	///// Methods public static ===========================================/////
+	/**
+	 * Returns interned profile for specified layout. The&nbsp;same object is
+	 * returned for equal arguments.
+	 *
+	 * @param time_display_style Time&nbsp;counter display style.
+	 *
+	 * @param leftmost_time_unit The&nbsp;leftmost time&nbsp;unit which is
+	 * displayed in {@link Time_display_style#TDS_custom_strict} and
+	 * {@link Time_display_style#TDS_increase_able} display styles.
+	 *
+	 * @param rightmost_time_unit The&nbsp;rightmost time&nbsp;unit which is
+	 * displayed in {@link Time_display_style#TDS_custom_strict} and
+	 * {@link Time_display_style#TDS_increase_able} display styles.
+	 *
+	 * @param time_unit_layout The&nbsp;way in which time&nbsp;units names are
+	 * displayed.
+	 *
+	 * @return Layout profile.
+	 *
+	 * @exception NullPointerException At&nbsp;least one of passed arguments
+	 * is {@code null}.
+	 *
+	 * @exception IllegalArgumentException {@code leftmost_time_unit} argument
+	 * <u>must contain greater</u> time&nbsp;unit than
+	 * {@code rightmost_time_unit} argument, or be <u>equal</u> to it.
+	 */
+	public static Layout_profile get_instance(
+			final Time_display_style time_display_style,
+			final Time_unit_name leftmost_time_unit,
+			final Time_unit_name rightmost_time_unit,
+			final Time_unit_layout time_unit_layout)
+	{
+		// Arguments cannot be null
+		if (time_display_style == null || leftmost_time_unit == null ||
+				rightmost_time_unit == null || time_unit_layout == null)
+		{
+			throw new NullPointerException("At least one of arguments is null");
+		}
+		
+		// If displayed time units range is incorrect
+		if (leftmost_time_unit.compareTo(rightmost_time_unit) > 0)
+		{
+			throw new IllegalArgumentException("leftmost_time_unit argument"
+					+ " enum value is grater than rightmost_time_unit argument"
+					+ " enum value");
+		}
+		
+		// Profile index in the table
+		final int index = index(time_display_style,
+				leftmost_time_unit, rightmost_time_unit, time_unit_layout);
+		// Interned profile
+		final Layout_profile profile = profiles.get(index);
+		
+		// If the profile is already interned
+		if (profile != null)
+		{
+			return profile;
+		}
+		
+		profiles.compareAndSet(index, null, new Layout_profile(
+				time_display_style, leftmost_time_unit,
+				rightmost_time_unit, time_unit_layout));
+		
+		return profiles.get(index);
+	}
+	
+	
+	///// Methods public of-instance ======================================/////
+	/**
+	 * @return Time&nbsp;counter display style.
+	 */
+	public Time_display_style get_time_display_style()
+	{
+		return time_display_style;
+	}
+	
+	
+	/**
+	 * @return Array containing <u>2&nbsp;elements</u>, where
+	 * element&nbsp;{@code [0]} represents <u>biggest</u> possible displayed
+	 * time&nbsp;value (is on the&nbsp;<u>left</u> side), and
+	 * element&nbsp;{@code [1]} represents <u>lowest</u> possible displayed
+	 * time&nbsp;value (is on the&nbsp;<u>right</u> side).
+	 */
+	public Time_unit_name[] get_time_value_edges()
+	{
+		return new Time_unit_name[] { leftmost_time_unit, rightmost_time_unit };
+	}
+	
+	
+	/**
+	 * @return The&nbsp;way in which time&nbsp;units names are displayed.
+	 */
+	public Time_unit_layout get_time_unit_layout()
+	{
+		return time_unit_layout;
+	}
+	
+	
+	/**
+	 * Returns profile which differs from this one by display style only.
+	 *
+	 * @param new_value Time&nbsp;counter display style.
+	 *
+	 * @return Layout profile.
+	 *
+	 * @exception NullPointerException Passed argument is {@code null}.
+	 */
+	public Layout_profile with_time_display_style(
+			final Time_display_style new_value)
+	{
+		return get_instance(new_value,
+				leftmost_time_unit, rightmost_time_unit, time_unit_layout);
+	}
+	
+	
+	/**
+	 * Returns profile which differs from this one by time&nbsp;units
+	 * displaying range only.
+	 *
+	 * @param left_edge The&nbsp;leftmost (biggest) displayed time&nbsp;unit.
+	 *
+	 * @param right_edge The&nbsp;rightmost (smallest) displayed time&nbsp;unit.
+	 *
+	 * @return Layout profile.
+	 *
+	 * @exception NullPointerException At&nbsp;least one of passed arguments
+	 * is {@code null}.
+	 *
+	 * @exception IllegalArgumentException {@code left_edge} argument
+	 * <u>must contain greater</u> time&nbsp;unit than {@code right_edge}
+	 * argument, or be <u>equal</u> to it.
+	 */
+	public Layout_profile with_time_value_edges(
+			final Time_unit_name left_edge, final Time_unit_name right_edge)
+	{
+		return get_instance(
+				time_display_style, left_edge, right_edge, time_unit_layout);
+	}
+	
+	
+	/**
+	 * Returns profile which differs from this one by time&nbsp;units names
+	 * layout only.
+	 *
+	 * @param new_value The&nbsp;way in which time&nbsp;units names are
+	 * displayed.
+	 *
+	 * @return Layout profile.
+	 *
+	 * @exception NullPointerException Passed argument is {@code null}.
+	 */
+	public Layout_profile with_time_unit_layout(final Time_unit_layout new_value)
+	{
+		return get_instance(time_display_style,
+				leftmost_time_unit, rightmost_time_unit, new_value);
+	}
+	
+	
+	@Override
+	public String toString()
+	{
+		return Layout_profile.class.getSimpleName() + '[' + time_display_style
+				+ ", " + leftmost_time_unit + ".." + rightmost_time_unit + ", "
+				+ time_unit_layout + ']';
+	}
+	
+	
+	///// Methods default-access of-instance ==============================/////
+	/**
+	 * @return The&nbsp;leftmost (biggest) time&nbsp;unit of displaying range.
+	 */
+	Time_unit_name get_leftmost_time_unit()
+	{
+		return leftmost_time_unit;
+	}
+	
+	
+	/**
+	 * @return The&nbsp;rightmost (smallest) time&nbsp;unit of displaying
+	 * range.
+	 */
+	Time_unit_name get_rightmost_time_unit()
+	{
+		return rightmost_time_unit;
+	}
+	
+	
+	/**
+	 * Renders time&nbsp;counter text.
+	 *
+	 * @param time_unit_values Time&nbsp;unit values. Index is
+	 * {@link Time_unit_name} ordinal.
+	 *
+	 * @param is_positive {@code true}&nbsp;&#0151; time&nbsp;value is
+	 * positive; {@code false}&nbsp;&#0151; negative.
+	 *
+	 * @return Time&nbsp;counter text.
+	 */
+	String render(final long[] time_unit_values, final boolean is_positive)
+	{
+		// The leftmost displayed time unit ordinal
+		int first = first_unit;
+		
+		/* If bigger time units are displayed when they are reached. Time
+		 * units are displayed starting from the biggest nonzero one, and all
+		 * smaller ones are displayed anyway */
+		if (is_increase_able)
+		{
+			for (int i = 0; i < first; ++i)
+			{
+				// If the time unit value is reached
+				if (time_unit_values[i] != 0)
+				{
+					first = i;
+					
+					break;
+				}
+			}
+		}
+		
+		// Text parts for current program locale
+		Text_parts parts = text_parts;
+		// Time counters resources for current program locale
+		final ResourceBundle resources = time_counter_resources;
+		
+		// If program locale has been changed
+		if (parts.resources != resources)
+		{
+			parts = new Text_parts(resources, time_display_style, time_unit_layout);
+			text_parts = parts;
+		}
+		
+		// Time counter text being built
+		final StringBuilder text = new StringBuilder(32);
+		
+		text.append(parts.prefix);
+		
+		// Если значение отрицательное - в начале ставится знак "минус"
+		if (!is_positive)
+		{
+			text.append('\u2012');
+		}
+		
+		for (int i = first; i <= last_unit; ++i)
+		{
+			append_value(text, i, time_unit_values[i]);
+			
+			// If time unit name depends on its value
+			if (parts.names == null)
+			{
+				text.append(Time_unit_full_name_resource_provider.get_name(
+						time_units[i], time_unit_values[i]));
+			}
+			else
+			{
+				text.append(parts.names[i]);
+			}
+		}
+		
+		return text.toString();
+	}
+	
+	
+	///// Methods private static ==========================================/////
+	/**
+	 * @param time_display_style Time&nbsp;counter display style.
+	 *
+	 * @param leftmost_time_unit The&nbsp;leftmost time&nbsp;unit of
+	 * displaying range.
+	 *
+	 * @param rightmost_time_unit The&nbsp;rightmost time&nbsp;unit of
+	 * displaying range.
+	 *
+	 * @param time_unit_layout The&nbsp;way in which time&nbsp;units names are
+	 * displayed.
+	 *
+	 * @return Profile index in {@link #profiles}.
+	 */
+	private static int index(final Time_display_style time_display_style,
+			final Time_unit_name leftmost_time_unit,
+			final Time_unit_name rightmost_time_unit,
+			final Time_unit_layout time_unit_layout)
+	{
+		return ((time_display_style.ordinal() * time_units.length
+				+ leftmost_time_unit.ordinal()) * time_units.length
+				+ rightmost_time_unit.ordinal())
+				* Time_unit_layout.values().length + time_unit_layout.ordinal();
+	}
+	
+	
+	/**
+	 * Appends {@code value} of time&nbsp;unit to {@code text} padded to
+	 * {@link #value_widths}. Is used instead of {@link java.util.Formatter}
+	 * to avoid its allocation on each rendering.
+	 *
+	 * @param text Time&nbsp;counter text being built.
+	 *
+	 * @param index Time&nbsp;unit ordinal.
+	 *
+	 * @param value Time&nbsp;unit value.
+	 */
+	private static void append_value(
+			final StringBuilder text, final int index, final long value)
+	{
+		// Value digits
+		String digits = Long.toString(value);
+		
+		// If digits are to be grouped by thousands
+		if (values_grouped[index] && Math.abs(value) >= 1000)
+		{
+			// Thousands separator according to default locale
+			final char separator = DecimalFormatSymbols.getInstance(
+					Locale.getDefault(Locale.Category.FORMAT)).getGroupingSeparator();
+			// Grouped digits
+			final StringBuilder grouped = new StringBuilder(digits);
+			// Index of the first digit
+			final int first_digit = (value < 0 ? 1 : 0);
+			
+			for (int i = grouped.length() - 3; i > first_digit; i -= 3)
+			{
+				grouped.insert(i, separator);
+			}
+			
+			digits = grouped.toString();
+		}
+		
+		// Padding character
+		final char padding = (values_zero_padded[index] ? '0' : ' ');
+		
+		for (int i = digits.length(); i < value_widths[index]; ++i)
+		{
+			text.append(padding);
+		}
+		
+		text.append(digits);
+	}
+}
@@ -0,0 +1,271 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+
+/**
+ * Notifies time&nbsp;counters listeners in a&nbsp;thread pool shared by
+ * all time&nbsp;counters, so a&nbsp;time&nbsp;counter owns no notification
+ * threads. Notifications which must be delivered in order are passed through
+ * {@link Serial_queue}.
+ *
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+final class Listener_dispatcher
+{
+	///// Nested classes default-access ===================================/////
+	/**
+	 * Runs its notifications one after another in the&nbsp;shared thread
+	 * pool. Occupies a&nbsp;pool thread only while there are queued
+	 * notifications.
+	 *
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	static final class Serial_queue implements Runnable
+	{
+		///// Fields private of-instance ==================================/////
+		/** Notifications which are&nbsp;not run yet.<br>
+		 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+		 * {@link #lock}. */
+		private final ArrayDeque<Runnable> notifications;
+		/** {@code true}&nbsp;&#0151; the&nbsp;queue is passed to the&nbsp;pool
+		 * and runs {@link #notifications}.<br>
+		 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+		 * {@link #lock}. */
+		private boolean is_running;
+		/** Synchronizes access to the&nbsp;queue state. */
+		private final ReentrantLock lock;
+		
+		
+		///// Constructors default-access =================================/////
+		/**
+		 * Creates empty queue.
+		 */
+		Serial_queue()
+		{
+			notifications = new ArrayDeque<>(2);
+			is_running = false;
+			lock = new ReentrantLock();
+		}
+		
+		
+		///// Methods public of-instance ==================================/////
+		/**
+		 * Runs queued notifications until the&nbsp;queue is empty. Is called
+		 * by the&nbsp;shared pool only.
+		 */
+		@Override
+		public void run()
+		{
+			while (true)
+			{
+				// Notification to run
+				final Runnable notification;
+				
+				lock.lock();
+				
+				try
+				{
+					notification = notifications.poll();
+					
+					// If everything is run
+					if (notification == null)
+					{
+						is_running = false;
+						
+						return;
+					}
+				}
+				finally
+				{
+					lock.unlock();
+				}
+				
+				run_notification(notification);
+			}
+		}
+		
+		
+		///// Methods default-access of-instance ==========================/////
+		/**
+		 * Queues {@code notification} after all previously queued ones.<br>
+		 * <i>Performance note.</i> Contains synchronized sections.
+		 *
+		 * @param notification Notification to run.
+		 */
+		void execute(final Runnable notification)
+		{
+			lock.lock();
+			
+			try
+			{
+				notifications.add(notification);
+				
+				// If the queue is already passed to the pool
+				if (is_running)
+				{
+					return;
+				}
+				
+				is_running = true;
+			}
+			finally
+			{
+				lock.unlock();
+			}
+			
+			executor.execute(this);
+		}
+		
+		
+		/**
+		 * Discards notifications which are&nbsp;not run yet.<br>
+		 * <i>Performance note.</i> Contains synchronized sections.
+		 */
+		void clear()
+		{
+			lock.lock();
+			
+			try
+			{
+				notifications.clear();
+			}
+			finally
+			{
+				lock.unlock();
+			}
+		}
+		
+		
+		/**
+		 * <i>Performance note.</i> Contains synchronized sections.
+		 *
+		 * @return Quantity of notifications which are&nbsp;not run yet.
+		 */
+		int size()
+		{
+			lock.lock();
+			
+			try
+			{
+				return notifications.size();
+			}
+			finally
+			{
+				lock.unlock();
+			}
+		}
+	}
+	
+	
+	///// Fields private static ===========================================/////
+	/** Logs this class's events. */
+	private static final Logger logger;
+	
+	/** Runs notifications. Its threads are daemons. */
+	private static final ThreadPoolExecutor executor;
+	
+	
+	static
+	{
+		logger = Logger.getLogger(Listener_dispatcher.class.getName());
+		executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+				60, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
+				new ThreadFactory()
+		{
+			@Override
+			public Thread newThread(final Runnable runnable)
+			{
+				// Listeners notification thread
+				final Thread thread =
+						new Thread(runnable, "Time_counter listeners notification");
+				
+				thread.setDaemon(true);
+				
+				return thread;
+			}
+		});
+	}
+	
+	
+	///// Constructors private ============================================/////
+	/**
+	 * Is&nbsp;not used.
+	 */
+	private Listener_dispatcher() {}
+	
+	
+	///// Methods default-access static ===================================/////
+	/**
+	 * Runs {@code notification} in the&nbsp;shared pool regardless of other
+	 * notifications.
+	 *
+	 * @param notification Notification to run.
+	 */
+	static void execute(final Runnable notification)
+	{
+		executor.execute(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				run_notification(notification);
+			}
+		});
+	}
+	
+	
+	/**
+	 * @return Quantity of threads notifying listeners.
+	 */
+	static int get_threads()
+	{
+		return executor.getPoolSize();
+	}
+	
+	
+	///// Methods private static ==========================================/////
+	/**
+	 * Runs {@code notification}. An&nbsp;exception thrown by a&nbsp;listener
+	 * is logged, so it affects neither the&nbsp;pool thread nor other
+	 * notifications.
+	 *
+	 * @param notification Notification to run.
+	 */
+	private static void run_notification(final Runnable notification)
+	{
+		try
+		{
+			notification.run();
+		}
+		catch (final RuntimeException exc)
+		{
+			logger.log(Level.WARNING,
+					"Listener has thrown exception. Exception stack trace:", exc);
+		}
+	}
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+
+/**
+ * The&nbsp;way the&nbsp;engine scheduler handles tick periods missed because
+ * of delayed execution (e.g.&nbsp;a&nbsp;long garbage collection pause or
+ * system suspension). Is set using
+ * {@link Time_counter_control#set_missed_tick_policy(Missed_tick_policy)}.
+ * Each missed period is counted in the&nbsp;engine statistics
+ * (see&nbsp;{@link Time_counter_control_MXBean}) regardless of the&nbsp;policy.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public enum Missed_tick_policy
+{
+	/** Missed ticks are coalesced into single recalculation which brings
+	 * time&nbsp;counters up&nbsp;to current time; listeners are notified
+	 * once. Next ticks keep their original phase. This is the&nbsp;default
+	 * policy. */
+	MTP_coalesce,
+	/** Each missed second is replayed: listeners are notified about every
+	 * intermediate time&nbsp;counter value in chronological order before
+	 * the&nbsp;current one. Is intended for listeners which require every
+	 * second. <i>Note.</i> Long system suspension results in correspondingly
+	 * many notifications. */
+	MTP_replay
+}
@@ -0,0 +1,297 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * Periodic engine task which schedules its own next execution. Unlike
+ * {@link ScheduledExecutorService#scheduleAtFixedRate(Runnable, long, long, TimeUnit)},
+ * executions delayed for more than a&nbsp;period are&nbsp;not bunched up:
+ * the&nbsp;task detects how many periods have&nbsp;been missed, performs
+ * {@link #tick(int)} once and schedules the&nbsp;next execution to
+ * the&nbsp;next period boundary (so ticks keep their original phase, unless
+ * {@link #next_deadline(long, long)} is overridden).
+ * Missed periods are either coalesced or replayed according to
+ * {@link #set_missed_tick_policy(Missed_tick_policy)}, and are recorded to
+ * {@link Tick_statistics}.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+abstract class Periodic_task implements Runnable
+{
+	///// Fields private of-instance ======================================/////
+	/** Executes the&nbsp;task. */
+	private final ScheduledExecutorService executor;
+	/** Task period in nanoseconds. */
+	private final long period_nanos;
+	/** The&nbsp;task statistics. */
+	private final Tick_statistics statistics;
+	/** Missed ticks handling. */
+	private volatile Missed_tick_policy missed_tick_policy;
+	/** {@link System#nanoTime()} reading at&nbsp;which the&nbsp;next
+	 * execution is expected.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #schedule_lock}. */
+	private long deadline_nanos;
+	/** The&nbsp;next execution scheduling result. {@code null} if the&nbsp;task
+	 * is&nbsp;not scheduled.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #schedule_lock}. */
+	private ScheduledFuture<?> future;
+	/** Is incremented each time the&nbsp;task is started, so an&nbsp;execution
+	 * which was in progress while the&nbsp;task has&nbsp;been restarted
+	 * doesn't schedule the&nbsp;next one.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #schedule_lock}. */
+	private long generation;
+	/** Synchronizes access to {@link #deadline_nanos}, {@link #future} and
+	 * {@link #generation}. */
+	private final ReentrantLock schedule_lock;
+	
+	
+	///// Constructors default-access =====================================/////
+	/**
+	 * @param executor Executes the&nbsp;task.
+	 * 
+	 * @param period Task period.
+	 * 
+	 * @param unit {@code period} time&nbsp;unit.
+	 * 
+	 * @param statistics The&nbsp;task statistics.
+	 */
+	Periodic_task(final ScheduledExecutorService executor, final long period,
+			final TimeUnit unit, final Tick_statistics statistics)
+	{
+		this.executor = executor;
+		period_nanos = unit.toNanos(period);
+		this.statistics = statistics;
+		missed_tick_policy = Missed_tick_policy.MTP_coalesce;
+		future = null;
+		generation = 0;
+		schedule_lock = new ReentrantLock();
+	}
+	
+	
+	///// Methods public of-instance ======================================/////
+	@Override
+	public final void run()
+	{
+		// The tick start
+		final long start = System.nanoTime();
+		// Time passed since the expected execution moment
+		final long lateness;
+		// The task start number this execution belongs to
+		final long execution_generation;
+		
+		schedule_lock.lock();
+		
+		try
+		{
+			/* If the task has been cancelled after this execution is scheduled
+			 * OR it has been restarted (the executor never runs tasks before
+			 * their deadline, so this execution belongs to the previous
+			 * start) */
+			if (future == null || start < deadline_nanos)
+			{
+				return;
+			}
+			
+			lateness = start - deadline_nanos;
+			execution_generation = generation;
+		}
+		finally
+		{
+			schedule_lock.unlock();
+		}
+		
+		// Periods passed without execution
+		final long missed = lateness / period_nanos;
+		// Missed ticks handling
+		final Missed_tick_policy policy = missed_tick_policy;
+		
+		try
+		{
+			tick(policy.equals(Missed_tick_policy.MTP_replay) ?
+					(int)Math.min(missed, Integer.MAX_VALUE) : 0);
+		}
+		finally
+		{
+			statistics.tick_finished(start, lateness, missed, policy);
+			schedule_next(execution_generation, missed + 1);
+		}
+	}
+	
+	
+	///// Methods default-access of-instance ==============================/////
+	/**
+	 * Schedules the&nbsp;task. Does&nbsp;nothing if it is scheduled already.
+	 * 
+	 * @param initial_delay Delay of the&nbsp;first execution.
+	 * 
+	 * @param unit {@code initial_delay} time&nbsp;unit.
+	 */
+	final void start(final long initial_delay, final TimeUnit unit)
+	{
+		schedule_lock.lock();
+		
+		try
+		{
+			// If the task is scheduled already
+			if (future != null)
+			{
+				return;
+			}
+			
+			++generation;
+			deadline_nanos = System.nanoTime() + unit.toNanos(initial_delay);
+			future = executor.schedule(this, initial_delay, unit);
+		}
+		finally
+		{
+			schedule_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Cancels the&nbsp;task. Does&nbsp;nothing if it is&nbsp;not scheduled.
+	 * Execution which is in progress is&nbsp;not interrupted, but
+	 * the&nbsp;next one is&nbsp;not scheduled.
+	 */
+	final void cancel()
+	{
+		schedule_lock.lock();
+		
+		try
+		{
+			// If the task is scheduled
+			if (future != null)
+			{
+				future.cancel(false);
+				future = null;
+			}
+		}
+		finally
+		{
+			schedule_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * @return {@code true}&nbsp;&#0151; the&nbsp;task is scheduled;
+	 * {@code false}&nbsp;&#0151; otherwise.
+	 */
+	final boolean is_scheduled()
+	{
+		schedule_lock.lock();
+		
+		try
+		{
+			return future != null;
+		}
+		finally
+		{
+			schedule_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Sets missed ticks handling. Takes effect since the&nbsp;next execution.
+	 * 
+	 * @param policy Missed ticks handling.
+	 */
+	final void set_missed_tick_policy(final Missed_tick_policy policy)
+	{
+		missed_tick_policy = policy;
+	}
+	
+	
+	/**
+	 * Computes the&nbsp;next execution moment. Keeps the&nbsp;phase of
+	 * the&nbsp;first execution by default. Is called on the&nbsp;executor
+	 * thread after each execution.
+	 * 
+	 * @param deadline_nanos {@link System#nanoTime()} reading at&nbsp;which
+	 * the&nbsp;current execution has&nbsp;been expected.
+	 * 
+	 * @param periods Periods passed since the&nbsp;current execution has
+	 * been expected, including the&nbsp;current one.
+	 * 
+	 * @return {@link System#nanoTime()} reading at&nbsp;which the&nbsp;next
+	 * execution is expected.
+	 */
+	long next_deadline(final long deadline_nanos, final long periods)
+	{
+		return deadline_nanos + periods * period_nanos;
+	}
+	
+	
+	/**
+	 * Performs the&nbsp;task work.
+	 * 
+	 * @param replayed Quantity of missed periods to be replayed before
+	 * the&nbsp;current one. Is always {@code 0} for
+	 * {@link Missed_tick_policy#MTP_coalesce}.
+	 * 
+	 * @return Quantity of processed time&nbsp;counters.
+	 */
+	abstract int tick(int replayed);
+	
+	
+	///// Methods private of-instance =====================================/////
+	/**
+	 * Schedules the&nbsp;next execution to the&nbsp;moment computed by
+	 * {@link #next_deadline(long, long)}. Does&nbsp;nothing if the&nbsp;task has
+	 * been cancelled or restarted.
+	 * 
+	 * @param execution_generation {@link #generation} value the&nbsp;current
+	 * execution belongs to.
+	 * 
+	 * @param periods Periods passed since the&nbsp;current execution has
+	 * been expected, including the&nbsp;current one.
+	 */
+	private void schedule_next(
+			final long execution_generation, final long periods)
+	{
+		schedule_lock.lock();
+		
+		try
+		{
+			// If the task has been cancelled or restarted while executing
+			if (future == null || generation != execution_generation)
+			{
+				return;
+			}
+			
+			deadline_nanos = next_deadline(deadline_nanos, periods);
+			future = executor.schedule(
+					this, deadline_nanos - System.nanoTime(),
+					TimeUnit.NANOSECONDS);
+		}
+		finally
+		{
+			schedule_lock.unlock();
+		}
+	}
+}
@@ -26,11 +26,11 @@ import java.io.ObjectOutputStream;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.ResourceBundle;
 import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -367,6 +367,13 @@ public final class Settings implements Serializable
 	 * restrictions, default values are set. */
 	private static Time_unit_name[] time_value_edges;
 	
+	/** Time&nbsp;counter layout built from {@link #time_display_style_setting},
+	 * {@link #time_value_edges} and {@link #time_unit_layout_setting}.
+	 * {@code null} if it has to be built again after a&nbsp;setting change
+	 * (see&nbsp;{@link #get_layout_profile()}).<br>
+	 * <b>Warning!</b> Is changed only holding {@link #time_value_edges_lock}. */
+	private static volatile Layout_profile layout_profile;
+	
 	/** Current program locale.
 	 * 
 	 * @serial Deserialized value <u>cannot</u> be {@code null}. Otherwise
@@ -402,7 +409,8 @@ public final class Settings implements Serializable
 	
 	
 	///// Fields private of-instance ======================================/////
-	/** Синхронизирует доступ к полю {@link #time_value_edges}. */
+	/** Синхронизирует доступ к полям {@link #time_value_edges} и
+	 * {@link #layout_profile}. */
 	private transient final ReentrantLock time_value_edges_lock;
 	/** Synchronizes access to {@link #days_count},
 	 * {@link #time_display_style_setting}, {@link #time_unit_layout_setting},
@@ -617,6 +625,7 @@ public final class Settings implements Serializable
 		try
 		{
 			time_display_style_setting = new_value;
+			reset_layout_profile();
 		}
 		finally
 		{
@@ -668,6 +677,7 @@ public final class Settings implements Serializable
 		try
 		{
 			time_unit_layout_setting = time_unit_layout_set;
+			reset_layout_profile();
 		}
 		finally
 		{
@@ -770,6 +780,59 @@ public final class Settings implements Serializable
 		{
 			time_value_edges[0] = left_edge;
 			time_value_edges[1] = right_edge;
+			layout_profile = null;
+		}
+		finally
+		{
+			time_value_edges_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Returns time&nbsp;counter layout corresponding to current display
+	 * style, time&nbsp;units displaying range and time&nbsp;units layout
+	 * style settings. The&nbsp;layout is built once after a&nbsp;setting
+	 * change, so new time&nbsp;counters obtain it without locking.<br>
+	 * <i>Performance note.</i> Contains synchronized sections (only when
+	 * the&nbsp;layout is built). Synchronized with:
+	 * <ul><li>{@link #get_time_value_edges()};</li>
+	 * <li>{@link #set_defaults()};</li>
+	 * <li>{@link #set_time_display_style_setting(Time_display_style)};</li>
+	 * <li>{@link #set_time_unit_layout_setting(Time_unit_layout)};</li>
+	 * <li>{@link #set_time_value_edges(Time_unit_name, Time_unit_name)};</li>
+	 * <li>{@link #write_to_file()}.</li></ul>
+	 * 
+	 * @return Time&nbsp;counter layout.
+	 */
+	public Layout_profile get_layout_profile()
+	{
+		// Layout built after the last setting change
+		final Layout_profile profile = layout_profile;
+		
+		// If the layout is already built
+		if (profile != null)
+		{
+			return profile;
+		}
+		
+		try
+		{
+			time_value_edges_lock.lockInterruptibly();
+		}
+		catch (final InterruptedException exc)
+		{
+			logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
+			Thread.currentThread().interrupt();
+		}
+		
+		try
+		{
+			layout_profile = Layout_profile.get_instance(
+					time_display_style_setting, time_value_edges[0],
+					time_value_edges[1], time_unit_layout_setting);
+			
+			return layout_profile;
 		}
 		finally
 		{
@@ -824,6 +887,7 @@ public final class Settings implements Serializable
 				
 				time_value_edges[0] = Time_unit_name.TUN_hours;
 				time_value_edges[1] = Time_unit_name.TUN_seconds;
+				layout_profile = null;
 			}
 			finally
 			{
@@ -1025,13 +1089,12 @@ public final class Settings implements Serializable
 		Time_unit_full_name_resource_provider.time_counter_resources =
 				new_time_cunter_resources;
 		Time_unit_full_name_resource_provider.locale = locale;
-		Time_counter.time_counter_resources = new_time_cunter_resources;
+		Layout_profile.time_counter_resources = new_time_cunter_resources;
 		Instance_counter.message_resources = message_resources;
 		
 		// Thread-safe snapshot of all existing time counters
-		final CopyOnWriteArrayList<Time_counter> time_counters =
-				new CopyOnWriteArrayList<>(
-						Time_counter_control.get_instance().get_time_counters());
+		final List<Time_counter> time_counters =
+				Time_counter_control.get_instance().get_time_counters().snapshot();
 		final int time_counters_quantity = time_counters.size();
 		
 		// If there is no time counters to update locale on
@@ -1111,6 +1174,35 @@ public final class Settings implements Serializable
 	
 	
 	///// Methods private of-instance =====================================/////
+	/**
+	 * Makes {@link #get_layout_profile()} build time&nbsp;counter layout
+	 * again. Is called after display style or time&nbsp;units layout style
+	 * setting change.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 */
+	private void reset_layout_profile()
+	{
+		try
+		{
+			time_value_edges_lock.lockInterruptibly();
+		}
+		catch (final InterruptedException exc)
+		{
+			logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
+			Thread.currentThread().interrupt();
+		}
+		
+		try
+		{
+			layout_profile = null;
+		}
+		finally
+		{
+			time_value_edges_lock.unlock();
+		}
+	}
+	
+	
 	/**
 	 * Метод сериализации для {@link ObjectOutputStream}.
 	 * 
@@ -0,0 +1,187 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * {@link Clock} which time does&nbsp;not flow by&nbsp;itself and is moved
+ * only by {@link #advance(Duration)} and {@link #set_instant(Instant)} calls.
+ * Designed for time&#8209;warp simulation: months of time&nbsp;counters
+ * behavior (DST transitions, expiries) can be replayed as fast as CPU allows.
+ * <p>Being set using {@link Time_counter_control#set_clock(Clock)}, each time
+ * move results in synchronous engine tick: all running {@link Solo_counter}s
+ * catch&nbsp;up with the&nbsp;new time and all {@link Instance_counter}s are
+ * recalculated before the&nbsp;moving method returns.<br>
+ * <i>Note.</i> Millisecond precision is supported only.
+ *
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public class Simulated_clock extends Clock
+{
+	///// Fields private of-instance ======================================/////
+	/** Current time in milliseconds from the&nbsp;epoch. The&nbsp;object is
+	 * shared between clocks obtained via {@link #withZone(ZoneId)}. */
+	private final AtomicLong time_millis;
+
+	/** Time&nbsp;zone of this clock. */
+	private final ZoneId zone;
+
+
+	///// Constructors public =============================================/////
+	/**
+	 * @param start Initial clock instant.
+	 *
+	 * @param zone Clock time&nbsp;zone.
+	 *
+	 * @exception NullPointerException At&nbsp;least one of passed arguments
+	 * is&nbsp;{@code null}.
+	 */
+	public Simulated_clock(final Instant start, final ZoneId zone)
+	{
+		// Arguments cannot be null
+		if (start == null || zone == null)
+		{
+			throw new NullPointerException("At least one of arguments is null");
+		}
+
+		time_millis = new AtomicLong(start.toEpochMilli());
+		this.zone = zone;
+	}
+
+
+	///// Constructors private ============================================/////
+	/**
+	 * Creates clock sharing time with another one.
+	 *
+	 * @param time_millis Shared time source.
+	 *
+	 * @param zone Clock time&nbsp;zone.
+	 */
+	private Simulated_clock(final AtomicLong time_millis, final ZoneId zone)
+	{
+		this.time_millis = time_millis;
+		this.zone = zone;
+	}
+
+
+	///// Methods public of-instance ======================================/////
+	@Override
+	public ZoneId getZone()
+	{
+		return zone;
+	}
+
+
+	/**
+	 * @return Clock with specified {@code zone} which shares time with this
+	 * clock (i.e.&nbsp;is moved together with this clock).
+	 */
+	@Override
+	public Clock withZone(final ZoneId zone)
+	{
+		// Argument cannot be null
+		if (zone == null)
+		{
+			throw new NullPointerException(
+					ZoneId.class.getName() + " argument is null");
+		}
+
+		return new Simulated_clock(time_millis, zone);
+	}
+
+
+	@Override
+	public Instant instant()
+	{
+		return Instant.ofEpochMilli(time_millis.get());
+	}
+
+
+	@Override
+	public long millis()
+	{
+		return time_millis.get();
+	}
+
+
+	/**
+	 * Moves the&nbsp;clock by {@code step}. If the&nbsp;clock is set as
+	 * the&nbsp;engine clock, performs synchronous engine tick.<br>
+	 * <i>Note.</i> Moving the&nbsp;clock <u>backward</u> is permitted.
+	 * Running {@link Solo_counter}s ignore such moves (they do&nbsp;not count
+	 * time backward) while {@link Instance_counter}s are recalculated.
+	 *
+	 * @param step Time&nbsp;amount to move the&nbsp;clock by.
+	 *
+	 * @exception NullPointerException {@code step} argument is&nbsp;{@code null}.
+	 *
+	 * @exception ArithmeticException {@code step} cannot be represented in
+	 * milliseconds or the&nbsp;resulting instant overflows.
+	 */
+	public void advance(final Duration step)
+	{
+		// Step in milliseconds
+		final long step_millis = step.toMillis();
+		// Time before moving
+		long previous;
+
+		do
+		{
+			previous = time_millis.get();
+		} while (!time_millis.compareAndSet(
+				previous, Math.addExact(previous, step_millis)));
+
+		Time_counter_control.get_instance().clock_moved(this);
+	}
+
+
+	/**
+	 * Sets the&nbsp;clock to {@code instant}. If the&nbsp;clock is set as
+	 * the&nbsp;engine clock, performs synchronous engine tick.
+	 *
+	 * @param instant New clock instant.
+	 *
+	 * @exception NullPointerException {@code instant} argument
+	 * is&nbsp;{@code null}.
+	 */
+	public void set_instant(final Instant instant)
+	{
+		time_millis.set(instant.toEpochMilli());
+		Time_counter_control.get_instance().clock_moved(this);
+	}
+
+
+	///// Methods default-access of-instance ==============================/////
+	/**
+	 * @param other Clock to compare with.
+	 *
+	 * @return {@code true}&nbsp;&#0151; {@code other} clock shares time with
+	 * this one (i.e.&nbsp;one of them is obtained from another by
+	 * {@link #withZone(ZoneId)}); {@code false}&nbsp;&#0151; otherwise.
+	 */
+	boolean shares_time_with(final Clock other)
+	{
+		return other instanceof Simulated_clock &&
+				((Simulated_clock)other).time_millis == time_millis;
+	}
+}
@@ -0,0 +1,724 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+
+/**
+ * Delivers {@link Time_counter_snapshot}s to {@link Flow.Subscriber}s
+ * according to their demand. Serves either single time&nbsp;counter or
+ * the&nbsp;whole board of time&nbsp;counters.
+ * <p>Each subscription keeps <u>at&nbsp;most one</u> undelivered snapshot
+ * per time&nbsp;counter: a&nbsp;newer snapshot replaces the&nbsp;stale one
+ * (conflation), so slow subscribers never cause unbounded queuing. Items are
+ * delivered in a&nbsp;shared daemon thread pool, sequentially for each
+ * subscription.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+final class Snapshot_publisher
+{
+	///// Nested interfaces default-access ================================/////
+	/**
+	 * Provides snapshots offered to each new subscriber before changes.
+	 * 
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	interface Initial_snapshots
+	{
+		/**
+		 * @return Current snapshots of served time&nbsp;counter(&#8209;s).
+		 */
+		Iterable<Time_counter_snapshot> get_snapshots();
+	}
+	
+	
+	///// Nested classes private ==========================================/////
+	/**
+	 * Time&nbsp;counter value accepted by subscription with cadence. Unlike
+	 * {@link Time_counter_snapshot} <u>does&nbsp;not</u> reference
+	 * the&nbsp;time&nbsp;counter, so it does&nbsp;not keep the&nbsp;weak key
+	 * of {@link Subscription_impl#accepted} reachable.
+	 * 
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	private static final class Accepted_value
+	{
+		///// Fields default-access of-instance ===========================/////
+		/** Time&nbsp;unit values (see&nbsp;{@link Time_counter_snapshot#get_values()}). */
+		final long[] values;
+		/** Time&nbsp;counter value sign. */
+		final boolean is_positive;
+		
+		
+		///// Constructors default-access =================================/////
+		/**
+		 * @param snapshot Accepted snapshot.
+		 */
+		Accepted_value(final Time_counter_snapshot snapshot)
+		{
+			values = snapshot.get_values();
+			is_positive = snapshot.is_positive;
+		}
+	}
+	
+	
+	/**
+	 * Single subscriber subscription.
+	 * 
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	private final class Subscription_impl
+			implements Flow.Subscription, Runnable
+	{
+		///// Fields private of-instance ==================================/////
+		/** Subscriber receiving snapshots. */
+		private final Flow.Subscriber<? super Time_counter_snapshot> subscriber;
+		/** The&nbsp;smallest time&nbsp;unit which value change makes
+		 * snapshot to be delivered. {@code null} means each change. */
+		private final Time_unit_name cadence;
+		
+		/** Unfulfilled demand. {@link Long#MAX_VALUE} means unbounded. */
+		private final AtomicLong requested;
+		/** Quantity of delivery requests not processed by {@link #run()}
+		 * yet. Non&#8209;zero value means that delivery is scheduled or is
+		 * running. */
+		private final AtomicInteger work_in_progress;
+		/** {@code true}&nbsp;&#0151; subscription is cancelled or
+		 * terminated. */
+		private volatile boolean cancelled;
+		/** {@code true}&nbsp;&#0151; the&nbsp;publisher has no&nbsp;more
+		 * items; {@link Flow.Subscriber#onComplete()} is invoked after
+		 * pending snapshots are delivered. */
+		private volatile boolean completed;
+		/** {@code true}&nbsp;&#0151; non&#8209;positive demand has&nbsp;been
+		 * passed to {@link #request(long)}. */
+		private volatile boolean illegal_request;
+		/** Non&#8209;positive demand passed to {@link #request(long)}. Is
+		 * meaningful only if {@link #illegal_request} is {@code true}. */
+		private volatile long illegal_demand;
+		
+		/** Undelivered snapshots, the&nbsp;latest for each time&nbsp;counter,
+		 * in order of the&nbsp;first undelivered change.<br>
+		 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+		 * {@link #pending_lock}. */
+		private final LinkedHashMap<Time_counter, Time_counter_snapshot> pending;
+		/** The&nbsp;last accepted value of each time&nbsp;counter. Is used
+		 * only if {@link #cadence} is&nbsp;not {@code null}.<br>
+		 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+		 * {@link #pending_lock}. */
+		private final WeakHashMap<Time_counter, Accepted_value> accepted;
+		/** Synchronizes access to {@link #pending} and {@link #accepted}. */
+		private final ReentrantLock pending_lock;
+		
+		
+		///// Constructors default-access =================================/////
+		/**
+		 * @param subscriber Subscriber receiving snapshots.
+		 * 
+		 * @param cadence The&nbsp;smallest time&nbsp;unit which value change
+		 * makes snapshot to be delivered. {@code null} means each change.
+		 */
+		Subscription_impl(
+				final Flow.Subscriber<? super Time_counter_snapshot> subscriber,
+				final Time_unit_name cadence)
+		{
+			this.subscriber = subscriber;
+			this.cadence = cadence;
+			requested = new AtomicLong();
+			work_in_progress = new AtomicInteger();
+			cancelled = false;
+			completed = false;
+			illegal_request = false;
+			illegal_demand = 0;
+			pending = new LinkedHashMap<>();
+			accepted = new WeakHashMap<>();
+			pending_lock = new ReentrantLock();
+		}
+		
+		
+		///// Methods public of-instance ==================================/////
+		@Override
+		public void request(final long n)
+		{
+			// Non-positive demand terminates the subscription
+			if (n <= 0)
+			{
+				illegal_demand = n;
+				illegal_request = true;
+			}
+			else
+			{
+				// Demand before adding
+				long previous;
+				
+				do
+				{
+					previous = requested.get();
+					
+					// If demand is already unbounded
+					if (previous == Long.MAX_VALUE)
+					{
+						break;
+					}
+				} while (!requested.compareAndSet(
+						previous, previous + n < 0 ? Long.MAX_VALUE : previous + n));
+			}
+			
+			schedule();
+		}
+		
+		
+		@Override
+		public void cancel()
+		{
+			cancelled = true;
+			remove(this);
+		}
+		
+		
+		/**
+		 * Delivers pending snapshots according to demand. Is executed in
+		 * {@link #delivery_executor} only.
+		 */
+		@Override
+		public void run()
+		{
+			// Processed delivery requests quantity
+			int missed = 1;
+			
+			do
+			{
+				try
+				{
+					deliver();
+				}
+				catch (final RuntimeException exc)
+				{
+					logger.log(Level.WARNING, Flow.Subscriber.class.getName()
+							+ " has thrown exception. Subscription is cancelled."
+							+ " Exception stack trace:", exc);
+					cancel();
+				}
+				
+				missed = work_in_progress.addAndGet(-missed);
+			} while (missed != 0);
+		}
+		
+		
+		///// Methods default-access of-instance ==========================/////
+		/**
+		 * Accepts {@code snapshot} for delivery if it satisfies
+		 * {@link #cadence}, replacing undelivered snapshot of the&nbsp;same
+		 * time&nbsp;counter.
+		 * 
+		 * @param snapshot Snapshot to deliver.
+		 */
+		void offer(final Time_counter_snapshot snapshot)
+		{
+			pending_lock.lock();
+			
+			try
+			{
+				// If cadence matters
+				if (cadence != null)
+				{
+					// The last accepted value
+					final Accepted_value previous =
+							accepted.get(snapshot.time_counter);
+					
+					// If the change is too small to be delivered
+					if (previous != null && !snapshot.differs(
+							previous.values, previous.is_positive, cadence))
+					{
+						return;
+					}
+					
+					accepted.put(snapshot.time_counter, new Accepted_value(snapshot));
+				}
+				
+				pending.put(snapshot.time_counter, snapshot);
+			}
+			finally
+			{
+				pending_lock.unlock();
+			}
+			
+			schedule();
+		}
+		
+		
+		/**
+		 * Drops undelivered snapshot and the&nbsp;last accepted value of
+		 * {@code time_counter}.
+		 * 
+		 * @param time_counter Time&nbsp;counter to forget.
+		 */
+		void forget(final Time_counter time_counter)
+		{
+			pending_lock.lock();
+			
+			try
+			{
+				pending.remove(time_counter);
+				accepted.remove(time_counter);
+			}
+			finally
+			{
+				pending_lock.unlock();
+			}
+		}
+		
+		
+		/**
+		 * Makes {@link Flow.Subscriber#onComplete()} to be invoked after
+		 * pending snapshots are delivered.
+		 */
+		void complete()
+		{
+			completed = true;
+			schedule();
+		}
+		
+		
+		///// Methods private of-instance =================================/////
+		/**
+		 * Submits this object to {@link #delivery_executor} unless it
+		 * is&nbsp;already scheduled or running.
+		 */
+		private void schedule()
+		{
+			// If delivery isn't scheduled yet
+			if (work_in_progress.getAndIncrement() == 0)
+			{
+				delivery_executor.execute(this);
+			}
+		}
+		
+		
+		/**
+		 * Delivers pending snapshots while there is demand, and terminates
+		 * the&nbsp;subscription if needed.
+		 */
+		private void deliver()
+		{
+			// If the subscription is terminated
+			if (cancelled)
+			{
+				return;
+			}
+			
+			// If the subscriber has requested non-positive demand
+			if (illegal_request)
+			{
+				cancel();
+				subscriber.onError(new IllegalArgumentException(
+						"Non-positive request: " + illegal_demand));
+				
+				return;
+			}
+			
+			while (!cancelled && requested.get() > 0)
+			{
+				// Snapshot to deliver
+				final Time_counter_snapshot snapshot;
+				
+				pending_lock.lock();
+				
+				try
+				{
+					// Oldest pending snapshot
+					final Iterator<Time_counter_snapshot> iterator =
+							pending.values().iterator();
+					
+					// If there is nothing to deliver
+					if (!iterator.hasNext())
+					{
+						break;
+					}
+					
+					snapshot = iterator.next();
+					iterator.remove();
+				}
+				finally
+				{
+					pending_lock.unlock();
+				}
+				
+				// If demand is bounded
+				if (requested.get() != Long.MAX_VALUE)
+				{
+					requested.decrementAndGet();
+				}
+				
+				subscriber.onNext(snapshot);
+			}
+			
+			// If there are no more items
+			if (completed && !cancelled)
+			{
+				pending_lock.lock();
+				
+				try
+				{
+					// If there are undelivered snapshots
+					if (!pending.isEmpty())
+					{
+						return;
+					}
+				}
+				finally
+				{
+					pending_lock.unlock();
+				}
+				
+				cancel();
+				subscriber.onComplete();
+			}
+		}
+	}
+	
+	
+	///// Fields private static ===========================================/////
+	/** Logs this class's events. */
+	private static final Logger logger;
+	
+	/** Delivers snapshots to subscribers. Its threads are daemons. */
+	private static final ThreadPoolExecutor delivery_executor;
+	
+	
+	static
+	{
+		logger = Logger.getLogger(Snapshot_publisher.class.getName());
+		delivery_executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+				60, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
+				new ThreadFactory()
+		{
+			@Override
+			public Thread newThread(final Runnable runnable)
+			{
+				// Snapshots delivery thread
+				final Thread thread =
+						new Thread(runnable, "Time_counter snapshots delivery");
+				
+				thread.setDaemon(true);
+				
+				return thread;
+			}
+		});
+	}
+	
+	
+	///// Fields private of-instance ======================================/////
+	/** Active subscriptions. Is replaced (never modified) under
+	 * {@link #lock}, so publishing reads it without locking. */
+	private volatile Subscription_impl[] subscriptions;
+	/** The&nbsp;smallest time&nbsp;unit which change {@link #subscriptions}
+	 * are interested in (subscription without cadence is interested in each
+	 * change, i.e.&nbsp;in {@link Time_unit_name#TUN_seconds}). {@code null}
+	 * if there are no subscriptions. Is changed together with
+	 * {@link #subscriptions}. */
+	private volatile Time_unit_name granularity;
+	/** {@code true}&nbsp;&#0151; the&nbsp;publisher is completed and
+	 * accepts no&nbsp;more subscribers.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #lock}. */
+	private boolean completed;
+	/** Synchronizes {@link #subscriptions} replacing. */
+	private final ReentrantLock lock;
+	
+	
+	///// Constructors default-access =====================================/////
+	/**
+	 * Creates publisher without subscribers.
+	 */
+	Snapshot_publisher()
+	{
+		subscriptions = new Subscription_impl[0];
+		granularity = null;
+		completed = false;
+		lock = new ReentrantLock();
+	}
+	
+	
+	///// Methods default-access static =================================/////
+	/**
+	 * @return Quantity of threads delivering snapshots.
+	 */
+	static int get_delivery_threads()
+	{
+		return delivery_executor.getPoolSize();
+	}
+	
+	
+	///// Methods default-access of-instance ==============================/////
+	/**
+	 * @param cadence The&nbsp;smallest time&nbsp;unit which value change
+	 * makes snapshot to be delivered to subscribers of returned publisher.
+	 * {@code null} means each change.
+	 * 
+	 * @param initial Snapshots to offer to each new subscriber first.
+	 * {@code null} if there is nothing to offer.
+	 * 
+	 * @return Publisher subscribing with specified {@code cadence}.
+	 */
+	Flow.Publisher<Time_counter_snapshot> get_publisher(
+			final Time_unit_name cadence, final Initial_snapshots initial)
+	{
+		return new Flow.Publisher<Time_counter_snapshot>()
+		{
+			@Override
+			public void subscribe(
+					final Flow.Subscriber<? super Time_counter_snapshot> subscriber)
+			{
+				// Argument cannot be null
+				if (subscriber == null)
+				{
+					throw new NullPointerException(
+							Flow.Subscriber.class.getName() + " argument is null");
+				}
+				
+				add(new Subscription_impl(subscriber, cadence), initial);
+			}
+		};
+	}
+	
+	
+	/**
+	 * @return {@code true}&nbsp;&#0151; there are subscribers;
+	 * {@code false}&nbsp;&#0151; otherwise.
+	 */
+	boolean has_subscribers()
+	{
+		return subscriptions.length != 0;
+	}
+	
+	
+	/**
+	 * @return The&nbsp;smallest time&nbsp;unit which change subscribers are
+	 * interested in ({@link Time_unit_name#TUN_seconds} if at&nbsp;least one
+	 * subscriber is interested in each change). {@code null} if there are
+	 * no subscribers.
+	 */
+	Time_unit_name get_granularity()
+	{
+		return granularity;
+	}
+	
+	
+	/**
+	 * Offers {@code snapshot} to all subscribers.<br>
+	 * <i>Performance note.</i> Does&nbsp;not acquire publisher locks.
+	 * 
+	 * @param snapshot Snapshot to offer.
+	 */
+	void publish(final Time_counter_snapshot snapshot)
+	{
+		for (final Subscription_impl i : subscriptions)
+		{
+			i.offer(snapshot);
+		}
+	}
+	
+	
+	/**
+	 * Drops undelivered snapshots and the&nbsp;last accepted values of
+	 * {@code time_counter} from all subscriptions. Is called when
+	 * the&nbsp;time&nbsp;counter is shut down, so subscriptions do&nbsp;not
+	 * keep it reachable.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param time_counter Shut down time&nbsp;counter.
+	 */
+	void forget(final Time_counter time_counter)
+	{
+		for (final Subscription_impl i : subscriptions)
+		{
+			i.forget(time_counter);
+		}
+	}
+	
+	
+	/**
+	 * Completes all subscriptions after their pending snapshots are
+	 * delivered. Subscribers added after the&nbsp;call receive
+	 * {@link Flow.Subscriber#onComplete()} at&nbsp;once.
+	 */
+	void complete()
+	{
+		// Subscriptions to complete
+		final Subscription_impl[] to_complete;
+		
+		lock.lock();
+		
+		try
+		{
+			completed = true;
+			to_complete = subscriptions;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+		
+		for (final Subscription_impl i : to_complete)
+		{
+			i.complete();
+		}
+	}
+	
+	
+	///// Methods private static ==========================================/////
+	/**
+	 * @param subscriptions Subscriptions to examine.
+	 * 
+	 * @return The&nbsp;smallest time&nbsp;unit which change
+	 * {@code subscriptions} are interested in. {@code null} if
+	 * {@code subscriptions} is empty.
+	 */
+	private static Time_unit_name granularity_of(
+			final Subscription_impl[] subscriptions)
+	{
+		// The smallest time unit among subscriptions
+		Time_unit_name result = null;
+		
+		for (final Subscription_impl i : subscriptions)
+		{
+			// Time unit the subscription is interested in
+			final Time_unit_name unit =
+					(i.cadence == null ? Time_unit_name.TUN_seconds : i.cadence);
+			
+			// If the subscription is interested in smaller time unit
+			if (result == null || unit.compareTo(result) > 0)
+			{
+				result = unit;
+			}
+		}
+		
+		return result;
+	}
+	
+	
+	///// Methods private of-instance =====================================/////
+	/**
+	 * Subscribes {@code subscription} subscriber.
+	 * 
+	 * @param subscription Subscription to add.
+	 * 
+	 * @param initial Snapshots to offer first. May be {@code null}.
+	 */
+	private void add(final Subscription_impl subscription,
+			final Initial_snapshots initial)
+	{
+		subscription.subscriber.onSubscribe(subscription);
+		
+		lock.lock();
+		
+		try
+		{
+			// If the publisher has no more items
+			if (completed)
+			{
+				subscription.complete();
+				
+				return;
+			}
+			
+			// If subscription is cancelled already from onSubscribe()
+			if (subscription.cancelled)
+			{
+				return;
+			}
+			
+			// Subscriptions with added one
+			final Subscription_impl[] result =
+					Arrays.copyOf(subscriptions, subscriptions.length + 1);
+			
+			result[result.length - 1] = subscription;
+			subscriptions = result;
+			granularity = granularity_of(result);
+		}
+		finally
+		{
+			lock.unlock();
+		}
+		
+		// If there are snapshots to offer first
+		if (initial != null)
+		{
+			for (final Time_counter_snapshot i : initial.get_snapshots())
+			{
+				subscription.offer(i);
+			}
+		}
+	}
+	
+	
+	/**
+	 * Unsubscribes {@code subscription} subscriber if it&nbsp;is subscribed.
+	 * 
+	 * @param subscription Subscription to remove.
+	 */
+	private void remove(final Subscription_impl subscription)
+	{
+		lock.lock();
+		
+		try
+		{
+			// Current subscriptions
+			final Subscription_impl[] current = subscriptions;
+			
+			for (int i = 0; i < current.length; ++i)
+			{
+				// If the subscription is found
+				if (current[i] == subscription)
+				{
+					// Subscriptions without removed one
+					final Subscription_impl[] result =
+							new Subscription_impl[current.length - 1];
+					
+					System.arraycopy(current, 0, result, 0, i);
+					System.arraycopy(current, i + 1, result, i, result.length - i);
+					subscriptions = result;
+					granularity = granularity_of(result);
+					
+					return;
+				}
+			}
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+}
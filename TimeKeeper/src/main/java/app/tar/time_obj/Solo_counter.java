@@ -18,20 +18,18 @@ package app.tar.time_obj;
 import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.time.Clock;
 import java.time.LocalTime;
 import java.time.Period;
 import java.util.ArrayList;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import app.tar.time_obj.containers.Modified_ArrayList;
+import app.tar.time_obj.containers.Time_counter_registry;
 import app.tar.time_obj.events.Numeric_overflow_event;
 import app.tar.time_obj.events.Numeric_overflow_listener;
 
@@ -95,19 +93,62 @@ public class Solo_counter extends Time_counter implements Serializable
 	}
 	
 	
+	///// Inner classes private ===========================================/////
+	/**
+	 * Brings running countdown value to zero and notifies time&nbsp;elapsed
+	 * listeners when it reaches zero.
+	 */
+	private final class Zero_deadline extends Deadline_index.Deadline
+	{
+		@Override
+		void deadline_reached(final long due_millis)
+		{
+			clock_tick();
+			notify_time_elapsed_listeners();
+		}
+	}
+	
+	
 	///// Поля private статические ========================================/////
 	/** Логирует события в данном классе. */
 	private static final Logger logger;
 	
-	/** Time in milliseconds representing frequency of executing
-	 * {@link #thread_counter} runnable. */
-	private static final int clock_frequency;
+	/** Seconds in one day. */
+	private static final int seconds_in_day;
+	/** Days passed from the&nbsp;beginning of year till the&nbsp;beginning of
+	 * each month in {@link Days_in_year#DIY_365} counting type (index of
+	 * January&nbsp;-&nbsp;0). The&nbsp;last (13th) element contains days in
+	 * year. */
+	private static final int[] month_starts;
+	/** Month index for each day of year in {@link Days_in_year#DIY_365}
+	 * counting type (index of the&nbsp;first day of year&nbsp;-&nbsp;0). */
+	private static final byte[] day_months;
 	
 	
 	static
 	{
 		logger = Logger.getLogger(Solo_counter.class.getName());
-		clock_frequency = 100;
+		seconds_in_day = (int)TimeUnit.DAYS.toSeconds(1);
+		
+		// Months in year
+		final int months_in_year = month_sizes.size();
+		
+		month_starts = new int[months_in_year + 1];
+		
+		for (int i = 0; i < months_in_year; i++)
+		{
+			month_starts[i + 1] = month_starts[i] + month_sizes.get(i);
+		}
+		
+		day_months = new byte[month_starts[months_in_year]];
+		
+		for (int i = 0; i < months_in_year; i++)
+		{
+			for (int j = month_starts[i]; j < month_starts[i + 1]; j++)
+			{
+				day_months[j] = (byte)i;
+			}
+		}
 	}
 	
 	
@@ -128,7 +169,9 @@ public class Solo_counter extends Time_counter implements Serializable
 	 * If field does&nbsp;not correspond to listed conditions
 	 * {@link InvalidObjectException} is thrown. */
 	private Period period_init;
-	/** <u>Текущие</u> значения в годах, месяцах и днях.
+	/** <u>Текущие</u> значения в годах, месяцах и днях. Is filled from
+	 * {@link #value_seconds} only when the&nbsp;object is serialized
+	 * (see&nbsp;{@link #writeObject(ObjectOutputStream)}).
 	 * 
 	 * @serial Верифицируется после десериализации.<br>
 	 * <i>Условия проверки.</i>
@@ -152,16 +195,31 @@ public class Solo_counter extends Time_counter implements Serializable
 	 * If field does&nbsp;not correspond to listed conditions
 	 * {@link InvalidObjectException} is thrown. */
 	private LocalTime duration_init;
-	/** <u>Текущие</u> значения в часах, минутах и секундах.
+	/** <u>Текущие</u> значения в часах, минутах и секундах. Is filled from
+	 * {@link #value_seconds} only when the&nbsp;object is serialized
+	 * (see&nbsp;{@link #writeObject(ObjectOutputStream)}).
 	 * 
 	 * @serial Верифицируется после десериализации. Не&nbsp;должен быть
 	 * {@code null}. При несоответствии условию генерируется исключение
 	 * {@link InvalidObjectException}. */
 	private LocalTime duration_passed;
 	
-	/** Represents tenth&#8209;of&#8209;second part for inner purposes. When
-	 * this field equals&nbsp;{@code 10}, {@link #thread_counter} runnable ticks
-	 * one&nbsp;second.
+	/** Current time&nbsp;counter value in seconds.
+	 * <ul><li><i>{@link Mode#M_stopwatch}.</i> Passed time. Is&nbsp;never
+	 * negative.</li>
+	 * <li><i>{@link Mode#M_countdown}.</i> Remaining time. Negative value
+	 * means time passed since zero was&nbsp;reached.</li></ul>
+	 * Absolute value <u>cannot</u> exceed
+	 * {@link #value_limit(Days_in_year)}. Years, months, days, hours, minutes
+	 * and seconds are obtained from this value according to
+	 * {@link #days_count}. */
+	private transient long value_seconds;
+	/** {@link #period_init} and {@link #duration_init} in seconds. */
+	private transient long initial_seconds;
+	
+	/** Represents tenth&#8209;of&#8209;second part counted before the&nbsp;last
+	 * pause. It is used to restore split&nbsp;second phase when
+	 * time&nbsp;counting is resumed.
 	 * 
 	 * @serial Must be in range <u>from&nbsp;{@code 0}&nbsp;to&nbsp;{@code 9}</u>
 	 * after deserialization. If condition <u>is&nbsp;not met</u>, field is set
@@ -182,13 +240,38 @@ public class Solo_counter extends Time_counter implements Serializable
 	 * time&nbsp;counting <u>was&nbsp;not</u> started yet.
 	 * 
 	 * @serial Deserialized value <u>does&nbsp;not</u>&nbsp;checked. */
-	private boolean counting_has_started;
+	private volatile boolean counting_has_started;
 	
-	/** Содержит поток, выполняющий ход времени. */
-	private transient Runnable thread_counter;
+	/** Index of this time&nbsp;counter in running time&nbsp;counters list
+	 * ticked by {@link Time_counter_control}. {@code -1} if time&nbsp;counter
+	 * is&nbsp;not in the&nbsp;list.<br>
+	 * <b>Warning!</b> Is managed by {@link Time_counter_control} only. */
+	transient int running_slot;
 	
-	/** Периодически выполняет поток {@link #thread_counter}. */
-	private transient ScheduledExecutorService thread_counter_executor;
+	/** {@code true}&nbsp;&#0151; time&nbsp;counter is running;
+	 * {@code false}&nbsp;&#0151; is paused. */
+	private transient volatile boolean running;
+	
+	/** The&nbsp;engine clock time&nbsp;counting is driven&nbsp;by. Is set when
+	 * time&nbsp;counting starts and when the&nbsp;engine clock is changed using
+	 * {@link Time_counter_control#set_clock(Clock)}. {@code null} if
+	 * time&nbsp;counting has&nbsp;never been started. Elapsed time is measured
+	 * on its timeline (see&nbsp;{@link #timeline_millis(Clock)}). */
+	private transient Clock anchor_clock;
+	/** {@link #anchor_clock} timeline instant in milliseconds, to which
+	 * the&nbsp;current time&nbsp;counter value corresponds. Is moved forward by
+	 * whole seconds when they are counted. */
+	private transient long anchor_millis;
+	/** Difference between {@link #anchor_clock} reading and its timeline
+	 * reading (see&nbsp;{@link #clock_offset()}) when the&nbsp;engine clock
+	 * jumps have&nbsp;been handled by this time&nbsp;counter last time.
+	 * Its change is the&nbsp;clock jump made since then. */
+	private transient long anchor_offset_millis;
+	/** Instant when running {@link Mode#M_countdown} time&nbsp;counter
+	 * reaches zero, queued in {@link Time_counter_control} expiry deadlines
+	 * index. {@code null} in {@link Mode#M_stopwatch} mode.<br>
+	 * <b>Warning!</b> Is (re)scheduled only by {@link #update_deadlines()}. */
+	private transient Deadline_index.Deadline zero_deadline;
 	
 	/** Флаг числового переполнения счетчика времени. {@code false}&nbsp;&#0151;
 	 * числового переполнения нет; счетчик времени работает в штатном режиме.
@@ -208,20 +291,24 @@ public class Solo_counter extends Time_counter implements Serializable
 	/** Regulates time&nbsp;counter value modify access.<br>
 	 * <i>Fields and methods access to which is synchronized by this lock
 	 * (<u>list can be incomplete</u>):</i>
-	 * <ul><li>{@link #period_passed};</li>
+	 * <ul><li>{@link #value_seconds};</li>
+	 * <li>{@link #period_passed};</li>
 	 * <li>{@link #duration_passed};</li>
 	 * <li>{@link #counting_has_started};</li>
+	 * <li>{@link #running};</li>
 	 * <li>{@link Time_counter#time_unit_values};</li>
 	 * <li>{@link #numeric_overflow} (except in
 	 * {@link #numeric_overflow_status()} method);</li>
 	 * <li>{@link #set_time_counter_value_sign(boolean)};</li>
 	 * <li>{@link Time_counter#is_positive_value()};</li>
+	 * <li>{@link #numeric_overflow_listeners};</li>
 	 * <li>{@link #start()}.</li></ul> */
 	private transient ReentrantLock modify_lock;
-	/** Synchronizes access to {@link #numeric_overflow_listeners}. */
-	private transient ReentrantLock event_lock;
 	
-	/** Contains listeners subscribed for numeric overflow event. */
+	/** Contains listeners subscribed for numeric overflow event. {@code null}
+	 * until the&nbsp;first subscription.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #modify_lock}. */
 	private transient ArrayList<Numeric_overflow_listener> numeric_overflow_listeners;
 	
 	/** {@code true} &#0151; {@link #shutdown()} method
@@ -234,11 +321,13 @@ public class Solo_counter extends Time_counter implements Serializable
 		tenth_of_second = 0;
 		counting_has_started = false;
 		set_time_counter_value_sign(true);
-		thread_counter_init();
+		running_slot = -1;
+		running = false;
 		numeric_overflow = false;
+		zero_deadline = (instance_mode.equals(Mode.M_countdown) ?
+				new Zero_deadline() : null);
 		modify_lock = new ReentrantLock();
-		event_lock = new ReentrantLock();
-		numeric_overflow_listeners = new ArrayList<>();
+		numeric_overflow_listeners = null;
 		is_shutdown = false;
 	}
 
@@ -306,8 +395,8 @@ public class Solo_counter extends Time_counter implements Serializable
 					+ Solo_counter.class.getName() + " class\'s constructor");
 		}
 		
-		period_passed = period_init;
-		duration_passed = duration_init;
+		initial_seconds = to_seconds(period_init, duration_init, days_count);
+		value_seconds = initial_seconds;
 		set_time_unit_values();
 		build_time_string();
 		Time_counter_control.get_instance().get_time_counters().add(this);
@@ -398,8 +487,8 @@ public class Solo_counter extends Time_counter implements Serializable
 					+ Solo_counter.class.getName() + " class\'s constructor");
 		}
 		
-		period_passed = period_init;
-		duration_passed = duration_init;
+		initial_seconds = to_seconds(period_init, duration_init, days_count);
+		value_seconds = initial_seconds;
 		set_time_unit_values();
 		build_time_string();
 		Time_counter_control.get_instance().get_time_counters().add(this);
@@ -439,52 +528,157 @@ public class Solo_counter extends Time_counter implements Serializable
 		}
 		
 		// Кол-во дней в объекте, который нормализуется
-		final int days = period.getDays();
+		final long days = to_days(period, count_mode);
+		// Кол-во дней в году согласно режиму подсчета
+		final int days_in_year = days_in_year(count_mode);
+		// Кол-во полных лет
+		final long years = days / days_in_year;
+		
+		// Если кол-во лет не помещается в объекте типа "Period"
+		if (years > Integer.MAX_VALUE)
+		{
+			throw new ArithmeticException("Normalized years value overflows int");
+		}
 		
-		period = period.normalized();
+		// Day of the incomplete year
+		final int day_of_year = (int)(days % days_in_year);
+		// Month of the incomplete year
+		final int month = month_of_day(day_of_year, count_mode);
 		
+		return Period.of((int)years, month,
+				day_of_year - month_start(month, count_mode));
+	}
+
+	
+	///// Methods private static ==========================================/////
+	/**
+	 * Returns the&nbsp;timeline reading elapsed time is measured on. It is
+	 * {@link Simulated_clock} reading in time&#8209;warp simulation mode, and
+	 * monotonic {@link System#nanoTime()} reading for any other clock, so
+	 * system time corrections are&nbsp;not counted by running time&nbsp;counters
+	 * and do&nbsp;not freeze them (detected corrections are handled according
+	 * to {@link Time_counter_control#get_clock_jump_policy()}).
+	 * 
+	 * @param clock The&nbsp;engine clock.
+	 * 
+	 * @return Timeline reading in milliseconds. Readings of different clocks
+	 * are&nbsp;not comparable.
+	 */
+	private static long timeline_millis(final Clock clock)
+	{
+		return (clock instanceof Simulated_clock ? clock.millis() :
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime()));
+	}
+	
+	
+	/**
+	 * @param count_mode Days&#8209;in&#8209;year/days&#8209;in&#8209;month
+	 * counting type.
+	 * 
+	 * @return Days in year according to {@code count_mode}.
+	 */
+	private static int days_in_year(final Days_in_year count_mode)
+	{
+		return (count_mode.equals(Days_in_year.DIY_360) ?
+				360 : month_starts[month_starts.length - 1]);
+	}
+	
+	
+	/**
+	 * @param month Month index (index of January&nbsp;-&nbsp;0).
+	 * 
+	 * @param count_mode Days&#8209;in&#8209;year/days&#8209;in&#8209;month
+	 * counting type.
+	 * 
+	 * @return Days passed from the&nbsp;beginning of year till
+	 * the&nbsp;beginning of {@code month}.
+	 */
+	private static int month_start(final int month, final Days_in_year count_mode)
+	{
 		// Кол-во дней в месяце, где год состоит из 360-и дней
 		final int days_in_month = 30;
 		
-		/* Если подсчет даты основывается на 360-и днях в году И кол-во дней в
-		 * дате отсчета времени больше 30 */
-		if (count_mode.equals(Days_in_year.DIY_360) && days > days_in_month)
-		{
-			period = Period.of(period.getYears(),
-					period.plusMonths(days / days_in_month).getMonths(),
-					days % days_in_month);
-			period = period.normalized();
-		}
-		// Если подсчет даты основывается на 365-и днях в году И ...
-		else if (count_mode.equals(Days_in_year.DIY_365) &&
-				/* ... кол-во дней в дате отсчета времени больше чем
-				 * дней в определенном (т.е. текущем) месяце */
-				days > month_sizes.get(period.getMonths()))
-		{
-			final int days_in_year = 365;  // Кол-во дней в году
-			
-			/* Если кол-во дней в дате отсчета больше, чем кол-во дней
-			 * в году */
-			if (days > days_in_year)
-			{
-				period = period.plusMonths(days / days_in_year).
-						minusDays(days % days_in_year).normalized();
-			}
-			
-			/* Пока кол-во дней в дате отсчета превышает кол-во дней в
-			 * определенном (т.е. текущем) месяце - будет происходить
-			 * корректировка даты (дни будут вычитаться в пользу месяцев) */
-			while (period.getDays() > month_sizes.get(period.getMonths()))
-			{
-				period = period.minusDays(month_sizes.get(period.getMonths()));
-				period = period.plusMonths(1);
-				period = period.normalized();
-			}
-		}
-
-		return period;
+		return (count_mode.equals(Days_in_year.DIY_360) ?
+				month * days_in_month : month_starts[month]);
 	}
-
+	
+	
+	/**
+	 * @param day_of_year Day of year index (index of the&nbsp;first day of
+	 * year&nbsp;-&nbsp;0). <u>Must</u> be less than
+	 * {@link #days_in_year(Days_in_year)}.
+	 * 
+	 * @param count_mode Days&#8209;in&#8209;year/days&#8209;in&#8209;month
+	 * counting type.
+	 * 
+	 * @return Index of month which {@code day_of_year} belongs&nbsp;to.
+	 */
+	private static int month_of_day(
+			final int day_of_year, final Days_in_year count_mode)
+	{
+		// Кол-во дней в месяце, где год состоит из 360-и дней
+		final int days_in_month = 30;
+		
+		return (count_mode.equals(Days_in_year.DIY_360) ?
+				day_of_year / days_in_month : day_months[day_of_year]);
+	}
+	
+	
+	/**
+	 * @param period Years, months and days values. <u>Must&nbsp;not</u> be
+	 * negative. Values <u>do&nbsp;not</u> need to be normalized.
+	 * 
+	 * @param count_mode Days&#8209;in&#8209;year/days&#8209;in&#8209;month
+	 * counting type.
+	 * 
+	 * @return Total days quantity.
+	 */
+	private static long to_days(
+			final Period period, final Days_in_year count_mode)
+	{
+		// Total months quantity
+		final long total_months = period.toTotalMonths();
+		// Months in year
+		final int months_in_year = month_sizes.size();
+		
+		return total_months / months_in_year * days_in_year(count_mode) +
+				month_start((int)(total_months % months_in_year), count_mode) +
+				period.getDays();
+	}
+	
+	
+	/**
+	 * @param period Years, months and days values. <u>Must&nbsp;not</u> be
+	 * negative. Values <u>do&nbsp;not</u> need to be normalized.
+	 * 
+	 * @param duration Hours, minutes and seconds values.
+	 * 
+	 * @param count_mode Days&#8209;in&#8209;year/days&#8209;in&#8209;month
+	 * counting type.
+	 * 
+	 * @return Total seconds quantity.
+	 */
+	private static long to_seconds(final Period period,
+			final LocalTime duration, final Days_in_year count_mode)
+	{
+		return to_days(period, count_mode) * seconds_in_day +
+				duration.toSecondOfDay();
+	}
+	
+	
+	/**
+	 * @param count_mode Days&#8209;in&#8209;year/days&#8209;in&#8209;month
+	 * counting type.
+	 * 
+	 * @return Maximum time&nbsp;value magnitude in seconds, years quantity of
+	 * which still fits into {@link Period}.
+	 */
+	private static long value_limit(final Days_in_year count_mode)
+	{
+		return ((long)Integer.MAX_VALUE + 1) * days_in_year(count_mode) *
+				seconds_in_day - 1;
+	}
+	
 	
 	///// Методы public экземпляра ========================================/////
 	/**
@@ -500,45 +694,15 @@ public class Solo_counter extends Time_counter implements Serializable
 	 */
 	public boolean start()
 	{
-		// If "shutdown()" method has been invoked already
-		if (is_shutdown)
+		// If time counting hasn't been started by this call
+		if (!start_counting(Time_counter_control.get_instance().get_clock()))
 		{
 			return false;
 		}
 		
-		try
-		{
-			modify_lock.lockInterruptibly();
-		}
-		catch (final InterruptedException exc)
-		{
-			logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
-			Thread.currentThread().interrupt();
-		}
+		Time_counter_control.get_instance().solo_counter_started(this);
 		
-		try
-		{
-			// Если (отсчет времени уже хотя бы раз запускался И ...
-			if ((thread_counter_executor != null &&
-					/* ... отсчет времени сейчас выполняется) ИЛИ счетчик
-					 * времени достиг максимально возможного значения */
-					!thread_counter_executor.isShutdown()) || numeric_overflow)
-			{
-				return false;
-			}
-			
-			thread_counter_executor =
-					Executors.newSingleThreadScheduledExecutor();
-			thread_counter_executor.scheduleAtFixedRate(thread_counter,
-					clock_frequency, clock_frequency, TimeUnit.MILLISECONDS);
-			counting_has_started = true;
-			
-			return true;
-		}
-		finally
-		{
-			modify_lock.unlock();
-		}
+		return true;
 	}
 	
 	
@@ -561,34 +725,13 @@ public class Solo_counter extends Time_counter implements Serializable
 		/* I didn't forget to check "is_shutdown" field value here. In this
 		 * implementation it's not needed */
 		
-		// Если отсчет времени ни разу не запускался
-		if (thread_counter_executor == null)
+		// If time counting hasn't been paused by this call
+		if (!pause_counting())
 		{
 			return false;
 		}
 		
-		thread_counter_executor.shutdown();
-		
-		try
-		{
-			thread_counter_executor.awaitTermination(
-					clock_frequency, TimeUnit.MILLISECONDS);
-		}
-		catch (final InterruptedException exc)
-		{
-			logger.log(Level.INFO, "Tread interrupts. Exception stack trace:", exc);
-			Thread.currentThread().interrupt();
-		}
-		finally
-		{
-			// Если поток не был остановлен в течении времени ожидания
-			if (!thread_counter_executor.isTerminated())
-			{
-				logger.log(Level.WARNING,
-						"Forcible thread termination due to long waiting");
-				thread_counter_executor.shutdownNow();
-			}
-		}
+		Time_counter_control.get_instance().solo_counter_paused(this);
 		
 		return true;
 	}
@@ -634,19 +777,25 @@ public class Solo_counter extends Time_counter implements Serializable
 				return;
 			}
 			
-			period_passed = period_init;
-			duration_passed = duration_init;
+			value_seconds = initial_seconds;
 			tenth_of_second = 0;
 			
 			// Если ход счетчика времени сейчас приостановлен
-			if (thread_counter_executor == null ||
-					thread_counter_executor.isShutdown())
+			if (!running)
 			{
 				counting_has_started = false;
 				numeric_overflow = false;
+				state_changed();
+			}
+			else
+			{
+				anchor_millis = timeline_millis(anchor_clock);
+				// Jumps made before restart do not concern new counting
+				anchor_offset_millis = clock_offset();
 			}
 
 			set_time_counter_value_sign(true);
+			update_deadlines();
 			set_time_unit_values();
 			build_time_string();
 			notify_time_counter_text_listeners();
@@ -699,12 +848,6 @@ public class Solo_counter extends Time_counter implements Serializable
 					"Correction seconds value is negative");
 		}
 		
-		/* Кол-во секунд, содержащихся в полях "period_passed" и
-		 * "duration_passed" */
-		long seconds_passed;
-		// Кол-во секунд в сутках
-		final long seconds_in_day = TimeUnit.DAYS.toSeconds(1);
-		
 		try
 		{
 			modify_lock.lockInterruptibly();
@@ -717,176 +860,13 @@ public class Solo_counter extends Time_counter implements Serializable
 		
 		try
 		{
-			// Если режимом подсчета установлено 30 дней в каждом месяце
-			if (days_count.equals(Days_in_year.DIY_360))
-			{
-				// Кол-во дней в месяце где год состоит из 360-и дней
-				final int days_in_month = 30;
-				
-				seconds_passed = (period_passed.toTotalMonths() * days_in_month +
-						period_passed.getDays()) * seconds_in_day;
-			}
-			/* Если режимом подсчета установлено кол-во дней в месяце,
-			 * соответствующее месяцу */
-			else
-			{
-				final int days_in_year = 365;  // Кол-во дней в году
-				
-				seconds_passed =
-						period_passed.getYears() * days_in_year * seconds_in_day;
-				
-				/* Добавление кол-ва секунд из каждого наступившего месяца поля
-				 * "period_passed" */
-				for (int i = 0, months = period_passed.getMonths(); i < months; i++)
-				{
-					seconds_passed += month_sizes.get(i) * seconds_in_day;
-				}
-			}
-			
-			seconds_passed += period_passed.getDays() * seconds_in_day +
-					duration_passed.toSecondOfDay();
-			
-			/* Скорректированное кол-во секунд, которое будет содержаться в полях
-			 * "period_passed" и "duration_passed" */
-			long seconds_corrected;
-			
-			// Если необходимо добавить время
-			if (add)
-			{
-				/* Если экземпляр класса работает в режиме секундомера ИЛИ это
-				 * режим таймера, и нулевое время уже было достигнуто */
-				if (instance_mode.equals(Mode.M_stopwatch) || !is_positive_value())
-				{
-					try
-					{
-						seconds_corrected =
-								Math.addExact(seconds_passed, seconds_amount);
-					}
-					catch (final ArithmeticException exc)
-					{
-						return false;
-					}
-				}
-				/* Фактически время отнимается, т.к. это режим таймера и нулевое
-				 * время еще не было достигнуто */
-				else
-				{
-					seconds_corrected = seconds_passed - seconds_amount;
-					
-					/* Если в результате корректировки времени была пересечена
-					 * нулевая точка времени */
-					if (seconds_corrected < 0)
-					{
-						set_time_counter_value_sign(false);
-						seconds_corrected = Math.abs(seconds_corrected);
-					}
-				}
-			}
-			else
-			{
-				/* Если экземпляр класса работает в режиме секундомера ИЛИ это
-				 * режим таймера, и нулевое время уже было достигнуто */
-				if (instance_mode.equals(Mode.M_stopwatch) || !is_positive_value())
-				{
-					seconds_corrected = seconds_passed - seconds_amount;
-					
-					/* Если в результате корректировки времени было пересечено
-					 * нулевое время И экземпляр класса работает в режиме
-					 * секундомера */
-					if (seconds_corrected <= 0 &&
-							instance_mode.equals(Mode.M_stopwatch))
-					{
-						period_passed = Period.of(0, 0, 0);
-						duration_passed = LocalTime.of(0, 0, 0);
-						set_time_unit_values();
-						build_time_string();
-						notify_time_counter_text_listeners();
-						
-						return true;
-					}
-					/* Если в результате корректировки времени было пересечено
-					 * нулевое время И экземпляр класса работает в режиме таймера */
-					else if (seconds_passed < 0 &&
-							instance_mode.equals(Mode.M_countdown))
-					{
-						set_time_counter_value_sign(true);
-						seconds_corrected = Math.abs(seconds_corrected);
-					}
-				}
-				/* Фактически время добавляется, т.к. это режим таймера и нулевое
-				 * время еще не было достигнуто */
-				else
-				{
-					try
-					{
-						seconds_corrected =
-								Math.addExact(seconds_passed, seconds_amount);
-					}
-					catch (final ArithmeticException exc)
-					{
-						return false;
-					}
-				}
-			}
-			
-			// Кол-во полных дней, получившееся из скорректированного кол-ва секунд
-			final long total_days = seconds_corrected / seconds_in_day;
-			/* Сохранение старого значения лет/месяцев/дней перед нормализацией
-			 * на случай исключения */
-			final Period buffer = period_passed;
-			
-			/* Если получившееся кол-во полных дней больше макс. числа,
-			 * помещающегося в int */
-			if (total_days > Integer.MAX_VALUE)
+			// If the result is too big
+			if (!shift_value(seconds_amount, add))
 			{
-				// Кол-во дней в году согласно режиму подсчета времени экземпляра
-				final int days_in_year =
-						(days_count.equals(Days_in_year.DIY_360) ? 360 : 365);
-				// Кол-во полных лет, получившееся из кол-ва полных дней "total_days"
-				final long total_years = total_days / days_in_year;
-				
-				/* Если получившееся кол-во полных лет больше макс. числа
-				 * помещающегося в int */
-				if (total_years > Integer.MAX_VALUE)
-				{
-					return false;
-				}
-				
-				period_passed = Period.of(
-						(int)total_years, 0, (int)(total_days % days_in_year));
-			}
-			else
-			{
-				period_passed = Period.of(0, 0, (int)total_days);
-			}
-			
-			try
-			{
-				period_passed = normalize_period_obj(period_passed, days_count);
-			}
-			catch (final ArithmeticException exc)
-			{
-				period_passed = buffer;
-				
 				return false;
 			}
 			
-			// Кол-во секунд в оставшихся неполных сутках
-			int day_seconds = (int)(seconds_corrected % seconds_in_day);
-			// Секунд в одном часе
-			final int seconds_in_hour = (int)TimeUnit.HOURS.toSeconds(1);
-			// Adjusted hours quantity
-			final int hours = day_seconds / seconds_in_hour;
-			
-			day_seconds %= seconds_in_hour;
-			
-			// Кол-во минут в часе
-			final int minutes_in_hour = (int)TimeUnit.HOURS.toMinutes(1);
-			// Скорректированное кол-во минут
-			final int minutes = day_seconds / minutes_in_hour;
-			
-			duration_passed =
-					LocalTime.of(hours, minutes, day_seconds % minutes_in_hour);
+			update_deadlines();
 			set_time_unit_values();
 			build_time_string();
 			notify_time_counter_text_listeners();
@@ -924,13 +904,7 @@ public class Solo_counter extends Time_counter implements Serializable
 	 */
 	public boolean is_running()
 	{
-		// If time counter is running
-		if (thread_counter_executor != null && !thread_counter_executor.isShutdown())
-		{
-			return true;
-		}
-		
-		return false;
+		return running;
 	}
 	
 	
@@ -971,7 +945,7 @@ public class Solo_counter extends Time_counter implements Serializable
 	 * there&nbsp;is no&nbsp;need to receive such event. Such action reduces
 	 * resource usage and prevents resource leaks.</li>
 	 * <li>However when removing the&nbsp;time&nbsp;counter object from
-	 * {@link Modified_ArrayList}, obtained by
+	 * {@link Time_counter_registry}, obtained by
 	 * {@link Time_counter_control#get_time_counters()} method, <u>all</u> its
 	 * listeners removed automatically.</li></ul>
 	 * <i>Performance note.</i> Contains synchronized sections. Synchronized
@@ -995,7 +969,7 @@ public class Solo_counter extends Time_counter implements Serializable
 		
 		try
 		{
-			event_lock.lockInterruptibly();
+			modify_lock.lockInterruptibly();
 		}
 		catch (final InterruptedException exc)
 		{
@@ -1005,11 +979,17 @@ public class Solo_counter extends Time_counter implements Serializable
 		
 		try
 		{
+			// If this is the first subscription
+			if (numeric_overflow_listeners == null)
+			{
+				numeric_overflow_listeners = new ArrayList<>(1);
+			}
+			
 			numeric_overflow_listeners.add(listener);
 		}
 		finally
 		{
-			event_lock.unlock();
+			modify_lock.unlock();
 		}
 	}
 	
@@ -1043,7 +1023,7 @@ public class Solo_counter extends Time_counter implements Serializable
 		
 		try
 		{
-			event_lock.lockInterruptibly();
+			modify_lock.lockInterruptibly();
 		}
 		catch (final InterruptedException exc)
 		{
@@ -1053,11 +1033,12 @@ public class Solo_counter extends Time_counter implements Serializable
 		
 		try
 		{
-			return numeric_overflow_listeners.remove(listener);
+			return numeric_overflow_listeners != null &&
+					numeric_overflow_listeners.remove(listener);
 		}
 		finally
 		{
-			event_lock.unlock();
+			modify_lock.unlock();
 		}
 	}
 	
@@ -1076,16 +1057,17 @@ public class Solo_counter extends Time_counter implements Serializable
 	@Override
 	public void shutdown()
 	{
+		is_shutdown = true;
 		pause();
-		event_lock.lock();
+		modify_lock.lock();
 		
 		try
 		{
-			numeric_overflow_listeners.clear();
+			numeric_overflow_listeners = null;
 		}
 		finally
 		{
-			event_lock.unlock();
+			modify_lock.unlock();
 		}
 		
 		super.shutdown();
@@ -1105,72 +1087,496 @@ public class Solo_counter extends Time_counter implements Serializable
 	}
 	
 	
-	///// Методы private экземпляра =======================================/////
-	/**
-	 * Устанавливает значения в контейнер {@link Time_counter#time_unit_values}.<br>
-	 * 
-	 * @exception NullPointerException Если {@link #period_passed} или
-	 * {@link #duration_passed} ссылается на {@code null}.
-	 */
-	private void set_time_unit_values()
-	{
-		time_unit_values.put(
-				Time_unit_name.TUN_years, (long)period_passed.getYears());
-		time_unit_values.put(
-				Time_unit_name.TUN_months, (long)period_passed.getMonths());
-		time_unit_values.put(
-				Time_unit_name.TUN_days, (long)period_passed.getDays());
-		time_unit_values.put(
-				Time_unit_name.TUN_hours, (long)duration_passed.getHour());
-		time_unit_values.put(
-				Time_unit_name.TUN_minutes, (long)duration_passed.getMinute());
-		time_unit_values.put(
-				Time_unit_name.TUN_seconds, (long)duration_passed.getSecond());
-	}
-	
-	
+	///// Methods default-access of-instance ==============================/////
 	/**
-	 * Отвечает за десериализацию, создание безопасных копий критических полей
-	 * и их проверку.
-	 * 
-	 * @param input_stream Входной поток, из которого извлекается экземпляр
-	 * класса.
-	 * 
-	 * @throws IOException Ошибка в работе входящего потока.
+	 * Changes time&nbsp;counter state to running. Unlike {@link #start()}
+	 * <u>does&nbsp;not</u> add time&nbsp;counter to {@link Time_counter_control}
+	 * running time&nbsp;counters list. It is caller's responsibility.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
 	 * 
-	 * @throws ClassNotFoundException Класс сериализованного объекта
-	 * не&nbsp;определен.
+	 * @param clock Clock to count time according&nbsp;to. The&nbsp;same clock
+	 * is passed when group of time&nbsp;counters is started with a&nbsp;view
+	 * to read it&nbsp;once.
 	 * 
-	 * @exception InvalidObjectException Поле десериализованного объекта
-	 * не&nbsp;прошло валидацию.
+	 * @return {@code true}&nbsp;&#0151; time&nbsp;counting is started by this
+	 * call; {@code false}&nbsp;&#0151; otherwise (see {@link #start()}).
 	 */
-	private void readObject(final ObjectInputStream input_stream)
-			throws IOException, ClassNotFoundException
+	boolean start_counting(final Clock clock)
 	{
-		input_stream.defaultReadObject();
-		
-		// Если данные поля после десериализации ссылаются на null
-		if (days_count == null || period_passed == null || duration_passed == null)
+		// If "shutdown()" method has been invoked already
+		if (is_shutdown)
 		{
-			throw new InvalidObjectException(
-					"At least one of deserialized fields is null");
+			return false;
 		}
-
-		parameters_verifying(false);
 		
 		try
 		{
-			period_passed = normalize_period_obj(period_passed, days_count);
+			modify_lock.lockInterruptibly();
 		}
-		catch (final ArithmeticException exc)
+		catch (final InterruptedException exc)
 		{
-			logger.log(Level.SEVERE, "Deserialized object has incorrect "
-					+ Period.class.getName() + " field which causes"
-					+ " numeric overflow. Deserialized object cannot be used."
-					+ " Exception stack trace:", exc);
-			throw new InvalidObjectException("Numeric overflow occurred while"
-					+ " normalizing deserialized Period type object");
+			logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
+			Thread.currentThread().interrupt();
+		}
+		
+		try
+		{
+			/* If time counting is running already OR time counter has reached
+			 * maximum possible value */
+			if (running || numeric_overflow)
+			{
+				return false;
+			}
+			
+			anchor_clock = clock;
+			anchor_millis = timeline_millis(clock) - tenth_of_second * 100L;
+			anchor_offset_millis = clock_offset();
+			running = true;
+			counting_has_started = true;
+			state_changed();
+			update_deadlines();
+			
+			return true;
+		}
+		finally
+		{
+			modify_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Changes time&nbsp;counter state to paused counting time passed till
+	 * this moment. Unlike {@link #pause()} <u>does&nbsp;not</u> remove
+	 * time&nbsp;counter from {@link Time_counter_control} running
+	 * time&nbsp;counters list. It is caller's responsibility.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @return {@code true}&nbsp;&#0151; time&nbsp;counting is paused by this
+	 * call; {@code false}&nbsp;&#0151; time&nbsp;counter is paused already.
+	 */
+	boolean pause_counting()
+	{
+		modify_lock.lock();
+		
+		try
+		{
+			// If time counter is paused already
+			if (!running)
+			{
+				return false;
+			}
+			
+			// If there is counted time to catch up with
+			if (!numeric_overflow)
+			{
+				// The clock jump not detected by the engine yet
+				final long jump_millis = clock_offset() - anchor_offset_millis;
+				
+				/* If the jump is made while time counter was running, it is
+				 * handled now since paused time counter ignores it */
+				if (Math.abs(jump_millis) >= Time_counter_control.get_instance()
+						.get_clock_jump_threshold().toMillis())
+				{
+					handle_clock_jump(Time_counter_control.get_instance()
+							.get_clock_jump_policy());
+				}
+				
+				catch_up();
+				
+				// If numeric overflow occurred while catching up
+				if (!running)
+				{
+					return true;
+				}
+				
+				// Split second part counted since the last whole second
+				final long split_second =
+						timeline_millis(anchor_clock) - anchor_millis;
+				
+				tenth_of_second = (split_second > 0 && split_second < 1000 ?
+						(int)(split_second / 100) : 0);
+			}
+			
+			running = false;
+			state_changed();
+			update_deadlines();
+			
+			return true;
 		}
+		finally
+		{
+			modify_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Counts time passed since the&nbsp;last counted second if time&nbsp;counter
+	 * is running. Is performed periodically by {@link Time_counter_control}
+	 * engine scheduler and synchronously when {@link Simulated_clock} is
+	 * moved.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 */
+	void clock_tick()
+	{
+		clock_tick(false);
+	}
+	
+	
+	/**
+	 * Counts time passed since the&nbsp;last counted second if time&nbsp;counter
+	 * is running. Is performed periodically by {@link Time_counter_control}
+	 * engine scheduler.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param replay {@code true}&nbsp;&#0151; if more than one second is
+	 * to be counted, listeners are notified about each intermediate value
+	 * (see&nbsp;{@link Missed_tick_policy#MTP_replay});
+	 * {@code false}&nbsp;&#0151; all seconds are counted at&nbsp;once.
+	 */
+	void clock_tick(final boolean replay)
+	{
+		try
+		{
+			modify_lock.lockInterruptibly();
+		}
+		catch (final InterruptedException exc)
+		{
+			logger.log(Level.INFO, "Tread interrupts. Exception stack trace:", exc);
+			Thread.currentThread().interrupt();
+		}
+		
+		try
+		{
+			// If time counter is running
+			if (running)
+			{
+				catch_up(replay);
+			}
+		}
+		finally
+		{
+			modify_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Counts time passed on the&nbsp;previous clock and makes running
+	 * time&nbsp;counter count time according to {@code new_clock} keeping
+	 * split&nbsp;second phase. Does&nbsp;nothing if time&nbsp;counter
+	 * is&nbsp;paused (the&nbsp;engine clock is obtained when it starts).<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param new_clock Clock to count time according&nbsp;to.
+	 */
+	void rebase_clock(final Clock new_clock)
+	{
+		modify_lock.lock();
+		
+		try
+		{
+			// If time counter is paused or already uses the clock
+			if (!running || anchor_clock == new_clock)
+			{
+				return;
+			}
+			
+			catch_up();
+			
+			// Split second part counted on the previous clock
+			final long split_second =
+					timeline_millis(anchor_clock) - anchor_millis;
+			
+			anchor_clock = new_clock;
+			anchor_millis = timeline_millis(new_clock) -
+					(split_second > 0 && split_second < 1000 ? split_second : 0);
+			anchor_offset_millis = clock_offset();
+			update_deadlines();
+		}
+		finally
+		{
+			modify_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Handles the&nbsp;engine clock jump according to {@code policy} (see
+	 * {@link #handle_clock_jump(Clock_jump_policy)}) and reschedules deadlines
+	 * according to the&nbsp;new clock reading. Does&nbsp;nothing if
+	 * time&nbsp;counter is&nbsp;paused.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 *
+	 * @param policy The&nbsp;way the&nbsp;jump is handled.
+	 */
+	void clock_jumped(final Clock_jump_policy policy)
+	{
+		modify_lock.lock();
+		
+		try
+		{
+			// If time counter is paused
+			if (!running)
+			{
+				return;
+			}
+			
+			handle_clock_jump(policy);
+			update_deadlines();
+		}
+		finally
+		{
+			modify_lock.unlock();
+		}
+	}
+	
+
+	/**
+	 * @return Instant when running time&nbsp;counter value reaches
+	 * {@code threshold_seconds}: counted time for {@link Mode#M_stopwatch}
+	 * and remaining time for {@link Mode#M_countdown}.
+	 * {@link Long#MIN_VALUE} if time&nbsp;counter is paused or
+	 * the&nbsp;threshold is already passed.<br>
+	 * <b>Warning!</b> {@link #modify_lock} must be held by the&nbsp;caller.
+	 */
+	@Override
+	long threshold_due_millis(final long threshold_seconds)
+	{
+		// If time counter is paused
+		if (!running)
+		{
+			return Long.MIN_VALUE;
+		}
+		
+		// If stopwatch hasn't reached the threshold yet
+		if (instance_mode.equals(Mode.M_stopwatch) &&
+				value_seconds < threshold_seconds)
+		{
+			return clock_millis(
+					anchor_millis + (threshold_seconds - value_seconds) * 1000);
+		}
+		
+		// If countdown hasn't reached the threshold yet
+		if (instance_mode.equals(Mode.M_countdown) &&
+				value_seconds > threshold_seconds)
+		{
+			return clock_millis(
+					anchor_millis + (value_seconds - threshold_seconds) * 1000);
+		}
+		
+		return Long.MIN_VALUE;
+	}
+	
+	
+	/**
+	 * Calls {@link #schedule_thresholds()} holding {@link #modify_lock}.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 */
+	@Override
+	void reschedule_thresholds()
+	{
+		modify_lock.lock();
+		
+		try
+		{
+			schedule_thresholds();
+		}
+		finally
+		{
+			modify_lock.unlock();
+		}
+	}
+	
+	
+	///// Методы private экземпляра =======================================/////
+	/**
+	 * Устанавливает значения в контейнер {@link Time_counter#time_unit_values}
+	 * according to {@link #value_seconds}.
+	 */
+	private void set_time_unit_values()
+	{
+		// Time value magnitude
+		final long magnitude = Math.abs(value_seconds);
+		// Whole days quantity
+		final long days = magnitude / seconds_in_day;
+		// Seconds of the incomplete day
+		final int day_seconds = (int)(magnitude % seconds_in_day);
+		// Кол-во дней в году согласно режиму подсчета
+		final int days_in_year = days_in_year(days_count);
+		// Day of the incomplete year
+		final int day_of_year = (int)(days % days_in_year);
+		// Month of the incomplete year
+		final int month = month_of_day(day_of_year, days_count);
+		
+		set_time_unit_values(days / days_in_year, month,
+				day_of_year - month_start(month, days_count), day_seconds / 3600,
+				day_seconds / 60 % 60, day_seconds % 60);
+	}
+	
+	
+	/**
+	 * {@link #time_values_correction(long, boolean)} and {@link #catch_up()}
+	 * auxiliary. Adds or subtracts (depending on {@code add} argument) passed
+	 * {@code seconds_amount} time&nbsp;amount to/from {@link #value_seconds},
+	 * and changes time&nbsp;value sign when countdown crosses zero.
+	 * Neither {@link Time_counter#time_unit_values} nor text&nbsp;string are
+	 * updated.<br>
+	 * <b>Warning!</b> {@link #modify_lock} must be held by the&nbsp;caller.
+	 * 
+	 * @param seconds_amount Correction time&nbsp;amount in seconds.
+	 * <u>Cannot</u> be negative.
+	 * 
+	 * @param add {@code true} &#0151; time&nbsp;amount addition;
+	 * {@code false}&nbsp;&#0151; subtraction.
+	 * 
+	 * @return {@code true} &#0151; operation succeed; {@code false}&nbsp;&#0151;
+	 * addition/subtraction result is too&nbsp;big (former time&nbsp;value
+	 * remains in this case).
+	 */
+	private boolean shift_value(final long seconds_amount, final boolean add)
+	{
+		// Maximum time value magnitude
+		final long limit = value_limit(days_count);
+		
+		// Если экземпляр класса работает в режиме секундомера
+		if (instance_mode.equals(Mode.M_stopwatch))
+		{
+			// Если необходимо добавить время
+			if (add)
+			{
+				// If the result is too big
+				if (seconds_amount > limit - value_seconds)
+				{
+					return false;
+				}
+				
+				value_seconds += seconds_amount;
+			}
+			/* Subtraction of bigger than time counter value results in its
+			 * zeroing */
+			else
+			{
+				value_seconds = (seconds_amount < value_seconds ?
+						value_seconds - seconds_amount : 0);
+			}
+			
+			return true;
+		}
+		
+		/* Countdown remaining time decreases when time is added and increases
+		 * when time is subtracted */
+		if (add)
+		{
+			// If the result is too big
+			if (seconds_amount > limit + value_seconds)
+			{
+				return false;
+			}
+			
+			value_seconds -= seconds_amount;
+		}
+		else
+		{
+			// If the result is too big
+			if (seconds_amount > limit - value_seconds)
+			{
+				return false;
+			}
+			
+			value_seconds += seconds_amount;
+		}
+		
+		// Value sign according to the result
+		final boolean is_positive = value_seconds >= 0;
+		
+		// If zero time is crossed
+		if (is_positive != is_positive_value())
+		{
+			set_time_counter_value_sign(is_positive);
+		}
+		
+		return true;
+	}
+	
+	
+	/**
+	 * Auxiliary for serialization. Fills {@link #period_passed} and
+	 * {@link #duration_passed} fields according to {@link #value_seconds}
+	 * before default serialization.
+	 * 
+	 * @param output_stream Output stream to write the&nbsp;object&nbsp;to.
+	 * 
+	 * @throws IOException Output stream error.
+	 */
+	private void writeObject(final ObjectOutputStream output_stream)
+			throws IOException
+	{
+		modify_lock.lock();
+		
+		try
+		{
+			// If numeric overflow occurred
+			if (numeric_overflow)
+			{
+				period_passed = Period.of(Integer.MAX_VALUE, 11,
+						days_count.equals(Days_in_year.DIY_360) ? 31 : 32);
+				duration_passed = LocalTime.of(0, 0, 0);
+			}
+			else
+			{
+				// Time value magnitude
+				final long magnitude = Math.abs(value_seconds);
+				// Whole days quantity
+				final long days = magnitude / seconds_in_day;
+				// Кол-во дней в году согласно режиму подсчета
+				final int days_in_year = days_in_year(days_count);
+				
+				period_passed = normalize_period_obj(Period.of(
+						(int)(days / days_in_year), 0, (int)(days % days_in_year)),
+						days_count);
+				duration_passed = LocalTime.ofSecondOfDay(magnitude % seconds_in_day);
+			}
+			
+			output_stream.defaultWriteObject();
+		}
+		finally
+		{
+			modify_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Отвечает за десериализацию, создание безопасных копий критических полей
+	 * и их проверку.
+	 * 
+	 * @param input_stream Входной поток, из которого извлекается экземпляр
+	 * класса.
+	 * 
+	 * @throws IOException Ошибка в работе входящего потока.
+	 * 
+	 * @throws ClassNotFoundException Класс сериализованного объекта
+	 * не&nbsp;определен.
+	 * 
+	 * @exception InvalidObjectException Поле десериализованного объекта
+	 * не&nbsp;прошло валидацию.
+	 */
+	private void readObject(final ObjectInputStream input_stream)
+			throws IOException, ClassNotFoundException
+	{
+		input_stream.defaultReadObject();
+		
+		// Если данные поля после десериализации ссылаются на null
+		if (days_count == null || period_passed == null || duration_passed == null)
+		{
+			throw new InvalidObjectException(
+					"At least one of deserialized fields is null");
+		}
+
+		parameters_verifying(false);
+		initial_seconds = to_seconds(period_init, duration_init, days_count);
 		
 		// Stopwatch mode time value can be only positive
 		if (instance_mode.equals(Mode.M_stopwatch))
@@ -1185,10 +1591,11 @@ public class Solo_counter extends Time_counter implements Serializable
 			deserialization_status = false;
 		}
 		
-		thread_counter_init();
+		running_slot = -1;
+		zero_deadline = (instance_mode.equals(Mode.M_countdown) ?
+				new Zero_deadline() : null);
 		modify_lock = new ReentrantLock();
-		event_lock = new ReentrantLock();
-		numeric_overflow_listeners = new ArrayList<>();
+		numeric_overflow_listeners = null;
 		is_shutdown = false;
 		
 		/* Если счетчик времени переполнен - выясняется действительно ли это
@@ -1198,7 +1605,7 @@ public class Solo_counter extends Time_counter implements Serializable
 			/* Кол-во дней в последнем (12-м) месяце, вызывающее переполнение.
 			 * Зависит от режима подсчета дней экземпляра */
 			final int days_overload =
-					(instance_mode.equals(Days_in_year.DIY_360) ? 31 : 32);
+					(days_count.equals(Days_in_year.DIY_360) ? 31 : 32);
 
 			/* Если значение счетчика времени не соответствует максимально
 			 * возможному значению (значению которое привело к числовому
@@ -1211,11 +1618,32 @@ public class Solo_counter extends Time_counter implements Serializable
 						+ " overflow flag and time counter value");
 			}
 			
+			value_seconds = (is_positive_value() ?
+					value_limit(days_count) : -value_limit(days_count));
 			build_time_string(
-					time_counter_resources.getString("numeric_overflow_mark"));
+					Layout_profile.time_counter_resources.getString("numeric_overflow_mark"));
 		}
 		else
 		{
+			// Если значения лет/месяцев/дней отрицательные
+			if (period_passed.isNegative())
+			{
+				throw new InvalidObjectException(
+						"Deserialized Period type object is negative");
+			}
+			
+			// Time value magnitude
+			final long magnitude =
+					to_seconds(period_passed, duration_passed, days_count);
+			
+			// If time value is too big
+			if (magnitude > value_limit(days_count))
+			{
+				throw new InvalidObjectException("Numeric overflow occurred while"
+						+ " normalizing deserialized Period type object");
+			}
+			
+			value_seconds = (is_positive_value() ? magnitude : -magnitude);
 			set_time_unit_values();
 			build_time_string();
 		}
@@ -1402,193 +1830,208 @@ public class Solo_counter extends Time_counter implements Serializable
 	
 	
 	/**
-	 * Инициализирует поле {@link #thread_counter}.
+	 * Counts whole seconds passed on {@link #anchor_clock} timeline since
+	 * the&nbsp;last counted second, updates time&nbsp;value and notifies
+	 * listeners. More
+	 * than one second is counted at&nbsp;once (with the&nbsp;same single
+	 * addition) if executions were delayed or the&nbsp;clock has&nbsp;been
+	 * moved forward.<br>
+	 * <b>Warning!</b> {@link #modify_lock} must be held by the&nbsp;caller.
+	 */
+	private void catch_up()
+	{
+		catch_up(false);
+	}
+	
+	
+	/**
+	 * Counts whole seconds passed on {@link #anchor_clock} timeline since
+	 * the&nbsp;last counted second, updates time&nbsp;value and notifies
+	 * listeners.<br>
+	 * <b>Warning!</b> {@link #modify_lock} must be held by the&nbsp;caller.
+	 * 
+	 * @param replay {@code true}&nbsp;&#0151; if more than one second is
+	 * to be counted, seconds are counted one by one and listeners are notified
+	 * about each intermediate value; {@code false}&nbsp;&#0151; all seconds
+	 * are counted at&nbsp;once.
 	 */
-	private void thread_counter_init()
+	private void catch_up(final boolean replay)
 	{
-		thread_counter = new Runnable()
+		// Current timeline instant
+		final long now_millis = timeline_millis(anchor_clock);
+		// Time passed since the last counted second
+		final long passed_millis = now_millis - anchor_millis;
+		
+		/* If there is no whole second to count (time counters do not count
+		 * backward if simulated clock is moved back) */
+		if (passed_millis < 1000)
 		{
-			@Override
-			public void run()
+			return;
+		}
+		
+		// Whole seconds to count
+		final long seconds = passed_millis / 1000;
+		// Seconds counted by single addition
+		final long step = replay ? 1 : seconds;
+		
+		for (long counted = 0; counted < seconds; counted += step)
+		{
+			anchor_millis += step * 1000;
+			
+			// If the result is too big
+			if (!shift_value(step, true))
 			{
-				// If there is no full second cycle passed yet
-				if (++tenth_of_second != 10)
-				{
-					return;
-				}
-				
-				tenth_of_second = 0;
+				numeric_overflow_occurred();
 				
-				try
-				{
-					modify_lock.lockInterruptibly();
-				}
-				catch (final InterruptedException exc)
-				{
-					logger.log(Level.INFO, "Tread interrupts. Exception stack trace:", exc);
-					Thread.currentThread().interrupt();
-				}
-				
-				try
-				{
-					/* Если экземпляр класса работает в режиме секундомера ИЛИ
-					 * это режим таймера, и нулевое время уже было достигнуто */
-					if (instance_mode.equals(Mode.M_stopwatch) || !is_positive_value())
-					{
-						duration_passed = duration_passed.plusSeconds(1);
-						
-						// Если суточное время обнулилось (наступило 0:00:00)
-						if (duration_passed.toSecondOfDay() == 0)
-						{
-							period_passed = period_passed.plusDays(1);
-							
-							try
-							{
-								period_passed = normalize_period_obj(
-										period_passed, days_count);
-							}
-							catch(final ArithmeticException exc)
-							{
-								numeric_overflow = true;
-								build_time_string(
-										time_counter_resources.getString(
-												"numeric_overflow_mark"));
-								pause();
-								notify_numeric_overflow_listeners();
-								
-								return;
-							}
-						}
-					}
-					// Instance works in timer mode and zero time isn't reached yet
-					else
-					{
-						duration_passed = duration_passed.minusSeconds(1);
-						
-						/* Время в секундах, соответствующее 23:59:59 в суточном
-						 * эквиваленте (24часа * 60минут * 60секунд - 1секунда) */
-						final long one_second_less = TimeUnit.DAYS.toSeconds(1) - 1;
-						
-						// Если суточное время - 23:59:59
-						if (duration_passed.toSecondOfDay() == one_second_less)
-						{
-							period_passed = period_passed.minusDays(1);
-							
-							/* Кол-во оставшихся месяцев в значении таймера
-							 * обратного отсчета */
-							final int months_remain = period_passed.getMonths();
-							/* Кол-во оставшихся лет в значении таймера
-							 * обратного отсчета */
-							final int years_remain = period_passed.getYears();
-							
-							/* If days quantity became negative in the result of
-							 * decrement */
-							if (period_passed.getDays() == -1)
-							{
-								// If months OR years quantity is still positive
-								if (months_remain > 0 || years_remain > 0)
-								{
-									/* Если подсчет даты основывается на 360-и днях
-									 * в году */
-									if (days_count.equals(Days_in_year.DIY_360))
-									{
-										period_passed = period_passed.plusDays(31);
-									}
-									else
-									{
-										period_passed = period_passed.plusDays(
-												month_sizes.get(months_remain - 1) + 1);
-									}
-									
-									period_passed = period_passed.minusMonths(1);
-									period_passed = period_passed.normalized();
-								}
-								else
-								{
-									duration_passed = duration_passed.plusSeconds(2);
-									period_passed = period_passed.plusDays(1);
-									set_time_counter_value_sign(false);
-									notify_time_elapsed_listeners();
-								}
-							}
-						}
-					}
-					
-					set_time_unit_values();
-					build_time_string();
-					notify_time_counter_text_listeners();
-				}
-				finally
-				{
-					modify_lock.unlock();
-				}
+				return;
 			}
-		};
+			
+			set_time_unit_values();
+			value_flipped(anchor_millis, now_millis);
+			notify_time_counter_text_listeners();
+		}
 	}
 	
 	
 	/**
-	 * Notifies listeners subscribed via {@link Numeric_overflow_listener}
-	 * interface about numeric overflow occurred.<br>
-	 * <i>Performance note.</i> Contains synchronized sections. Synchronized
-	 * with:
-	 * <ul><li>{@link #add_Numeric_overflow_listener(Numeric_overflow_listener)};</li>
-	 * <li>{@link #remove_Numeric_overflow_listener(Numeric_overflow_listener)}.</li></ul>
+	 * Converts {@link #anchor_clock} timeline instant to the&nbsp;engine clock
+	 * instant, which expiry deadlines are compared&nbsp;with.<br>
+	 * <b>Warning!</b> {@link #modify_lock} must be held by the&nbsp;caller.
+	 * 
+	 * @param timeline_instant Timeline instant in milliseconds
+	 * (see&nbsp;{@link #timeline_millis(Clock)}).
+	 * 
+	 * @return The&nbsp;engine clock instant in milliseconds from
+	 * the&nbsp;epoch.
 	 */
-	private void notify_numeric_overflow_listeners()
+	private long clock_millis(final long timeline_instant)
 	{
-		try
+		return timeline_instant + clock_offset();
+	}
+	
+	
+	/**
+	 * <b>Warning!</b> {@link #modify_lock} must be held by the&nbsp;caller.
+	 * 
+	 * @return Difference in milliseconds between {@link #anchor_clock} reading
+	 * and its timeline reading (see&nbsp;{@link #timeline_millis(Clock)}).
+	 * Is changed only by the&nbsp;clock jumps; always {@code 0} for
+	 * {@link Simulated_clock}.
+	 */
+	private long clock_offset()
+	{
+		return anchor_clock.millis() - timeline_millis(anchor_clock);
+	}
+	
+	
+	/**
+	 * Handles the&nbsp;engine clock jump made since {@link #anchor_offset_millis}
+	 * has&nbsp;been taken. Elapsed time is measured on monotonic timeline which
+	 * the&nbsp;jump does&nbsp;not affect, so counted forward jump is added by
+	 * moving {@link #anchor_millis} back by the&nbsp;jump amount; skipped or
+	 * backward jump is&nbsp;not counted at&nbsp;all. Only the&nbsp;jump made
+	 * while time&nbsp;counter was running is handled: jumps made before
+	 * the&nbsp;counting has&nbsp;been started, restarted or rebased to another
+	 * clock are ignored.<br>
+	 * <b>Warning!</b> {@link #modify_lock} must be held by the&nbsp;caller.
+	 * 
+	 * @param policy The&nbsp;way the&nbsp;jump is handled.
+	 */
+	private void handle_clock_jump(final Clock_jump_policy policy)
+	{
+		// Current clock offset
+		final long offset = clock_offset();
+		// The jump not handled yet
+		final long jump_millis = offset - anchor_offset_millis;
+		
+		anchor_offset_millis = offset;
+		
+		// If forward jump is counted as passed time
+		if (jump_millis > 0 && policy.equals(Clock_jump_policy.CJP_count_jump))
 		{
-			event_lock.lockInterruptibly();
+			anchor_millis -= jump_millis;
 		}
-		catch (final InterruptedException exc)
+	}
+	
+	
+	/**
+	 * Queues {@link #zero_deadline} if time&nbsp;counter is running
+	 * {@link Mode#M_countdown} which has&nbsp;not reached zero yet; otherwise
+	 * removes it from the&nbsp;index. Reschedules time&nbsp;thresholds the&nbsp;same
+	 * way. Is called after each time&nbsp;counter value, run state or
+	 * {@link #anchor_millis} change which is&nbsp;not regular time counting.<br>
+	 * <b>Warning!</b> {@link #modify_lock} must be held by the&nbsp;caller.
+	 */
+	private void update_deadlines()
+	{
+		// Expiry deadlines index
+		final Deadline_index deadline_index =
+				Time_counter_control.get_instance().get_deadline_index();
+		
+		// If the time counter is running countdown which hasn't reached zero
+		if (running && instance_mode.equals(Mode.M_countdown) &&
+				value_seconds > 0)
 		{
-			logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
-			Thread.currentThread().interrupt();
+			deadline_index.schedule(zero_deadline,
+					clock_millis(anchor_millis + value_seconds * 1000));
+		}
+		// If there is zero instant to unqueue
+		else if (zero_deadline != null)
+		{
+			deadline_index.cancel(zero_deadline);
 		}
 		
-		/* Numeric overflow listeners notifier to notify each listener in
-		 * a separate thread */
-		ThreadPoolExecutor notifier = null;
-		
-		try
+		schedule_thresholds();
+	}
+	
+	
+	/**
+	 * Sets the&nbsp;maximum time&nbsp;value, stops time&nbsp;counting and
+	 * notifies numeric overflow listeners.<br>
+	 * <b>Warning!</b> {@link #modify_lock} must be held by the&nbsp;caller.
+	 */
+	private void numeric_overflow_occurred()
+	{
+		numeric_overflow = true;
+		state_changed();
+		value_seconds = (is_positive_value() ?
+				value_limit(days_count) : -value_limit(days_count));
+		build_time_string(
+				Layout_profile.time_counter_resources.getString("numeric_overflow_mark"));
+		pause();
+		notify_numeric_overflow_listeners();
+	}
+	
+	
+	/**
+	 * Notifies listeners subscribed via {@link Numeric_overflow_listener}
+	 * interface about numeric overflow occurred, each independently in
+	 * {@link Listener_dispatcher} pool.<br>
+	 * <b>Warning!</b> {@link #modify_lock} must be held by the&nbsp;caller.
+	 */
+	private void notify_numeric_overflow_listeners()
+	{
+		// If there is no listeners to notify
+		if (numeric_overflow_listeners == null)
 		{
-			final int numeric_overflow_listeners_quantity =
-					numeric_overflow_listeners.size();
-			
-			notifier = new ThreadPoolExecutor(
-					numeric_overflow_listeners_quantity,
-					numeric_overflow_listeners_quantity,
-					0, TimeUnit.NANOSECONDS,
-					new ArrayBlockingQueue<>(numeric_overflow_listeners_quantity));
-			notifier.prestartAllCoreThreads();
-			
-			// This object's reference to be passed with event
-			final Solo_counter instance = this;
-			
-			// Listeners notification
-			for (final Numeric_overflow_listener i : numeric_overflow_listeners)
-			{
-				notifier.execute(new Runnable()
-				{
-					@Override
-					public void run()
-					{
-						i.numeric_overflow_occurred(
-								new Numeric_overflow_event(instance));
-					}
-				});
-			}
+			return;
 		}
-		finally
+		
+		// This object's reference to be passed with event
+		final Solo_counter instance = this;
+		
+		// Listeners notification (each independently)
+		for (final Numeric_overflow_listener i : numeric_overflow_listeners)
 		{
-			event_lock.unlock();
-			
-			// Shutdown executor
-			if (notifier != null)
+			Listener_dispatcher.execute(new Runnable()
 			{
-				notifier.setCorePoolSize(0);
-			}
+				@Override
+				public void run()
+				{
+					i.numeric_overflow_occurred(
+							new Numeric_overflow_event(instance));
+				}
+			});
 		}
 	}
 }
@@ -0,0 +1,198 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Statistics of a&nbsp;periodic engine task ({@link Periodic_task}): tick
+ * durations, ticks lateness (scheduler drift), ticks quantity, late, missed,
+ * coalesced and replayed ticks. Is exposed via
+ * {@link Time_counter_control_MXBean}.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+final class Tick_statistics
+{
+	///// Fields private of-instance ======================================/////
+	/** Task period in nanoseconds. */
+	private final long period_nanos;
+	/** Tick durations in microseconds. */
+	private final Latency_histogram durations;
+	/** Ticks lateness against their expected moments in microseconds. */
+	private final Latency_histogram lateness;
+	/** Ticks quantity. */
+	private final AtomicLong ticks;
+	/** Quantity of ticks started more than half a&nbsp;period later than
+	 * expected. */
+	private final AtomicLong late_ticks;
+	/** Quantity of periods passed without a&nbsp;tick. */
+	private final AtomicLong missed_ticks;
+	/** Quantity of missed ticks handled according to
+	 * {@link Missed_tick_policy#MTP_coalesce}. */
+	private final AtomicLong coalesced_ticks;
+	/** Quantity of missed ticks handled according to
+	 * {@link Missed_tick_policy#MTP_replay}. */
+	private final AtomicLong replayed_ticks;
+	
+	
+	///// Constructors default-access =====================================/////
+	/**
+	 * @param period Task period.
+	 * 
+	 * @param unit {@code period} time&nbsp;unit.
+	 */
+	Tick_statistics(final long period, final TimeUnit unit)
+	{
+		period_nanos = unit.toNanos(period);
+		durations = new Latency_histogram();
+		lateness = new Latency_histogram();
+		ticks = new AtomicLong();
+		late_ticks = new AtomicLong();
+		missed_ticks = new AtomicLong();
+		coalesced_ticks = new AtomicLong();
+		replayed_ticks = new AtomicLong();
+	}
+	
+	
+	///// Methods default-access of-instance ==============================/////
+	/**
+	 * Records finished tick.
+	 * 
+	 * @param start_nanos {@link System#nanoTime()} reading at&nbsp;which
+	 * the&nbsp;tick has started.
+	 * 
+	 * @param lateness_nanos Time passed since the&nbsp;moment the&nbsp;tick
+	 * has&nbsp;been expected to start in nanoseconds.
+	 * 
+	 * @param missed Periods passed without a&nbsp;tick before this one.
+	 * 
+	 * @param policy The&nbsp;way missed ticks have&nbsp;been handled.
+	 */
+	void tick_finished(final long start_nanos, final long lateness_nanos,
+			final long missed, final Missed_tick_policy policy)
+	{
+		durations.record((System.nanoTime() - start_nanos) / 1000);
+		lateness.record(lateness_nanos / 1000);
+		ticks.incrementAndGet();
+		
+		// If the tick is late
+		if (lateness_nanos > period_nanos / 2)
+		{
+			late_ticks.incrementAndGet();
+		}
+		
+		// If there is nothing else to count
+		if (missed == 0)
+		{
+			return;
+		}
+		
+		missed_ticks.addAndGet(missed);
+		
+		// If missed ticks have been replayed
+		if (policy.equals(Missed_tick_policy.MTP_replay))
+		{
+			replayed_ticks.addAndGet(missed);
+		}
+		else
+		{
+			coalesced_ticks.addAndGet(missed);
+		}
+	}
+	
+	
+	/**
+	 * @return Tick durations histogram (in microseconds).
+	 */
+	Latency_histogram get_durations()
+	{
+		return durations;
+	}
+	
+	
+	/**
+	 * @return Ticks lateness histogram (in microseconds).
+	 */
+	Latency_histogram get_lateness()
+	{
+		return lateness;
+	}
+	
+	
+	/**
+	 * @return Ticks quantity.
+	 */
+	long get_ticks()
+	{
+		return ticks.get();
+	}
+	
+	
+	/**
+	 * @return Quantity of ticks started more than half a&nbsp;period later
+	 * than expected.
+	 */
+	long get_late_ticks()
+	{
+		return late_ticks.get();
+	}
+	
+	
+	/**
+	 * @return Quantity of periods passed without a&nbsp;tick.
+	 */
+	long get_missed_ticks()
+	{
+		return missed_ticks.get();
+	}
+	
+	
+	/**
+	 * @return Quantity of coalesced missed ticks.
+	 */
+	long get_coalesced_ticks()
+	{
+		return coalesced_ticks.get();
+	}
+	
+	
+	/**
+	 * @return Quantity of replayed missed ticks.
+	 */
+	long get_replayed_ticks()
+	{
+		return replayed_ticks.get();
+	}
+	
+	
+	/**
+	 * Clears the&nbsp;statistics.
+	 */
+	void reset()
+	{
+		durations.reset();
+		lateness.reset();
+		ticks.set(0);
+		late_ticks.set(0);
+		missed_ticks.set(0);
+		coalesced_ticks.set(0);
+		replayed_ticks.set(0);
+	}
+}
@@ -18,28 +18,26 @@ package app.tar.time_obj;
 import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.EnumMap;
-import java.util.Formatter;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.ResourceBundle;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.LinkedTransferQueue;
 import java.util.concurrent.Semaphore;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import app.tar.time_obj.containers.Modified_ArrayList;
+import app.tar.time_obj.containers.Time_counter_registry;
 import app.tar.time_obj.events.Time_counter_event;
 import app.tar.time_obj.events.Time_counter_text_listener;
 import app.tar.time_obj.events.Time_elapsed_listener;
+import app.tar.time_obj.events.Time_threshold_event;
+import app.tar.time_obj.events.Time_threshold_listener;
 
 
 /**
@@ -73,6 +71,14 @@ public abstract class Time_counter implements Serializable
 		public final boolean is_positive;
 		
 		
+		///// Fields default-access of-instance ===========================/////
+		/** {@link System#nanoTime()} reading corresponding to the&nbsp;value
+		 * flip which has caused the&nbsp;text change. {@link Long#MIN_VALUE}
+		 * if the&nbsp;flip is&nbsp;not measured
+		 * (see&nbsp;{@link Latency_monitor}). */
+		final long flip_nanos;
+		
+		
 		///// Constructors default-access =================================/////
 		/**
 		 * @param time_value_text Time&nbsp;counter text value.
@@ -82,11 +88,15 @@ public abstract class Time_counter implements Serializable
 		 * represents <u>positive</u> value; {@code false}&nbsp;&#0151;
 		 * <u>negative</u> value.
 		 * 
+		 * @param flip_nanos {@link System#nanoTime()} reading corresponding
+		 * to the&nbsp;value flip which has caused the&nbsp;text change.
+		 * {@link Long#MIN_VALUE} if the&nbsp;flip is&nbsp;not measured.
+		 * 
 		 * @exception NullPointerException {@code time_value_text}&nbsp;argument
 		 * is&nbsp;{@code null}.
 		 */
-		private Time_counter_text_value(
-				final String time_value_text, final boolean is_positive_value)
+		private Time_counter_text_value(final String time_value_text,
+				final boolean is_positive_value, final long flip_nanos)
 		{
 			// String argument cannot be null
 			if (time_value_text == null)
@@ -97,6 +107,130 @@ public abstract class Time_counter implements Serializable
 			
 			this.time_value_text = time_value_text;
 			this.is_positive = is_positive_value;
+			this.flip_nanos = flip_nanos;
+		}
+	}
+	
+	
+	///// Inner classes private ===========================================/////
+	/**
+	 * {@link Time_counter_text_listener} subscribed with update granularity.
+	 * 
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	private static final class Text_listener_entry
+	{
+		///// Fields default-access of-instance ===========================/////
+		/** Subscribed listener. */
+		final Time_counter_text_listener listener;
+		/** The&nbsp;smallest time&nbsp;unit which value change is delivered
+		 * to {@link #listener}. */
+		final Time_unit_name granularity;
+		
+		
+		///// Constructors default-access =================================/////
+		/**
+		 * @param listener Subscribed listener.
+		 * 
+		 * @param granularity The&nbsp;smallest time&nbsp;unit which value
+		 * change is delivered to {@code listener}.
+		 */
+		Text_listener_entry(final Time_counter_text_listener listener,
+				final Time_unit_name granularity)
+		{
+			this.listener = listener;
+			this.granularity = granularity;
+		}
+	}
+	
+	
+	/**
+	 * Time&nbsp;counter listeners storage. Is created by the&nbsp;first
+	 * subscription (see&nbsp;{@link Time_counter#listener_state()}), so
+	 * a&nbsp;time&nbsp;counter nobody listens to doesn't spend memory on
+	 * listeners containers and locks.
+	 * 
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	private static final class Listener_state
+	{
+		///// Fields default-access of-instance ===========================/////
+		/** Listeners subscribed for {@link Time_counter#time_counter_text}
+		 * changing event.<br>
+		 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+		 * {@link #lock}. */
+		final ArrayList<Text_listener_entry> time_value_listeners;
+		/** Listeners subscribed for <i>time elapsed event</i>.<br>
+		 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+		 * {@link #lock}. */
+		final ArrayList<Time_elapsed_listener> time_elapsed_listeners;
+		/** Thresholds having subscribed listeners. Key is threshold in
+		 * seconds.<br>
+		 * <b>Warning!</b> Access to the&nbsp;field and thresholds listeners
+		 * must be synchronized by {@link #lock}. */
+		final HashMap<Long, Time_counter.Threshold> thresholds;
+		/** Delivers {@link #time_value_listeners} notifications in
+		 * the&nbsp;order of changes. */
+		final Listener_dispatcher.Serial_queue time_value_notifications;
+		/** Synchronizes access to listeners containers. May be acquired while
+		 * holding {@link Time_counter#semaphore} permits or extending class
+		 * time&nbsp;value lock, but <u>not vice&nbsp;versa</u>. */
+		final ReentrantLock lock;
+		
+		
+		///// Constructors default-access =================================/////
+		/**
+		 * Creates storage without listeners.
+		 */
+		Listener_state()
+		{
+			time_value_listeners = new ArrayList<>(1);
+			time_elapsed_listeners = new ArrayList<>(1);
+			thresholds = new HashMap<>(4);
+			time_value_notifications = new Listener_dispatcher.Serial_queue();
+			lock = new ReentrantLock();
+		}
+	}
+	
+	
+	/**
+	 * Time&nbsp;threshold queued in {@link Time_counter_control} expiry
+	 * deadlines index. Notifies its listeners when the&nbsp;time&nbsp;counter
+	 * value reaches the&nbsp;threshold.
+	 * 
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	private final class Threshold extends Deadline_index.Deadline
+	{
+		///// Fields default-access of-instance ===========================/////
+		/** Threshold in seconds. */
+		final long seconds;
+		
+		/** Listeners subscribed for the&nbsp;threshold.<br>
+		 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+		 * {@link Listener_state#lock}. */
+		final ArrayList<Time_threshold_listener> listeners;
+		
+		
+		///// Constructors default-access =================================/////
+		/**
+		 * @param seconds Threshold in seconds.
+		 */
+		Threshold(final long seconds)
+		{
+			this.seconds = seconds;
+			listeners = new ArrayList<>(1);
+		}
+		
+		
+		///// Methods default-access of-instance ==========================/////
+		@Override
+		void deadline_reached(final long due_millis)
+		{
+			notify_time_threshold_listeners(this);
 		}
 	}
 	
@@ -115,123 +249,34 @@ public abstract class Time_counter implements Serializable
 	protected static final Settings settings;
 	
 	
-	///// Fields default-access static ====================================/////
-	/** Resource bundle representing <i>.properties</i> file which contains
-	 * resources for time&nbsp;counters. */
-	static ResourceBundle time_counter_resources;
-	
-
 	///// Поля private статические ========================================/////
 	/** Логирует события данного класса. */
 	private static final Logger logger;
 	
-	/** Содержит форматирующие последовательности (например, "%2d") для
-	 * форматирования строки.<br>
-	 * <b>Важно!</b> Ссылается на {@link Collections#unmodifiableMap(Map)}.
-	 * Попытка изменения содержимого контейнера приведет к ошибке времени
-	 * выполнения. */
-	private static final Map<Time_unit_name, String> format_conversions;
-	
-	/** Represents <i>app/tar/time_obj/time_counter_resources.properties</i>
-	 * file's <i>"TUL_value_sign"</i>&nbsp;key&nbsp;group.<br>
-	 * <b>Warning!</b> The&nbsp;container is <u>immutable</u>. An&nbsp;attempt
-	 * to change its content results in runtime exception. */
-	private static final Map<Time_unit_name, String> time_unit_signs;
-	/** Represents <i>app/tar/time_obj/time_counter_resources.properties</i>
-	 * file's <i>"TUL_short_name"</i>&nbsp;key&nbsp;group.<br>
-	 * <b>Warning!</b> The&nbsp;container is <u>immutable</u>. An&nbsp;attempt
-	 * to change its content results in runtime exception. */
-	private static final Map<Time_unit_name, String> time_unit_short_names;
-	/** Represents <i>app/tar/time_obj/time_counter_resources.properties</i>
-	 * file's <i>"TUL_digits_only"</i>&nbsp;key&nbsp;group.<br>
-	 * <b>Warning!</b> The&nbsp;container is <u>immutable</u>. An&nbsp;attempt
-	 * to change its content results in runtime exception. */
-	private static final Map<Time_unit_name, String> time_unit_digits_only;
-	
 	/** Кол&#8209;во разрешений для семафора {@link #semaphore}. */
 	private static final int semaphore_permits;
 	
+	/** All {@link Time_unit_name} constants. Is used on each notification
+	 * instead of allocating {@link Time_unit_name#values()} copy. */
+	private static final Time_unit_name[] time_units;
+	
+	/** Sets {@link #listener_state} once for each time&nbsp;counter. */
+	private static final AtomicReferenceFieldUpdater<Time_counter, Listener_state>
+			listener_state_updater;
+	
 	
 	static
 	{
 		logger = Logger.getLogger(Time_counter.class.getName());
 		settings = Settings.get_instance();
-		time_counter_resources = settings.get_time_counter_resources();
-		
-		// Строки для инициализации контейнера "format_conversions"
-		final String[] format_conversion_text = { "%,10d", "%2d", "%3d", "%2d",
-				"%02d", "%02d" };
-		/* Keys from "app/tar/time_obj/time_counter_resources.properties" file
-		 * for "time_unit_signs" container */ 
-		final String[] time_unit_sings_keys = { "TUL_value_sign.years",
-				"TUL_value_sign.months", "TUL_value_sign.days",
-				"TUL_value_sign.hours", "TUL_value_sign.minutes",
-				"TUL_value_sign.seconds" };
-		/* Keys from "app/tar/time_obj/time_counter_resources.properties" file
-		 * for "time_unit_short_names" container */
-		final String[] time_unit_short_names_keys = { "TUL_short_name.years",
-				"TUL_short_name.months", "TUL_short_name.days",
-				"TUL_short_name.hours", "TUL_short_name.minutes",
-				"TUL_short_name.seconds" };
-		/* Keys from "app/tar/time_obj/time_counter_resources.properties" file
-		 * for "time_unit_digits_only" container */
-		final String[] time_unit_digits_only_keys = { "TUL_digits_only.years",
-				"TUL_digits_only.months", "TUL_digits_only.days",
-				"TUL_digits_only.hours", "TUL_digits_only.minutes",
-				"TUL_digits_only.seconds" };
-		
-		// Все элементы перечисления "Time_unit_name"
-		final Time_unit_name[] time_unit_name_values = Time_unit_name.values();
-		
-		assert format_conversion_text.length == time_unit_name_values.length :
-			"Array size with values doesn\'t match with "
-				+ Time_unit_name.class.getName() + " enumeration constants quantity";
-		assert time_unit_name_values.length == time_unit_sings_keys.length :
-			"Array size with values doesn\'t match with "
-				+ Time_unit_name.class.getName() + " enumeration constants quantity";
-		assert time_unit_name_values.length == time_unit_short_names_keys.length :
-			"Array size with values doesn\'t match with "
-				+ Time_unit_name.class.getName() + " enumeration constants quantity";
-		assert time_unit_name_values.length == time_unit_digits_only_keys.length :
-			"Array size with values doesn\'t match with "
-				+ Time_unit_name.class.getName() + " enumeration constants quantity";
-		
-		// Инициализатор "format_conversions"
-		final Map<Time_unit_name, String> format_conversion_init =
-				new EnumMap<>(Time_unit_name.class);
-		// "time_unit_signs" container initializer
-		final Map<Time_unit_name, String> time_unit_signs_init =
-				new EnumMap<>(Time_unit_name.class);
-		// "time_unit_short_names" container initializer
-		final Map<Time_unit_name, String> time_unit_short_names_init =
-				new EnumMap<>(Time_unit_name.class);
-		// "time_unit_digits_only" container initializer
-		final Map<Time_unit_name, String> time_unit_digits_only_init =
-				new EnumMap<>(Time_unit_name.class);
-		
-		// Map containers initialization
-		for (final Time_unit_name i : time_unit_name_values)
-		{
-			// Current enumeration constant ordinal value
-			final int ordinal = i.ordinal();
-			
-			format_conversion_init.put(i, format_conversion_text[ordinal]);
-			time_unit_signs_init.put(i, time_unit_sings_keys[ordinal]);
-			time_unit_short_names_init.put(i, time_unit_short_names_keys[ordinal]);
-			time_unit_digits_only_init.put(i, time_unit_digits_only_keys[ordinal]);
-		}
-		
-		format_conversions = Collections.unmodifiableMap(format_conversion_init);
-		time_unit_signs = Collections.unmodifiableMap(time_unit_signs_init);
-		time_unit_short_names =
-				Collections.unmodifiableMap(time_unit_short_names_init);
-		time_unit_digits_only =
-				Collections.unmodifiableMap(time_unit_digits_only_init);
 		
 		month_sizes = Collections.unmodifiableList(Arrays.asList(
 				31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31));
 		
 		semaphore_permits = 4;
+		time_units = Time_unit_name.values();
+		listener_state_updater = AtomicReferenceFieldUpdater.newUpdater(
+				Time_counter.class, Listener_state.class, "listener_state");
 	}
 	
 	
@@ -265,9 +310,11 @@ public abstract class Time_counter implements Serializable
 	
 	
 	///// Поля protected экземпляра =======================================/////
-	/** Contains time&nbsp;unit values according to {@link Time_unit_name}
-	 * enumeration. */
-	protected transient EnumMap<Time_unit_name, Long> time_unit_values;
+	/** Contains time&nbsp;unit values. Index is {@link Time_unit_name}
+	 * ordinal.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #semaphore}. */
+	protected transient long[] time_unit_values;
 	
 	/** Флаг десериализации объекта. {@code true}&nbsp;&#0151; десериализация
 	 * объекта прошла успешно; {@code false}&nbsp;&#0151; некоторые
@@ -278,6 +325,8 @@ public abstract class Time_counter implements Serializable
 	
 	///// Поля private экземпляра =========================================/////
 	/** Стиль отображения счетчика времени целиком для экземпляра этого класса.
+	 * Is set only while the&nbsp;object is deserialized; {@code null}
+	 * otherwise (see&nbsp;{@link #layout_profile}).
 	 * 
 	 * @serial После десериализации <u>не&nbsp;должен</u> быть {@code null}.
 	 * Если условие не&nbsp;соблюдается&nbsp;&#0151; присваивается значение
@@ -311,31 +360,31 @@ public abstract class Time_counter implements Serializable
 	 * value and element&nbsp;{@code [1]} containing
 	 * {@code Time_unit_name.TUN_years}&nbsp;<u>is&nbsp;wrong</u>.</li></ul></li></ul>
 	 * If deserialized value <u>does&nbsp;not</u> fit&nbsp;under listed
-	 * restrictions, default values are set. */
+	 * restrictions, default values are set.<br>
+	 * Is set only while the&nbsp;object is deserialized; {@code null}
+	 * otherwise (see&nbsp;{@link #layout_profile}). */
 	private Time_unit_name[] time_value_edges;
 	
 	/** Содержит стиль отображения названий единиц времени для экземпляра
-	 * класса.
+	 * класса. Is set only while the&nbsp;object is deserialized;
+	 * {@code null} otherwise (see&nbsp;{@link #layout_profile}).
 	 * 
 	 * @serial После десериализации <u>не&nbsp;должен</u> быть {@code null}.
 	 * Если условие не&nbsp;соблюдается&nbsp;&#0151; присваивается значение
 	 * по&nbsp;умолчанию. */
 	private Time_unit_layout time_unit_layout;
 	
-	/** Used for formatting {@link #time_counter_text} string. */
-	private transient Formatter formatter;
+	/** Time&nbsp;counter layout shared with other time&nbsp;counters having
+	 * the&nbsp;same one. Is serialized as {@link #time_display_style},
+	 * {@link #time_value_edges} and {@link #time_unit_layout} fields.<br>
+	 * <b>Warning!</b> Is changed only holding a&nbsp;{@link #semaphore}
+	 * permit. */
+	private transient volatile Layout_profile layout_profile;
 	
-	/** Synchronizes access to {@link #time_display_style},
-	 * {@link #time_unit_layout}, {@link #time_counter_text} and
+	/** Synchronizes access to {@link #layout_profile},
+	 * {@link #time_counter_text}, {@link #time_unit_values} and
 	 * {@link #is_positive} fields. */
 	private transient Semaphore semaphore;
-	/** Synchronizes access to {@link #time_value_edges} field. */
-	private transient ReentrantLock time_value_edges_lock;
-	/** Synchronizes access to {@link #time_value_listeners} and
-	 * {@link #time_value_listeners_notifier}. */
-	private transient ReentrantLock time_value_listeners_lock;
-	/** Synchronizes access to {@link #time_elapsed_listeners}. */
-	private transient ReentrantLock time_elapsed_listeners_lock;
 	
 	/** Contains text&nbsp;string representing time&nbsp;counter value. */
 	private transient String time_counter_text;
@@ -351,42 +400,110 @@ public abstract class Time_counter implements Serializable
 	 * @serial Deserialized value <u>is&nbsp;not</u> checked. If
 	 * time&nbsp;counter mode is&nbsp;{@link Mode#M_stopwatch}, field
 	 * <u>should&nbsp;be&nbsp;set</u> to {@code true} in extending class. */
-	private boolean is_positive;
-	
-	/** Contains listeners subscribed for {@link #time_counter_text} changing
-	 * event. */
-	private transient ArrayList<Time_counter_text_listener> time_value_listeners;
-	/** Contains listeners subscribed for <i>time elapsed event</i>. */
-	private transient ArrayList<Time_elapsed_listener> time_elapsed_listeners;
-	
-	/** Notifies subscribed listeners contained in {@link #time_value_listeners}
-	 * using separate thread for each notification to speed&nbsp;up performance. */
-	private transient ThreadPoolExecutor time_value_listeners_notifier;
+	private volatile boolean is_positive;
+	
+	/** Listeners storage. {@code null} until the&nbsp;first subscription
+	 * (see&nbsp;{@link #listener_state()}). Is never reset once created. */
+	private transient volatile Listener_state listener_state;
+	/** The&nbsp;smallest {@link Text_listener_entry#granularity} among
+	 * {@link Listener_state#time_value_listeners}. {@code null} if there are
+	 * no listeners.<br>
+	 * <b>Warning!</b> Is changed only under {@link Listener_state#lock}. */
+	private transient volatile Time_unit_name time_value_listeners_granularity;
+	
+	/** Time&nbsp;unit values at&nbsp;the&nbsp;moment of the&nbsp;last
+	 * {@link #notify_time_counter_text_listeners()} call. Index is
+	 * {@link Time_unit_name} ordinal. Are compared with current values to find
+	 * the&nbsp;largest changed time&nbsp;unit.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #semaphore}. */
+	private transient long[] notified_values;
+	/** Value sign at&nbsp;the&nbsp;moment of the&nbsp;last
+	 * {@link #notify_time_counter_text_listeners()} call.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #semaphore}. */
+	private transient boolean notified_sign;
+	/** {@code false}&nbsp;&#0151; {@link #notify_time_counter_text_listeners()}
+	 * has&nbsp;not been called yet, so {@link #notified_values} are
+	 * meaningless.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #semaphore}. */
+	private transient boolean is_notified;
+	/** {@code true}&nbsp;&#0151; time&nbsp;unit values, value sign or
+	 * display settings have&nbsp;been changed since {@link #time_counter_text}
+	 * was rendered last time. The&nbsp;text is rendered only when somebody
+	 * reads it or a&nbsp;change is delivered to consumers
+	 * (see&nbsp;{@link #render_time_string()}).<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #semaphore}. */
+	private transient boolean text_dirty;
+	/** {@code true}&nbsp;&#0151; time&nbsp;counter text has&nbsp;been
+	 * changed since the&nbsp;last delivery to consumers. Unlike
+	 * {@link #text_dirty} is&nbsp;not cleared when the&nbsp;text is read, so
+	 * periodic recalculation which doesn't change the&nbsp;value is&nbsp;not
+	 * delivered.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #semaphore}. */
+	private transient boolean text_change_pending;
+	/** {@code true}&nbsp;&#0151; time&nbsp;unit values or value sign
+	 * have&nbsp;been changed since they were published to
+	 * {@link Time_counter_control#get_change_log()} last time.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #semaphore}. */
+	private transient boolean log_change_pending;
+	/** {@code true}&nbsp;&#0151; {@link #notify_time_counter_text_listeners()}
+	 * has&nbsp;been called while the&nbsp;engine was in idle mode
+	 * (see&nbsp;{@link Time_counter_control#set_idle(boolean)}), so
+	 * the&nbsp;change has&nbsp;not been delivered yet. */
+	private transient volatile boolean notification_deferred;
+	
+	/** Index of this time&nbsp;counter in changes collected by
+	 * {@link Time_counter_control} for the&nbsp;next
+	 * {@link app.tar.time_obj.events.Change_feed_event}. {@code -1} if
+	 * the&nbsp;time&nbsp;counter is&nbsp;not collected.<br>
+	 * <b>Warning!</b> Is managed by {@link Time_counter_control} only. */
+	transient int change_feed_slot;
+	
+	/** {@link System#nanoTime()} reading corresponding to the&nbsp;last value
+	 * flip which has&nbsp;not been delivered yet. {@link Long#MIN_VALUE} if
+	 * there is no such flip or {@link Latency_monitor} is turned off.
+	 * See&nbsp;{@link #value_flipped(long, long)}. */
+	private transient volatile long flip_nanos;
+	
+	/** Delivers this time&nbsp;counter snapshots to subscribers of
+	 * {@link #get_publisher(Time_unit_name)} publishers. Is created by
+	 * the&nbsp;first {@link #get_publisher(Time_unit_name)} call.<br>
+	 * <b>Warning!</b> Creation must be synchronized by
+	 * {@link Listener_state#lock}. */
+	private transient volatile Snapshot_publisher snapshot_publisher;
 	
 
 	///// Нестатический блок инициализации ================================/////
 	{
 		description_text = null;
-		time_unit_values = new EnumMap<>(Time_unit_name.class);
+		time_unit_values = new long[time_units.length];
 		deserialization_status = true;
 		semaphore = new Semaphore(semaphore_permits);
-		time_value_edges_lock = new ReentrantLock();
-		time_value_listeners_lock = new ReentrantLock();
-		time_elapsed_listeners_lock = new ReentrantLock();
 		is_positive = true;
-		time_value_listeners = new ArrayList<>();
-		time_elapsed_listeners = new ArrayList<>();
-		time_value_listeners_notifier = new ThreadPoolExecutor(
-				0, Integer.MAX_VALUE,
-				0, TimeUnit.NANOSECONDS,
-				new LinkedTransferQueue<>());
+		listener_state = null;
+		change_feed_slot = -1;
+		time_value_listeners_granularity = null;
+		notified_values = new long[time_units.length];
+		notified_sign = true;
+		is_notified = false;
+		text_dirty = true;
+		text_change_pending = true;
+		log_change_pending = true;
+		notification_deferred = false;
+		flip_nanos = Long.MIN_VALUE;
+		snapshot_publisher = null;
 	}
 	
 	
 	///// Конструкторы protected ==========================================/////
 	/**
-	 * This constructor takes time&nbsp;counter layout parameters from
-	 * {@link Settings}&nbsp;object.
+	 * This constructor takes time&nbsp;counter layout from
+	 * {@link Settings}&nbsp;object (see&nbsp;{@link Settings#get_layout_profile()}).
 	 * 
 	 * @param mode Mode in which this time&nbsp;counter runs.
 	 * 
@@ -403,9 +520,7 @@ public abstract class Time_counter implements Serializable
 		}
 		
 		this.instance_mode = mode;
-		time_display_style = settings.get_time_display_style_setting();
-		time_value_edges = settings.get_time_value_edges();
-		time_unit_layout = settings.get_time_unit_layout_setting();
+		layout_profile = settings.get_layout_profile();
 	}
 	
 	
@@ -479,7 +594,12 @@ public abstract class Time_counter implements Serializable
 						+ " arguments cannot be null in this case");
 			}
 			
-			time_value_edges = settings.get_time_value_edges();
+			// Time units displaying range setting
+			final Layout_profile default_profile = settings.get_layout_profile();
+			
+			layout_profile = Layout_profile.get_instance(time_display_style,
+					default_profile.get_leftmost_time_unit(),
+					default_profile.get_rightmost_time_unit(), time_unit_layout);
 		}
 		else
 		{
@@ -492,26 +612,27 @@ public abstract class Time_counter implements Serializable
 						+ " rightmost_displayed_time_unit argument enum value");
 			}
 			
-			time_value_edges = new Time_unit_name[2];
-			time_value_edges[0] = leftmost_displayed_time_unit;
-			time_value_edges[1] = rightmost_displayed_time_unit;
+			layout_profile = Layout_profile.get_instance(time_display_style,
+					leftmost_displayed_time_unit, rightmost_displayed_time_unit,
+					time_unit_layout);
 		}
 		
 		this.instance_mode = mode;
-		this.time_display_style = time_display_style;
-		this.time_unit_layout = time_unit_layout;
 	}
 
 	
 	///// Методы public экземпляра ========================================/////
 	/**
-	 * Sets display style for this time&nbsp;counter.<br>
+	 * Sets display style for this time&nbsp;counter. Time&nbsp;counter text
+	 * is rendered again and delivered to listeners.<br>
 	 * <i>Performance note.</i> Contains synchronized sections. Synchronized
 	 * with:
 	 * <ul><li>{@link #build_time_string()};</li>
 	 * <li>{@link #build_time_string(String)};</li>
 	 * <li>{@link #get_time_counter_text_value()};</li>
 	 * <li>{@link #set_time_counter_value_sign(boolean)};</li>
+	 * <li>{@link #set_layout_profile(Layout_profile)};</li>
+	 * <li>{@link #set_time_value_edges(Time_unit_name, Time_unit_name)};</li>
 	 * <li>{@link #set_time_unit_layout(Time_unit_layout)};</li>
 	 * <li>{@link #notify_time_counter_text_listeners()}.</li></ul>
 	 * 
@@ -528,24 +649,7 @@ public abstract class Time_counter implements Serializable
 					Time_display_style.class.getName() + " argument is null");
 		}
 		
-		try
-		{
-			semaphore.acquire();
-		}
-		catch (final InterruptedException exc)
-		{
-			logger.log(Level.INFO, "Tread interrupts. Exception stack trace:", exc);
-			Thread.currentThread().interrupt();
-		}
-		
-		try
-		{
-			time_display_style = new_value;
-		}
-		finally
-		{
-			semaphore.release();
-		}
+		change_layout(new_value, null, null, null);
 	}
 	
 	
@@ -554,16 +658,21 @@ public abstract class Time_counter implements Serializable
 	 */
 	public Time_display_style get_time_display_style()
 	{
-		return time_display_style;
+		return layout_profile.get_time_display_style();
 	}
 	
 	
 	
 	/**
-	 * Sets new time&nbsp;units displaying range for time&nbsp;counter.<br>
-	 * <i>Performance note.</i> Contains synchronized sections. Synchronized with:
-	 * <ul><li>{@link #build_time_string()};</li>
-	 * <li>{@link #set_time_value_edges(Time_unit_name, Time_unit_name)}.</li></ul>
+	 * Sets new time&nbsp;units displaying range for time&nbsp;counter.
+	 * Time&nbsp;counter text is rendered again and delivered to listeners.<br>
+	 * <i>Performance note.</i> Contains synchronized sections. Synchronized
+	 * with:
+	 * <ul><li>{@link #get_time_counter_text_value()};</li>
+	 * <li>{@link #set_layout_profile(Layout_profile)};</li>
+	 * <li>{@link #set_time_display_style(Time_display_style)};</li>
+	 * <li>{@link #set_time_unit_layout(Time_unit_layout)};</li>
+	 * <li>{@link #notify_time_counter_text_listeners()}.</li></ul>
 	 * 
 	 * @param left_edge New value for <u>the&nbsp;leftmost</u> time&nbsp;value
 	 * (i.e.&nbsp;<u>biggest</u> displaying time&nbsp;unit).
@@ -600,34 +709,11 @@ public abstract class Time_counter implements Serializable
 					+ " grater than right_edge argument enum value");
 		}
 		
-		try
-		{
-			time_value_edges_lock.lockInterruptibly();
-		}
-		catch (final InterruptedException exc)
-		{
-			logger.log(Level.INFO, "Tread interrupts. Exception stack trace:", exc);
-			Thread.currentThread().interrupt();
-		}
-		
-		try
-		{
-			time_value_edges[0] = left_edge;
-			time_value_edges[1] = right_edge;
-		}
-		finally
-		{
-			time_value_edges_lock.unlock();
-		}
+		change_layout(null, left_edge, right_edge, null);
 	}
 	
 	
 	/**
-	 * <i>Performance note.</i> Method contains synchronized sections.
-	 * Synchronized with:
-	 * <ul><li>{@link #build_time_string()};</li>
-	 * <li>{@link #set_time_value_edges(Time_unit_name, Time_unit_name)}.</li></ul>
-	 * 
 	 * @return Array containing <u>2&nbsp;elements</u>, where
 	 * element&nbsp;{@code [0]} represents <u>biggest</u> possible displayed
 	 * time&nbsp;value (is on the&nbsp;<u>left</u> side), and
@@ -638,36 +724,22 @@ public abstract class Time_counter implements Serializable
 	 */
 	public Time_unit_name[] get_time_value_edges()
 	{
-		try
-		{
-			time_value_edges_lock.lockInterruptibly();
-		}
-		catch (final InterruptedException exc)
-		{
-			logger.log(Level.INFO, "Tread interrupts. Exception stack trace:", exc);
-			Thread.currentThread().interrupt();
-		}
-		
-		try
-		{
-			return time_value_edges.clone();
-		}
-		finally
-		{
-			time_value_edges_lock.unlock();
-		}
+		return layout_profile.get_time_value_edges();
 	}
 	
 	
 	/**
-	 * Sets time&nbsp;units layout style for this time&nbsp;counter.<br>
+	 * Sets time&nbsp;units layout style for this time&nbsp;counter.
+	 * Time&nbsp;counter text is rendered again and delivered to listeners.<br>
 	 * <i>Performance note.</i> Contains synchronized sections. Synchronized
 	 * with:
 	 * <ul><li>{@link #build_time_string()};</li>
-	 * <li>{@link #build_time_string(String)}</li>
 	 * <li>{@link #build_time_string(String)};</li>
 	 * <li>{@link #get_time_counter_text_value()};</li>
 	 * <li>{@link #set_time_counter_value_sign(boolean)};</li>
+	 * <li>{@link #set_layout_profile(Layout_profile)};</li>
+	 * <li>{@link #set_time_display_style(Time_display_style)};</li>
+	 * <li>{@link #set_time_value_edges(Time_unit_name, Time_unit_name)};</li>
 	 * <li>{@link #notify_time_counter_text_listeners()}.</li></ul>
 	 * 
 	 * @param layout_set New time&nbsp;units layout style.
@@ -683,33 +755,63 @@ public abstract class Time_counter implements Serializable
 					Time_unit_layout.class.getName() + " argument is null");
 		}
 		
-		try
-		{
-			semaphore.acquire();
-		}
-		catch (final InterruptedException exc)
+		change_layout(null, null, null, layout_set);
+	}
+	
+	
+	/**
+	 * @return Time&nbsp;units layout style.
+	 */
+	public Time_unit_layout get_time_unit_layout()
+	{
+		return layout_profile.get_time_unit_layout();
+	}
+	
+	
+	/**
+	 * Sets display style, time&nbsp;units displaying range and
+	 * time&nbsp;units layout style for this time&nbsp;counter at&nbsp;once.
+	 * Time&nbsp;counter text is rendered again and delivered to listeners.
+	 * To change layout of all time&nbsp;counters having the&nbsp;same one use
+	 * {@link Time_counter_control#change_layout_profile(Layout_profile, Layout_profile)}.<br>
+	 * <i>Performance note.</i> Contains synchronized sections. Synchronized
+	 * with:
+	 * <ul><li>{@link #build_time_string()};</li>
+	 * <li>{@link #build_time_string(String)};</li>
+	 * <li>{@link #get_time_counter_text_value()};</li>
+	 * <li>{@link #set_time_counter_value_sign(boolean)};</li>
+	 * <li>{@link #set_time_display_style(Time_display_style)};</li>
+	 * <li>{@link #set_time_value_edges(Time_unit_name, Time_unit_name)};</li>
+	 * <li>{@link #set_time_unit_layout(Time_unit_layout)};</li>
+	 * <li>{@link #notify_time_counter_text_listeners()}.</li></ul>
+	 * 
+	 * @param new_value New time&nbsp;counter layout.
+	 * 
+	 * @exception NullPointerException Passed argument is&nbsp;{@code null}.
+	 */
+	public void set_layout_profile(final Layout_profile new_value)
+	{
+		// Argument cannot be null
+		if (new_value == null)
 		{
-			logger.log(Level.INFO, "Tread interrupts. Exception stack trace:", exc);
-			Thread.currentThread().interrupt();
+			throw new NullPointerException(
+					Layout_profile.class.getName() + " argument is null");
 		}
 		
-		try
-		{
-			time_unit_layout = layout_set;
-		}
-		finally
-		{
-			semaphore.release();
-		}
+		change_layout(new_value.get_time_display_style(),
+				new_value.get_leftmost_time_unit(),
+				new_value.get_rightmost_time_unit(),
+				new_value.get_time_unit_layout());
 	}
 	
 	
 	/**
-	 * @return Time&nbsp;units layout style.
+	 * @return Time&nbsp;counter layout. Time&nbsp;counters having
+	 * the&nbsp;same layout return the&nbsp;same object.
 	 */
-	public Time_unit_layout get_time_unit_layout()
+	public Layout_profile get_layout_profile()
 	{
-		return time_unit_layout;
+		return layout_profile;
 	}
 	
 	
@@ -757,7 +859,14 @@ public abstract class Time_counter implements Serializable
 		
 		try
 		{
-			return new Time_counter_text_value(time_counter_text, is_positive);
+			// If the text hasn't been rendered after the last change
+			if (text_dirty)
+			{
+				render_time_string();
+			}
+			
+			return new Time_counter_text_value(
+					time_counter_text, is_positive, Long.MIN_VALUE);
 		}
 		finally
 		{
@@ -777,7 +886,7 @@ public abstract class Time_counter implements Serializable
 	 * when there&nbsp;is no&nbsp;need to receive such event. Such action
 	 * reduces resource usage and prevents resource leaks.</li>
 	 * <li>However when removing the&nbsp;time&nbsp;counter object from
-	 * {@link Modified_ArrayList}, obtained by
+	 * {@link Time_counter_registry}, obtained by
 	 * {@link Time_counter_control#get_time_counters()} method, <u>all</u> its
 	 * listeners removed automatically.</li></ul>
 	 * <i>Performance note.</i> Contains synchronized sections. Synchronized
@@ -793,16 +902,52 @@ public abstract class Time_counter implements Serializable
 	public void add_Time_counter_text_listener(
 			final Time_counter_text_listener listener)
 	{
-		// Argument cannot be null
-		if (listener == null)
+		add_Time_counter_text_listener(listener, Time_unit_name.TUN_seconds);
+	}
+	
+	
+	/**
+	 * Adds specified {@code listener} to receive time&nbsp;counter's
+	 * time&nbsp;value <i>text change event</i> only when {@code granularity}
+	 * time&nbsp;unit value or a&nbsp;larger one changes (e.g.&nbsp;once
+	 * a&nbsp;minute for {@link Time_unit_name#TUN_minutes}). Value sign change
+	 * and text change not caused by value change (e.g.&nbsp;layout change)
+	 * are delivered regardless of {@code granularity}. If all consumers of
+	 * the&nbsp;time&nbsp;counter text have coarse granularity, the&nbsp;text
+	 * is&nbsp;not even rebuilt on finer changes. Same {@code listener}
+	 * <u>can</u> be&nbsp;added multiple times.<br>
+	 * See {@link #add_Time_counter_text_listener(Time_counter_text_listener)}
+	 * for notes.<br>
+	 * <i>Performance note.</i> Contains synchronized sections. Synchronized
+	 * with:
+	 * <ul><li>{@link #remove_Time_counter_text_listener(Time_counter_text_listener)};</li>
+	 * <li>{@link #notify_time_counter_text_listeners()};</li>
+	 * <li>{@link #shutdown()}.</li></ul>
+	 * 
+	 * @param listener Listener to be subscribed on event.
+	 * 
+	 * @param granularity The&nbsp;smallest time&nbsp;unit which value change
+	 * is delivered to {@code listener}.
+	 * 
+	 * @exception NullPointerException At&nbsp;least one of passed arguments
+	 * is {@code null}.
+	 */
+	public void add_Time_counter_text_listener(
+			final Time_counter_text_listener listener,
+			final Time_unit_name granularity)
+	{
+		// Arguments cannot be null
+		if (listener == null || granularity == null)
 		{
-			throw new NullPointerException(
-					Time_counter_text_listener.class.getName() + " argument is null");
+			throw new NullPointerException("At least one of arguments is null");
 		}
 		
+		// Listeners storage
+		final Listener_state state = listener_state();
+		
 		try
 		{
-			time_value_listeners_lock.lockInterruptibly();
+			state.lock.lockInterruptibly();
 		}
 		catch (final InterruptedException exc)
 		{
@@ -812,13 +957,13 @@ public abstract class Time_counter implements Serializable
 		
 		try
 		{
-			time_value_listeners.add(listener);
-			time_value_listeners_notifier.setCorePoolSize(
-					time_value_listeners_notifier.getCorePoolSize() + 1);
+			state.time_value_listeners.add(
+					new Text_listener_entry(listener, granularity));
+			update_time_value_listeners_granularity(state);
 		}
 		finally
 		{
-			time_value_listeners_lock.unlock();
+			state.lock.unlock();
 		}
 	}
 	
@@ -851,9 +996,18 @@ public abstract class Time_counter implements Serializable
 					Time_counter_text_listener.class.getName() + " argument is null");
 		}
 		
+		// Listeners storage
+		final Listener_state state = listener_state;
+		
+		// If nothing has ever been subscribed
+		if (state == null)
+		{
+			return false;
+		}
+		
 		try
 		{
-			time_value_listeners_lock.lockInterruptibly();
+			state.lock.lockInterruptibly();
 		}
 		catch (final InterruptedException exc)
 		{
@@ -863,21 +1017,23 @@ public abstract class Time_counter implements Serializable
 		
 		try
 		{
-			// true - given "listener" is successfully removed; false - otherwise
-			final boolean is_removed = time_value_listeners.remove(listener);
-			
-			// If given "listener" was unsubscribed from event notifying
-			if (is_removed)
+			for (int i = 0; i < state.time_value_listeners.size(); ++i)
 			{
-				time_value_listeners_notifier.setCorePoolSize(
-						time_value_listeners_notifier.getCorePoolSize() - 1);
+				// If given "listener" is found
+				if (state.time_value_listeners.get(i).listener.equals(listener))
+				{
+					state.time_value_listeners.remove(i);
+					update_time_value_listeners_granularity(state);
+					
+					return true;
+				}
 			}
 			
-			return is_removed;
+			return false;
 		}
 		finally
 		{
-			time_value_listeners_lock.unlock();
+			state.lock.unlock();
 		}
 	}
 	
@@ -892,7 +1048,7 @@ public abstract class Time_counter implements Serializable
 	 * there&nbsp;is no&nbsp;need to receive such event. Such action reduces
 	 * resource usage and prevents resource leaks.</li>
 	 * <li>However when removing the&nbsp;time&nbsp;counter object from
-	 * {@link Modified_ArrayList}, obtained by
+	 * {@link Time_counter_registry}, obtained by
 	 * {@link Time_counter_control#get_time_counters()} method, <u>all</u> its
 	 * listeners removed automatically.</li></ul>
 	 * <i>Performance note.</i> Contains synchronized sections. Synchronized
@@ -914,9 +1070,12 @@ public abstract class Time_counter implements Serializable
 					Time_elapsed_listener.class.getName() + " argument is null");
 		}
 		
+		// Listeners storage
+		final Listener_state state = listener_state();
+		
 		try
 		{
-			time_elapsed_listeners_lock.lockInterruptibly();
+			state.lock.lockInterruptibly();
 		}
 		catch (final InterruptedException exc)
 		{
@@ -926,11 +1085,11 @@ public abstract class Time_counter implements Serializable
 		
 		try
 		{
-			time_elapsed_listeners.add(listener);
+			state.time_elapsed_listeners.add(listener);
 		}
 		finally
 		{
-			time_elapsed_listeners_lock.unlock();
+			state.lock.unlock();
 		}
 	}
 	
@@ -962,9 +1121,18 @@ public abstract class Time_counter implements Serializable
 					Time_elapsed_listener.class.getName() + " argument is null");
 		}
 		
+		// Listeners storage
+		final Listener_state state = listener_state;
+		
+		// If nothing has ever been subscribed
+		if (state == null)
+		{
+			return false;
+		}
+		
 		try
 		{
-			time_elapsed_listeners_lock.lockInterruptibly();
+			state.lock.lockInterruptibly();
 		}
 		catch (final InterruptedException exc)
 		{
@@ -974,259 +1142,394 @@ public abstract class Time_counter implements Serializable
 		
 		try
 		{
-			return time_elapsed_listeners.remove(listener);
+			return state.time_elapsed_listeners.remove(listener);
 		}
 		finally
 		{
-			time_elapsed_listeners_lock.unlock();
+			state.lock.unlock();
 		}
 	}
 	
 	
 	/**
-	 * Releases all resources (threads, listeners). Is&nbsp;necessary when this
-	 * instance is&nbsp;not&nbsp;needed anymore.
-	 * This method is invoked in {@link Modified_ArrayList}
-	 * container&nbsp;methods related&nbsp;to removing object(&#8209;s).
-	 * Such&nbsp;container exists in {@link Time_counter_control} object and can
-	 * be obtained by calling {@link Time_counter_control#get_time_counters()}.
-	 * So there&nbsp;is <u>no&nbsp;need</u> to call this method explicitly
-	 * before removing the&nbsp;instance from mentioned container. However,
-	 * calling this method more than once <u>is&nbsp;not</u> harmful.<br>
-	 * <b>Warning!</b> Object using after calling this method
-	 * <u>is&nbsp;prohibited</u>. Its methods behavior <u>is&nbsp;undefined</u>
-	 * except next ones:
-	 * <ul><li><i>this</i> method;</li>
-	 * <li>{@link #build_time_string()};</li>
-	 * <li>{@link #notify_time_counter_text_listeners()}.</li></ul>
-	 * Two last listed methods are used in
-	 * {@link Settings#set_locale_setting(app.tar.time_obj.Settings.Locale_setting)} and
-	 * <u>are&nbsp;guaranteed</u> not&nbsp;to cause any exceptions when invoked
-	 * after this method calling.<br>
+	 * Subscribes {@code listener} for the&nbsp;event of time&nbsp;counter
+	 * value reaching {@code threshold}. The&nbsp;event is generated by
+	 * the&nbsp;engine timer at&nbsp;the&nbsp;moment the&nbsp;threshold is
+	 * reached (time&nbsp;counter values are <u>not</u> compared with
+	 * thresholds on each tick). Threshold meaning depends on {@link Mode}:
+	 * <ul><li><i>{@link Mode#M_stopwatch}.</i> Counted time reaches
+	 * {@code threshold} (e.g.&nbsp;<i>2&nbsp;hours passed</i>).</li>
+	 * <li><i>{@link Mode#M_countdown}.</i> Remaining time reaches
+	 * {@code threshold} (e.g.&nbsp;<i>10&nbsp;minutes left</i>).</li>
+	 * <li><i>{@link Mode#M_remains_till}.</i> Time remaining to
+	 * the&nbsp;designated time&nbsp;point reaches {@code threshold}.</li>
+	 * <li><i>{@link Mode#M_elapsed_from}.</i> Time elapsed from
+	 * the&nbsp;designated time&nbsp;point reaches {@code threshold}.</li></ul>
+	 * Threshold is scheduled again if the&nbsp;time&nbsp;counter value is
+	 * changed so that the&nbsp;threshold is ahead again (e.g.&nbsp;after
+	 * restart). Threshold precision is one second; the&nbsp;fraction is
+	 * truncated. The&nbsp;same listener may be subscribed for several
+	 * thresholds.<br>
 	 * <i>Performance note.</i> Contains synchronized sections. Synchronized
 	 * with:
-	 * <ul><li>{@link #add_Time_counter_text_listener(Time_counter_text_listener)};</li>
-	 * <li>{@link #notify_time_counter_text_listeners()};</li>
-	 * <li>{@link #remove_Time_counter_text_listener(Time_counter_text_listener)};</li>
-	 * <li>{@link #add_Time_elapsed_listener(Time_elapsed_listener)};</li>
-	 * <li>{@link #notify_time_elapsed_listeners()};</li>
-	 * <li>{@link #remove_Time_elapsed_listener(Time_elapsed_listener)}.</li></ul>
+	 * <ul><li>{@link #remove_Time_threshold_listener(Duration, Time_threshold_listener)};</li>
+	 * <li>{@link #shutdown()}.</li></ul>
+	 * 
+	 * @param threshold Time&nbsp;counter value at&nbsp;which the&nbsp;event
+	 * is generated.
+	 * 
+	 * @param listener Listener to be subscribed on event.
+	 * 
+	 * @exception NullPointerException At&nbsp;least one of passed arguments
+	 * is {@code null}.
+	 * 
+	 * @exception IllegalArgumentException {@code threshold} is negative.
 	 */
-	public void shutdown()
+	public void add_Time_threshold_listener(
+			final Duration threshold, final Time_threshold_listener listener)
 	{
-		time_value_listeners_lock.lock();
+		// Arguments cannot be null
+		if (threshold == null || listener == null)
+		{
+			throw new NullPointerException("At least one of arguments is null");
+		}
+		
+		// Threshold cannot be negative
+		if (threshold.isNegative())
+		{
+			throw new IllegalArgumentException("Negative threshold");
+		}
+		
+		// Threshold in seconds
+		final Long seconds = threshold.getSeconds();
+		// Listeners storage
+		final Listener_state state = listener_state();
 		
 		try
 		{
-			time_value_listeners.clear();
-			time_value_listeners_notifier.shutdown();
-			
-			new Thread(new Runnable()
-			{
-				@Override
-				public void run()
-				{
-					try
-					{
-						time_value_listeners_notifier.awaitTermination(
-								5, TimeUnit.SECONDS);
-					}
-					catch (final InterruptedException exc)
-					{
-						logger.log(Level.INFO,
-								"Thread interrupts. Exception stack trace:", exc);
-						Thread.currentThread().interrupt();
-					}
-					finally
-					{
-						/* If ThreadPoolExecutor hasn't shutdown during waiting
-						 * time */
-						if (!time_value_listeners_notifier.isTerminated())
-						{
-							logger.log(Level.WARNING,
-									"Forcible " + ThreadPoolExecutor.class.getName()
-											+ " termination due\u00A0to long waiting");
-							time_value_listeners_notifier.shutdownNow();
-						}
-					}
-				}
-			}).start();
+			state.lock.lockInterruptibly();
 		}
-		finally
+		catch (final InterruptedException exc)
 		{
-			time_value_listeners_lock.unlock();
+			logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
+			Thread.currentThread().interrupt();
 		}
 		
-		time_elapsed_listeners_lock.lock();
-		
 		try
 		{
-			time_elapsed_listeners.clear();
+			// Threshold object to which the listener is added
+			Threshold threshold_object = state.thresholds.get(seconds);
+			
+			// If there is no listeners for such threshold yet
+			if (threshold_object == null)
+			{
+				threshold_object = new Threshold(seconds);
+				state.thresholds.put(seconds, threshold_object);
+			}
+			
+			threshold_object.listeners.add(listener);
 		}
 		finally
 		{
-			time_elapsed_listeners_lock.unlock();
+			state.lock.unlock();
 		}
+		
+		reschedule_thresholds();
 	}
-
 	
-	///// Методы protected экземпляра =====================================/////
+	
 	/**
-	 * Formats text&nbsp;string with time&nbsp;counter value (can be obtained
-	 * via {@link #get_time_counter_text_value()}).<br>
-	 * <i>Performance note.</i> Contains synchronized code sections. Synchronized
+	 * Removes <u>first occurrence</u> of specified {@code listener} subscribed
+	 * for {@code threshold} <u>if such present</u>. When the&nbsp;last
+	 * listener of the&nbsp;threshold is removed, the&nbsp;threshold is
+	 * removed from the&nbsp;engine timer.<br>
+	 * <i>Performance note.</i> Contains synchronized sections. Synchronized
 	 * with:
-	 * <ul><li>{@link #get_time_value_edges()};</li>
-	 * <li>{@link #set_time_value_edges(Time_unit_name, Time_unit_name)};</li>
-	 * <li>{@link #build_time_string(String)};</li>
-	 * <li>{@link #get_time_counter_text_value()};</li>
-	 * <li>{@link #set_time_counter_value_sign(boolean)};</li>
-	 * <li>{@link #set_time_display_style(Time_display_style)};</li>
-	 * <li>{@link #set_time_unit_layout(Time_unit_layout)};</li>
-	 * <li>{@link #notify_time_counter_text_listeners()}.</li></ul>
+	 * <ul><li>{@link #add_Time_threshold_listener(Duration, Time_threshold_listener)};</li>
+	 * <li>{@link #shutdown()}.</li></ul>
+	 * 
+	 * @param threshold Threshold for which {@code listener} is subscribed.
+	 * 
+	 * @param listener Listener to be unsubscribed from event notifying.
+	 * 
+	 * @return {@code true}&nbsp;&#0151; <u>first occurrence</u> of
+	 * {@code listener} argument <u>successfully removed</u>.
+	 * {@code false}&nbsp;&#0151; <u>there&nbsp;is no</u> such
+	 * {@code listener} subscribed for {@code threshold}.
+	 * 
+	 * @exception NullPointerException At&nbsp;least one of passed arguments
+	 * is {@code null}.
 	 */
-	protected final void build_time_string()
+	public boolean remove_Time_threshold_listener(
+			final Duration threshold, final Time_threshold_listener listener)
 	{
+		// Arguments cannot be null
+		if (threshold == null || listener == null)
+		{
+			throw new NullPointerException("At least one of arguments is null");
+		}
+		
+		// Listeners storage
+		final Listener_state state = listener_state;
+		
+		// If nothing has ever been subscribed
+		if (state == null)
+		{
+			return false;
+		}
+		
 		try
 		{
-			semaphore.acquire(semaphore_permits);
+			state.lock.lockInterruptibly();
 		}
 		catch (final InterruptedException exc)
 		{
-			logger.log(Level.INFO, "Tread interrupts. Exception stack trace:", exc);
+			logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
 			Thread.currentThread().interrupt();
 		}
 		
 		try
 		{
-			try
+			// Threshold object from which the listener is removed
+			final Threshold threshold_object =
+					state.thresholds.get(threshold.getSeconds());
+			
+			// If there is no such listener
+			if (threshold_object == null ||
+					!threshold_object.listeners.remove(listener))
 			{
-				time_value_edges_lock.lockInterruptibly();
+				return false;
 			}
-			catch (final InterruptedException exc)
+			
+			// If the last threshold listener is removed
+			if (threshold_object.listeners.isEmpty())
 			{
-				logger.log(Level.INFO, "Tread interrupts. Exception stack trace:", exc);
-				Thread.currentThread().interrupt();
+				state.thresholds.remove(threshold_object.seconds);
+				Time_counter_control.get_instance().get_deadline_index().cancel(
+						threshold_object);
 			}
 			
+			return true;
+		}
+		finally
+		{
+			state.lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Returns publisher of this time&nbsp;counter values, which is
+	 * the&nbsp;demand&#8209;driven alternative to
+	 * {@link #add_Time_counter_text_listener(Time_counter_text_listener)}.
+	 * Each subscriber first receives current snapshot, then snapshots of
+	 * changes. Undelivered snapshot is replaced by newer one, so
+	 * a&nbsp;subscriber which has&nbsp;not requested items never has more
+	 * than one undelivered snapshot. Subscribers receive
+	 * {@link Flow.Subscriber#onComplete()} after {@link #shutdown()}.<br>
+	 * <i>Performance note.</i> The&nbsp;first call contains synchronized
+	 * sections.
+	 * 
+	 * @param cadence The&nbsp;smallest time&nbsp;unit which value change makes
+	 * snapshot to be delivered (e.g.&nbsp;{@link Time_unit_name#TUN_minutes}
+	 * delivers snapshot once a&nbsp;minute; value sign change is always
+	 * delivered). {@code null} makes each text value change to be delivered.
+	 * 
+	 * @return Publisher of this time&nbsp;counter snapshots.
+	 */
+	public Flow.Publisher<Time_counter_snapshot> get_publisher(
+			final Time_unit_name cadence)
+	{
+		// This time counter snapshots publisher
+		Snapshot_publisher publisher = snapshot_publisher;
+		
+		// If the publisher isn't created yet
+		if (publisher == null)
+		{
+			// Listeners storage
+			final Listener_state state = listener_state();
+			
+			state.lock.lock();
+			
 			try
 			{
-				formatter = new Formatter();
-				
-				// Если выбран строгий диапазон отображаемых единиц времени
-				if (time_display_style.equals(Time_display_style.TDS_custom_strict))
+				// If the publisher hasn't been created by concurrent call
+				if (snapshot_publisher == null)
 				{
-					formatter.format(time_counter_resources.getString(
-							"strict_display_mode_mark"));
+					snapshot_publisher = new Snapshot_publisher();
 				}
 				
-				// Если значение отрицательное - в начале ставится знак "минус"
-				if (!is_positive)
-				{
-					formatter.format("\u2012");
-				}
-				
-				/* Если в настройках установлено отображение единиц времени,
-				 * которые "имеют вес" (т.е. значение которых достигнуто) */
-				if (time_display_style.equals(Time_display_style.TDS_if_reaches))
-				{
-					/* Формирование строки для форматирования, содержащей
-					 * отображаемые единицы времени, происходит от больших
-					 * единиц времени к меньшим. Как только значение одной из
-					 * единиц времени оказывается значащим (т.е. отличным от
-					 * нуля), - все меньшие единицы времени должны отображаться
-					 * в любом случае. true - значащая единица времени
-					 * достигнута; false - нет */
-					boolean value_reached = false;
-					
-					/* Формирование строки для форматирования, содержащей
-					 * отображаемые единицы времени */
-					for (final Time_unit_name i : Time_unit_name.values())
-					{
-						/* If meaningful time value is already reached in
-						 * previous iterations OR it's reached in this
-						 * iteration OR ... */
-						if (value_reached || time_unit_values.get(i) != 0 ||
-								/* this is seconds time unit (must be shown
-								 * anyway as the smallest time unit) */
-								i.equals(Time_unit_name.TUN_seconds))
-						{
-							value_reached = true;
-							format(i);
-						}
-					}
-				}
-				// Если в настройках установлено отображение всех единиц времени
-				else if (time_display_style.equals(Time_display_style.TDS_show_all))
+				publisher = snapshot_publisher;
+			}
+			finally
+			{
+				state.lock.unlock();
+			}
+		}
+		
+		// This object to take snapshots of
+		final Time_counter instance = this;
+		
+		return publisher.get_publisher(
+				cadence, new Snapshot_publisher.Initial_snapshots()
 				{
-					/* Формирование строки для форматирования, содержащей
-					 * отображаемые единицы времени */
-					for (final Time_unit_name i : Time_unit_name.values())
+					@Override
+					public Iterable<Time_counter_snapshot> get_snapshots()
 					{
-						format(i);
+						return Collections.singletonList(instance.get_snapshot());
 					}
-				}
-				/* Если в настройках установлен конкретный диапазон отображаемых
-				 * единиц времени (строгий ИЛИ нестрогий) */
-				else if (time_display_style.equals(Time_display_style.TDS_custom_strict) ||
-						time_display_style.equals(Time_display_style.TDS_increase_able))
+				});
+	}
+	
+	
+	/**
+	 * Releases all resources (listeners, subscriptions). Is&nbsp;necessary
+	 * when this instance is&nbsp;not&nbsp;needed anymore. Notifications
+	 * queued before the&nbsp;call are still delivered.
+	 * This method is invoked in {@link Time_counter_registry}
+	 * container&nbsp;methods related&nbsp;to removing object(&#8209;s).
+	 * Such&nbsp;container exists in {@link Time_counter_control} object and can
+	 * be obtained by calling {@link Time_counter_control#get_time_counters()}.
+	 * So there&nbsp;is <u>no&nbsp;need</u> to call this method explicitly
+	 * before removing the&nbsp;instance from mentioned container. However,
+	 * calling this method more than once <u>is&nbsp;not</u> harmful.<br>
+	 * <b>Warning!</b> Object using after calling this method
+	 * <u>is&nbsp;prohibited</u>. Its methods behavior <u>is&nbsp;undefined</u>
+	 * except next ones:
+	 * <ul><li><i>this</i> method;</li>
+	 * <li>{@link #build_time_string()};</li>
+	 * <li>{@link #notify_time_counter_text_listeners()}.</li></ul>
+	 * Two last listed methods are used in
+	 * {@link Settings#set_locale_setting(app.tar.time_obj.Settings.Locale_setting)} and
+	 * <u>are&nbsp;guaranteed</u> not&nbsp;to cause any exceptions when invoked
+	 * after this method calling.<br>
+	 * <i>Performance note.</i> Contains synchronized sections. Synchronized
+	 * with:
+	 * <ul><li>{@link #add_Time_counter_text_listener(Time_counter_text_listener)};</li>
+	 * <li>{@link #notify_time_counter_text_listeners()};</li>
+	 * <li>{@link #remove_Time_counter_text_listener(Time_counter_text_listener)};</li>
+	 * <li>{@link #add_Time_elapsed_listener(Time_elapsed_listener)};</li>
+	 * <li>{@link #notify_time_elapsed_listeners()};</li>
+	 * <li>{@link #remove_Time_elapsed_listener(Time_elapsed_listener)};</li>
+	 * <li>{@link #add_Time_threshold_listener(Duration, Time_threshold_listener)};</li>
+	 * <li>{@link #remove_Time_threshold_listener(Duration, Time_threshold_listener)}.</li></ul>
+	 */
+	public void shutdown()
+	{
+		// Listeners storage
+		final Listener_state state = listener_state;
+		
+		// If there are listeners to remove
+		if (state != null)
+		{
+			state.lock.lock();
+			
+			try
+			{
+				state.time_value_listeners.clear();
+				time_value_listeners_granularity = null;
+				state.time_elapsed_listeners.clear();
+				
+				// Expiry deadlines index
+				final Deadline_index deadline_index =
+						Time_counter_control.get_instance().get_deadline_index();
+				
+				for (final Threshold i : state.thresholds.values())
 				{
-					/* true - если установлен НЕСТРОГИЙ диапазон отображаемых
-					 * единиц времени; false - установлен СТРОГИЙ диапазон */
-					final boolean increase_able_is_set = time_display_style.equals(
-								Time_display_style.TDS_increase_able);
-					/* Time string formatting is performed in direction from
-					 * the biggest time unit to the smallest one. So if bigger
-					 * time unit has value (i.e. is not 0), smaller ones must be
-					 * shown anyway. It concerns only the NON STRICT time units
-					 * display style ("Time_display_style.TDS_increase_able").
-					 * true - non zero time unit value is found (even if it's
-					 * bigger than set time units displaying range); false -
-					 * otherwise */
-					boolean must_be_shown = false;
-					
-					/* Формирование строки для форматирования, содержащей
-					 * отображаемые единицы времени */
-					for (final Time_unit_name i : Time_unit_name.values())
-					{
-						/* Результат сравнения именованной константы текущей
-						 * итерации и крайней правой отображаемой единицы
-						 * (наименьшей отображаемой единицы) времени */
-						final int compare_to_rightmost =
-								i.compareTo(time_value_edges[1]);
-						
-						// If (time value is in set displaying range) OR ...
-						if ((i.compareTo(time_value_edges[0]) >= 0 && compare_to_rightmost <= 0) ||
-								/* ... (bigger than set displaying range time values
-								 * can be shown, if time value is greater than
-								 * set displaying range AND current iteration
-								 * time unit is bigger or equals to
-								 * the rightmost possible displayed time unit
-								 * AND ... */
-								(increase_able_is_set && compare_to_rightmost <= 0 &&
-								/* ... (in previous iterations nonzero
-								 * time value occurred OR it's occurred in this
-								 * iteration)) */
-								(must_be_shown || time_unit_values.get(i) != 0)))
-						{
-							must_be_shown = true;
-							format(i);
-						}
-					}
+					deadline_index.cancel(i);
 				}
 				
-				time_counter_text = formatter.toString();
-				formatter.close();
+				state.thresholds.clear();
 			}
 			finally
 			{
-				time_value_edges_lock.unlock();
+				state.lock.unlock();
 			}
 		}
-		finally
+		
+		// This time counter snapshots publisher
+		final Snapshot_publisher publisher = snapshot_publisher;
+		
+		// If there are subscribers to complete
+		if (publisher != null)
 		{
-			semaphore.release(semaphore_permits);
+			publisher.complete();
+		}
+		
+		Time_counter_control.get_instance().time_counter_shut_down(this);
+	}
+	
+	
+	/**
+	 * @return Time&nbsp;counter value&nbsp;sign. {@code true}&nbsp;&#0151;
+	 * time&nbsp;value <u>is&nbsp;positive</u>; {@code false}&nbsp;&#0151;
+	 * <u>is&nbsp;negative</u>. Returning&nbsp;value depends
+	 * on {@link Mode} in which time&nbsp;counter is running. <u>Extending
+	 * classes must set value&nbsp;sign correctly</u>
+	 * (see&nbsp;{@link #set_time_counter_value_sign(boolean)} method
+	 * description).
+	 * <ul><li><i>{@link Mode#M_stopwatch}.</i> Time&nbsp;value
+	 * <u>is&nbsp;always</u> positive, so {@code true} is&nbsp;always returned.</li>
+	 * <li><i>{@link Mode#M_countdown}.</i> {@code true} is&nbsp;returned before
+	 * time&nbsp;value reaches zero (i.e.&nbsp;time&nbsp;value
+	 * <u>is&nbsp;positive</u>). After reaching zero {@code false}
+	 * is&nbsp;returned (i.e.&nbsp;time&nbsp;value <u>is&nbsp;negative</u>).</li>
+	 * <li><i>{@link Mode#M_elapsed_from}.</i> {@code false} is&nbsp;returned
+	 * while current time&nbsp;value <u>is&nbsp;before</u> designated
+	 * time&nbsp;point (i.e.&nbsp;time&nbsp;value <u>is&nbsp;negative</u>
+	 * because it <u>is&nbsp;before</u> the&nbsp;designated time&nbsp;point,
+	 * elapsed time from which need to be calculated). {@code true}
+	 * is&nbsp;returned when current time&nbsp;value <u>is&nbsp;after</u>
+	 * designated time&nbsp;point (i.e.&nbsp;time&nbsp;value
+	 * <u>is&nbsp;positive</u>).</li>
+	 * <li><i>{@link Mode#M_remains_till}.</i> {@code true} is&nbsp;returned
+	 * while current time&nbsp;value <u>has&nbsp;not</u> yet reached
+	 * the&nbsp;designated time&nbsp;point (i.e.&nbsp;time&nbsp;value
+	 * <u>is&nbsp;positive</u> because it actually shows time remaining to
+	 * the&nbsp;designated time&nbsp;point). {@code false} is&nbsp;returned when
+	 * current time&nbsp;value <u>is&nbsp;after</u> designated time&nbsp;point
+	 * (i.e.&nbsp;time&nbsp;value <u>is&nbsp;negative</u> because designated
+	 * time&nbsp;point <u>is&nbsp;passed</u>).</li></ul>
+	 */
+	public final boolean is_positive_value()
+	{
+		return is_positive;
+	}
+
+	
+	///// Методы protected экземпляра =====================================/////
+	/**
+	 * Marks text&nbsp;string with time&nbsp;counter value (can be obtained
+	 * via {@link #get_time_counter_text_value()}) as outdated. The&nbsp;text
+	 * itself is rendered lazily: when it is read or when
+	 * {@link #notify_time_counter_text_listeners()} has somebody to deliver
+	 * the&nbsp;change&nbsp;to.<br>
+	 * <i>Performance note.</i> Contains synchronized code sections. Synchronized
+	 * with:
+	 * <ul><li>{@link #get_time_value_edges()};</li>
+	 * <li>{@link #set_time_value_edges(Time_unit_name, Time_unit_name)};</li>
+	 * <li>{@link #build_time_string(String)};</li>
+	 * <li>{@link #get_time_counter_text_value()};</li>
+	 * <li>{@link #set_time_counter_value_sign(boolean)};</li>
+	 * <li>{@link #set_time_display_style(Time_display_style)};</li>
+	 * <li>{@link #set_time_unit_layout(Time_unit_layout)};</li>
+	 * <li>{@link #notify_time_counter_text_listeners()}.</li></ul>
+	 */
+	protected final void build_time_string()
+	{
+		try
+		{
+			semaphore.acquire();
+		}
+		catch (final InterruptedException exc)
+		{
+			logger.log(Level.INFO, "Tread interrupts. Exception stack trace:", exc);
+			Thread.currentThread().interrupt();
 		}
+		
+		text_dirty = true;
+		text_change_pending = true;
+		semaphore.release();
 	}
 	
 	
@@ -1258,6 +1561,71 @@ public abstract class Time_counter implements Serializable
 		try
 		{
 			time_counter_text = message;
+			text_dirty = false;
+			text_change_pending = true;
+		}
+		finally
+		{
+			semaphore.release();
+		}
+	}
+	
+	
+	/**
+	 * Sets {@link #time_unit_values} and, if any value has changed, marks
+	 * the&nbsp;text as outdated (see
+	 * {@link #build_time_string()}). Values are written under
+	 * {@link #semaphore} permit, so text rendering never sees partially
+	 * updated values.<br>
+	 * <i>Performance note.</i> Contains synchronized sections. Synchronized
+	 * with:
+	 * <ul><li>{@link #get_time_counter_text_value()};</li>
+	 * <li>{@link #notify_time_counter_text_listeners()}.</li></ul>
+	 * 
+	 * @param years Years quantity.
+	 * 
+	 * @param months Months quantity.
+	 * 
+	 * @param days Days quantity.
+	 * 
+	 * @param hours Hours quantity.
+	 * 
+	 * @param minutes Minutes quantity.
+	 * 
+	 * @param seconds Seconds quantity.
+	 */
+	protected final void set_time_unit_values(final long years,
+			final long months, final long days, final long hours,
+			final long minutes, final long seconds)
+	{
+		try
+		{
+			semaphore.acquire();
+		}
+		catch (final InterruptedException exc)
+		{
+			logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
+			Thread.currentThread().interrupt();
+		}
+		
+		try
+		{
+			// Previous values are replaced by new ones
+			final boolean changed =
+					put_time_unit_value(Time_unit_name.TUN_years, years) |
+					put_time_unit_value(Time_unit_name.TUN_months, months) |
+					put_time_unit_value(Time_unit_name.TUN_days, days) |
+					put_time_unit_value(Time_unit_name.TUN_hours, hours) |
+					put_time_unit_value(Time_unit_name.TUN_minutes, minutes) |
+					put_time_unit_value(Time_unit_name.TUN_seconds, seconds);
+			
+			// If the text is to be changed
+			if (changed)
+			{
+				text_dirty = true;
+				text_change_pending = true;
+				log_change_pending = true;
+			}
 		}
 		finally
 		{
@@ -1281,287 +1649,909 @@ public abstract class Time_counter implements Serializable
 	 * <li>{@link #remove_Time_counter_text_listener(Time_counter_text_listener)};</li>
 	 * <li>{@link #shutdown()}.</li></ul>
 	 */
-	protected final void notify_time_counter_text_listeners()
+	protected final void notify_time_counter_text_listeners()
+	{
+		// Time counters engine
+		final Time_counter_control control = Time_counter_control.get_instance();
+		// Value flip which has caused the change (if it is measured)
+		final long flip = flip_nanos;
+		
+		// If the flip is measured
+		if (flip != Long.MIN_VALUE)
+		{
+			flip_nanos = Long.MIN_VALUE;
+		}
+		
+		// If changes aren't delivered in idle mode
+		if (control.is_idle())
+		{
+			notification_deferred = true;
+			
+			return;
+		}
+		
+		notification_deferred = false;
+		
+		// The smallest time unit which text change somebody is interested in
+		final Time_unit_name granularity = consumers_granularity(control);
+		// true - each value change has to be logged
+		final boolean is_logged = control.is_change_log_requested();
+		
+		// If nobody is interested in any change
+		if (granularity == null && !is_logged)
+		{
+			return;
+		}
+		
+		try
+		{
+			semaphore.acquire(semaphore_permits);
+		}
+		catch (final InterruptedException exc)
+		{
+			logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
+			Thread.currentThread().interrupt();
+		}
+		
+		try
+		{
+			// If the value change has to be logged (the text isn't needed)
+			if (is_logged && log_change_pending)
+			{
+				control.log_time_counter_values(
+						this, time_unit_values, is_positive);
+				log_change_pending = false;
+			}
+			
+			/* If nothing has changed since the last delivery OR nobody is
+			 * interested in the text */
+			if (!text_change_pending || granularity == null)
+			{
+				return;
+			}
+			
+			// The largest changed time unit
+			final Time_unit_name changed_unit = changed_unit();
+			
+			// If the change is finer than anybody is interested in
+			if (changed_unit.compareTo(granularity) > 0)
+			{
+				return;
+			}
+			
+			remember_notified_values();
+			text_change_pending = false;
+			
+			// If the text hasn't been rendered after the last change
+			if (text_dirty)
+			{
+				render_time_string();
+			}
+			
+			Latency_monitor.get_instance().record(
+					Latency_stage.LS_render, instance_mode, flip);
+			
+			control.time_counter_text_changed(
+					this, time_counter_text, is_positive);
+			control.time_counter_values_changed(
+					this, time_counter_text, time_unit_values, is_positive);
+			
+			// This time counter snapshots publisher
+			final Snapshot_publisher publisher = snapshot_publisher;
+			
+			// If there are subscribers for this time counter snapshots
+			if (publisher != null && publisher.has_subscribers())
+			{
+				publisher.publish(new Time_counter_snapshot(
+						this, time_counter_text, time_unit_values, is_positive));
+			}
+			
+			// Listeners storage
+			final Listener_state state = listener_state;
+			
+			// If nothing has ever been subscribed
+			if (state == null)
+			{
+				return;
+			}
+			
+			try
+			{
+				state.lock.lockInterruptibly();
+			}
+			catch (final InterruptedException exc)
+			{
+				logger.log(Level.INFO,
+						"Thread interrupts. Exception stack trace:", exc);
+				Thread.currentThread().interrupt();
+			}
+			
+			try
+			{
+				// This object's reference to be passed with event
+				final Time_counter instance = this;
+				// Value to pass to listeners
+				final Time_counter_text_value value =
+						new Time_counter_text_value(
+								time_counter_text, is_positive, flip);
+				
+				// Listeners notification
+				for (final Text_listener_entry i : state.time_value_listeners)
+				{
+					// If the change is finer than the listener is interested in
+					if (changed_unit.compareTo(i.granularity) > 0)
+					{
+						continue;
+					}
+					
+					// Listener to notify
+					final Time_counter_text_listener listener = i.listener;
+					
+					state.time_value_notifications.execute(new Runnable()
+					{
+						@Override
+						public void run()
+						{
+							Latency_monitor.get_instance().record(
+									Latency_stage.LS_dispatch,
+									instance_mode, flip);
+							
+							// Flight recorder event
+							final Object dispatch_event =
+									Flight_recorder.begin_dispatch();
+							
+							listener.time_counter_text_changed(
+									new Time_counter_event<>(instance), value);
+							Flight_recorder.end_dispatch(
+									dispatch_event, instance_mode, listener);
+						}
+					});
+				}
+			}
+			finally
+			{
+				state.lock.unlock();
+			}
+		}
+		finally
+		{
+			semaphore.release(semaphore_permits);
+		}
+	}
+	
+	
+	/**
+	 * Sets time&nbsp;counter value sign (positive or negative). Extending
+	 * classes must use value sign setting according to {@link Mode} in which
+	 * they are running.
+	 * <ul><li><i>{@link Mode#M_stopwatch}.</i> Time&nbsp;values <u>cannot be
+	 * negative</u> ({@code true} always need to be passed).</li>
+	 * <li><i>{@link Mode#M_countdown}.</i> {@code true} need to be passed
+	 * before time&nbsp;value reaches zero (i.e.&nbsp;while time&nbsp;value
+	 * <u>is&nbsp;positive</u>). After reaching zero {@code false} need to be
+	 * passed (i.e.&nbsp;when time&nbsp;value <u>is&nbsp;negative</u>).</li>
+	 * <li><i>{@link Mode#M_elapsed_from}.</i> {@code false} need to be passed
+	 * while current time&nbsp;value <u>is&nbsp;before</u> designated
+	 * time&nbsp;point (i.e.time&nbsp;value <u>is&nbsp;negative</u> because it
+	 * <u>is&nbsp;before</u> the&nbsp;designated time&nbsp;point, elapsed time
+	 * from which need to be calculated). {@code true} need to be passed when
+	 * current time&nbsp;value <u>is&nbsp;after</u> designated time&nbsp;point
+	 * (i.e.&nbsp;time&nbsp;value <u>is&nbsp;positive</u>).</li>
+	 * <li><i>{@link Mode#M_remains_till}.</i> {@code true} need to be passed
+	 * while current time&nbsp;value <u>has&nbsp;not</u> yet reached
+	 * the&nbsp;designated time&nbsp;point (i.e.&nbsp;time&nbsp;value
+	 * <u>is&nbsp;positive</u> because it actually shows time remaining to
+	 * the&nbsp;designated time&nbsp;point). {@code false} need to be passed
+	 * when current time&nbsp;value <u>is&nbsp;after</u> designated
+	 * time&nbsp;point (i.e.&nbsp;time&nbsp;value <u>is&nbsp;negative</u>
+	 * because designated time&nbsp;point <u>is&nbsp;passed</u>).</li></ul>
+	 * <i>Performance note.</i> Contains synchronized sections. Synchronized
+	 * with:
+	 * <ul><li>{@link #build_time_string()};</li>
+	 * <li>{@link #build_time_string(String)};</li>
+	 * <li>{@link #get_time_counter_text_value()};</li>
+	 * <li>{@link #set_time_display_style(Time_display_style)};</li>
+	 * <li>{@link #set_time_unit_layout(Time_unit_layout)};</li>
+	 * <li>{@link #notify_time_counter_text_listeners()}.</li></ul>
+	 * 
+	 * @param is_positive {@code true}&nbsp;&#0151; time&nbsp;value
+	 * <u>is&nbsp;positive</u>; {@code false}&nbsp;&#0151;
+	 * <u>is&nbsp;negative</u>.
+	 * 
+	 * @return Previous time&nbsp;counter value sign: {@code true}&nbsp;&#0151;
+	 * <u>positive</u>; {@code false}&nbsp;&#0151; <u>negative</u>.
+	 */
+	protected final boolean set_time_counter_value_sign(
+			final boolean is_positive)
+	{
+		try
+		{
+			semaphore.acquire();
+		}
+		catch (final InterruptedException exc)
+		{
+			logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
+			Thread.currentThread().interrupt();
+		}
+		
+		// Previous time value sign to return
+		final boolean previous_value;
+		
+		try
+		{
+			previous_value = this.is_positive;
+			this.is_positive = is_positive;
+			
+			// If the value sign has changed
+			if (previous_value != is_positive)
+			{
+				text_dirty = true;
+				text_change_pending = true;
+				log_change_pending = true;
+			}
+		}
+		finally
+		{
+			semaphore.release();
+		}
+		
+		// If the value sign has changed
+		if (previous_value != is_positive)
+		{
+			state_changed();
+		}
+		
+		return previous_value;
+	}
+	
+	
+	/**
+	 * Notifies listeners which implement {@link Time_elapsed_listener}
+	 * interface about <i>time elapsed event</i>.<br>
+	 * <i>Performance note.</i> Contains synchronized sections. Synchronized
+	 * with:
+	 * <ul><li>{@link #add_Time_elapsed_listener(Time_elapsed_listener)};</li>
+	 * <li>{@link #remove_Time_elapsed_listener(Time_elapsed_listener)};</li>
+	 * <li>{@link #shutdown()}.</li></ul>
+	 */
+	protected void notify_time_elapsed_listeners()
+	{
+		// Listeners storage
+		final Listener_state state = listener_state;
+		
+		// If nothing has ever been subscribed
+		if (state == null)
+		{
+			return;
+		}
+		
+		try
+		{
+			state.lock.lockInterruptibly();
+		}
+		catch (final InterruptedException exc)
+		{
+			logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
+			Thread.currentThread().interrupt();
+		}
+		
+		try
+		{
+			// Reference to THIS object to send as event object
+			final Time_counter instance = this;
+			
+			// Time elapsed listeners notifying (each independently)
+			for (final Time_elapsed_listener i : state.time_elapsed_listeners)
+			{
+				Listener_dispatcher.execute(new Runnable()
+				{
+					@Override
+					public void run()
+					{
+						i.time_counter_reached_zero(
+								new Time_counter_event<Time_counter>(instance));
+					}
+				});
+			}
+		}
+		finally
+		{
+			state.lock.unlock();
+		}
+	}
+	
+	
+	///// Methods default-access of-instance ==============================/////
+	/**
+	 * Updates this time&nbsp;counter state in {@link Time_counter_registry}
+	 * secondary indexes. Is called after each change of time&nbsp;counter
+	 * value&nbsp;sign and (for {@link Solo_counter}) run state.
+	 * Does&nbsp;nothing if the&nbsp;time&nbsp;counter is&nbsp;not registered.
+	 */
+	final void state_changed()
+	{
+		Time_counter_control.get_instance().get_time_counters().update_state(this);
+	}
+	
+	
+	/**
+	 * Delivers the&nbsp;last change if it has&nbsp;been deferred because
+	 * the&nbsp;engine was in idle mode (see&nbsp;{@link
+	 * Time_counter_control#set_idle(boolean)}); does nothing otherwise.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 */
+	final void notify_deferred()
+	{
+		// If there is undelivered change
+		if (notification_deferred)
+		{
+			notify_time_counter_text_listeners();
+		}
+	}
+	
+	
+	/**
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @return Quantity of undelivered {@link Time_counter_text_listener}
+	 * notifications.
+	 */
+	final int get_listener_queue_depth()
+	{
+		// Listeners storage
+		final Listener_state state = listener_state;
+		
+		return state == null ? 0 : state.time_value_notifications.size();
+	}
+	
+	
+	/**
+	 * Replaces time&nbsp;counter layout with {@code new_value} if it is
+	 * {@code expected} at&nbsp;the&nbsp;moment, and marks the&nbsp;text as
+	 * outdated. The&nbsp;change has to be delivered by
+	 * {@link #notify_time_counter_text_listeners()} call.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param expected Time&nbsp;counter layout to be replaced.
+	 * 
+	 * @param new_value New time&nbsp;counter layout.
+	 * 
+	 * @return {@code true}&nbsp;&#0151; the&nbsp;layout has&nbsp;been
+	 * replaced; {@code false}&nbsp;&#0151; time&nbsp;counter has another
+	 * layout.
+	 */
+	final boolean replace_layout_profile(
+			final Layout_profile expected, final Layout_profile new_value)
+	{
+		// If the time counter has another layout
+		if (layout_profile != expected)
+		{
+			return false;
+		}
+		
+		try
+		{
+			semaphore.acquire(semaphore_permits);
+		}
+		catch (final InterruptedException exc)
+		{
+			logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
+			Thread.currentThread().interrupt();
+		}
+		
+		try
+		{
+			// If the layout has been changed concurrently
+			if (layout_profile != expected)
+			{
+				return false;
+			}
+			
+			layout_profile = new_value;
+			text_dirty = true;
+			text_change_pending = true;
+			
+			return true;
+		}
+		finally
+		{
+			semaphore.release(semaphore_permits);
+		}
+	}
+	
+	
+	/**
+	 * Is called by the&nbsp;engine each time time&nbsp;counter value is
+	 * changed by regular time counting. If {@link Latency_monitor} is turned
+	 * on, records {@link Latency_stage#LS_tick} latency and remembers
+	 * the&nbsp;flip to measure the&nbsp;rest stages of its delivery.
+	 * 
+	 * @param boundary_millis Time in milliseconds at&nbsp;which the&nbsp;value
+	 * has flipped.
+	 * 
+	 * @param now_millis Time (on the&nbsp;same timeline) at&nbsp;which
+	 * the&nbsp;new value has&nbsp;been calculated.
+	 */
+	final void value_flipped(final long boundary_millis, final long now_millis)
+	{
+		// Flip latencies monitor
+		final Latency_monitor monitor = Latency_monitor.get_instance();
+		
+		// If nothing is measured
+		if (!monitor.is_enabled())
+		{
+			return;
+		}
+		
+		// The flip in terms of high-resolution time
+		final long flip =
+				System.nanoTime() - (now_millis - boundary_millis) * 1000000;
+		
+		monitor.record(Latency_stage.LS_tick, instance_mode, flip);
+		flip_nanos = flip;
+	}
+	
+	
+	/**
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @return Current time&nbsp;counter value snapshot.
+	 */
+	final Time_counter_snapshot get_snapshot()
+	{
+		try
+		{
+			semaphore.acquire(semaphore_permits);
+		}
+		catch (final InterruptedException exc)
+		{
+			logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
+			Thread.currentThread().interrupt();
+		}
+		
+		try
+		{
+			// If the text hasn't been rendered after the last change
+			if (text_dirty)
+			{
+				render_time_string();
+			}
+			
+			return new Time_counter_snapshot(
+					this, time_counter_text, time_unit_values, is_positive);
+		}
+		finally
+		{
+			semaphore.release(semaphore_permits);
+		}
+	}
+	
+	
+	/**
+	 * Computes instant at&nbsp;which time&nbsp;counter value reaches
+	 * specified threshold (see
+	 * {@link #add_Time_threshold_listener(Duration, Time_threshold_listener)}
+	 * for threshold meaning). Is called by {@link #schedule_thresholds()}.
+	 * Extending classes override the&nbsp;method; default implementation
+	 * never schedules thresholds.
+	 * 
+	 * @param threshold_seconds Threshold in seconds.
+	 * 
+	 * @return Instant in milliseconds from the&nbsp;epoch.
+	 * {@link Long#MIN_VALUE} if the&nbsp;threshold cannot be reached in
+	 * the&nbsp;current time&nbsp;counter state (e.g.&nbsp;the&nbsp;time&nbsp;counter
+	 * is paused or the&nbsp;threshold is already passed).
+	 */
+	long threshold_due_millis(final long threshold_seconds)
+	{
+		return Long.MIN_VALUE;
+	}
+	
+	
+	/**
+	 * Reschedules thresholds after subscription change. Extending classes
+	 * override the&nbsp;method to acquire their time&nbsp;value lock before
+	 * calling {@link #schedule_thresholds()}.
+	 */
+	void reschedule_thresholds()
+	{
+		schedule_thresholds();
+	}
+	
+	
+	/**
+	 * Queues each threshold having subscribed listeners in
+	 * {@link Time_counter_control} expiry deadlines index at&nbsp;the&nbsp;instant
+	 * returned by {@link #threshold_due_millis(long)}, or removes it from
+	 * the&nbsp;index if the&nbsp;threshold cannot be reached. Is called after
+	 * each time&nbsp;counter value or run state change which is&nbsp;not
+	 * regular time counting.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 */
+	final void schedule_thresholds()
 	{
-		try
-		{
-			semaphore.acquire(semaphore_permits);
-		}
-		catch (final InterruptedException exc)
+		// Listeners storage
+		final Listener_state state = listener_state;
+		
+		// If nothing has ever been subscribed
+		if (state == null)
 		{
-			logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
-			Thread.currentThread().interrupt();
+			return;
 		}
 		
+		state.lock.lock();
+		
 		try
 		{
-			try
-			{
-				time_value_listeners_lock.lockInterruptibly();
-			}
-			catch (final InterruptedException exc)
+			// If there is nothing to schedule
+			if (state.thresholds.isEmpty())
 			{
-				logger.log(Level.INFO,
-						"Thread interrupts. Exception stack trace:", exc);
-				Thread.currentThread().interrupt();
+				return;
 			}
 			
-			try
+			// Expiry deadlines index
+			final Deadline_index deadline_index =
+					Time_counter_control.get_instance().get_deadline_index();
+			
+			for (final Threshold i : state.thresholds.values())
 			{
-				// This object's reference to be passed with event
-				final Time_counter instance = this;
+				// Instant at which the threshold is reached
+				final long due_millis = threshold_due_millis(i.seconds);
 				
-				// Listeners notification
-				for (final Time_counter_text_listener i : time_value_listeners)
+				// If the threshold cannot be reached
+				if (due_millis == Long.MIN_VALUE)
 				{
-					time_value_listeners_notifier.execute(new Runnable()
-					{
-						@Override
-						public void run()
-						{
-							i.time_counter_text_changed(
-									new Time_counter_event<>(instance),
-									new Time_counter_text_value(
-											time_counter_text, is_positive));
-						}
-					});
+					deadline_index.cancel(i);
+				}
+				else
+				{
+					deadline_index.schedule(i, due_millis);
 				}
-			}
-			finally
-			{
-				time_value_listeners_lock.unlock();
 			}
 		}
 		finally
 		{
-			semaphore.release(semaphore_permits);
+			state.lock.unlock();
 		}
 	}
 	
 	
 	/**
-	 * Sets time&nbsp;counter value sign (positive or negative). Extending
-	 * classes must use value sign setting according to {@link Mode} in which
-	 * they are running.
-	 * <ul><li><i>{@link Mode#M_stopwatch}.</i> Time&nbsp;values <u>cannot be
-	 * negative</u> ({@code true} always need to be passed).</li>
-	 * <li><i>{@link Mode#M_countdown}.</i> {@code true} need to be passed
-	 * before time&nbsp;value reaches zero (i.e.&nbsp;while time&nbsp;value
-	 * <u>is&nbsp;positive</u>). After reaching zero {@code false} need to be
-	 * passed (i.e.&nbsp;when time&nbsp;value <u>is&nbsp;negative</u>).</li>
-	 * <li><i>{@link Mode#M_elapsed_from}.</i> {@code false} need to be passed
-	 * while current time&nbsp;value <u>is&nbsp;before</u> designated
-	 * time&nbsp;point (i.e.time&nbsp;value <u>is&nbsp;negative</u> because it
-	 * <u>is&nbsp;before</u> the&nbsp;designated time&nbsp;point, elapsed time
-	 * from which need to be calculated). {@code true} need to be passed when
-	 * current time&nbsp;value <u>is&nbsp;after</u> designated time&nbsp;point
-	 * (i.e.&nbsp;time&nbsp;value <u>is&nbsp;positive</u>).</li>
-	 * <li><i>{@link Mode#M_remains_till}.</i> {@code true} need to be passed
-	 * while current time&nbsp;value <u>has&nbsp;not</u> yet reached
-	 * the&nbsp;designated time&nbsp;point (i.e.&nbsp;time&nbsp;value
-	 * <u>is&nbsp;positive</u> because it actually shows time remaining to
-	 * the&nbsp;designated time&nbsp;point). {@code false} need to be passed
-	 * when current time&nbsp;value <u>is&nbsp;after</u> designated
-	 * time&nbsp;point (i.e.&nbsp;time&nbsp;value <u>is&nbsp;negative</u>
-	 * because designated time&nbsp;point <u>is&nbsp;passed</u>).</li></ul>
-	 * <i>Performance note.</i> Contains synchronized sections. Synchronized
-	 * with:
-	 * <ul><li>{@link #build_time_string()};</li>
-	 * <li>{@link #build_time_string(String)};</li>
-	 * <li>{@link #get_time_counter_text_value()};</li>
-	 * <li>{@link #set_time_display_style(Time_display_style)};</li>
-	 * <li>{@link #set_time_unit_layout(Time_unit_layout)};</li>
-	 * <li>{@link #notify_time_counter_text_listeners()}.</li></ul>
-	 * 
-	 * @param is_positive {@code true}&nbsp;&#0151; time&nbsp;value
-	 * <u>is&nbsp;positive</u>; {@code false}&nbsp;&#0151;
-	 * <u>is&nbsp;negative</u>.
-	 * 
-	 * @return Previous time&nbsp;counter value sign: {@code true}&nbsp;&#0151;
-	 * <u>positive</u>; {@code false}&nbsp;&#0151; <u>negative</u>.
+	 * Removes all thresholds from {@link Time_counter_control} expiry
+	 * deadlines index without unsubscribing their listeners.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
 	 */
-	protected final boolean set_time_counter_value_sign(
-			final boolean is_positive)
+	final void cancel_thresholds()
 	{
-		try
-		{
-			semaphore.acquire();
-		}
-		catch (final InterruptedException exc)
+		// Listeners storage
+		final Listener_state state = listener_state;
+		
+		// If nothing has ever been subscribed
+		if (state == null)
 		{
-			logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
-			Thread.currentThread().interrupt();
+			return;
 		}
 		
+		state.lock.lock();
+		
 		try
 		{
-			// Previous time value sign to return
-			final boolean previous_value = this.is_positive;
-			
-			this.is_positive = is_positive;
+			// Expiry deadlines index
+			final Deadline_index deadline_index =
+					Time_counter_control.get_instance().get_deadline_index();
 			
-			return previous_value;
+			for (final Threshold i : state.thresholds.values())
+			{
+				deadline_index.cancel(i);
+			}
 		}
 		finally
 		{
-			semaphore.release();
+			state.lock.unlock();
 		}
 	}
 	
 	
+	///// Methods private static ==========================================/////
 	/**
-	 * @return Time&nbsp;counter value&nbsp;sign. {@code true}&nbsp;&#0151;
-	 * time&nbsp;value <u>is&nbsp;positive</u>; {@code false}&nbsp;&#0151;
-	 * <u>is&nbsp;negative</u>. Returning&nbsp;value depends
-	 * on {@link Mode} in which time&nbsp;counter is running. <u>Extending
-	 * classes must set value&nbsp;sign correctly</u>
-	 * (see&nbsp;{@link #set_time_counter_value_sign(boolean)} method
-	 * description).
-	 * <ul><li><i>{@link Mode#M_stopwatch}.</i> Time&nbsp;value
-	 * <u>is&nbsp;always</u> positive, so {@code true} is&nbsp;always returned.</li>
-	 * <li><i>{@link Mode#M_countdown}.</i> {@code true} is&nbsp;returned before
-	 * time&nbsp;value reaches zero (i.e.&nbsp;time&nbsp;value
-	 * <u>is&nbsp;positive</u>). After reaching zero {@code false}
-	 * is&nbsp;returned (i.e.&nbsp;time&nbsp;value <u>is&nbsp;negative</u>).</li>
-	 * <li><i>{@link Mode#M_elapsed_from}.</i> {@code false} is&nbsp;returned
-	 * while current time&nbsp;value <u>is&nbsp;before</u> designated
-	 * time&nbsp;point (i.e.&nbsp;time&nbsp;value <u>is&nbsp;negative</u>
-	 * because it <u>is&nbsp;before</u> the&nbsp;designated time&nbsp;point,
-	 * elapsed time from which need to be calculated). {@code true}
-	 * is&nbsp;returned when current time&nbsp;value <u>is&nbsp;after</u>
-	 * designated time&nbsp;point (i.e.&nbsp;time&nbsp;value
-	 * <u>is&nbsp;positive</u>).</li>
-	 * <li><i>{@link Mode#M_remains_till}.</i> {@code true} is&nbsp;returned
-	 * while current time&nbsp;value <u>has&nbsp;not</u> yet reached
-	 * the&nbsp;designated time&nbsp;point (i.e.&nbsp;time&nbsp;value
-	 * <u>is&nbsp;positive</u> because it actually shows time remaining to
-	 * the&nbsp;designated time&nbsp;point). {@code false} is&nbsp;returned when
-	 * current time&nbsp;value <u>is&nbsp;after</u> designated time&nbsp;point
-	 * (i.e.&nbsp;time&nbsp;value <u>is&nbsp;negative</u> because designated
-	 * time&nbsp;point <u>is&nbsp;passed</u>).</li></ul>
+	 * @param first Time&nbsp;unit. May be {@code null}.
+	 * 
+	 * @param second Time&nbsp;unit. May be {@code null}.
+	 * 
+	 * @return The&nbsp;smaller of two time&nbsp;units (e.g.&nbsp;seconds
+	 * are smaller than minutes). {@code null} if both arguments are
+	 * {@code null}.
 	 */
-	protected final boolean is_positive_value()
+	private static Time_unit_name finer(
+			final Time_unit_name first, final Time_unit_name second)
 	{
-		return is_positive;
+		// If there is nothing to compare with
+		if (first == null || second == null)
+		{
+			return (first == null ? second : first);
+		}
+		
+		return (first.compareTo(second) > 0 ? first : second);
 	}
 	
 	
+	///// Методы private экземпляра =======================================/////
 	/**
-	 * Notifies listeners which implement {@link Time_elapsed_listener}
-	 * interface about <i>time elapsed event</i>.<br>
-	 * <i>Performance note.</i> Contains synchronized sections. Synchronized
-	 * with:
-	 * <ul><li>{@link #add_Time_elapsed_listener(Time_elapsed_listener)};</li>
-	 * <li>{@link #remove_Time_elapsed_listener(Time_elapsed_listener)};</li>
-	 * <li>{@link #shutdown()}.</li></ul>
+	 * Creates {@link #listener_state} if it doesn't exist yet.
+	 * 
+	 * @return This time&nbsp;counter listeners storage.
 	 */
-	protected void notify_time_elapsed_listeners()
+	private Listener_state listener_state()
 	{
-		try
-		{
-			time_elapsed_listeners_lock.lockInterruptibly();
-		}
-		catch (final InterruptedException exc)
+		// Listeners storage
+		final Listener_state state = listener_state;
+		
+		// If the storage already exists
+		if (state != null)
 		{
-			logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
-			Thread.currentThread().interrupt();
+			return state;
 		}
 		
-		/* Time elapsed listeners notifier to notify each listener in a separate
-		 * thread */
-		ThreadPoolExecutor notifier = null;
+		listener_state_updater.compareAndSet(this, null, new Listener_state());
+		
+		return listener_state;
+	}
+	
+	
+	/**
+	 * Notifies listeners subscribed for {@code threshold}, each independently
+	 * in {@link Listener_dispatcher} pool.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param threshold Reached threshold.
+	 */
+	private void notify_time_threshold_listeners(final Threshold threshold)
+	{
+		// Listeners storage (exists since the threshold is subscribed)
+		final Listener_state state = listener_state;
+		
+		state.lock.lock();
 		
 		try
 		{
-			final int time_elapsed_listeners_quantity =
-					time_elapsed_listeners.size();
-			
 			// If there is no listeners to notify
-			if (time_elapsed_listeners_quantity == 0)
+			if (threshold.listeners.isEmpty())
 			{
 				return;
 			}
 			
-			notifier = new ThreadPoolExecutor(
-					time_elapsed_listeners_quantity,
-					time_elapsed_listeners_quantity,
-					0, TimeUnit.NANOSECONDS,
-					new ArrayBlockingQueue<>(time_elapsed_listeners_quantity));
-			notifier.prestartAllCoreThreads();
-			
-			// Reference to THIS object to send as event object
-			final Time_counter instance = this;
+			// Event to send to each listener
+			final Time_threshold_event event = new Time_threshold_event(
+					this, Duration.ofSeconds(threshold.seconds));
 			
-			// Time elapsed listeners notifying (each in separate thread)
-			for (final Time_elapsed_listener i : time_elapsed_listeners)
+			for (final Time_threshold_listener i : threshold.listeners)
 			{
-				notifier.execute(new Runnable()
+				Listener_dispatcher.execute(new Runnable()
 				{
 					@Override
 					public void run()
 					{
-						i.time_counter_reached_zero(
-								new Time_counter_event<Time_counter>(instance));
+						i.time_threshold_reached(event);
 					}
 				});
 			}
 		}
 		finally
 		{
-			time_elapsed_listeners_lock.unlock();
-			
-			// Shutdown executor
-			if (notifier != null)
+			state.lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Finds the&nbsp;largest time&nbsp;unit which value differs from
+	 * {@link #notified_values}.<br>
+	 * <b>Warning!</b> At&nbsp;least one {@link #semaphore} permit must be
+	 * held by the&nbsp;caller.
+	 * 
+	 * @return The&nbsp;largest changed time&nbsp;unit.
+	 * {@link Time_unit_name#TUN_years} if value sign has&nbsp;been changed,
+	 * nothing has&nbsp;been notified yet or <u>nothing</u> has&nbsp;been
+	 * changed (i.e.&nbsp;the&nbsp;text is changed because of formatting, which
+	 * concerns everybody).
+	 */
+	private Time_unit_name changed_unit()
+	{
+		// If the change concerns everybody
+		if (!is_notified || notified_sign != is_positive)
+		{
+			return Time_unit_name.TUN_years;
+		}
+		
+		for (final Time_unit_name i : time_units)
+		{
+			// If the time unit value has been changed
+			if (time_unit_values[i.ordinal()] != notified_values[i.ordinal()])
 			{
-				notifier.setCorePoolSize(0);
+				return i;
 			}
 		}
+		
+		return Time_unit_name.TUN_years;
+	}
+	
+	
+	/**
+	 * Puts {@code value} to {@link #time_unit_values}.<br>
+	 * <b>Warning!</b> At&nbsp;least one {@link #semaphore} permit must be
+	 * held by the&nbsp;caller.
+	 * 
+	 * @param time_unit Time&nbsp;unit.
+	 * 
+	 * @param value Time&nbsp;unit value.
+	 * 
+	 * @return {@code true}&nbsp;&#0151; the&nbsp;value differs from
+	 * the&nbsp;previous one; {@code false}&nbsp;&#0151; otherwise.
+	 */
+	private boolean put_time_unit_value(
+			final Time_unit_name time_unit, final long value)
+	{
+		// Time unit value index
+		final int index = time_unit.ordinal();
+		// Previous time unit value
+		final long previous = time_unit_values[index];
+		
+		time_unit_values[index] = value;
+		
+		return previous != value;
+	}
+	
+	
+	/**
+	 * Stores current time&nbsp;unit values and value sign to
+	 * {@link #notified_values} and {@link #notified_sign}.<br>
+	 * <b>Warning!</b> All {@link #semaphore} permits must be held by
+	 * the&nbsp;caller.
+	 */
+	private void remember_notified_values()
+	{
+		System.arraycopy(time_unit_values, 0,
+				notified_values, 0, time_unit_values.length);
+		notified_sign = is_positive;
+		is_notified = true;
+	}
+	
+	
+	/**
+	 * @param control Time&nbsp;counters engine.
+	 * 
+	 * @return The&nbsp;smallest time&nbsp;unit which text change somebody is
+	 * interested in among engine&#8209;level consumers (see
+	 * {@link Time_counter_control#get_change_consumers_granularity()}),
+	 * subscribers of this time&nbsp;counter snapshots and
+	 * {@link #time_value_listeners_granularity}. {@code null} if there are
+	 * no&nbsp;text consumers at&nbsp;all.
+	 */
+	private Time_unit_name consumers_granularity(
+			final Time_counter_control control)
+	{
+		// This time counter snapshots publisher
+		final Snapshot_publisher publisher = snapshot_publisher;
+		
+		return finer(finer(control.get_change_consumers_granularity(),
+						publisher == null ? null : publisher.get_granularity()),
+				time_value_listeners_granularity);
 	}
 	
 	
-	///// Методы private экземпляра =======================================/////
 	/**
-	 * Auxiliary for {@link #build_time_string()} method. Formats string
-	 * according to passed {@code time_unit} argument and appends it to
-	 * {@link #formatter}.
+	 * Recalculates {@link #time_value_listeners_granularity}.<br>
+	 * <b>Warning!</b> {@link Listener_state#lock} must be held by
+	 * the&nbsp;caller.
 	 * 
-	 * @param time_unit Time&nbsp;unit which has to be displayed.
+	 * @param state This time&nbsp;counter listeners storage.
 	 */
-	private void format(final Time_unit_name time_unit)
+	private void update_time_value_listeners_granularity(
+			final Listener_state state)
 	{
-		formatter.format(format_conversions.get(time_unit),
-				time_unit_values.get(time_unit));
+		// The smallest granularity among listeners
+		Time_unit_name result = null;
 		
-		switch (time_unit_layout)
+		for (final Text_listener_entry i : state.time_value_listeners)
 		{
-		case TUL_value_sign:
-			formatter.format(time_counter_resources.getString(
-					time_unit_signs.get(time_unit)));
-			
-			break;
-			
-		case TUL_short_name:
-			formatter.format(time_counter_resources.getString(
-					time_unit_short_names.get(time_unit)));
-			
-			break;
-			
-		case TUL_full_name:
-			formatter.format(Time_unit_full_name_resource_provider.get_name(
-					time_unit, time_unit_values.get(time_unit)));
-			
-			break;
+			// If the listener is interested in smaller time unit
+			if (result == null || i.granularity.compareTo(result) > 0)
+			{
+				result = i.granularity;
+			}
+		}
+		
+		time_value_listeners_granularity = result;
+	}
+	
+	
+	/**
+	 * Sets {@link #layout_profile} which differs from current one by
+	 * specified layout parameters. Time&nbsp;counter text is rendered again
+	 * and delivered to listeners if the&nbsp;layout is changed.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param time_display_style New time&nbsp;counter display style.
+	 * {@code null} if it is&nbsp;not changed.
+	 * 
+	 * @param left_edge New leftmost displayed time&nbsp;unit. {@code null}
+	 * if displaying range is&nbsp;not changed.
+	 * 
+	 * @param right_edge New rightmost displayed time&nbsp;unit. {@code null}
+	 * if displaying range is&nbsp;not changed.
+	 * 
+	 * @param time_unit_layout New time&nbsp;units layout style. {@code null}
+	 * if it is&nbsp;not changed.
+	 */
+	private void change_layout(final Time_display_style time_display_style,
+			final Time_unit_name left_edge, final Time_unit_name right_edge,
+			final Time_unit_layout time_unit_layout)
+	{
+		try
+		{
+			semaphore.acquire(semaphore_permits);
+		}
+		catch (final InterruptedException exc)
+		{
+			logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
+			Thread.currentThread().interrupt();
+		}
+		
+		try
+		{
+			// Current time counter layout
+			final Layout_profile current = layout_profile;
+			// New time counter layout
+			final Layout_profile new_value = Layout_profile.get_instance(
+					time_display_style == null ?
+							current.get_time_display_style() : time_display_style,
+					left_edge == null ? current.get_leftmost_time_unit() : left_edge,
+					right_edge == null ? current.get_rightmost_time_unit() : right_edge,
+					time_unit_layout == null ?
+							current.get_time_unit_layout() : time_unit_layout);
 			
-		case TUL_digits_only:
-			formatter.format(time_counter_resources.getString(
-					time_unit_digits_only.get(time_unit)));
+			// If the layout isn't changed
+			if (new_value == current)
+			{
+				return;
+			}
 			
-			break;
-		
-		default:
-			throw new EnumConstantNotPresentException(
-					Time_unit_layout.class, time_unit_layout.name());
+			layout_profile = new_value;
+			text_dirty = true;
+			text_change_pending = true;
+		}
+		finally
+		{
+			semaphore.release(semaphore_permits);
 		}
+		
+		notify_time_counter_text_listeners();
+	}
+	
+	
+	/**
+	 * Formats text&nbsp;string with time&nbsp;counter value according to
+	 * {@link #layout_profile} and clears {@link #text_dirty}. Is called on demand by
+	 * {@link #get_time_counter_text_value()},
+	 * {@link #notify_time_counter_text_listeners()} and
+	 * {@link #get_snapshot()}; the&nbsp;result is cached until the&nbsp;next
+	 * change.<br>
+	 * <b>Warning!</b> All {@link #semaphore} permits must be held by
+	 * the&nbsp;caller.
+	 */
+	private void render_time_string()
+	{
+		// Flight recorder event
+		final Object render_event = Flight_recorder.begin_render();
+		// Time counter layout
+		final Layout_profile profile = layout_profile;
+		
+		time_counter_text = profile.render(time_unit_values, is_positive);
+		text_dirty = false;
+		Flight_recorder.end_render(render_event, instance_mode,
+				profile.get_time_display_style(),
+				profile.get_leftmost_time_unit(),
+				profile.get_rightmost_time_unit(), time_counter_text.length());
 	}
 	
 	
@@ -1625,15 +2615,53 @@ public abstract class Time_counter implements Serializable
 			deserialization_status = false;
 		}
 		
+		layout_profile = Layout_profile.get_instance(time_display_style,
+				time_value_edges[0], time_value_edges[1], time_unit_layout);
+		time_display_style = null;
+		time_value_edges = null;
+		time_unit_layout = null;
 		semaphore = new Semaphore(semaphore_permits);
-		time_value_edges_lock = new ReentrantLock();
-		time_value_listeners_lock = new ReentrantLock();
-		time_elapsed_listeners_lock = new ReentrantLock();
 		time_counter_text = "";
-		time_unit_values = new EnumMap<>(Time_unit_name.class);
-		time_value_listeners = new ArrayList<>();
-		time_elapsed_listeners = new ArrayList<>();
-		time_value_listeners_notifier = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0,
-				TimeUnit.NANOSECONDS, new LinkedTransferQueue<>());
+		time_unit_values = new long[time_units.length];
+		listener_state = null;
+		change_feed_slot = -1;
+		time_value_listeners_granularity = null;
+		notified_values = new long[time_units.length];
+		notified_sign = true;
+		is_notified = false;
+		text_dirty = true;
+		text_change_pending = true;
+		log_change_pending = true;
+		notification_deferred = false;
+		flip_nanos = Long.MIN_VALUE;
+		snapshot_publisher = null;
+	}
+	
+	
+	/**
+	 * Serializes the&nbsp;object. {@link #layout_profile} is written as
+	 * {@link #time_display_style}, {@link #time_value_edges} and
+	 * {@link #time_unit_layout} fields.
+	 * 
+	 * @param output_stream Выходной поток, в который записывается экземпляр
+	 * класса.
+	 * 
+	 * @throws IOException Ошибка в работе выходного потока.
+	 */
+	private void writeObject(final ObjectOutputStream output_stream)
+			throws IOException
+	{
+		// Serialized fields
+		final ObjectOutputStream.PutField fields = output_stream.putFields();
+		// Time counter layout
+		final Layout_profile profile = layout_profile;
+		
+		fields.put("instance_mode", instance_mode);
+		fields.put("description_text", description_text);
+		fields.put("is_positive", is_positive);
+		fields.put("time_display_style", profile.get_time_display_style());
+		fields.put("time_value_edges", profile.get_time_value_edges());
+		fields.put("time_unit_layout", profile.get_time_unit_layout());
+		output_stream.writeFields();
 	}
 }
@@ -17,6 +17,7 @@ package app.tar.time_obj;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
@@ -24,24 +25,40 @@ import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ResourceBundle;
-import java.util.concurrent.Callable;
-import java.util.concurrent.CyclicBarrier;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import app.tar.time_obj.containers.Modified_ArrayList;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import app.tar.time_obj.containers.Time_counter_registry;
 import app.tar.time_obj.dialog.User_notification_dialog;
 import app.tar.time_obj.dialog.User_notification_type;
+import app.tar.time_obj.events.Batch_operation_event;
+import app.tar.time_obj.events.Batch_operation_listener;
+import app.tar.time_obj.events.Batch_operation_type;
+import app.tar.time_obj.events.Change_feed_event;
+import app.tar.time_obj.events.Change_feed_listener;
+import app.tar.time_obj.events.Clock_jump_event;
+import app.tar.time_obj.events.Clock_jump_listener;
 import app.tar.time_obj.events.User_notification_event;
 
 
@@ -50,6 +67,14 @@ import app.tar.time_obj.events.User_notification_event;
  * using {@link #get_time_counters()} method.<br>
  * The&nbsp;main task of this class is to provide synchronous execution of all
  * {@link Instance_counter} objects.<br>
+ * All time&nbsp;counters obtain current time from the&nbsp;engine
+ * {@link Clock} (see {@link #set_clock(Clock)}), so the&nbsp;engine may be run
+ * in time&#8209;warp simulation mode using {@link Simulated_clock}.<br>
+ * Running {@link Solo_counter}s are ticked by the&nbsp;single engine
+ * scheduler. Groups of time&nbsp;counters can be started, paused, restarted
+ * and closed at&nbsp;once using batch operations (e.g.&nbsp;
+ * {@link #start_all(Mode...)}); each batch operation results in single
+ * {@link Batch_operation_event}.<br>
  * <i>Note.</i> This class <u>is implemented as singleton</u>. Its instance can
  * be obtained using {@link #get_instance()} method.
  * 
@@ -58,6 +83,333 @@ import app.tar.time_obj.events.User_notification_event;
  */
 public class Time_counter_control
 {
+	///// Inner classes private ===========================================/////
+	/**
+	 * {@link Time_counter_control_MXBean} implementation.
+	 * 
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	private class Control_MXBean implements Time_counter_control_MXBean
+	{
+		///// Methods public of-instance ==================================/////
+		@Override
+		public int getRunning_solo_counters()
+		{
+			solo_counters_lock.lock();
+			
+			try
+			{
+				return running_solo_counters.size();
+			}
+			finally
+			{
+				solo_counters_lock.unlock();
+			}
+		}
+		
+		
+		@Override
+		public int getInstance_counters()
+		{
+			lock.lock();
+			
+			try
+			{
+				return instance_counters.size();
+			}
+			finally
+			{
+				lock.unlock();
+			}
+		}
+		
+		
+		@Override
+		public boolean isIdle()
+		{
+			return idle;
+		}
+		
+		
+		@Override
+		public Latency_summary getSolo_tick_duration()
+		{
+			return new Latency_summary(solo_tick_statistics.get_durations());
+		}
+		
+		
+		@Override
+		public long getSolo_ticks()
+		{
+			return solo_tick_statistics.get_ticks();
+		}
+		
+		
+		@Override
+		public long getSolo_late_ticks()
+		{
+			return solo_tick_statistics.get_late_ticks();
+		}
+		
+		
+		@Override
+		public long getSolo_missed_ticks()
+		{
+			return solo_tick_statistics.get_missed_ticks();
+		}
+		
+		
+		@Override
+		public Latency_summary getSolo_tick_lateness()
+		{
+			return new Latency_summary(solo_tick_statistics.get_lateness());
+		}
+		
+		
+		@Override
+		public long getSolo_coalesced_ticks()
+		{
+			return solo_tick_statistics.get_coalesced_ticks();
+		}
+		
+		
+		@Override
+		public long getSolo_replayed_ticks()
+		{
+			return solo_tick_statistics.get_replayed_ticks();
+		}
+		
+		
+		@Override
+		public Latency_summary getInstance_tick_duration()
+		{
+			return new Latency_summary(instance_tick_statistics.get_durations());
+		}
+		
+		
+		@Override
+		public long getInstance_ticks()
+		{
+			return instance_tick_statistics.get_ticks();
+		}
+		
+		
+		@Override
+		public long getInstance_late_ticks()
+		{
+			return instance_tick_statistics.get_late_ticks();
+		}
+		
+		
+		@Override
+		public long getInstance_missed_ticks()
+		{
+			return instance_tick_statistics.get_missed_ticks();
+		}
+		
+		
+		@Override
+		public Latency_summary getInstance_tick_lateness()
+		{
+			return new Latency_summary(instance_tick_statistics.get_lateness());
+		}
+		
+		
+		@Override
+		public long getInstance_coalesced_ticks()
+		{
+			return instance_tick_statistics.get_coalesced_ticks();
+		}
+		
+		
+		@Override
+		public long getInstance_replayed_ticks()
+		{
+			return instance_tick_statistics.get_replayed_ticks();
+		}
+		
+		
+		@Override
+		public Missed_tick_policy getMissed_tick_policy()
+		{
+			return missed_tick_policy;
+		}
+		
+		
+		@Override
+		public void setMissed_tick_policy(final Missed_tick_policy policy)
+		{
+			set_missed_tick_policy(policy);
+		}
+		
+		
+		@Override
+		public long getClock_jumps()
+		{
+			return clock_jump_detector.get_jumps();
+		}
+		
+		
+		@Override
+		public long getLast_clock_jump_millis()
+		{
+			return clock_jump_detector.get_last_jump_millis();
+		}
+		
+		
+		@Override
+		public Clock_jump_policy getClock_jump_policy()
+		{
+			return clock_jump_policy;
+		}
+		
+		
+		@Override
+		public void setClock_jump_policy(final Clock_jump_policy policy)
+		{
+			set_clock_jump_policy(policy);
+		}
+		
+		
+		@Override
+		public int getListener_queue_depth()
+		{
+			// Total queue depth
+			int result = 0;
+			
+			for (final Time_counter i : time_counters.snapshot())
+			{
+				result += i.get_listener_queue_depth();
+			}
+			
+			return result;
+		}
+		
+		
+		@Override
+		public int getMax_listener_queue_depth()
+		{
+			// The biggest queue depth
+			int result = 0;
+			
+			for (final Time_counter i : time_counters.snapshot())
+			{
+				result = Math.max(result, i.get_listener_queue_depth());
+			}
+			
+			return result;
+		}
+		
+		
+		@Override
+		public Latency_summary getDispatch_latency()
+		{
+			return new Latency_summary(Latency_monitor.get_instance().
+					get_histogram(Latency_stage.LS_dispatch, null));
+		}
+		
+		
+		@Override
+		public boolean isLatency_monitoring_enabled()
+		{
+			return Latency_monitor.get_instance().is_enabled();
+		}
+		
+		
+		@Override
+		public void setLatency_monitoring_enabled(final boolean enabled)
+		{
+			Latency_monitor.get_instance().set_enabled(enabled);
+		}
+		
+		
+		@Override
+		public long getLast_save_duration_micros()
+		{
+			return last_save_duration_micros;
+		}
+		
+		
+		@Override
+		public long getLast_save_size_bytes()
+		{
+			return last_save_size_bytes;
+		}
+		
+		
+		@Override
+		public int getEngine_threads()
+		{
+			return engine_executor.getPoolSize();
+		}
+		
+		
+		@Override
+		public int getListener_threads()
+		{
+			return Snapshot_publisher.get_delivery_threads() +
+					Listener_dispatcher.get_threads();
+		}
+		
+		
+		@Override
+		public void reset_statistics()
+		{
+			solo_tick_statistics.reset();
+			instance_tick_statistics.reset();
+			Latency_monitor.get_instance().reset();
+		}
+	}
+	
+	
+	/**
+	 * {@link Time_counter_registry_MXBean} implementation.
+	 * 
+	 * @version 1.0
+	 * @author Igor Taranenko
+	 */
+	private class Registry_MXBean implements Time_counter_registry_MXBean
+	{
+		///// Methods public of-instance ==================================/////
+		@Override
+		public int getSize()
+		{
+			return time_counters.size();
+		}
+		
+		
+		@Override
+		public Map<String, Integer> getCounters_by_mode()
+		{
+			// Quantities to return
+			final Map<String, Integer> result = new LinkedHashMap<>();
+			
+			for (final Mode i : Mode.values())
+			{
+				result.put(i.name(), time_counters.get_quantity(i));
+			}
+			
+			return result;
+		}
+		
+		
+		@Override
+		public Map<String, Integer> getCounters_by_state()
+		{
+			// Quantities to return
+			final Map<String, Integer> result = new LinkedHashMap<>();
+			
+			for (final Time_counter_state i : Time_counter_state.values())
+			{
+				result.put(i.name(), time_counters.get_quantity(i));
+			}
+			
+			return result;
+		}
+	}
+	
+	
 	///// Fields default-access static ====================================/////
 	/** Resource bundle <i>.properties</i> file containing dialog messages
 	 * according to program locale. */
@@ -71,11 +423,33 @@ public class Time_counter_control
 	/** Единственный экземпляр класса */
 	private static Time_counter_control instance;
 	
+	/** Time in milliseconds representing frequency of running
+	 * {@link Solo_counter}s ticking. Counted time itself <u>does&nbsp;not</u>
+	 * depend on this frequency: it is obtained from the&nbsp;engine clock. */
+	private static final int solo_counters_tick_period;
+	
+	/** {@link #change_log} capacity. */
+	private static final int change_log_capacity;
+	
+	/** {@link Instance_counter}s recalculation started no&nbsp;earlier than
+	 * {@link #instance_tick_lead_millis} plus this time in milliseconds
+	 * before its second boundary is performed for the&nbsp;boundary instant.
+	 * Covers clock reading granularity. */
+	private static final int boundary_tolerance_millis;
+	
+	/** Default {@link #clock} jump detection threshold in milliseconds (see
+	 * {@link #set_clock_jump_threshold(Duration)}). */
+	private static final int default_clock_jump_threshold_millis;
+	
 	
 	static
 	{
 		logger = Logger.getLogger(Time_counter_control.class.getName());
 		message_resources = Settings.get_instance().get_message_resources();
+		solo_counters_tick_period = 100;
+		change_log_capacity = 1 << 16;
+		boundary_tolerance_millis = 2;
+		default_clock_jump_threshold_millis = 1000;
 		instance = new Time_counter_control();
 	}
 	
@@ -84,135 +458,332 @@ public class Time_counter_control
 	/** Название файла, содержащего элементы {@link #time_counters}. */
 	private final String file_name;
 
-	/** Содержит объекты, которые должны выполняться синхронно.<br>
+	/** Содержит объекты, которые должны выполняться синхронно. Each
+	 * element's {@link Instance_counter#instance_slot} is its index in
+	 * the&nbsp;list, so an&nbsp;element is added and removed in constant time
+	 * (the&nbsp;last element takes the&nbsp;place of removed one).<br>
 	 * <b>Важно!</b> Доступ к полю должен синхронизироваться. */
-	private ArrayList<Instance_counter> instance_counters;
-	
-	/** Содержит все объекты типа {@link Time_counter}. */
-	private Modified_ArrayList time_counters;
+	private final ArrayList<Instance_counter> instance_counters;
 	
-	/** Потоки, вызывающие метод
-	 * {@link Instance_counter#difference_calculation(boolean)} каждого
-	 * экземпляра класса {@link Instance_counter}.<br>
-	 * <b>Важно!</b> Доступ к полю должен синхронизироваться. */
-	private ArrayList<Callable<Void>> instance_counters_tasks;
+	/** Distinct time&nbsp;zones of {@link #instance_counters}. Each zone's
+	 * current date and time are computed once per
+	 * {@link #synchronous_task} execution.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #lock}. */
+	private final ArrayList<Zone_state> zone_states;
+	/** {@link #zone_states} by their zones' {@link Zone_table} indexes
+	 * ({@code null} for zones without listed time&nbsp;counters). Grows when
+	 * needed.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #lock}. */
+	private Zone_state[] zone_states_by_index;
 	
-	/** Запускает потоки {@link #instance_counters_tasks}. */
-	private ExecutorService instance_counters_executor;
+	/** Содержит все объекты типа {@link Time_counter}. */
+	private final Time_counter_registry time_counters;
 	
 	/** Основной поток класса, реализующий синхронную работу экземпляров класса
 	 * {@link Instance_counter}. */
-	private Runnable synchronous_task;
-	
-	/** Periodically executes {@link #synchronous_task}. */
-	private ScheduledExecutorService synchronous_task_executor;
+	private final Periodic_task synchronous_task;
 	
-	/** Присваивается статическому полю
-	 * {@link Instance_counter#difference_calculation_barrier}.<br>
-	 * <b>Важно!</b> Кол&#8209;во&nbsp;барьеров <u>должно соответствовать</u>
-	 * кол&#8209;ву&nbsp; элементов в {@link #instance_counters} и
-	 * {@link #instance_counters_tasks}. */
-	private CyclicBarrier instance_counters_barrier;
-	
-	/** Обеспечивает синхронизированный доступ к полям
-	 * {@link #instance_counters} и {@link #instance_counters_tasks}. */
-	private ReentrantLock lock;
+	/** Обеспечивает синхронизированный доступ к полю
+	 * {@link #instance_counters} и запуску/остановке
+	 * {@link #synchronous_task}. */
+	private final ReentrantLock lock;
 	
 	/** {@code true}&nbsp;&#0151; {@link #read_time_counters_from_file()} method
 	 * has&nbsp;been&nbsp;invoked already; {@code false}&nbsp;&#0151; otherwise. */
 	private boolean time_counters_are_read_from_file;
 	
+	/** Time source for all time&nbsp;counters. */
+	private volatile Clock clock;
+	
+	/** Running {@link Solo_counter}s. Each element's
+	 * {@link Solo_counter#running_slot} is its index in the&nbsp;list, so
+	 * an&nbsp;element is added and removed in constant time (the&nbsp;last
+	 * element takes the&nbsp;place of removed one).<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #solo_counters_lock}. */
+	private final ArrayList<Solo_counter> running_solo_counters;
+	/** {@link #running_solo_counters} copy used by {@link #solo_counters_task}
+	 * with a&nbsp;view to tick time&nbsp;counters without holding
+	 * {@link #solo_counters_lock}. Grows when needed.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #solo_counters_tick_lock}. */
+	private Solo_counter[] solo_counters_tick_buffer;
+	/** Serializes {@link #tick_solo_counters()} calls made by the&nbsp;engine
+	 * thread and by {@link #clock_moved(Simulated_clock)} callers, which
+	 * otherwise would share {@link #solo_counters_tick_buffer}.<br>
+	 * <b>Warning!</b> Must be acquired <u>before</u>
+	 * {@link #solo_counters_lock}. */
+	private final ReentrantLock solo_counters_tick_lock;
+	/** Synchronizes access to {@link #running_solo_counters} and
+	 * {@link #solo_counters_task} starting/cancelling.<br>
+	 * <b>Warning!</b> {@link Solo_counter}{@code 's} locks
+	 * <u>must&nbsp;not</u> be acquired while holding this lock. */
+	private final ReentrantLock solo_counters_lock;
+	/** Ticks {@link #running_solo_counters}. */
+	private final Periodic_task solo_counters_task;
+	/** Engine scheduler. Periodically executes {@link #solo_counters_task}
+	 * while there are running {@link Solo_counter}s and
+	 * {@link #synchronous_task} while there are {@link Instance_counter}s,
+	 * and serves {@link #deadline_index} timer.
+	 * Its thread is a&nbsp;daemon and is created once. */
+	private final ScheduledThreadPoolExecutor engine_executor;
+	/** The&nbsp;way {@link #solo_counters_task} and
+	 * {@link #synchronous_task} handle missed ticks. */
+	private volatile Missed_tick_policy missed_tick_policy;
+	/** Time in milliseconds by&nbsp;which {@link #synchronous_task} is
+	 * executed before wall clock second boundary (see
+	 * {@link #set_instance_tick_lead(Duration)}). */
+	private volatile long instance_tick_lead_millis;
+	/** {@link #clock} second boundary in milliseconds for which
+	 * the&nbsp;next {@link #synchronous_task} execution is scheduled.
+	 * {@link Long#MIN_VALUE} if the&nbsp;execution is&nbsp;not aligned yet.
+	 * Is accessed by {@link #engine_executor} thread only. */
+	private long instance_tick_boundary_millis;
+	/** Expiry instants of {@link Instance_counter}s and running
+	 * {@link Mode#M_countdown} {@link Solo_counter}s. Time&nbsp;elapsed events
+	 * are fired by its single timer exactly when time&nbsp;counters reach
+	 * zero. */
+	private final Deadline_index deadline_index;
+	
+	/** Detects {@link #clock} jumps (NTP steps, manual system time changes,
+	 * resumes from hibernation). */
+	private final Clock_jump_detector clock_jump_detector;
+	/** The&nbsp;way running {@link Solo_counter}s handle {@link #clock}
+	 * jumps. */
+	private volatile Clock_jump_policy clock_jump_policy;
+	/** Listeners subscribed for {@link Clock_jump_event}. */
+	private final ArrayList<Clock_jump_listener> clock_jump_listeners;
+	/** Synchronizes access to {@link #clock_jump_listeners}. */
+	private final ReentrantLock clock_jump_listeners_lock;
+	
+	/** Listeners subscribed for {@link Batch_operation_event}. */
+	private final ArrayList<Batch_operation_listener> batch_operation_listeners;
+	/** Synchronizes access to {@link #batch_operation_listeners}. */
+	private final ReentrantLock batch_operation_listeners_lock;
+	
+	/** Listeners subscribed for {@link Change_feed_event}. */
+	private final ArrayList<Change_feed_listener> change_feed_listeners;
+	/** Synchronizes access to {@link #change_feed_listeners}. */
+	private final ReentrantLock change_feed_listeners_lock;
+	/** {@code true}&nbsp;&#0151; there are {@link #change_feed_listeners}, so
+	 * time&nbsp;counters text changes are collected;
+	 * {@code false}&nbsp;&#0151; otherwise. */
+	private volatile boolean change_feed_enabled;
+	/** Time&nbsp;counters which text has&nbsp;been changed since
+	 * the&nbsp;last {@link Change_feed_event}. Each element's
+	 * {@link Time_counter#change_feed_slot} is its index in the&nbsp;array.
+	 * Grows when needed.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #change_feed_lock}. */
+	private Time_counter[] change_feed_counters;
+	/** New text values of {@link #change_feed_counters}.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #change_feed_lock}. */
+	private String[] change_feed_texts;
+	/** Value signs of {@link #change_feed_counters}.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #change_feed_lock}. */
+	private boolean[] change_feed_signs;
+	/** Quantity of used elements in {@link #change_feed_counters}.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #change_feed_lock}. */
+	private int change_feed_size;
+	/** Synchronizes access to collected changes and {@link #change_log}
+	 * creation. No&nbsp;other lock is acquired while holding this one. */
+	private final ReentrantLock change_feed_lock;
+	/** Delivers collected changes to {@link #change_feed_listeners}.
+	 * Is&nbsp;submitted to {@link #engine_executor} when the&nbsp;first change
+	 * is collected, so it is executed right after the&nbsp;engine tick which
+	 * has caused the&nbsp;change. */
+	private final Runnable change_feed_task;
+	
+	/** Pull-based time&nbsp;counters value changes log. Is created by
+	 * the&nbsp;first {@link #get_change_log()} call; changes are
+	 * not&nbsp;published before that. */
+	private volatile Change_log change_log;
+	
+	/** Delivers all time&nbsp;counters snapshots to subscribers of
+	 * {@link #get_publisher(Time_unit_name)} publishers. */
+	private final Snapshot_publisher snapshot_publisher;
+	
+	/** {@code true}&nbsp;&#0151; the&nbsp;engine is in idle mode
+	 * (see&nbsp;{@link #set_idle(boolean)}); {@code false}&nbsp;&#0151;
+	 * otherwise.<br>
+	 * <b>Warning!</b> Is changed only under {@link #idle_lock}. */
+	private volatile boolean idle;
+	/** Serializes {@link #set_idle(boolean)} calls.<br>
+	 * <b>Warning!</b> Must be acquired <u>before</u> {@link #lock} and
+	 * {@link #solo_counters_lock}. */
+	private final ReentrantLock idle_lock;
+	/** Recomputes all time&nbsp;counters in one batch when the&nbsp;engine
+	 * leaves idle mode. Is executed by {@link #engine_executor}. */
+	private final Runnable wake_up_task;
+	
+	/** {@link #solo_counters_task} statistics. */
+	private final Tick_statistics solo_tick_statistics;
+	/** {@link #synchronous_task} statistics. */
+	private final Tick_statistics instance_tick_statistics;
+	/** Duration of the&nbsp;last successful {@link #save_time_counters()}
+	 * call in microseconds. {@code -1} if time&nbsp;counters have&nbsp;not
+	 * been saved yet. */
+	private volatile long last_save_duration_micros;
+	/** Size of the&nbsp;file written by the&nbsp;last successful
+	 * {@link #save_time_counters()} call in bytes. {@code -1} if
+	 * time&nbsp;counters have&nbsp;not been saved yet. */
+	private volatile long last_save_size_bytes;
+	
 	
 	///// Нестатическая инициализация =====================================/////
 	{
-		synchronous_task = new Runnable()
+		engine_executor = new ScheduledThreadPoolExecutor(1,
+				new ThreadFactory()
+				{
+					@Override
+					public Thread newThread(final Runnable runnable)
+					{
+						// Engine scheduler thread
+						final Thread thread =
+								new Thread(runnable, "Time_counter engine");
+						
+						thread.setDaemon(true);
+						
+						return thread;
+					}
+				});
+		/* Cancelled tasks (e.g. deadline timers set months ahead) must not
+		 * stay queued till their delay expires */
+		engine_executor.setRemoveOnCancelPolicy(true);
+		solo_tick_statistics = new Tick_statistics(
+				solo_counters_tick_period, TimeUnit.MILLISECONDS);
+		instance_tick_statistics = new Tick_statistics(1, TimeUnit.SECONDS);
+		missed_tick_policy = Missed_tick_policy.MTP_coalesce;
+		instance_tick_lead_millis = 0;
+		instance_tick_boundary_millis = Long.MIN_VALUE;
+		
+		synchronous_task = new Periodic_task(
+				engine_executor, 1, TimeUnit.SECONDS, instance_tick_statistics)
 		{
 			@Override
-			public void run()
+			int tick(final int replayed)
 			{
-				try
-				{
-					lock.lockInterruptibly();
-				}
-				catch (final InterruptedException exc)
-				{
-					logger.log(Level.INFO,
-							"Thread interrupts. Exception stack trace:", exc);
-					Thread.currentThread().interrupt();
-				}
+				detect_clock_jump();
 				
-				try
-				{
-					/* Результаты выполнения синхронно выполняющихся методов,
-					 * использующиеся как флаг окончания работы каждого
-					 * синхронного метода */
-					List<Future<Void>> futures = null;
-					
-					try
-					{
-						futures = instance_counters_executor.invokeAll(
-								instance_counters_tasks);
-					}
-					catch (final InterruptedException exc)
-					{
-						instance_counters_barrier.reset();
-						logger.log(Level.INFO,
-								"Thread interrupts. Exception stack trace", exc);
-						Thread.currentThread().interrupt();
-					}
-					
-					// Флаг завершения всех синхронно выполняющихся потоков
-					boolean is_done = true;
-					
-					// Опрос синхронных потоков на предмет их завершения
-					do
-					{
-						for (Future<Void> i : futures)
-						{
-							is_done = i.isDone();
-							
-							// Если хотя бы один синхронный поток еще не завершен
-							if (!is_done)
-							{
-								break;
-							}
-						}
-					} while (!is_done);					
-					
-					instance_counters_barrier.reset();
-				}
-				finally
-				{
-					lock.unlock();
-				}
+				// Flight recorder event
+				final Object tick_event = Flight_recorder.begin_tick();
+				// Recalculated time counters quantity
+				final int counters = recalculate_instance_counters(
+						replayed, instance_tick_boundary_millis);
+				
+				Flight_recorder.end_tick(tick_event, "Instance", counters);
+				
+				return counters;
+			}
+			
+			
+			@Override
+			long next_deadline(final long deadline_nanos, final long periods)
+			{
+				return align_to_second_boundary(deadline_nanos, periods);
 			}
 		};
 		
 		lock = new ReentrantLock();
 		file_name = "time counters.tk";
-		time_counters = new Modified_ArrayList();
+		time_counters = new Time_counter_registry();
 		instance_counters = new ArrayList<>();
-		instance_counters_tasks = new ArrayList<>();
+		zone_states = new ArrayList<>();
+		zone_states_by_index = new Zone_state[0];
 		time_counters_are_read_from_file = false;
-	}
-	
-	
-	///// Конструкторы private ============================================/////
-	/**
-	 * Единственный конструктор класса.
-	 */
-	private Time_counter_control() {}
-	
-	
-	///// Методы public статические =======================================/////
-	/**
-	 * Возвращает единственный экземпляр класса.
-	 * 
-	 * @return Единственный экземпляр класса.
-	 */
-	public static Time_counter_control get_instance()
-	{
-		return instance;
+		clock = Clock.systemDefaultZone();
+		
+		running_solo_counters = new ArrayList<>();
+		solo_counters_tick_buffer = new Solo_counter[0];
+		solo_counters_tick_lock = new ReentrantLock();
+		solo_counters_lock = new ReentrantLock();
+		solo_counters_task = new Periodic_task(engine_executor,
+				solo_counters_tick_period, TimeUnit.MILLISECONDS,
+				solo_tick_statistics)
+		{
+			@Override
+			int tick(final int replayed)
+			{
+				detect_clock_jump();
+				
+				// Flight recorder event
+				final Object tick_event = Flight_recorder.begin_tick();
+				// Ticked time counters quantity
+				final int counters = tick_solo_counters(replayed != 0);
+				
+				Flight_recorder.end_tick(tick_event, "Solo", counters);
+				
+				return counters;
+			}
+		};
+		deadline_index = new Deadline_index(engine_executor);
+		clock_jump_detector =
+				new Clock_jump_detector(default_clock_jump_threshold_millis);
+		clock_jump_policy = Clock_jump_policy.CJP_count_jump;
+		clock_jump_listeners = new ArrayList<>();
+		clock_jump_listeners_lock = new ReentrantLock();
+		batch_operation_listeners = new ArrayList<>();
+		batch_operation_listeners_lock = new ReentrantLock();
+		
+		change_feed_listeners = new ArrayList<>();
+		change_feed_listeners_lock = new ReentrantLock();
+		change_feed_enabled = false;
+		change_feed_counters = new Time_counter[0];
+		change_feed_texts = new String[0];
+		change_feed_signs = new boolean[0];
+		change_feed_size = 0;
+		change_feed_lock = new ReentrantLock();
+		change_feed_task = new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				flush_change_feed();
+			}
+		};
+		change_log = null;
+		snapshot_publisher = new Snapshot_publisher();
+		idle = false;
+		idle_lock = new ReentrantLock();
+		wake_up_task = new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				wake_up();
+			}
+		};
+		last_save_duration_micros = -1;
+		last_save_size_bytes = -1;
+	}
+	
+	
+	///// Конструкторы private ============================================/////
+	/**
+	 * Единственный конструктор класса. Registers management interfaces
+	 * (see&nbsp;{@link Time_counter_control_MXBean} and
+	 * {@link Time_counter_registry_MXBean}).
+	 */
+	private Time_counter_control()
+	{
+		register_MXBeans();
+	}
+	
+	
+	///// Методы public статические =======================================/////
+	/**
+	 * Возвращает единственный экземпляр класса.
+	 * 
+	 * @return Единственный экземпляр класса.
+	 */
+	public static Time_counter_control get_instance()
+	{
+		return instance;
 	}
 	
 	
@@ -224,799 +795,2483 @@ public class Time_counter_control
 	 * 
 	 * @return All created {@link Time_counter} objects.
 	 */
-	public Modified_ArrayList get_time_counters()
+	public Time_counter_registry get_time_counters()
 	{
 		return time_counters;
 	}
 	
 	
 	/**
-	 * Добавляет объект в группу синхронного выполняющихся объектов типа
-	 * {@link Instance_counter}.<br>
-	 * <b>Важно!</b> Данный метод объявлен для взаимодействия с внутренним
-	 * контейнером типа {@link Modified_ArrayList}. При вызове не&nbsp;из
-	 * указанного контейнера генерирует исключение.<br>
-	 * <i>Примечание по&nbsp;производительности.</i> Данный метод содержит
-	 * синхронизированные участки.
-	 * 
-	 * @param instance_counter_obj Объект, который необходимо добавить.
+	 * @return Time source used by all time&nbsp;counters.
+	 */
+	public Clock get_clock()
+	{
+		return clock;
+	}
+	
+	
+	/**
+	 * Sets time source for all time&nbsp;counters. Running
+	 * {@link Solo_counter}s keep their counted time and split&nbsp;second
+	 * phase, and continue counting according to the&nbsp;new clock. All
+	 * {@link Instance_counter}s are recalculated immediately.<br>
+	 * Setting {@link Simulated_clock} turns the&nbsp;engine to time&#8209;warp
+	 * simulation mode, where time&nbsp;counters are driven by
+	 * {@link Simulated_clock#advance(java.time.Duration)} calls. Setting
+	 * {@link Clock#systemDefaultZone()} returns to normal mode.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
 	 * 
-	 * @exception IllegalStateException Метод вызван не&nbsp;из&nbsp;контейнера
-	 * {@link Modified_ArrayList}.
+	 * @param new_clock Time source to set.
 	 * 
-	 * @exception NullPointerException В&nbsp;качестве аргумента передан
-	 * {@code null}.
+	 * @exception NullPointerException {@code new_clock} argument
+	 * is&nbsp;{@code null}.
 	 */
-	public void add_instance_counter(
-			final Instance_counter instance_counter_obj)
+	public void set_clock(final Clock new_clock)
 	{
-		try
+		// Argument cannot be null
+		if (new_clock == null)
 		{
-			lock.lockInterruptibly();
+			throw new NullPointerException(
+					Clock.class.getName() + " argument is null");
 		}
-		/* Данное исключение не ожидается. Даже в случае его возникновения метод
-		 * должен выполниться до конца */
-		catch (final InterruptedException exc)
+		
+		clock = new_clock;
+		// Readings of different clocks are not compared
+		clock_jump_detector.reset();
+		
+		// Running solo counters are rebased to the new clock
+		for (final Solo_counter i : get_running_solo_counters())
 		{
-			logger.log(Level.WARNING, "Thread encountered unexpected "
-					+ InterruptedException.class.getName() + " while acquiring"
-					+ " semaphore permit to continue executing. Therefore"
-					+ " thread must be executed entirely. Exception stack trace:", exc);
+			i.rebase_clock(new_clock);
 		}
 		
+		recalculate_instance_counters(0, Long.MIN_VALUE);
+		deadline_index.fire_due();
+	}
+	
+	
+	/**
+	 * Turns idle (power&#8209;saving) mode on or off. Is intended to be called
+	 * when the&nbsp;program window is minimized or hidden and when it is
+	 * restored.<br>
+	 * In idle mode periodic engine tasks are cancelled, so the&nbsp;engine
+	 * thread does&nbsp;not wake&nbsp;up to count time: running
+	 * {@link Solo_counter}s keep correct time from their monotonic anchors and
+	 * are caught&nbsp;up later, {@link Instance_counter}s are&nbsp;not
+	 * recalculated. Time&nbsp;counters text is&nbsp;not rendered and
+	 * time&nbsp;counters changes are&nbsp;not delivered to listeners,
+	 * subscribers and {@link #get_change_log()}. Deadline&#8209;based events
+	 * ({@link Time_elapsed_listener} and {@link Time_threshold_listener}
+	 * notifications) stay active.<br>
+	 * When idle mode is turned off, all time&nbsp;counters are recomputed
+	 * in one batch on the&nbsp;engine thread, and each changed
+	 * time&nbsp;counter is delivered once. System time changes made
+	 * in idle mode are detected on wake&#8209;up (or when a&nbsp;deadline is
+	 * reached) and are handled according to {@link #get_clock_jump_policy()}
+	 * like any other clock jump.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param idle {@code true}&nbsp;&#0151; turn idle mode on;
+	 * {@code false}&nbsp;&#0151; turn it off.
+	 */
+	public void set_idle(final boolean idle)
+	{
+		idle_lock.lock();
+		
 		try
 		{
-			// Кол-во элементов в контейнере "instance_counters"
-			final int instance_counters_size = instance_counters.size();
-			
-			// Если метод вызван не из контейнера "time_counters"
-			if (time_counters.get_instance_counters_quantity() -
-					instance_counters_size != 1)
+			// If the mode isn't changed
+			if (this.idle == idle)
 			{
-				throw new IllegalStateException(
-						"Method have been called in inappropriate way");
+				return;
 			}
 			
-			assert !instance_counters.contains(instance_counter_obj) :
-					"Unexpected error occurred while adding Instance_counter element"
-						+ " to list. Additional object already exists";
+			this.idle = idle;
 			
-			// Объявлен для assert'ов
-			boolean result = instance_counters.add(instance_counter_obj);
+			// If the batch recomputation is needed
+			if (!idle)
+			{
+				/* The task is executed before rescheduled periodic tasks since
+				 * it is submitted first */
+				engine_executor.execute(wake_up_task);
+			}
 			
-			assert result : "Unexpected error occurred while adding"
-					+ " Instance_counter element to list";
+			try
+			{
+				lock.lockInterruptibly();
+			}
+			catch (final InterruptedException exc)
+			{
+				logger.log(Level.INFO,
+						"Thread interrupts. Exception stack trace:", exc);
+				Thread.currentThread().interrupt();
+			}
 			
-			result = instance_counters_tasks.add(new Callable<Void>()
+			try
 			{
-				@Override
-				public Void call() throws Exception
-				{
-					instance_counter_obj.difference_calculation(true);
-					
-					return null;
-				}
-			});
+				synchronous_task_executor_manager();
+			}
+			finally
+			{
+				lock.unlock();
+			}
 			
-			assert result :
-					"Unexpected error occurred while adding Callable object to list";
+			solo_counters_lock.lock();
 			
-			instance_counters_barrier =
-					new CyclicBarrier(instance_counters_size + 1);
-			synchronous_task_executor_manager();
+			try
+			{
+				solo_counters_task_manager();
+			}
+			finally
+			{
+				solo_counters_lock.unlock();
+			}
 		}
 		finally
 		{
-			lock.unlock();
+			idle_lock.unlock();
 		}
 	}
 	
-
+	
 	/**
-	 * Добавляет группу объектов в общий список для обеспечения синхронного
-	 * выполнения всех объектов типа {@link Instance_counter}.<br>
-	 * <b>Важно!</b> Данный метод объявлен для взаимодействия с внутренним
-	 * контейнером типа {@link Modified_ArrayList}. При вызове не&nbsp;из
-	 * указанного контейнера генерирует исключение.<br>
-	 * <i>Примечание по&nbsp;производительности.</i> Данный метод содержит
-	 * синхронизированные участки.
-	 * 
-	 * @param group Группа объектов, которые необходимо добавить.
+	 * @return {@code true}&nbsp;&#0151; the&nbsp;engine is in idle mode
+	 * (see&nbsp;{@link #set_idle(boolean)}); {@code false}&nbsp;&#0151;
+	 * otherwise.
+	 */
+	public boolean is_idle()
+	{
+		return idle;
+	}
+	
+	
+	/**
+	 * Sets the&nbsp;way the&nbsp;engine scheduler handles tick periods missed
+	 * because of delayed execution (e.g.&nbsp;after a&nbsp;long garbage
+	 * collection pause). Default is {@link Missed_tick_policy#MTP_coalesce}.
+	 * Takes effect since the&nbsp;next tick. Engine ticks are never executed
+	 * in a&nbsp;burst: missed periods are detected and handled within single
+	 * tick, and the&nbsp;next tick is scheduled to the&nbsp;next period
+	 * boundary.
 	 * 
-	 * @exception IllegalStateException Метод вызван не&nbsp;из&nbsp;контейнера
-	 * {@link Modified_ArrayList}.
+	 * @param policy Missed ticks handling.
 	 * 
-	 * @exception NullPointerException В&nbsp;качестве аргумента передан
-	 * {@code null}.
+	 * @exception NullPointerException Passed argument is {@code null}.
 	 */
-	public void add_instance_counters_group(
-			final ArrayList<Instance_counter> group)
+	public void set_missed_tick_policy(final Missed_tick_policy policy)
 	{
-		try
-		{
-			lock.lockInterruptibly();
-		}
-		/* Данное исключение не ожидается. Даже в случае его возникновения метод
-		 * должен выполниться до конца */
-		catch (final InterruptedException exc)
+		// Argument cannot be null
+		if (policy == null)
 		{
-			logger.log(Level.WARNING, "Thread encountered unexpected "
-					+ InterruptedException.class.getName() + " while acquiring"
-					+ " semaphore permit to continue executing. Therefore"
-					+ " thread must be executed entirely. Exception stack trace:", exc);
+			throw new NullPointerException(
+					Missed_tick_policy.class.getName() + " argument is null");
 		}
 		
-		try
-		{
-			// Кол-во элементов в контейнере "instance_counters"
-			final int instance_counters_size = instance_counters.size();
-			// Кол-во элементов в полученной коллекции
-			final int group_size = group.size();
-			
-			// Если метод вызван не из контейнера "time_counters"
-			if (time_counters.get_instance_counters_quantity() -
-					instance_counters_size != group_size)
-			{
-				throw new IllegalStateException(
-						"Method have been called in inappropriate way");
-			}
-			
-			// Объявлен для assert'ов
-			boolean result = instance_counters.addAll(group);
-			
-			assert result : "Unexpected error occurred while adding collection"
-					+ " of Instance_counter objects to list";
-			
-			// Добавление Callable'ов из элементов полученной коллекции
-			for (int i = 0; i < group_size; ++i)
-			{
-				/* Объект, метод которого необходимо поместить в
-				 * "instance_counters_tasks" */
-				final Instance_counter to_callable = group.get(i);
-				
-				result = instance_counters_tasks.add(new Callable<Void>()
-				{
-					@Override
-					public Void call() throws Exception
-					{
-						to_callable.difference_calculation(true);
-						
-						return null;
-					}
-				});
-				
-				assert result :
-						"Unexpected error occurred while adding Callable object to list";
-			}
-			
-			instance_counters_barrier =
-					new CyclicBarrier(instance_counters_size + group_size);
-			synchronous_task_executor_manager();			
-		}
-		finally
-		{
-			lock.unlock();
-		}
+		missed_tick_policy = policy;
+		solo_counters_task.set_missed_tick_policy(policy);
+		synchronous_task.set_missed_tick_policy(policy);
 	}
 	
 	
 	/**
-	 * Очищает список синхронно выполняющихся объектов типа
-	 * {@link Instance_counter}.<br>
-	 * <b>Важно!</b> Данный метод объявлен для взаимодействия с внутренним
-	 * контейнером типа {@link Modified_ArrayList}. При вызове не&nbsp;из
-	 * указанного контейнера генерирует исключение.<br>
-	 * <i>Примечание по&nbsp;производительности.</i> Данный метод содержит
-	 * синхронизированные участки.
+	 * @return The&nbsp;way the&nbsp;engine scheduler handles missed ticks.
+	 */
+	public Missed_tick_policy get_missed_tick_policy()
+	{
+		return missed_tick_policy;
+	}
+	
+	
+	/**
+	 * {@link Instance_counter}s are recalculated when {@link #get_clock()}
+	 * second changes, so all of them flip exactly at wall clock second
+	 * boundaries. Each next recalculation moment is computed from the&nbsp;clock
+	 * reading, so ticks are re&#8209;aligned automatically after the&nbsp;clock
+	 * is adjusted.<br>
+	 * The&nbsp;method sets time by&nbsp;which recalculation is started before
+	 * the&nbsp;boundary, compensating scheduler wake&#8209;up and listeners
+	 * dispatch delays. Recalculation started within the&nbsp;lead is
+	 * performed for the&nbsp;boundary instant, so the&nbsp;new values are
+	 * delivered no&nbsp;later than the&nbsp;second changes. Default is
+	 * {@code 0} (recalculation starts right after the&nbsp;boundary). Takes
+	 * effect since the&nbsp;next tick.
 	 * 
-	 * @exception IllegalStateException Метод вызван не&nbsp;из&nbsp;контейнера
-	 * {@link Modified_ArrayList}.
+	 * @param lead Time by&nbsp;which recalculation is started before
+	 * the&nbsp;second boundary. Must be within {@code [0; 500)}
+	 * milliseconds range.
+	 * 
+	 * @exception NullPointerException Passed argument is {@code null}.
+	 * 
+	 * @exception IllegalArgumentException {@code lead} is out of
+	 * the&nbsp;permitted range.
 	 */
-	public void clear_instance_counters_list()
+	public void set_instance_tick_lead(final Duration lead)
 	{
-		// Если метод вызван не из контейнера "time_counters"
-		if (time_counters.get_instance_counters_quantity() != 0)
+		// Argument cannot be null
+		if (lead == null)
 		{
-			throw new IllegalStateException(
-					"Method have been called in inappropriate way");
+			throw new NullPointerException(
+					Duration.class.getName() + " argument is null");
 		}
 		
-		try
-		{
-			lock.lockInterruptibly();
-		}
-		/* Данное исключение не ожидается. Даже в случае его возникновения метод
-		 * должен выполниться до конца */
-		catch (final InterruptedException exc)
-		{
-			logger.log(Level.WARNING, "Thread encountered unexpected "
-					+ InterruptedException.class.getName() + " while acquiring"
-					+ " semaphore permit to continue executing. Therefore"
-					+ " thread must be executed entirely. Exception stack trace:", exc);
-		}
+		// Lead in milliseconds
+		final long lead_millis = lead.toMillis();
 		
-		try
+		// If the lead is out of range
+		if (lead_millis < 0 || lead_millis >= 500)
 		{
-			instance_counters_tasks.clear();
-			instance_counters.clear();
-			synchronous_task_executor_manager();
+			throw new IllegalArgumentException("Incorrect lead " + lead);
 		}
-		finally
+		
+		instance_tick_lead_millis = lead_millis;
+	}
+	
+	
+	/**
+	 * @return Time by&nbsp;which {@link Instance_counter}s recalculation is
+	 * started before wall clock second boundary (see
+	 * {@link #set_instance_tick_lead(Duration)}).
+	 */
+	public Duration get_instance_tick_lead()
+	{
+		return Duration.ofMillis(instance_tick_lead_millis);
+	}
+	
+	
+	/**
+	 * Sets the&nbsp;way running {@link Solo_counter}s handle {@link #get_clock()}
+	 * jumps. Default is {@link Clock_jump_policy#CJP_count_jump}. Takes effect
+	 * since the&nbsp;next detected jump.
+	 * 
+	 * @param policy Clock jumps handling.
+	 * 
+	 * @exception NullPointerException Passed argument is {@code null}.
+	 */
+	public void set_clock_jump_policy(final Clock_jump_policy policy)
+	{
+		// Argument cannot be null
+		if (policy == null)
 		{
-			lock.unlock();
+			throw new NullPointerException(
+					Clock_jump_policy.class.getName() + " argument is null");
 		}
+		
+		clock_jump_policy = policy;
 	}
 	
 	
 	/**
-	 * Удаляет указанный элемент из списка синхронно выполняющихся объектов.<br>
-	 * <b>Важно!</b> Данный метод объявлен для взаимодействия с внутренним
-	 * контейнером типа {@link Modified_ArrayList}. При вызове не&nbsp;из
-	 * указанного контейнера генерирует исключение.<br>
-	 * <i>Примечание по&nbsp;производительности.</i> Данный метод содержит
-	 * синхронизированные участки.
+	 * @return The&nbsp;way running {@link Solo_counter}s handle
+	 * {@link #get_clock()} jumps.
+	 */
+	public Clock_jump_policy get_clock_jump_policy()
+	{
+		return clock_jump_policy;
+	}
+	
+	
+	/**
+	 * The&nbsp;engine compares {@link #get_clock()} progression with
+	 * monotonic {@link System#nanoTime()} one on each tick. When they differ
+	 * by at&nbsp;least the&nbsp;threshold, the&nbsp;clock is considered jumped
+	 * (NTP step, manual system time change, resume from hibernation): running
+	 * {@link Solo_counter}s are handled according to
+	 * {@link #get_clock_jump_policy()}, deadline timer is reset, all
+	 * {@link Instance_counter}s are recalculated in one batch and re&#8209;aligned
+	 * to the&nbsp;new second boundaries, and {@link Clock_jump_listener}s are
+	 * notified. Jumps are&nbsp;not detected while the&nbsp;engine is
+	 * {@link #is_idle() idle} (they are detected when it wakes&nbsp;up) and
+	 * for {@link Simulated_clock}. Default is 1&nbsp;second.
 	 * 
-	 * @param to_remove Элемент, который необходимо удалить из списка.
+	 * @param threshold The&nbsp;least clock progression difference considered
+	 * a&nbsp;jump. Must be no&nbsp;less than 2&nbsp;engine tick periods
+	 * (200&nbsp;milliseconds), so scheduling delays are&nbsp;not taken for
+	 * jumps.
 	 * 
-	 * @exception IllegalArgumentException Указанный элемент не&nbsp;найден в
-	 * списке синхронно выполняющихся объектов.
+	 * @exception NullPointerException Passed argument is {@code null}.
 	 * 
-	 * @exception IllegalStateException Метод вызван не&nbsp;из&nbsp;контейнера
-	 * {@link Modified_ArrayList}.
+	 * @exception IllegalArgumentException {@code threshold} is less than
+	 * the&nbsp;permitted minimum.
 	 */
-	public void remove_instance_counter(final Instance_counter to_remove)
+	public void set_clock_jump_threshold(final Duration threshold)
 	{
-		try
+		// Argument cannot be null
+		if (threshold == null)
 		{
-			lock.lockInterruptibly();
+			throw new NullPointerException(
+					Duration.class.getName() + " argument is null");
 		}
-		/* Данное исключение не ожидается. Даже в случае его возникновения метод
-		 * должен выполниться до конца */
-		catch (final InterruptedException exc)
+		
+		// If the threshold is too small
+		if (threshold.toMillis() < 2 * solo_counters_tick_period)
 		{
-			logger.log(Level.WARNING, "Thread encountered unexpected "
-					+ InterruptedException.class.getName() + " while acquiring"
-					+ " semaphore permit to continue executing. Therefore"
-					+ " thread must be executed entirely. Exception stack trace:", exc);
+			throw new IllegalArgumentException("Incorrect threshold " + threshold);
 		}
 		
-		try
-		{
-			// Если метод вызван не из контейнера "time_counters"
-			if (instance_counters.size() -
-					time_counters.get_instance_counters_quantity() != 1)
-			{
-				throw new IllegalStateException(
-						"Method have been called in inappropriate way");
-			}
-			
-			// Если указанного в параметре объекта не существует
-			if (!instance_counters.remove(to_remove))
-			{
-				throw new IllegalArgumentException(
-						"to_remove object doesn\'t exist in the list");
-			}
-			
-			reset_instance_counters_tasks();
-			
-			// Synchronously executed objects quantity
-			final int instance_counters_quantity = instance_counters.size();
-			
-			// Cyclic barriers quantity cannot be 0
-			if (instance_counters_quantity != 0)
-			{
-				instance_counters_barrier = new CyclicBarrier(instance_counters_quantity);
-			}
-			
-			synchronous_task_executor_manager();
+		clock_jump_detector.set_threshold_millis(threshold.toMillis());
+	}
+	
+	
+	/**
+	 * @return The&nbsp;least {@link #get_clock()} progression difference
+	 * considered a&nbsp;jump (see {@link #set_clock_jump_threshold(Duration)}).
+	 */
+	public Duration get_clock_jump_threshold()
+	{
+		return Duration.ofMillis(clock_jump_detector.get_threshold_millis());
+	}
+	
+	
+	/**
+	 * Starts (resumes) all {@link Solo_counter}s working in specified
+	 * {@code modes} as a&nbsp;single operation: all of them start counting
+	 * according to the&nbsp;same clock reading and are added to the&nbsp;engine
+	 * scheduler at&nbsp;once. Subscribed {@link Batch_operation_listener}s are
+	 * notified once.<br>
+	 * <i>Note.</i> {@link Mode#M_elapsed_from} and {@link Mode#M_remains_till}
+	 * arguments are ignored since {@link Instance_counter}s
+	 * <u>cannot</u> be started.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param modes Modes of time&nbsp;counters to start.
+	 * 
+	 * @return Quantity of started time&nbsp;counters.
+	 * 
+	 * @exception NullPointerException {@code modes} argument (or its element)
+	 * is {@code null}.
+	 */
+	public int start_all(final Mode... modes)
+	{
+		return start_counters(select(Time_counter_state.TCS_paused, modes));
+	}
+	
+	
+	/**
+	 * Starts (resumes) all {@link Solo_counter}s which satisfy specified
+	 * {@code filter}. Behaves the&nbsp;same way as {@link #start_all(Mode...)}.
+	 * 
+	 * @param filter Condition returning {@code true} for time&nbsp;counter to
+	 * be started.
+	 * 
+	 * @return Quantity of started time&nbsp;counters.
+	 * 
+	 * @exception NullPointerException {@code filter} argument is {@code null}.
+	 */
+	public int start_all(final Predicate<? super Solo_counter> filter)
+	{
+		// Argument cannot be null
+		if (filter == null)
+		{
+			throw new NullPointerException(
+					Predicate.class.getName() + " argument is null");
 		}
-		finally
+		
+		return start_counters(
+				select(time_counters.get(Time_counter_state.TCS_paused), filter));
+	}
+	
+	
+	/**
+	 * Pauses all {@link Solo_counter}s working in specified {@code modes} as
+	 * a&nbsp;single operation: all of them are removed from the&nbsp;engine
+	 * scheduler at&nbsp;once. Subscribed {@link Batch_operation_listener}s are
+	 * notified once.<br>
+	 * <i>Note.</i> {@link Mode#M_elapsed_from} and {@link Mode#M_remains_till}
+	 * arguments are ignored since {@link Instance_counter}s
+	 * <u>cannot</u> be paused.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param modes Modes of time&nbsp;counters to pause.
+	 * 
+	 * @return Quantity of paused time&nbsp;counters.
+	 * 
+	 * @exception NullPointerException {@code modes} argument (or its element)
+	 * is {@code null}.
+	 */
+	public int pause_all(final Mode... modes)
+	{
+		return pause_counters(select(Time_counter_state.TCS_running, modes));
+	}
+	
+	
+	/**
+	 * Pauses all {@link Solo_counter}s which satisfy specified {@code filter}.
+	 * Behaves the&nbsp;same way as {@link #pause_all(Mode...)}.
+	 * 
+	 * @param filter Condition returning {@code true} for time&nbsp;counter to
+	 * be paused.
+	 * 
+	 * @return Quantity of paused time&nbsp;counters.
+	 * 
+	 * @exception NullPointerException {@code filter} argument is {@code null}.
+	 */
+	public int pause_all(final Predicate<? super Solo_counter> filter)
+	{
+		// Argument cannot be null
+		if (filter == null)
 		{
-			lock.unlock();
+			throw new NullPointerException(
+					Predicate.class.getName() + " argument is null");
 		}
+		
+		return pause_counters(
+				select(time_counters.get(Time_counter_state.TCS_running), filter));
 	}
 	
 	
 	/**
-	 * Удаляет группу объектов из общего списка синхронно выполняющихся
-	 * объектов.<br>
-	 * <b>Важно!</b> Данный метод объявлен для взаимодействия с внутренним
-	 * контейнером типа {@link Modified_ArrayList}. При вызове не&nbsp;из
-	 * указанного контейнера генерирует исключение.<br>
-	 * <i>Примечание по&nbsp;производительности.</i> Данный метод содержит
-	 * синхронизированные участки.
+	 * Restarts all {@link Solo_counter}s working in specified {@code modes}
+	 * (see {@link Solo_counter#restart()}). Subscribed
+	 * {@link Batch_operation_listener}s are notified once.<br>
+	 * <i>Note.</i> {@link Mode#M_elapsed_from} and {@link Mode#M_remains_till}
+	 * arguments are ignored since {@link Instance_counter}s
+	 * <u>cannot</u> be restarted.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
 	 * 
-	 * @param group Группа объектов, которые необходимо удалить.
+	 * @param modes Modes of time&nbsp;counters to restart.
 	 * 
-	 * @exception IllegalStateException Метод вызван не&nbsp;из&nbsp;контейнера
-	 * {@link Modified_ArrayList}.
+	 * @return Quantity of restarted time&nbsp;counters.
 	 * 
-	 * @exception NullPointerException В&nbsp;качестве аргумента передан
-	 * {@code null}.
+	 * @exception NullPointerException {@code modes} argument (or its element)
+	 * is {@code null}.
 	 */
-	public void remove_instance_counter_group(
-			final ArrayList<Instance_counter> group)
+	public int restart_all(final Mode... modes)
 	{
-		try
+		return restart_counters(select(null, modes));
+	}
+	
+	
+	/**
+	 * Restarts all {@link Solo_counter}s which satisfy specified
+	 * {@code filter}. Behaves the&nbsp;same way as
+	 * {@link #restart_all(Mode...)}.
+	 * 
+	 * @param filter Condition returning {@code true} for time&nbsp;counter to
+	 * be restarted.
+	 * 
+	 * @return Quantity of restarted time&nbsp;counters.
+	 * 
+	 * @exception NullPointerException {@code filter} argument is {@code null}.
+	 */
+	public int restart_all(final Predicate<? super Solo_counter> filter)
+	{
+		// Argument cannot be null
+		if (filter == null)
 		{
-			lock.lockInterruptibly();
+			throw new NullPointerException(
+					Predicate.class.getName() + " argument is null");
 		}
-		/* Данное исключение не ожидается. Даже в случае его возникновения метод
-		 * должен выполниться до конца */
-		catch (final InterruptedException exc)
+		
+		return restart_counters(select(
+				select(null, Mode.M_stopwatch, Mode.M_countdown), filter));
+	}
+	
+	
+	/**
+	 * Closes all time&nbsp;counters working in specified {@code modes}:
+	 * removes them from {@link #get_time_counters()} container (this results
+	 * in their shutdown) at&nbsp;once. Subscribed
+	 * {@link Batch_operation_listener}s are notified once.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param modes Modes of time&nbsp;counters to close.
+	 * 
+	 * @return Quantity of closed time&nbsp;counters.
+	 * 
+	 * @exception NullPointerException {@code modes} argument (or its element)
+	 * is {@code null}.
+	 */
+	public int close_all(final Mode... modes)
+	{
+		// Closed time counters
+		final List<Time_counter> closed =
+				time_counters.remove_all(select(null, modes));
+		
+		notify_batch_operation_listeners(Batch_operation_type.BOT_close, closed);
+		
+		return closed.size();
+	}
+	
+	
+	/**
+	 * Closes all time&nbsp;counters which satisfy specified {@code filter}.
+	 * Behaves the&nbsp;same way as {@link #close_all(Mode...)}.
+	 * 
+	 * @param filter Condition returning {@code true} for time&nbsp;counter to
+	 * be closed.
+	 * 
+	 * @return Quantity of closed time&nbsp;counters.
+	 * 
+	 * @exception NullPointerException {@code filter} argument is {@code null}.
+	 */
+	public int close_all(final Predicate<? super Time_counter> filter)
+	{
+		// Argument cannot be null
+		if (filter == null)
 		{
-			logger.log(Level.WARNING, "Thread encountered unexpected "
-					+ InterruptedException.class.getName() + " while acquiring"
-					+ " semaphore permit to continue executing. Therefore"
-					+ " thread must be executed entirely. Exception stack trace:", exc);
+			throw new NullPointerException(
+					Predicate.class.getName() + " argument is null");
 		}
 		
-		try
+		// Closed time counters
+		final List<Time_counter> closed = time_counters.remove_if(filter);
+		
+		notify_batch_operation_listeners(Batch_operation_type.BOT_close, closed);
+		
+		return closed.size();
+	}
+	
+	
+	/**
+	 * Switches all registered time&nbsp;counters having {@code from} layout
+	 * to {@code to} layout (see&nbsp;{@link Time_counter#get_layout_profile()})
+	 * as a&nbsp;single operation. Their texts are rendered again by
+	 * the&nbsp;new layout and delivered to listeners;
+	 * {@link Change_feed_listener}s receive all of them within the&nbsp;same
+	 * {@link Change_feed_event}.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param from Layout to be replaced.
+	 * 
+	 * @param to New layout.
+	 * 
+	 * @return Quantity of changed time&nbsp;counters.
+	 * 
+	 * @exception NullPointerException At&nbsp;least one of passed arguments
+	 * is {@code null}.
+	 */
+	public int change_layout_profile(
+			final Layout_profile from, final Layout_profile to)
+	{
+		// Arguments cannot be null
+		if (from == null || to == null)
 		{
-			// Если метод вызван не из контейнера "time_counters"
-			if (instance_counters.size() -
-					time_counters.get_instance_counters_quantity() != group.size())
+			throw new NullPointerException("At least one of arguments is null");
+		}
+		
+		// Time counters which layout has been changed
+		final ArrayList<Time_counter> changed = new ArrayList<>();
+		
+		for (final Time_counter i : time_counters.snapshot())
+		{
+			// If the time counter has the layout to replace
+			if (i.replace_layout_profile(from, to))
 			{
-				throw new IllegalStateException(
-						"Method have been called in inappropriate way");
+				changed.add(i);
 			}
-			
-			// Объявлен для assert'а
-			final boolean result = instance_counters.removeAll(group);
-			
-			assert result :
-					"Unexpected error occurred while removing elements from list";
-			
-			reset_instance_counters_tasks();
-			instance_counters_barrier = new CyclicBarrier(instance_counters.size());
-			synchronous_task_executor_manager();
 		}
-		finally
+		
+		for (final Time_counter i : changed)
 		{
-			lock.unlock();
+			i.notify_time_counter_text_listeners();
 		}
+		
+		return changed.size();
 	}
 	
 	
 	/**
-	 * Удаляет все элементы из общего списка синхронно выполняющихся объектов
-	 * за&nbsp;исключением объектов из указанного контейнера.<br>
-	 * <b>Важно!</b> Данный метод объявлен для взаимодействия с внутренним
-	 * контейнером типа {@link Modified_ArrayList}. При вызове не&nbsp;из
-	 * указанного контейнера генерирует исключение.<br>
-	 * <i>Примечание по&nbsp;производительности.</i> Данный метод содержит
-	 * синхронизированные участки.
-	 * 
-	 * @param group Группа объектов, которые необходимо оставить.
+	 * Adds specified {@code listener} to receive {@link Batch_operation_event}.
+	 * Same {@code listener} <u>can</u> be&nbsp;added multiple times.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
 	 * 
-	 * @exception IllegalStateException Метод вызван не&nbsp;из&nbsp;контейнера
-	 * {@link Modified_ArrayList}.
+	 * @param listener Listener to be subscribed on event.
 	 * 
-	 * @exception NullPointerException В&nbsp;качестве аргумента передан
-	 * {@code null}.
+	 * @exception NullPointerException {@code listener} argument is {@code null}.
 	 */
-	public void retain_instance_counter_group(
-			final ArrayList<Instance_counter> group)
+	public void add_Batch_operation_listener(
+			final Batch_operation_listener listener)
 	{
+		// Argument cannot be null
+		if (listener == null)
+		{
+			throw new NullPointerException(
+					Batch_operation_listener.class.getName() + " argument is null");
+		}
+		
+		batch_operation_listeners_lock.lock();
+		
 		try
 		{
-			lock.lockInterruptibly();
+			batch_operation_listeners.add(listener);
 		}
-		/* Данное исключение не ожидается. Даже в случае его возникновения метод
-		 * должен выполниться до конца */
-		catch (final InterruptedException exc)
+		finally
 		{
-			logger.log(Level.WARNING, "Thread encountered unexpected "
-					+ InterruptedException.class.getName() + " while acquiring"
-					+ " semaphore permit to continue executing. Therefore"
-					+ " thread must be executed entirely. Exception stack trace:", exc);
+			batch_operation_listeners_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Removes <u>first occurrence</u> of specified {@code listener} argument
+	 * <u>if such present</u>.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param listener Listener to be unsubscribed from event.
+	 * 
+	 * @return {@code true}&nbsp;&#0151; {@code listener} is unsubscribed;
+	 * {@code false}&nbsp;&#0151; there&nbsp;is no such {@code listener}.
+	 * 
+	 * @exception NullPointerException {@code listener} argument is {@code null}.
+	 */
+	public boolean remove_Batch_operation_listener(
+			final Batch_operation_listener listener)
+	{
+		// Argument cannot be null
+		if (listener == null)
+		{
+			throw new NullPointerException(
+					Batch_operation_listener.class.getName() + " argument is null");
 		}
 		
+		batch_operation_listeners_lock.lock();
+		
 		try
 		{
-			// Если метод вызван не из контейнера "time_counters"
-			if (instance_counters.size() -
-					time_counters.get_instance_counters_quantity() != group.size())
-			{
-				throw new IllegalStateException(
-						"Method have been called in inappropriate way");
-			}
-			
-			// Объявлен для assert'а
-			final boolean result = instance_counters.retainAll(group);
-			
-			assert result : "Unexpected exception occurred while calling"
-					+ " retain_instance_counter_group(ArrayList<Instance_counter>)."
-					+ " Method shouldn\'t return false";
-			
-			reset_instance_counters_tasks();
-			instance_counters_barrier = new CyclicBarrier(instance_counters.size());
-			synchronous_task_executor_manager();
+			return batch_operation_listeners.remove(listener);
 		}
 		finally
 		{
-			lock.unlock();
+			batch_operation_listeners_lock.unlock();
 		}
 	}
 	
 	
 	/**
-	 * Записывает все содержащиеся элементы {@link Time_counter} в файл.
+	 * Adds specified {@code listener} to receive {@link Clock_jump_event}.
+	 * Same {@code listener} <u>can</u> be&nbsp;added multiple times.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param listener Listener to be subscribed on event.
+	 * 
+	 * @exception NullPointerException {@code listener} argument is {@code null}.
 	 */
-	public void save_time_counters()
+	public void add_Clock_jump_listener(final Clock_jump_listener listener)
 	{
-		// Comparator, сортирующий элементы контейнера "time_counters"
-		final Comparator<Time_counter> comparator =
-				new Comparator<Time_counter>()
+		// Argument cannot be null
+		if (listener == null)
 		{
-			@Override
-			public int compare(Time_counter object1, Time_counter object2)
-			{
-				return Integer.compare(object1.index_number, object2.index_number);
-			}
-		};
-		
-		time_counters.sort(comparator);
+			throw new NullPointerException(
+					Clock_jump_listener.class.getName() + " argument is null");
+		}
 		
-		FileOutputStream file_output = null;  // Исходящий файловый поток
-		// Буферизированный исходящий поток
-		BufferedOutputStream buffered_output = null;
-		ObjectOutputStream object_output = null;
+		clock_jump_listeners_lock.lock();
 		
 		try
 		{
-			file_output = new FileOutputStream(file_name);
-			buffered_output = new BufferedOutputStream(file_output);
-			object_output = new ObjectOutputStream(buffered_output);
-			
-			// Кол-во элементов в контейнере "time_counters"
-			final int time_counters_size = time_counters.size();
-			
-			object_output.writeFloat((float)1.0);  // Запись версии этого класса
-			object_output.writeInt(time_counters_size);
-			
-			// Запись элементов контейнера "time_counters" в файл
-			for (int i = 0; i < time_counters_size; ++i)
-			{
-				object_output.writeObject(time_counters.get(i));
-			}
+			clock_jump_listeners.add(listener);
 		}
-		catch (final FileNotFoundException exc)
+		finally
 		{
-			logger.log(Level.SEVERE, "Cannot obtain " + file_name
-					+ " file to write " + Time_counter.class.getName()
-					+ " objects. Exception stack trace:", exc);
-			User_notification_dialog.notify_listener_and_wait(
-					new User_notification_event(this),
-					User_notification_type.UNT_IO_error,
-					message_resources.getString("time_counters_file_write_error1.1")
-							+ file_name
-							+ message_resources.getString("time_counters_file_write_error1.2"));
+			clock_jump_listeners_lock.unlock();
 		}
-		catch (final IOException exc)
+	}
+	
+	
+	/**
+	 * Removes <u>first occurrence</u> of specified {@code listener} argument
+	 * <u>if such present</u>.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param listener Listener to be unsubscribed from event.
+	 * 
+	 * @return {@code true}&nbsp;&#0151; {@code listener} is unsubscribed;
+	 * {@code false}&nbsp;&#0151; there&nbsp;is no such {@code listener}.
+	 * 
+	 * @exception NullPointerException {@code listener} argument is {@code null}.
+	 */
+	public boolean remove_Clock_jump_listener(final Clock_jump_listener listener)
+	{
+		// Argument cannot be null
+		if (listener == null)
 		{
-			logger.log(Level.SEVERE, "Cannot perform writing "
-					+ Time_counter.class.getName() + " objects to " + file_name
-					+ " file. Exception stack trace:", exc);
-			User_notification_dialog.notify_listener_and_wait(
-					new User_notification_event(this),
-					User_notification_type.UNT_IO_error,
-					message_resources.getString("time_counters_file_write_error2"));
+			throw new NullPointerException(
+					Clock_jump_listener.class.getName() + " argument is null");
+		}
+		
+		clock_jump_listeners_lock.lock();
+		
+		try
+		{
+			return clock_jump_listeners.remove(listener);
 		}
 		finally
 		{
-			try
-			{
+			clock_jump_listeners_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Returns time&nbsp;counters value changes log for pull-based consumers.
+	 * The&nbsp;log is created by the&nbsp;first call of this method, so
+	 * changes are published only after that.<br>
+	 * <i>Performance note.</i> The&nbsp;first call contains synchronized
+	 * sections.
+	 * 
+	 * @return Time&nbsp;counters value changes log.
+	 */
+	public Change_log get_change_log()
+	{
+		// Already created log
+		Change_log result = change_log;
+		
+		// If the log is already created
+		if (result != null)
+		{
+			return result;
+		}
+		
+		change_feed_lock.lock();
+		
+		try
+		{
+			// If the log hasn't been created by concurrent call
+			if (change_log == null)
+			{
+				change_log = new Change_log(change_log_capacity);
+			}
+			
+			return change_log;
+		}
+		finally
+		{
+			change_feed_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Returns publisher of all time&nbsp;counters values. Each subscriber
+	 * first receives current snapshots of all time&nbsp;counters contained in
+	 * {@link #get_time_counters()}, then snapshots of changed
+	 * time&nbsp;counters. Undelivered snapshot of a&nbsp;time&nbsp;counter is
+	 * replaced by newer one, so a&nbsp;subscriber has at&nbsp;most one
+	 * undelivered snapshot per time&nbsp;counter. Snapshots are delivered in
+	 * order of the&nbsp;first undelivered change.
+	 * 
+	 * @param cadence The&nbsp;smallest time&nbsp;unit which value change makes
+	 * snapshot to be delivered (e.g.&nbsp;{@link Time_unit_name#TUN_minutes}
+	 * delivers time&nbsp;counter snapshot once a&nbsp;minute; value sign
+	 * change is always delivered). {@code null} makes each text value change
+	 * to be delivered.
+	 * 
+	 * @return Publisher of all time&nbsp;counters snapshots.
+	 */
+	public Flow.Publisher<Time_counter_snapshot> get_publisher(
+			final Time_unit_name cadence)
+	{
+		return snapshot_publisher.get_publisher(
+				cadence, new Snapshot_publisher.Initial_snapshots()
+				{
+					@Override
+					public Iterable<Time_counter_snapshot> get_snapshots()
+					{
+						// Time counters which snapshots are needed
+						final List<Time_counter> snapshot = time_counters.snapshot();
+						// Current time counters snapshots
+						final ArrayList<Time_counter_snapshot> result =
+								new ArrayList<>(snapshot.size());
+						
+						for (final Time_counter i : snapshot)
+						{
+							result.add(i.get_snapshot());
+						}
+						
+						return result;
+					}
+				});
+	}
+	
+	
+	/**
+	 * Adds specified {@code listener} to receive {@link Change_feed_event}.
+	 * Same {@code listener} <u>can</u> be&nbsp;added multiple times.
+	 * Time&nbsp;counters text changes are collected only while there are
+	 * subscribed listeners.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param listener Listener to be subscribed on event.
+	 * 
+	 * @exception NullPointerException {@code listener} argument is {@code null}.
+	 */
+	public void add_Change_feed_listener(final Change_feed_listener listener)
+	{
+		// Argument cannot be null
+		if (listener == null)
+		{
+			throw new NullPointerException(
+					Change_feed_listener.class.getName() + " argument is null");
+		}
+		
+		change_feed_listeners_lock.lock();
+		
+		try
+		{
+			change_feed_listeners.add(listener);
+			change_feed_enabled = true;
+		}
+		finally
+		{
+			change_feed_listeners_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Removes <u>first occurrence</u> of specified {@code listener} argument
+	 * <u>if such present</u>.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param listener Listener to be unsubscribed from event.
+	 * 
+	 * @return {@code true}&nbsp;&#0151; {@code listener} is unsubscribed;
+	 * {@code false}&nbsp;&#0151; there&nbsp;is no such {@code listener}.
+	 * 
+	 * @exception NullPointerException {@code listener} argument is {@code null}.
+	 */
+	public boolean remove_Change_feed_listener(
+			final Change_feed_listener listener)
+	{
+		// Argument cannot be null
+		if (listener == null)
+		{
+			throw new NullPointerException(
+					Change_feed_listener.class.getName() + " argument is null");
+		}
+		
+		change_feed_listeners_lock.lock();
+		
+		try
+		{
+			// Removing result
+			final boolean removed = change_feed_listeners.remove(listener);
+			
+			change_feed_enabled = !change_feed_listeners.isEmpty();
+			
+			return removed;
+		}
+		finally
+		{
+			change_feed_listeners_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Добавляет объект в группу синхронного выполняющихся объектов типа
+	 * {@link Instance_counter}.<br>
+	 * <b>Важно!</b> Данный метод объявлен для взаимодействия с внутренним
+	 * контейнером типа {@link Time_counter_registry}. При вызове не&nbsp;из
+	 * указанного контейнера генерирует исключение.<br>
+	 * <i>Примечание по&nbsp;производительности.</i> Данный метод содержит
+	 * синхронизированные участки.
+	 * 
+	 * @param instance_counter_obj Объект, который необходимо добавить.
+	 * 
+	 * @exception IllegalStateException Метод вызван не&nbsp;из&nbsp;контейнера
+	 * {@link Time_counter_registry}.
+	 * 
+	 * @exception NullPointerException В&nbsp;качестве аргумента передан
+	 * {@code null}.
+	 */
+	public void add_instance_counter(
+			final Instance_counter instance_counter_obj)
+	{
+		try
+		{
+			lock.lockInterruptibly();
+		}
+		/* Данное исключение не ожидается. Даже в случае его возникновения метод
+		 * должен выполниться до конца */
+		catch (final InterruptedException exc)
+		{
+			logger.log(Level.WARNING, "Thread encountered unexpected "
+					+ InterruptedException.class.getName() + " while acquiring"
+					+ " semaphore permit to continue executing. Therefore"
+					+ " thread must be executed entirely. Exception stack trace:", exc);
+		}
+		
+		try
+		{
+			// Кол-во элементов в контейнере "instance_counters"
+			final int instance_counters_size = instance_counters.size();
+			
+			// Если метод вызван не из контейнера "time_counters"
+			if (time_counters.get_instance_counters_quantity() -
+					instance_counters_size != 1)
+			{
+				throw new IllegalStateException(
+						"Method have been called in inappropriate way");
+			}
+			
+			assert instance_counter_obj.instance_slot == -1 :
+					"Unexpected error occurred while adding Instance_counter element"
+						+ " to list. Additional object already exists";
+			
+			add_to_instance_counters(instance_counter_obj);
+			synchronous_task_executor_manager();
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+
+	/**
+	 * Очищает список синхронно выполняющихся объектов типа
+	 * {@link Instance_counter}.<br>
+	 * <b>Важно!</b> Данный метод объявлен для взаимодействия с внутренним
+	 * контейнером типа {@link Time_counter_registry}. При вызове не&nbsp;из
+	 * указанного контейнера генерирует исключение.<br>
+	 * <i>Примечание по&nbsp;производительности.</i> Данный метод содержит
+	 * синхронизированные участки.
+	 * 
+	 * @exception IllegalStateException Метод вызван не&nbsp;из&nbsp;контейнера
+	 * {@link Time_counter_registry}.
+	 */
+	public void clear_instance_counters_list()
+	{
+		// Если метод вызван не из контейнера "time_counters"
+		if (time_counters.get_instance_counters_quantity() != 0)
+		{
+			throw new IllegalStateException(
+					"Method have been called in inappropriate way");
+		}
+		
+		try
+		{
+			lock.lockInterruptibly();
+		}
+		/* Данное исключение не ожидается. Даже в случае его возникновения метод
+		 * должен выполниться до конца */
+		catch (final InterruptedException exc)
+		{
+			logger.log(Level.WARNING, "Thread encountered unexpected "
+					+ InterruptedException.class.getName() + " while acquiring"
+					+ " semaphore permit to continue executing. Therefore"
+					+ " thread must be executed entirely. Exception stack trace:", exc);
+		}
+		
+		try
+		{
+			for (final Instance_counter i : instance_counters)
+			{
+				i.instance_slot = -1;
+				i.zone_state = null;
+				deadline_index.cancel(i.expiry);
+				i.cancel_thresholds();
+			}
+			
+			instance_counters.clear();
+			zone_states.clear();
+			Arrays.fill(zone_states_by_index, null);
+			synchronous_task_executor_manager();
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Удаляет указанный элемент из списка синхронно выполняющихся объектов.<br>
+	 * <b>Важно!</b> Данный метод объявлен для взаимодействия с внутренним
+	 * контейнером типа {@link Time_counter_registry}. При вызове не&nbsp;из
+	 * указанного контейнера генерирует исключение.<br>
+	 * <i>Примечание по&nbsp;производительности.</i> Данный метод содержит
+	 * синхронизированные участки.
+	 * 
+	 * @param to_remove Элемент, который необходимо удалить из списка.
+	 * 
+	 * @exception IllegalArgumentException Указанный элемент не&nbsp;найден в
+	 * списке синхронно выполняющихся объектов.
+	 * 
+	 * @exception IllegalStateException Метод вызван не&nbsp;из&nbsp;контейнера
+	 * {@link Time_counter_registry}.
+	 */
+	public void remove_instance_counter(final Instance_counter to_remove)
+	{
+		try
+		{
+			lock.lockInterruptibly();
+		}
+		/* Данное исключение не ожидается. Даже в случае его возникновения метод
+		 * должен выполниться до конца */
+		catch (final InterruptedException exc)
+		{
+			logger.log(Level.WARNING, "Thread encountered unexpected "
+					+ InterruptedException.class.getName() + " while acquiring"
+					+ " semaphore permit to continue executing. Therefore"
+					+ " thread must be executed entirely. Exception stack trace:", exc);
+		}
+		
+		try
+		{
+			// Если метод вызван не из контейнера "time_counters"
+			if (instance_counters.size() -
+					time_counters.get_instance_counters_quantity() != 1)
+			{
+				throw new IllegalStateException(
+						"Method have been called in inappropriate way");
+			}
+			
+			// Если указанного в параметре объекта не существует
+			if (!remove_from_instance_counters(to_remove))
+			{
+				throw new IllegalArgumentException(
+						"to_remove object doesn\'t exist in the list");
+			}
+			
+			synchronous_task_executor_manager();
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Удаляет группу объектов из общего списка синхронно выполняющихся
+	 * объектов.<br>
+	 * <b>Важно!</b> Данный метод объявлен для взаимодействия с внутренним
+	 * контейнером типа {@link Time_counter_registry}. При вызове не&nbsp;из
+	 * указанного контейнера генерирует исключение.<br>
+	 * <i>Примечание по&nbsp;производительности.</i> Данный метод содержит
+	 * синхронизированные участки.
+	 * 
+	 * @param group Группа объектов, которые необходимо удалить.
+	 * 
+	 * @exception IllegalStateException Метод вызван не&nbsp;из&nbsp;контейнера
+	 * {@link Time_counter_registry}.
+	 * 
+	 * @exception NullPointerException В&nbsp;качестве аргумента передан
+	 * {@code null}.
+	 */
+	public void remove_instance_counter_group(
+			final ArrayList<Instance_counter> group)
+	{
+		try
+		{
+			lock.lockInterruptibly();
+		}
+		/* Данное исключение не ожидается. Даже в случае его возникновения метод
+		 * должен выполниться до конца */
+		catch (final InterruptedException exc)
+		{
+			logger.log(Level.WARNING, "Thread encountered unexpected "
+					+ InterruptedException.class.getName() + " while acquiring"
+					+ " semaphore permit to continue executing. Therefore"
+					+ " thread must be executed entirely. Exception stack trace:", exc);
+		}
+		
+		try
+		{
+			// Если метод вызван не из контейнера "time_counters"
+			if (instance_counters.size() -
+					time_counters.get_instance_counters_quantity() != group.size())
+			{
+				throw new IllegalStateException(
+						"Method have been called in inappropriate way");
+			}
+			
+			for (final Instance_counter i : group)
+			{
+				// Объявлен для assert'а
+				final boolean result = remove_from_instance_counters(i);
+				
+				assert result :
+						"Unexpected error occurred while removing elements from list";
+			}
+			
+			synchronous_task_executor_manager();
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Записывает все содержащиеся элементы {@link Time_counter} в файл.
+	 */
+	public void save_time_counters()
+	{
+		// Comparator, сортирующий элементы контейнера "time_counters"
+		final Comparator<Time_counter> comparator =
+				new Comparator<Time_counter>()
+		{
+			@Override
+			public int compare(Time_counter object1, Time_counter object2)
+			{
+				return Integer.compare(object1.index_number, object2.index_number);
+			}
+		};
+		
+		time_counters.sort(comparator);
+		
+		// Saving start
+		final long start = System.nanoTime();
+		// Flight recorder event
+		final Object file_io_event = Flight_recorder.begin_file_io();
+		// true - all time counters have been written
+		boolean is_written = false;
+		// Written time counters quantity
+		int records = 0;
+		FileOutputStream file_output = null;  // Исходящий файловый поток
+		// Буферизированный исходящий поток
+		BufferedOutputStream buffered_output = null;
+		ObjectOutputStream object_output = null;
+		
+		try
+		{
+			file_output = new FileOutputStream(file_name);
+			buffered_output = new BufferedOutputStream(file_output);
+			object_output = new ObjectOutputStream(buffered_output);
+			
+			// Элементы контейнера "time_counters"
+			final List<Time_counter> to_write = time_counters.snapshot();
+			
+			object_output.writeFloat((float)1.0);  // Запись версии этого класса
+			object_output.writeInt(to_write.size());
+			
+			// Запись элементов контейнера "time_counters" в файл
+			for (final Time_counter i : to_write)
+			{
+				object_output.writeObject(i);
+				++records;
+			}
+			
+			is_written = true;
+		}
+		catch (final FileNotFoundException exc)
+		{
+			logger.log(Level.SEVERE, "Cannot obtain " + file_name
+					+ " file to write " + Time_counter.class.getName()
+					+ " objects. Exception stack trace:", exc);
+			User_notification_dialog.notify_listener_and_wait(
+					new User_notification_event(this),
+					User_notification_type.UNT_IO_error,
+					message_resources.getString("time_counters_file_write_error1.1")
+							+ file_name
+							+ message_resources.getString("time_counters_file_write_error1.2"));
+		}
+		catch (final IOException exc)
+		{
+			logger.log(Level.SEVERE, "Cannot perform writing "
+					+ Time_counter.class.getName() + " objects to " + file_name
+					+ " file. Exception stack trace:", exc);
+			User_notification_dialog.notify_listener_and_wait(
+					new User_notification_event(this),
+					User_notification_type.UNT_IO_error,
+					message_resources.getString("time_counters_file_write_error2"));
+		}
+		finally
+		{
+			try
+			{
 				///// Попытка закрытия потоков вниз по цепочке /////
 				// Если исходящий поток объектов был открыт
 				if (object_output != null)
 				{
-					object_output.close();
+					object_output.close();
+				}
+				/* Если программа успела открыть буферизированный исходящий
+				 * поток */
+				else if (buffered_output != null)
+				{
+					buffered_output.close();
+				}
+				// Если программа успела открыть только исходящий файловый поток
+				else if (file_output != null)
+				{
+					file_output.close();
+				}
+			}
+			/* В случае возникновения данного исключения никаких действий
+			 * не предпринимается */
+			catch (final IOException exc)
+			{
+				logger.log(Level.WARNING, "Cannot close " + file_name
+						+ " file after writing. Exception stack trace:", exc);
+			}
+			
+			/* Failed and partial saves are recorded too (their events include
+			 * user notification wait, which is recorded as nested event) */
+			Flight_recorder.end_file_io(
+					file_io_event, true, is_written, file_name, records);
+		}
+		
+		// If saving statistics has to be updated
+		if (is_written)
+		{
+			last_save_duration_micros = (System.nanoTime() - start) / 1000;
+			last_save_size_bytes = new File(file_name).length();
+		}
+	}
+	
+	
+	/**
+	 * Reads {@link Time_counter} objects from file and adds them to inner
+	 * time&nbsp;counters list (can be obtained using
+	 * {@link #get_time_counters()} method).<br>
+	 * <i>Note.</i> The&nbsp;method <u>does&nbsp;nothing</u> if it
+	 * has&nbsp;been&nbsp;called already and succeed.
+	 * 
+	 * @return {@code true}&nbsp;&#0151; {@link Time_counter}{@code s} are read
+	 * from file. {@code false}&nbsp;&#0151; failed to read file or method
+	 * is&nbsp;called not&nbsp;the&nbsp;first time.
+	 */
+	public boolean read_time_counters_from_file()
+	{
+		// If time counters are already read from file
+		if (time_counters_are_read_from_file)
+		{
+			return false;
+		}
+		
+		FileInputStream file_input_stream = null;
+		BufferedInputStream buffered_input_stream = null;
+		ObjectInputStream object_input_stream = null;
+		// "Time_counter" objects quantity which are stored in file
+		int objects_quantity = -1;
+		// Read from file objects quantity. Is the for-loop counter too
+		int objects_read = 0;
+		/* Deserialized objects status. true - all deserialized objects and
+		 * their fields are correct; false - at least one (non critical) error
+		 * occurred while objects fields deserialization */
+		boolean deserialization_status = true;
+		// Flight recorder event
+		final Object file_io_event = Flight_recorder.begin_file_io();
+		
+		try
+		{
+			file_input_stream = new FileInputStream(file_name);
+			buffered_input_stream = new BufferedInputStream(file_input_stream);
+			object_input_stream = new ObjectInputStream(buffered_input_stream);
+			// Skip this class version (float value)
+			object_input_stream.skipBytes(4);
+			objects_quantity = object_input_stream.readInt();
+			
+			time_counters.ensure_capacity(objects_quantity);
+			
+			// Read "Time_counter" objects from file to container
+			for (; objects_read < objects_quantity; ++objects_read)
+			{
+				// Temporary object to write into container
+				Time_counter temp = null;
+				
+				try
+				{
+					temp = (Time_counter)object_input_stream.readObject();
+				}
+				catch (final ClassNotFoundException | InvalidObjectException exc)
+				{
+					--objects_read;
+					
+					continue;
+				}
+				
+				/* Check object's fields deserialization status,
+				 * IF deserialized fields were correct before */
+				if (deserialization_status)
+				{
+					deserialization_status = temp.get_deserialization_status();
+				}
+				
+				time_counters.add(temp);
+				temp.index_number = objects_read;
+			}
+		}
+		catch (final FileNotFoundException exc)
+		{
+			logger.log(Level.WARNING, "Cannot find " + file_name + " file to load "
+					+ Time_counter.class.getName() + " objects from it."
+							+ " Exception stack trace:", exc);
+			User_notification_dialog.notify_listener_and_wait(
+					new User_notification_event(this),
+					User_notification_type.UNT_IO_error,
+					file_name + message_resources.getString("time_counters_file_not_found"));
+			
+			return false;
+		}
+		catch (final IOException exc)
+		{
+			logger.log(Level.SEVERE, "Cannot read from " + file_name +
+					" file. Exception stack trace:", exc);
+			User_notification_dialog.notify_listener_and_wait(
+					new User_notification_event(this),
+					User_notification_type.UNT_IO_error,
+					message_resources.getString("time_counters_file_read_error.1")
+							+ file_name
+							+ message_resources.getString("time_counters_file_read_error.2"));
+			
+			return false;
+		}
+		finally
+		{
+			try
+			{
+				///// Attempt to close streams down the chain /////
+				// If object input stream was successfully opened
+				if (object_input_stream != null)
+				{
+					object_input_stream.close();
+				}
+				// If buffered input stream was opened
+				else if (buffered_input_stream != null)
+				{
+					buffered_input_stream.close();
+				}
+				// If file input stream was opened only
+				else if (file_input_stream != null)
+				{
+					file_input_stream.close();
+				}
+				//-------------------------------------------/////
+			}
+			// There is no actions undertaken when such exception occurred
+			catch (final IOException exc)
+			{
+				logger.log(Level.WARNING, "Cannot close " + file_name +
+						" file. Exception stack trace:", exc);
+			}
+			
+			/* The event doesn't include waiting for user notifications
+			 * below */
+			Flight_recorder.end_file_io(file_io_event, false,
+					objects_quantity != -1 && objects_read == objects_quantity,
+					file_name, objects_read);
+			
+			/* If file was successfully opened for reading AND failed to read all
+			 * objects */
+			if (objects_quantity != -1 && objects_read != objects_quantity)
+			{
+				// Error message string
+				final StringBuilder message =
+						new StringBuilder(message_resources.getString(
+								"incorrect_time_counters_file_content.1.1"));
+				
+				// If "Time_counter" objects were read partially
+				if (objects_read != 0)
+				{
+					message.append(message_resources.getString(
+							"incorrect_time_counters_file_content.1.2.1.1"));
+					message.append(objects_read);
+					message.append(message_resources.getString(
+							"incorrect_time_counters_file_content.1.2.1.2"));
+					message.append(objects_quantity);
+					message.append(message_resources.getString(
+							"incorrect_time_counters_file_content.1.2.1.3"));
+					
+					// If deserialized objects contain non critical errors
+					if (!deserialization_status)
+					{
+						message.append(message_resources.getString(
+								"incorrect_time_counters_file_content.1.2.2"));
+					}
+				}
+				else
+				{
+					message.append(message_resources.getString(
+							"incorrect_time_counters_file_content.1.3"));
+				}
+				
+				User_notification_dialog.notify_listener_and_wait(new User_notification_event(this),
+						User_notification_type.UNT_file_error, message.toString());
+			}
+			else if (!deserialization_status)
+			{
+				User_notification_dialog.notify_listener_and_wait(new User_notification_event(this),
+						User_notification_type.UNT_file_error,
+						message_resources.getString(
+								"incorrect_time_counters_file_content.2"));
+			}
+		}
+		
+		time_counters_are_read_from_file = true;
+		
+		return true;
+	}
+
+	
+	///// Methods default-access of-instance ==============================/////
+	/**
+	 * Performs synchronous engine tick after {@code source} clock has been
+	 * moved. Does&nbsp;nothing if {@code source} <u>is&nbsp;not</u>
+	 * the&nbsp;engine clock.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param source Moved clock.
+	 */
+	void clock_moved(final Simulated_clock source)
+	{
+		// If the moved clock isn't used by time counters
+		if (!source.shares_time_with(clock))
+		{
+			return;
+		}
+		
+		tick_solo_counters(false);
+		recalculate_instance_counters(0, Long.MIN_VALUE);
+		deadline_index.fire_due();
+	}
+	
+	
+	/**
+	 * Adds started {@code solo_counter} to the&nbsp;engine scheduler.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param solo_counter Started time&nbsp;counter.
+	 */
+	void solo_counter_started(final Solo_counter solo_counter)
+	{
+		change_running_solo_counters(
+				Collections.<Time_counter>singletonList(solo_counter), true);
+	}
+	
+	
+	/**
+	 * Removes paused {@code solo_counter} from the&nbsp;engine scheduler.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param solo_counter Paused time&nbsp;counter.
+	 */
+	void solo_counter_paused(final Solo_counter solo_counter)
+	{
+		change_running_solo_counters(
+				Collections.<Time_counter>singletonList(solo_counter), false);
+	}
+	
+	
+	/**
+	 * Drops undelivered snapshots of shut down {@code time_counter} from
+	 * board snapshots subscriptions, so they do&nbsp;not keep it reachable.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param time_counter Shut down time&nbsp;counter.
+	 */
+	void time_counter_shut_down(final Time_counter time_counter)
+	{
+		snapshot_publisher.forget(time_counter);
+	}
+	
+	
+	/**
+	 * @return Expiry deadlines index served by the&nbsp;engine scheduler.
+	 */
+	Deadline_index get_deadline_index()
+	{
+		return deadline_index;
+	}
+	
+	
+	/**
+	 * @return The&nbsp;smallest time&nbsp;unit which change engine&#8209;level
+	 * consumers of time&nbsp;counters text are interested in:
+	 * {@link Time_unit_name#TUN_seconds} if there are
+	 * {@link Change_feed_listener}s, otherwise the&nbsp;smallest cadence of
+	 * board snapshots subscribers. {@code null} if there are no such
+	 * consumers. {@link #change_log} <u>is&nbsp;not</u> text consumer (see
+	 * {@link #is_change_log_requested()}).
+	 */
+	Time_unit_name get_change_consumers_granularity()
+	{
+		return (change_feed_enabled ?
+				Time_unit_name.TUN_seconds : snapshot_publisher.get_granularity());
+	}
+	
+	
+	/**
+	 * @return {@code true}&nbsp;&#0151; {@link #change_log} has&nbsp;been
+	 * requested, so each time&nbsp;counter value change has to be logged
+	 * (see&nbsp;{@link #log_time_counter_values(Time_counter, long[], boolean)});
+	 * {@code false}&nbsp;&#0151; otherwise.
+	 */
+	boolean is_change_log_requested()
+	{
+		return change_log != null;
+	}
+	
+	
+	/**
+	 * Publishes {@code time_counter} value change to {@link #change_log} if
+	 * the&nbsp;log has&nbsp;been requested. Unlike
+	 * {@link #time_counter_values_changed(Time_counter, String, long[], boolean)}
+	 * does&nbsp;not need time&nbsp;counter text, so the&nbsp;text
+	 * is&nbsp;not rendered for the&nbsp;log.<br>
+	 * <i>Performance note.</i> Does&nbsp;not acquire locks.
+	 * 
+	 * @param time_counter Time&nbsp;counter which value has&nbsp;been changed.
+	 * 
+	 * @param time_unit_values New time&nbsp;unit values. Index is
+	 * {@link Time_unit_name} ordinal.
+	 * 
+	 * @param is_positive New value sign.
+	 */
+	void log_time_counter_values(final Time_counter time_counter,
+			final long[] time_unit_values, final boolean is_positive)
+	{
+		// Changes log
+		final Change_log log = change_log;
+		
+		// If the log has been requested
+		if (log != null)
+		{
+			log.publish(time_counter, time_unit_values, is_positive);
+		}
+	}
+	
+	
+	/**
+	 * Publishes {@code time_counter} value change to board snapshots
+	 * subscribers (if there are such).<br>
+	 * <i>Performance note.</i> Does&nbsp;not acquire locks if there are
+	 * no subscribers.
+	 * 
+	 * @param time_counter Time&nbsp;counter which value has&nbsp;been changed.
+	 * 
+	 * @param text New text value.
+	 * 
+	 * @param time_unit_values New time&nbsp;unit values. Index is
+	 * {@link Time_unit_name} ordinal.
+	 * 
+	 * @param is_positive New value sign.
+	 */
+	void time_counter_values_changed(final Time_counter time_counter,
+			final String text, final long[] time_unit_values,
+			final boolean is_positive)
+	{
+		// If there are board snapshots subscribers
+		if (snapshot_publisher.has_subscribers())
+		{
+			snapshot_publisher.publish(new Time_counter_snapshot(
+					time_counter, text, time_unit_values, is_positive));
+		}
+	}
+	
+	
+	/**
+	 * Collects {@code time_counter} text change for the&nbsp;next
+	 * {@link Change_feed_event}. If the&nbsp;time&nbsp;counter is already
+	 * collected, its text and sign are replaced. Does&nbsp;nothing if there
+	 * are no {@link Change_feed_listener}s.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param time_counter Time&nbsp;counter which text has&nbsp;been changed.
+	 * 
+	 * @param text New text value.
+	 * 
+	 * @param is_positive New value sign.
+	 */
+	void time_counter_text_changed(final Time_counter time_counter,
+			final String text, final boolean is_positive)
+	{
+		// If nobody listens to changes
+		if (!change_feed_enabled)
+		{
+			return;
+		}
+		
+		change_feed_lock.lock();
+		
+		try
+		{
+			// Time counter index in collected changes
+			int slot = time_counter.change_feed_slot;
+			
+			// If the time counter isn't collected yet
+			if (slot == -1)
+			{
+				slot = change_feed_size;
+				
+				// If arrays are too small
+				if (slot == change_feed_counters.length)
+				{
+					// New arrays length
+					final int length = Math.max(16, slot * 2);
+					
+					change_feed_counters =
+							Arrays.copyOf(change_feed_counters, length);
+					change_feed_texts = Arrays.copyOf(change_feed_texts, length);
+					change_feed_signs = Arrays.copyOf(change_feed_signs, length);
+				}
+				
+				change_feed_counters[slot] = time_counter;
+				time_counter.change_feed_slot = slot;
+				++change_feed_size;
+				
+				// If this is the first change since the last delivery
+				if (slot == 0)
+				{
+					engine_executor.execute(change_feed_task);
+				}
+			}
+			
+			change_feed_texts[slot] = text;
+			change_feed_signs[slot] = is_positive;
+		}
+		finally
+		{
+			change_feed_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Checks whether {@link #clock} has jumped since the&nbsp;previous engine
+	 * tick, and resynchronizes all time&nbsp;counters if so: running
+	 * {@link Solo_counter}s are handled according to {@link #clock_jump_policy},
+	 * {@link #deadline_index} timer is reset and {@link #synchronous_task} is
+	 * restarted, so all {@link Instance_counter}s are recalculated right after
+	 * the&nbsp;current tick and re&#8209;aligned to the&nbsp;new second
+	 * boundaries. Then notifies {@link #clock_jump_listeners}. Is called on
+	 * {@link #engine_executor} thread by engine ticks, on wake&#8209;up from
+	 * {@link #idle} mode and before {@link #deadline_index} timer fires
+	 * deadlines (periodic ticks are cancelled in idle mode).<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 */
+	void detect_clock_jump()
+	{
+		// Engine clock
+		final Clock checked = clock;
+		
+		// Simulated clock moves are performed synchronously on purpose
+		if (checked instanceof Simulated_clock)
+		{
+			clock_jump_detector.reset();
+			
+			return;
+		}
+		
+		// The clock jump in milliseconds
+		final long jump_millis = clock_jump_detector.check(checked);
+		
+		// If there is no jump
+		if (jump_millis == 0)
+		{
+			return;
+		}
+		
+		// Applied policy
+		final Clock_jump_policy policy = clock_jump_policy;
+		
+		logger.log(Level.INFO, "Clock jump by " + jump_millis
+				+ " ms is detected. Time counters are resynchronized according to "
+				+ policy.name() + " policy.");
+		
+		for (final Solo_counter i : get_running_solo_counters())
+		{
+			i.clock_jumped(policy);
+		}
+		
+		deadline_index.resync();
+		instance_tick_boundary_millis = Long.MIN_VALUE;
+		lock.lock();
+		
+		try
+		{
+			// Restarted task is executed immediately
+			synchronous_task.cancel();
+			synchronous_task_executor_manager();
+		}
+		finally
+		{
+			lock.unlock();
+		}
+		
+		// Listeners to notify
+		final Clock_jump_listener[] listeners;
+		
+		clock_jump_listeners_lock.lock();
+		
+		try
+		{
+			listeners = clock_jump_listeners.toArray(
+					new Clock_jump_listener[clock_jump_listeners.size()]);
+		}
+		finally
+		{
+			clock_jump_listeners_lock.unlock();
+		}
+		
+		// Event to pass to listeners
+		final Clock_jump_event event =
+				new Clock_jump_event(this, Duration.ofMillis(jump_millis), policy);
+		
+		for (final Clock_jump_listener i : listeners)
+		{
+			try
+			{
+				i.clock_jumped(event);
+			}
+			// Listener failure must not stop the engine
+			catch (final RuntimeException exc)
+			{
+				logger.log(Level.SEVERE, Clock_jump_listener.class.getName()
+						+ " has thrown exception. Exception stack trace:", exc);
+			}
+		}
+	}
+	
+	
+	///// Methods private static ==========================================/////
+	/**
+	 * @param solo_counters {@link Solo_counter}s to filter.
+	 * 
+	 * @param filter Condition returning {@code true} for time&nbsp;counter to
+	 * be selected.
+	 * 
+	 * @return Elements of {@code solo_counters} which satisfy {@code filter}.
+	 */
+	private static List<Time_counter> select(
+			final List<Time_counter> solo_counters,
+			final Predicate<? super Solo_counter> filter)
+	{
+		// Selected time counters
+		final ArrayList<Time_counter> selected =
+				new ArrayList<>(solo_counters.size());
+		
+		for (final Time_counter i : solo_counters)
+		{
+			// If time counter is selected
+			if (filter.test((Solo_counter)i))
+			{
+				selected.add(i);
+			}
+		}
+		
+		return selected;
+	}
+	
+	
+	///// Методы private экземпляра =======================================/////
+	/**
+	 * Obtains time&nbsp;counters working in specified {@code modes} from
+	 * {@link #time_counters} secondary indexes in time proportional to their
+	 * quantity.
+	 * 
+	 * @param state State of time&nbsp;counters to obtain. {@code null} if
+	 * the&nbsp;state does&nbsp;not matter.
+	 * 
+	 * @param modes Time&nbsp;counters modes. Repeated modes are ignored.
+	 * 
+	 * @return Time&nbsp;counters working in one of specified {@code modes}
+	 * (and being in specified {@code state}).
+	 * 
+	 * @exception NullPointerException {@code modes} argument (or its element)
+	 * is {@code null}.
+	 */
+	private List<Time_counter> select(
+			final Time_counter_state state, final Mode... modes)
+	{
+		// Required modes without repeats
+		final EnumSet<Mode> required = EnumSet.noneOf(Mode.class);
+		
+		for (final Mode i : modes)
+		{
+			// Modes cannot be null
+			if (i == null)
+			{
+				throw new NullPointerException(
+						Mode.class.getName() + " argument is null");
+			}
+			
+			required.add(i);
+		}
+		
+		// Time counters to return
+		final ArrayList<Time_counter> selected = new ArrayList<>();
+		
+		for (final Mode i : required)
+		{
+			selected.addAll(state == null ?
+					time_counters.get(i) : time_counters.get(i, state));
+		}
+		
+		return selected;
+	}
+	
+	
+	/**
+	 * Implements {@link #start_all(Mode...)} for specified {@link Solo_counter}s.
+	 * 
+	 * @param solo_counters {@link Solo_counter}s to start.
+	 * 
+	 * @return Quantity of started time&nbsp;counters.
+	 */
+	private int start_counters(final List<Time_counter> solo_counters)
+	{
+		// Clock reading which all time counters are started according to
+		final Clock start_clock = clock;
+		// Started time counters
+		final ArrayList<Time_counter> started =
+				new ArrayList<>(solo_counters.size());
+		
+		for (final Time_counter i : solo_counters)
+		{
+			// If time counter is started
+			if (((Solo_counter)i).start_counting(start_clock))
+			{
+				started.add(i);
+			}
+		}
+		
+		change_running_solo_counters(started, true);
+		notify_batch_operation_listeners(Batch_operation_type.BOT_start, started);
+		
+		return started.size();
+	}
+	
+	
+	/**
+	 * Implements {@link #pause_all(Mode...)} for specified {@link Solo_counter}s.
+	 * 
+	 * @param solo_counters {@link Solo_counter}s to pause.
+	 * 
+	 * @return Quantity of paused time&nbsp;counters.
+	 */
+	private int pause_counters(final List<Time_counter> solo_counters)
+	{
+		// Paused time counters
+		final ArrayList<Time_counter> paused =
+				new ArrayList<>(solo_counters.size());
+		
+		for (final Time_counter i : solo_counters)
+		{
+			// If time counter is paused
+			if (((Solo_counter)i).pause_counting())
+			{
+				paused.add(i);
+			}
+		}
+		
+		change_running_solo_counters(paused, false);
+		notify_batch_operation_listeners(Batch_operation_type.BOT_pause, paused);
+		
+		return paused.size();
+	}
+	
+	
+	/**
+	 * Implements {@link #restart_all(Mode...)} for specified
+	 * time&nbsp;counters. {@link Instance_counter}s are skipped.
+	 * 
+	 * @param time_counters Time&nbsp;counters to restart.
+	 * 
+	 * @return Quantity of restarted time&nbsp;counters.
+	 */
+	private int restart_counters(final List<Time_counter> time_counters)
+	{
+		// Restarted time counters
+		final ArrayList<Time_counter> restarted =
+				new ArrayList<>(time_counters.size());
+		
+		for (final Time_counter i : time_counters)
+		{
+			// If time counter can be restarted
+			if (i instanceof Solo_counter)
+			{
+				((Solo_counter)i).restart();
+				restarted.add(i);
+			}
+		}
+		
+		notify_batch_operation_listeners(
+				Batch_operation_type.BOT_restart, restarted);
+		
+		return restarted.size();
+	}
+	
+	
+	/**
+	 * Adds {@code solo_counters} to (or removes from) {@link #running_solo_counters}
+	 * within single synchronized section, and schedules (or cancels)
+	 * {@link #solo_counters_task} when needed. Each element is added only if
+	 * it is running and is removed only if it is paused at the&nbsp;moment,
+	 * so concurrent single time&nbsp;counter start/pause is handled correctly.
+	 * 
+	 * @param solo_counters {@link Solo_counter}s to add or remove.
+	 * 
+	 * @param add {@code true}&nbsp;&#0151; time&nbsp;counters are added;
+	 * {@code false}&nbsp;&#0151; removed.
+	 */
+	private void change_running_solo_counters(
+			final List<Time_counter> solo_counters, final boolean add)
+	{
+		// Nothing to change
+		if (solo_counters.isEmpty())
+		{
+			return;
+		}
+		
+		solo_counters_lock.lock();
+		
+		try
+		{
+			for (final Time_counter i : solo_counters)
+			{
+				// Time counter to add or remove
+				final Solo_counter solo_counter = (Solo_counter)i;
+				
+				// If time counter needs to be added
+				if (add)
+				{
+					// If time counter is paused already or is in the list
+					if (!solo_counter.is_running() ||
+							solo_counter.running_slot != -1)
+					{
+						continue;
+					}
+					
+					solo_counter.running_slot = running_solo_counters.size();
+					running_solo_counters.add(solo_counter);
 				}
-				/* Если программа успела открыть буферизированный исходящий
-				 * поток */
-				else if (buffered_output != null)
+				else
 				{
-					buffered_output.close();
+					// Index of time counter to remove
+					final int slot = solo_counter.running_slot;
+					
+					// If time counter is started again or isn't in the list
+					if (solo_counter.is_running() || slot == -1)
+					{
+						continue;
+					}
+					
+					// The last element takes place of removed one
+					final Solo_counter last = running_solo_counters.remove(
+							running_solo_counters.size() - 1);
+					
+					// If removed element isn't the last one
+					if (last != solo_counter)
+					{
+						running_solo_counters.set(slot, last);
+						last.running_slot = slot;
+					}
+					
+					solo_counter.running_slot = -1;
 				}
-				// Если программа успела открыть только исходящий файловый поток
-				else if (file_output != null)
+			}
+			
+			solo_counters_task_manager();
+		}
+		finally
+		{
+			solo_counters_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Schedules {@link #solo_counters_task} on {@link #engine_executor} if
+	 * there are running {@link Solo_counter}s and the&nbsp;engine is&nbsp;not
+	 * {@link #idle}, or cancels it otherwise.<br>
+	 * <b>Warning!</b> {@link #solo_counters_lock} must be held by
+	 * the&nbsp;caller.
+	 */
+	private void solo_counters_task_manager()
+	{
+		// If engine scheduler needs to be started
+		if (!running_solo_counters.isEmpty() && !idle)
+		{
+			solo_counters_task.start(
+					solo_counters_tick_period, TimeUnit.MILLISECONDS);
+		}
+		// If there are no time counters to tick
+		else
+		{
+			solo_counters_task.cancel();
+		}
+	}
+	
+	
+	/**
+	 * @return {@link #running_solo_counters} snapshot.
+	 */
+	private Solo_counter[] get_running_solo_counters()
+	{
+		solo_counters_lock.lock();
+		
+		try
+		{
+			return running_solo_counters.toArray(
+					new Solo_counter[running_solo_counters.size()]);
+		}
+		finally
+		{
+			solo_counters_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Ticks all running {@link Solo_counter}s (see
+	 * {@link Solo_counter#clock_tick(boolean)}). {@link #solo_counters_lock}
+	 * <u>is&nbsp;not</u> held while ticking.
+	 * 
+	 * @param replay {@code true}&nbsp;&#0151; each missed second is replayed
+	 * (see&nbsp;{@link Missed_tick_policy#MTP_replay}).
+	 * 
+	 * @return Quantity of ticked time&nbsp;counters.
+	 */
+	private int tick_solo_counters(final boolean replay)
+	{
+		solo_counters_tick_lock.lock();
+		
+		try
+		{
+			// Time counters to tick
+			final Solo_counter[] to_tick;
+			// Quantity of time counters to tick
+			final int quantity;
+			
+			solo_counters_lock.lock();
+			
+			try
+			{
+				quantity = running_solo_counters.size();
+				
+				// If buffer is too small
+				if (solo_counters_tick_buffer.length < quantity)
 				{
-					file_output.close();
+					solo_counters_tick_buffer = new Solo_counter[quantity * 2];
 				}
+				
+				to_tick = running_solo_counters.toArray(solo_counters_tick_buffer);
 			}
-			/* В случае возникновения данного исключения никаких действий
-			 * не предпринимается */
-			catch (final IOException exc)
+			finally
 			{
-				logger.log(Level.WARNING, "Cannot close " + file_name
-						+ " file after writing. Exception stack trace:", exc);
+				solo_counters_lock.unlock();
+			}
+			
+			for (int i = 0; i < quantity; ++i)
+			{
+				to_tick[i].clock_tick(replay);
+				to_tick[i] = null;
+			}
+			
+			return quantity;
+		}
+		finally
+		{
+			solo_counters_tick_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Delivers collected time&nbsp;counters text changes to subscribed
+	 * {@link Change_feed_listener}s as single {@link Change_feed_event} and
+	 * clears the&nbsp;collection. Listeners are notified without holding any
+	 * lock.
+	 */
+	private void flush_change_feed()
+	{
+		// Event to pass to listeners
+		final Change_feed_event event;
+		
+		change_feed_lock.lock();
+		
+		try
+		{
+			// If there is nothing to deliver
+			if (change_feed_size == 0)
+			{
+				return;
+			}
+			
+			event = new Change_feed_event(this,
+					Arrays.copyOf(change_feed_counters, change_feed_size),
+					Arrays.copyOf(change_feed_texts, change_feed_size),
+					Arrays.copyOf(change_feed_signs, change_feed_size),
+					change_feed_size);
+			
+			for (int i = 0; i < change_feed_size; ++i)
+			{
+				change_feed_counters[i].change_feed_slot = -1;
+				change_feed_counters[i] = null;
+				change_feed_texts[i] = null;
+			}
+			
+			change_feed_size = 0;
+		}
+		finally
+		{
+			change_feed_lock.unlock();
+		}
+		
+		// Listeners to notify
+		final Change_feed_listener[] listeners;
+		
+		change_feed_listeners_lock.lock();
+		
+		try
+		{
+			listeners = change_feed_listeners.toArray(
+					new Change_feed_listener[change_feed_listeners.size()]);
+		}
+		finally
+		{
+			change_feed_listeners_lock.unlock();
+		}
+		
+		for (final Change_feed_listener i : listeners)
+		{
+			try
+			{
+				i.time_counters_changed(event);
+			}
+			catch (final RuntimeException exc)
+			{
+				logger.log(Level.SEVERE, Change_feed_listener.class.getName()
+						+ " has thrown exception. Exception stack trace:", exc);
 			}
 		}
 	}
 	
 	
 	/**
-	 * Reads {@link Time_counter} objects from file and adds them to inner
-	 * time&nbsp;counters list (can be obtained using
-	 * {@link #get_time_counters()} method).<br>
-	 * <i>Note.</i> The&nbsp;method <u>does&nbsp;nothing</u> if it
-	 * has&nbsp;been&nbsp;called already and succeed.
+	 * Notifies subscribed {@link Batch_operation_listener}s in the&nbsp;calling
+	 * thread. Does&nbsp;nothing if {@code time_counters} is empty.
+	 * 
+	 * @param operation Performed operation.
+	 * 
+	 * @param time_counters Time&nbsp;counters which state has&nbsp;been
+	 * changed by the&nbsp;operation.
+	 */
+	private void notify_batch_operation_listeners(
+			final Batch_operation_type operation,
+			final List<Time_counter> time_counters)
+	{
+		// If nothing has been changed
+		if (time_counters.isEmpty())
+		{
+			return;
+		}
+		
+		// Listeners to notify
+		final Batch_operation_listener[] listeners;
+		
+		batch_operation_listeners_lock.lock();
+		
+		try
+		{
+			listeners = batch_operation_listeners.toArray(
+					new Batch_operation_listener[batch_operation_listeners.size()]);
+		}
+		finally
+		{
+			batch_operation_listeners_lock.unlock();
+		}
+		
+		// Event to pass to listeners
+		final Batch_operation_event event = new Batch_operation_event(
+				this, operation, Collections.unmodifiableList(time_counters));
+		
+		for (final Batch_operation_listener i : listeners)
+		{
+			i.batch_operation_performed(event);
+		}
+	}
+	
+	
+	/**
+	 * Recalculates all {@link Instance_counter}s according to current
+	 * {@link #clock} time, read once, and notifies their listeners. Current
+	 * date and time are computed once per distinct time&nbsp;zone
+	 * (see&nbsp;{@link #zone_states}).
 	 * 
-	 * @return {@code true}&nbsp;&#0151; {@link Time_counter}{@code s} are read
-	 * from file. {@code false}&nbsp;&#0151; failed to read file or method
-	 * is&nbsp;called not&nbsp;the&nbsp;first time.
+	 * @param replayed Quantity of missed seconds to be replayed before
+	 * the&nbsp;current time (see&nbsp;{@link Missed_tick_policy#MTP_replay}).
+	 * 
+	 * @param target_millis {@link #clock} second boundary the&nbsp;recalculation
+	 * is intended for. If the&nbsp;recalculation is started slightly before
+	 * the&nbsp;boundary (within {@link #instance_tick_lead_millis} and
+	 * {@link #boundary_tolerance_millis}), it is performed for
+	 * the&nbsp;boundary instant. {@link Long#MIN_VALUE}&nbsp;&#0151;
+	 * the&nbsp;recalculation is performed for current time.
+	 * 
+	 * @return Quantity of recalculated time&nbsp;counters.
 	 */
-	public boolean read_time_counters_from_file()
+	private int recalculate_instance_counters(
+			final int replayed, final long target_millis)
 	{
-		// If time counters are already read from file
-		if (time_counters_are_read_from_file)
+		try
 		{
-			return false;
+			lock.lockInterruptibly();
+		}
+		catch (final InterruptedException exc)
+		{
+			logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
+			Thread.currentThread().interrupt();
 		}
-		
-		FileInputStream file_input_stream = null;
-		BufferedInputStream buffered_input_stream = null;
-		ObjectInputStream object_input_stream = null;
-		// "Time_counter" objects quantity which are stored in file
-		int objects_quantity = -1;
-		// Read from file objects quantity. Is the for-loop counter too
-		int objects_read = 0;
-		/* Deserialized objects status. true - all deserialized objects and
-		 * their fields are correct; false - at least one (non critical) error
-		 * occurred while objects fields deserialization */
-		boolean deserialization_status = true;
 		
 		try
 		{
-			file_input_stream = new FileInputStream(file_name);
-			buffered_input_stream = new BufferedInputStream(file_input_stream);
-			object_input_stream = new ObjectInputStream(buffered_input_stream);
-			// Skip this class version (float value)
-			object_input_stream.skipBytes(4);
-			objects_quantity = object_input_stream.readInt();
+			// Time according to which all time counters are calculated
+			Instant now = clock.instant();
+			// The same time in milliseconds
+			final long now_millis = now.toEpochMilli();
 			
-			time_counters.ensureCapacity(objects_quantity);
+			// If the tick is started slightly before its second boundary
+			if (target_millis > now_millis && target_millis - now_millis <=
+					instance_tick_lead_millis + boundary_tolerance_millis)
+			{
+				now = Instant.ofEpochMilli(target_millis);
+			}
 			
-			// Read "Time_counter" objects from file to container
-			for (; objects_read < objects_quantity; ++objects_read)
+			// The last wall clock second boundary
+			final long boundary_millis =
+					now.toEpochMilli() - Math.floorMod(now.toEpochMilli(), 1000L);
+			// Time counters quantity
+			final int quantity = instance_counters.size();
+			// Distinct time zones quantity
+			final int zones = zone_states.size();
+			
+			// Missed seconds are replayed in chronological order
+			for (long shift_seconds = replayed; shift_seconds >= 0; --shift_seconds)
 			{
-				// Temporary object to write into container
-				Time_counter temp = null;
+				// Replayed moment (current one on the last iteration)
+				final Instant moment = now.minusSeconds(shift_seconds);
 				
-				try
+				// Current date and time are computed once per zone
+				for (int i = 0; i < zones; ++i)
 				{
-					temp = (Time_counter)object_input_stream.readObject();
+					zone_states.get(i).move(moment);
 				}
-				catch (final ClassNotFoundException | InvalidObjectException exc)
+				
+				for (int i = 0; i < quantity; ++i)
 				{
-					--objects_read;
+					// Time counter to recalculate
+					final Instance_counter instance_counter =
+							instance_counters.get(i);
 					
-					continue;
+					instance_counter.zone_difference_calculation();
+					instance_counter.value_flipped(
+							boundary_millis - shift_seconds * 1000, now_millis);
 				}
 				
-				/* Check object's fields deserialization status,
-				 * IF deserialized fields were correct before */
-				if (deserialization_status)
+				/* Listeners are notified after all time counters are calculated,
+				 * so all of them show the same moment */
+				for (int i = 0; i < quantity; ++i)
 				{
-					deserialization_status = temp.get_deserialization_status();
+					instance_counters.get(i).notify_time_counter_text_listeners();
 				}
-				
-				time_counters.add(temp);
-				temp.index_number = objects_read;
 			}
-		}
-		catch (final FileNotFoundException exc)
-		{
-			logger.log(Level.WARNING, "Cannot find " + file_name + " file to load "
-					+ Time_counter.class.getName() + " objects from it."
-							+ " Exception stack trace:", exc);
-			User_notification_dialog.notify_listener_and_wait(
-					new User_notification_event(this),
-					User_notification_type.UNT_IO_error,
-					file_name + message_resources.getString("time_counters_file_not_found"));
 			
-			return false;
+			return quantity;
 		}
-		catch (final IOException exc)
+		finally
 		{
-			logger.log(Level.SEVERE, "Cannot read from " + file_name +
-					" file. Exception stack trace:", exc);
-			User_notification_dialog.notify_listener_and_wait(
-					new User_notification_event(this),
-					User_notification_type.UNT_IO_error,
-					message_resources.getString("time_counters_file_read_error.1")
-							+ file_name
-							+ message_resources.getString("time_counters_file_read_error.2"));
-			
-			return false;
+			lock.unlock();
 		}
-		finally
+	}
+	
+	
+	/**
+	 * Computes {@link #synchronous_task} next execution moment:
+	 * the&nbsp;{@link #clock} second boundary following the&nbsp;one
+	 * the&nbsp;current execution has&nbsp;been intended for (less
+	 * {@link #instance_tick_lead_millis}), and stores the&nbsp;boundary to
+	 * {@link #instance_tick_boundary_millis}. Since the&nbsp;clock is read each
+	 * time, ticks are re&#8209;aligned after the&nbsp;clock adjustments. Is
+	 * called on {@link #engine_executor} thread.
+	 * 
+	 * @param deadline_nanos {@link System#nanoTime()} reading at&nbsp;which
+	 * the&nbsp;current execution has&nbsp;been expected.
+	 * 
+	 * @param periods Seconds passed since the&nbsp;current execution has
+	 * been expected, including the&nbsp;current one.
+	 * 
+	 * @return {@link System#nanoTime()} reading at&nbsp;which the&nbsp;next
+	 * execution is expected.
+	 */
+	private long align_to_second_boundary(
+			final long deadline_nanos, final long periods)
+	{
+		// Readings of both clocks are taken as close as possible
+		final long now_nanos = System.nanoTime();
+		final long now_millis = clock.millis();
+		// Recalculation lead
+		final long lead_millis = instance_tick_lead_millis;
+		/* Moment the current execution has been intended for according to
+		 * the clock */
+		final long intended_millis = now_millis + lead_millis +
+				TimeUnit.NANOSECONDS.toMillis(deadline_nanos - now_nanos);
+		
+		instance_tick_boundary_millis = (Math.floorDiv(
+				intended_millis + boundary_tolerance_millis, 1000) + periods) * 1000;
+		
+		return now_nanos + TimeUnit.MILLISECONDS.toNanos(
+				instance_tick_boundary_millis - lead_millis - now_millis);
+	}
+	
+	
+	/**
+	 * Catches&nbsp;up all running {@link Solo_counter}s and delivers changes
+	 * of other {@link Solo_counter}s deferred while the&nbsp;engine was
+	 * {@link #idle} (e.g.&nbsp;caused by settings change).
+	 * {@link Instance_counter}s are recalculated by {@link #synchronous_task}
+	 * which is scheduled right after this method call. Is the&nbsp;body of
+	 * {@link #wake_up_task}.
+	 */
+	private void wake_up()
+	{
+		detect_clock_jump();
+		tick_solo_counters(false);
+		
+		for (final Time_counter i : time_counters.snapshot())
 		{
-			try
-			{
-				///// Attempt to close streams down the chain /////
-				// If object input stream was successfully opened
-				if (object_input_stream != null)
-				{
-					object_input_stream.close();
-				}
-				// If buffered input stream was opened
-				else if (buffered_input_stream != null)
-				{
-					buffered_input_stream.close();
-				}
-				// If file input stream was opened only
-				else if (file_input_stream != null)
-				{
-					file_input_stream.close();
-				}
-				//-------------------------------------------/////
-			}
-			// There is no actions undertaken when such exception occurred
-			catch (final IOException exc)
-			{
-				logger.log(Level.WARNING, "Cannot close " + file_name +
-						" file. Exception stack trace:", exc);
-			}
-			
-			/* If file was successfully opened for reading AND failed to read all
-			 * objects */
-			if (objects_quantity != -1 && objects_read != objects_quantity)
-			{
-				// Error message string
-				final StringBuilder message =
-						new StringBuilder(message_resources.getString(
-								"incorrect_time_counters_file_content.1.1"));
-				
-				// If "Time_counter" objects were read partially
-				if (objects_read != 0)
-				{
-					message.append(message_resources.getString(
-							"incorrect_time_counters_file_content.1.2.1.1"));
-					message.append(objects_read);
-					message.append(message_resources.getString(
-							"incorrect_time_counters_file_content.1.2.1.2"));
-					message.append(objects_quantity);
-					message.append(message_resources.getString(
-							"incorrect_time_counters_file_content.1.2.1.3"));
-					
-					// If deserialized objects contain non critical errors
-					if (!deserialization_status)
-					{
-						message.append(message_resources.getString(
-								"incorrect_time_counters_file_content.1.2.2"));
-					}
-				}
-				else
-				{
-					message.append(message_resources.getString(
-							"incorrect_time_counters_file_content.1.3"));
-				}
-				
-				User_notification_dialog.notify_listener_and_wait(new User_notification_event(this),
-						User_notification_type.UNT_file_error, message.toString());
-			}
-			else if (!deserialization_status)
+			// If the time counter isn't recalculated by synchronous task
+			if (i instanceof Solo_counter)
 			{
-				User_notification_dialog.notify_listener_and_wait(new User_notification_event(this),
-						User_notification_type.UNT_file_error,
-						message_resources.getString(
-								"incorrect_time_counters_file_content.2"));
+				i.notify_deferred();
 			}
 		}
-		
-		time_counters_are_read_from_file = true;
-		
-		return true;
 	}
-
 	
-	///// Методы private экземпляра =======================================/////
+	
 	/**
-	 * Is in&nbsp;charge for {@link #synchronous_task_executor} and
-	 * {@link #instance_counters_executor} launching/terminating. Determines
-	 * the&nbsp;necessary action when called.
+	 * Schedules {@link #synchronous_task} on {@link #engine_executor} if there
+	 * are {@link Instance_counter}s, the&nbsp;engine is&nbsp;not {@link #idle}
+	 * and the&nbsp;task is&nbsp;not scheduled yet, or cancels it otherwise.<br>
+	 * <b>Warning!</b> {@link #lock} must be held by the&nbsp;caller.
 	 */
 	private void synchronous_task_executor_manager()
 	{
 		/* Если есть объекты, выполнять которые необходимо синхронно -
-		 * выполняется запуск executor'а */
-		if (instance_counters.size() > 0)
+		 * выполняется запуск задачи */
+		if (!instance_counters.isEmpty() && !idle)
 		{
-			// Если executor хотя бы раз запускался И ...
-			if (synchronous_task_executor != null &&
-					// ... executor сейчас выполняется
-					!synchronous_task_executor.isShutdown())
-			{
-				return;
-			}
-			
-			instance_counters_executor = Executors.newCachedThreadPool();
-			Instance_counter.difference_calculation_barrier =
-					instance_counters_barrier;
-			synchronous_task_executor =
-					Executors.newSingleThreadScheduledExecutor();
-			synchronous_task_executor.scheduleAtFixedRate(
-					synchronous_task, 0, 1, TimeUnit.SECONDS);
+			synchronous_task.start(0, TimeUnit.SECONDS);
 		}
-		// Остановка executor'а
+		// Остановка задачи
 		else
 		{
-			// Если executor еще ни разу не запускался
-			if (synchronous_task_executor == null)
-			{
-				return;
-			}
-			
-			synchronous_task_executor.shutdown();
-			instance_counters_executor.shutdown();
-			
-			try
-			{
-				synchronous_task_executor.awaitTermination(1, TimeUnit.SECONDS);
-				instance_counters_executor.awaitTermination(1, TimeUnit.SECONDS);
-			}
-			/* Данное исключение не ожидается. Даже в случае его возникновения
-			 * необходимо полностью выполнить метод с целью принудительного
-			 * завершения выполнения потока */
-			catch (final InterruptedException exc)
-			{
-				logger.log(Level.WARNING, "Thread encountered "
-						+ InterruptedException.class.getName()
-						+ " exception while waiting for thread termination. This"
-						+ " thread will continue to execute. Exception stack trace:", exc);
-			}
-			
-			// If this executor wasn't terminated while waiting
-			if (!synchronous_task_executor.isTerminated())
-			{
-				logger.log(Level.WARNING,
-						"Forcible " + ScheduledExecutorService.class.getName()
-								+ " termination due\u00A0to long waiting");
-				synchronous_task_executor.shutdownNow();
-			}
-			
-			// If this executor wasn't terminated while waiting
-			if (!instance_counters_executor.isTerminated())
-			{
-				logger.log(Level.WARNING,
-						"Forcible " + ExecutorService.class.getName()
-								+ " termination due\u00A0to long waiting");
-				instance_counters_executor.shutdownNow();
-			}
+			synchronous_task.cancel();
 		}
 	}
 	
 	
 	/**
-	 * Очистка {@link #instance_counters_tasks} и заполнение его Callable'ами
-	 * заново.
+	 * Appends {@code instance_counter} to {@link #instance_counters},
+	 * assigns its {@link Instance_counter#instance_slot} and attaches it to
+	 * its zone's {@link Zone_state}.<br>
+	 * <b>Warning!</b> {@link #lock} must be held by the&nbsp;caller.
+	 * 
+	 * @param instance_counter Object to add.
 	 */
-	private void reset_instance_counters_tasks()
+	private void add_to_instance_counters(final Instance_counter instance_counter)
 	{
-		instance_counters_tasks.clear();
+		instance_counter.instance_slot = instance_counters.size();
+		instance_counters.add(instance_counter);
+		
+		// Time counter's zone index
+		final int zone_index = instance_counter.zone_index;
 		
-		for (int i = 0, end = instance_counters.size(); i < end; ++i)
+		// If the zone has been interned after the table is allocated
+		if (zone_index >= zone_states_by_index.length)
 		{
-			/* Объект, метод которого необходимо поместить в
-			 * "instance_counters_tasks" */
-			final Instance_counter to_callable = instance_counters.get(i);
-			// Объявлен для assert'а
-			final boolean result =
-					instance_counters_tasks.add(new Callable<Void>()
-			{
-				@Override
-				public Void call() throws Exception
-				{
-					to_callable.difference_calculation(true);
-					
-					return null;
-				}
-			});
-			
-			assert result :
-					"Unexpected error occurred while adding Callable object to list";
+			zone_states_by_index = Arrays.copyOf(zone_states_by_index,
+					Math.max(zone_index + 1, Zone_table.size()));
+		}
+		
+		// The zone state shared with other time counters
+		Zone_state zone_state = zone_states_by_index[zone_index];
+		
+		// If the zone is new
+		if (zone_state == null)
+		{
+			zone_state = new Zone_state(instance_counter.get_zone());
+			zone_states.add(zone_state);
+			zone_states_by_index[zone_index] = zone_state;
+		}
+		
+		++zone_state.users;
+		instance_counter.zone_state = zone_state;
+		instance_counter.schedule_expiry();
+	}
+	
+	
+	/**
+	 * Removes {@code instance_counter} from {@link #instance_counters} in
+	 * constant time: the&nbsp;last element takes its place.<br>
+	 * <b>Warning!</b> {@link #lock} must be held by the&nbsp;caller.
+	 * 
+	 * @param instance_counter Object to remove.
+	 * 
+	 * @return {@code true}&nbsp;&#0151; the&nbsp;object is removed;
+	 * {@code false}&nbsp;&#0151; there is no such object in the&nbsp;list.
+	 */
+	private boolean remove_from_instance_counters(
+			final Instance_counter instance_counter)
+	{
+		// Index of the object to remove
+		final int slot = instance_counter.instance_slot;
+		
+		// If the object isn't in the list
+		if (slot < 0 || slot >= instance_counters.size() ||
+				instance_counters.get(slot) != instance_counter)
+		{
+			return false;
+		}
+		
+		// The last element takes place of removed one
+		final Instance_counter last =
+				instance_counters.remove(instance_counters.size() - 1);
+		
+		// If removed element isn't the last one
+		if (last != instance_counter)
+		{
+			instance_counters.set(slot, last);
+			last.instance_slot = slot;
+		}
+		
+		instance_counter.instance_slot = -1;
+		
+		// Time counter's zone state
+		final Zone_state zone_state = instance_counter.zone_state;
+		
+		instance_counter.zone_state = null;
+		
+		// If there are no more time counters in the zone
+		if (--zone_state.users == 0)
+		{
+			zone_states.remove(zone_state);
+			zone_states_by_index[instance_counter.zone_index] = null;
+		}
+		
+		deadline_index.cancel(instance_counter.expiry);
+		instance_counter.cancel_thresholds();
+		
+		return true;
+	}
+	
+	
+	/**
+	 * Registers {@link Control_MXBean} and {@link Registry_MXBean} in
+	 * the&nbsp;platform MBean server. Failure is logged and does&nbsp;not
+	 * affect the&nbsp;engine.
+	 */
+	private void register_MXBeans()
+	{
+		try
+		{
+			ManagementFactory.getPlatformMBeanServer().registerMBean(
+					new Control_MXBean(),
+					new ObjectName("app.tar.time_obj:type=Time_counter_control"));
+			ManagementFactory.getPlatformMBeanServer().registerMBean(
+					new Registry_MXBean(),
+					new ObjectName("app.tar.time_obj:type=Time_counter_registry"));
+		}
+		catch (final JMException | SecurityException exc)
+		{
+			logger.log(Level.WARNING, "Cannot register management interfaces."
+					+ " Exception stack trace:", exc);
 		}
 	}
 }
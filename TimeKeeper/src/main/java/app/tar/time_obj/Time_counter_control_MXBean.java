@@ -0,0 +1,265 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+
+/**
+ * Management interface of {@link Time_counter_control}: engine health and
+ * throughput. Is registered in the&nbsp;platform MBean server as
+ * {@code app.tar.time_obj:type=Time_counter_control}, so it can be observed
+ * with standard JMX tools. Attribute getters follow JavaBeans naming
+ * required by JMX.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public interface Time_counter_control_MXBean
+{
+	/**
+	 * @return Quantity of running {@link Solo_counter}s.
+	 */
+	int getRunning_solo_counters();
+	
+	
+	/**
+	 * @return Quantity of {@link Instance_counter}s.
+	 */
+	int getInstance_counters();
+	
+	
+	/**
+	 * @return {@code true}&nbsp;&#0151; the&nbsp;engine is in idle mode
+	 * (see&nbsp;{@link Time_counter_control#set_idle(boolean)}).
+	 */
+	boolean isIdle();
+	
+	
+	/**
+	 * @return Durations of {@link Solo_counter}s ticks in microseconds.
+	 */
+	Latency_summary getSolo_tick_duration();
+	
+	
+	/**
+	 * @return Quantity of {@link Solo_counter}s ticks.
+	 */
+	long getSolo_ticks();
+	
+	
+	/**
+	 * @return Quantity of {@link Solo_counter}s ticks started more than half
+	 * a&nbsp;period later than expected.
+	 */
+	long getSolo_late_ticks();
+	
+	
+	/**
+	 * @return Quantity of {@link Solo_counter}s tick periods passed without
+	 * a&nbsp;tick.
+	 */
+	long getSolo_missed_ticks();
+	
+	
+	/**
+	 * @return Lateness of {@link Solo_counter}s ticks against their expected
+	 * moments (scheduler drift) in microseconds.
+	 */
+	Latency_summary getSolo_tick_lateness();
+	
+	
+	/**
+	 * @return Quantity of missed {@link Solo_counter}s ticks coalesced into
+	 * the&nbsp;following ones (see&nbsp;{@link Missed_tick_policy#MTP_coalesce}).
+	 */
+	long getSolo_coalesced_ticks();
+	
+	
+	/**
+	 * @return Quantity of replayed missed {@link Solo_counter}s ticks
+	 * (see&nbsp;{@link Missed_tick_policy#MTP_replay}).
+	 */
+	long getSolo_replayed_ticks();
+	
+	
+	/**
+	 * @return Durations of {@link Instance_counter}s recalculations in
+	 * microseconds.
+	 */
+	Latency_summary getInstance_tick_duration();
+	
+	
+	/**
+	 * @return Quantity of {@link Instance_counter}s recalculations.
+	 */
+	long getInstance_ticks();
+	
+	
+	/**
+	 * @return Quantity of {@link Instance_counter}s recalculations started
+	 * more than half a&nbsp;second later than expected.
+	 */
+	long getInstance_late_ticks();
+	
+	
+	/**
+	 * @return Quantity of seconds passed without {@link Instance_counter}s
+	 * recalculation.
+	 */
+	long getInstance_missed_ticks();
+	
+	
+	/**
+	 * @return Lateness of {@link Instance_counter}s recalculations against
+	 * their expected moments (scheduler drift) in microseconds.
+	 */
+	Latency_summary getInstance_tick_lateness();
+	
+	
+	/**
+	 * @return Quantity of missed {@link Instance_counter}s recalculations
+	 * coalesced into the&nbsp;following ones
+	 * (see&nbsp;{@link Missed_tick_policy#MTP_coalesce}).
+	 */
+	long getInstance_coalesced_ticks();
+	
+	
+	/**
+	 * @return Quantity of replayed missed {@link Instance_counter}s
+	 * recalculations (see&nbsp;{@link Missed_tick_policy#MTP_replay}).
+	 */
+	long getInstance_replayed_ticks();
+	
+	
+	/**
+	 * @return The&nbsp;way the&nbsp;engine scheduler handles missed ticks.
+	 */
+	Missed_tick_policy getMissed_tick_policy();
+	
+	
+	/**
+	 * Sets the&nbsp;way the&nbsp;engine scheduler handles missed ticks
+	 * (see&nbsp;{@link Time_counter_control#set_missed_tick_policy(Missed_tick_policy)}).
+	 * 
+	 * @param policy Missed ticks handling.
+	 */
+	void setMissed_tick_policy(Missed_tick_policy policy);
+	
+	
+	/**
+	 * @return Quantity of detected engine clock jumps (see&nbsp;{@link
+	 * Time_counter_control#set_clock_jump_threshold(java.time.Duration)}).
+	 */
+	long getClock_jumps();
+	
+	
+	/**
+	 * @return The&nbsp;last detected engine clock jump in milliseconds
+	 * (negative for backward jump). {@code 0} if there were no jumps.
+	 */
+	long getLast_clock_jump_millis();
+	
+	
+	/**
+	 * @return The&nbsp;way running {@link Solo_counter}s handle engine clock
+	 * jumps.
+	 */
+	Clock_jump_policy getClock_jump_policy();
+	
+	
+	/**
+	 * Sets the&nbsp;way running {@link Solo_counter}s handle engine clock
+	 * jumps (see&nbsp;{@link
+	 * Time_counter_control#set_clock_jump_policy(Clock_jump_policy)}).
+	 * 
+	 * @param policy Clock jumps handling.
+	 */
+	void setClock_jump_policy(Clock_jump_policy policy);
+	
+	
+	/**
+	 * @return Total quantity of undelivered
+	 * {@link app.tar.time_obj.events.Time_counter_text_listener}
+	 * notifications of all time&nbsp;counters.
+	 */
+	int getListener_queue_depth();
+	
+	
+	/**
+	 * @return The&nbsp;biggest quantity of undelivered
+	 * {@link app.tar.time_obj.events.Time_counter_text_listener}
+	 * notifications of a&nbsp;single time&nbsp;counter.
+	 */
+	int getMax_listener_queue_depth();
+	
+	
+	/**
+	 * @return Latency from value flip to listener invocation in
+	 * microseconds (see&nbsp;{@link Latency_stage#LS_dispatch}). Is gathered
+	 * only while {@link #isLatency_monitoring_enabled()}.
+	 */
+	Latency_summary getDispatch_latency();
+	
+	
+	/**
+	 * @return {@code true}&nbsp;&#0151; {@link Latency_monitor} is turned on.
+	 */
+	boolean isLatency_monitoring_enabled();
+	
+	
+	/**
+	 * Turns {@link Latency_monitor} on or off.
+	 * 
+	 * @param enabled {@code true}&nbsp;&#0151; turn monitoring on;
+	 * {@code false}&nbsp;&#0151; turn it off.
+	 */
+	void setLatency_monitoring_enabled(boolean enabled);
+	
+	
+	/**
+	 * @return Duration of the&nbsp;last successful
+	 * {@link Time_counter_control#save_time_counters()} call in
+	 * microseconds. {@code -1} if time&nbsp;counters have&nbsp;not been saved
+	 * yet.
+	 */
+	long getLast_save_duration_micros();
+	
+	
+	/**
+	 * @return Size of the&nbsp;file written by the&nbsp;last successful
+	 * {@link Time_counter_control#save_time_counters()} call in bytes.
+	 * {@code -1} if time&nbsp;counters have&nbsp;not been saved yet.
+	 */
+	long getLast_save_size_bytes();
+	
+	
+	/**
+	 * @return Quantity of threads owned by the&nbsp;engine scheduler.
+	 */
+	int getEngine_threads();
+	
+	
+	/**
+	 * @return Quantity of threads of shared time&nbsp;counters listeners
+	 * notification and snapshots delivery pools.
+	 */
+	int getListener_threads();
+	
+	
+	/**
+	 * Clears ticks statistics and {@link Latency_monitor} histograms.
+	 */
+	void reset_statistics();
+}
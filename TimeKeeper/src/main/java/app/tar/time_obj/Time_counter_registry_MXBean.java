@@ -0,0 +1,51 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+import java.util.Map;
+
+import app.tar.time_obj.containers.Time_counter_registry;
+
+
+/**
+ * Management interface of {@link Time_counter_registry}: live
+ * time&nbsp;counters quantities. Is registered in the&nbsp;platform MBean
+ * server as {@code app.tar.time_obj:type=Time_counter_registry}. Attribute
+ * getters follow JavaBeans naming required by JMX.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public interface Time_counter_registry_MXBean
+{
+	/**
+	 * @return Quantity of registered time&nbsp;counters.
+	 */
+	int getSize();
+	
+	
+	/**
+	 * @return Time&nbsp;counters quantity per {@link Mode} name.
+	 */
+	Map<String, Integer> getCounters_by_mode();
+	
+	
+	/**
+	 * @return Time&nbsp;counters quantity per {@link Time_counter_state}
+	 * name.
+	 */
+	Map<String, Integer> getCounters_by_state();
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+
+/**
+ * Immutable time&nbsp;counter value at&nbsp;some moment. Is published by
+ * {@link Flow.Publisher}s obtained via
+ * {@link Time_counter#get_publisher(Time_unit_name)} and
+ * {@link Time_counter_control#get_publisher(Time_unit_name)}.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public final class Time_counter_snapshot
+{
+	///// Fields public of-instance =======================================/////
+	/** Time&nbsp;counter which value is represented. */
+	public final Time_counter time_counter;
+	/** Time&nbsp;counter text value. */
+	public final String text;
+	/** Time&nbsp;counter value sign (see
+	 * {@link Time_counter#is_positive_value()}). */
+	public final boolean is_positive;
+	
+	
+	///// Fields private of-instance ======================================/////
+	/** Time&nbsp;unit values. Index is {@link Time_unit_name} ordinal. */
+	private final long[] values;
+	
+	
+	///// Constructors default-access =====================================/////
+	/**
+	 * @param time_counter Time&nbsp;counter which value is represented.
+	 * 
+	 * @param text Time&nbsp;counter text value.
+	 * 
+	 * @param time_unit_values Time&nbsp;unit values. Index is
+	 * {@link Time_unit_name} ordinal. Is copied.
+	 * 
+	 * @param is_positive Time&nbsp;counter value sign.
+	 */
+	Time_counter_snapshot(final Time_counter time_counter, final String text,
+			final long[] time_unit_values, final boolean is_positive)
+	{
+		this.time_counter = time_counter;
+		this.text = text;
+		this.is_positive = is_positive;
+		values = time_unit_values.clone();
+	}
+	
+	
+	///// Methods public of-instance ======================================/////
+	/**
+	 * @param time_unit Time&nbsp;unit which value is needed.
+	 * 
+	 * @return {@code time_unit} value.
+	 * 
+	 * @exception NullPointerException {@code time_unit} argument is
+	 * {@code null}.
+	 */
+	public long get_value(final Time_unit_name time_unit)
+	{
+		return values[time_unit.ordinal()];
+	}
+	
+	
+	///// Methods default-access of-instance ==============================/////
+	/**
+	 * <b>Warning!</b> Returned array <u>must&nbsp;not</u> be modified.
+	 * 
+	 * @return Time&nbsp;unit values. Index is {@link Time_unit_name} ordinal.
+	 */
+	long[] get_values()
+	{
+		return values;
+	}
+	
+	
+	/**
+	 * Checks whether this snapshot differs from previously delivered value
+	 * of the&nbsp;same time&nbsp;counter enough to be delivered with specified
+	 * cadence.
+	 * 
+	 * @param previous_values Previously delivered time&nbsp;unit values
+	 * (see&nbsp;{@link #get_values()}). May be {@code null}.
+	 * 
+	 * @param previous_positive Previously delivered value sign. Is ignored if
+	 * {@code previous_values} is {@code null}.
+	 * 
+	 * @param cadence The&nbsp;smallest time&nbsp;unit which value change
+	 * matters. {@code null} means that each change matters.
+	 * 
+	 * @return {@code true}&nbsp;&#0151; {@code previous_values} is
+	 * {@code null}, {@code cadence} is {@code null}, value sign differs or
+	 * at&nbsp;least one time&nbsp;unit value from years to {@code cadence}
+	 * differs; {@code false}&nbsp;&#0151; otherwise.
+	 */
+	boolean differs(final long[] previous_values,
+			final boolean previous_positive, final Time_unit_name cadence)
+	{
+		// If each change matters
+		if (previous_values == null || cadence == null ||
+				is_positive != previous_positive)
+		{
+			return true;
+		}
+		
+		for (int i = 0, end = cadence.ordinal(); i <= end; ++i)
+		{
+			// If the time unit value has been changed
+			if (values[i] != previous_values[i])
+			{
+				return true;
+			}
+		}
+		
+		return false;
+	}
+}
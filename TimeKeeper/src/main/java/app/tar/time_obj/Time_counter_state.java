@@ -0,0 +1,51 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+import app.tar.time_obj.containers.Time_counter_registry;
+
+
+/**
+ * Time&nbsp;counter run state kept in {@link Time_counter_registry} secondary
+ * indexes. A&nbsp;time&nbsp;counter may be in several states simultaneously
+ * (e.g.&nbsp;{@link #TCS_paused}, {@link #TCS_initial} and
+ * {@link #TCS_positive}).
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public enum Time_counter_state
+{
+	/** {@link Solo_counter} which is counting time
+	 * (see&nbsp;{@link Solo_counter#is_running()}). */
+	TCS_running,
+	/** {@link Solo_counter} which is paused. */
+	TCS_paused,
+	/** {@link Solo_counter} which has&nbsp;not started counting time since
+	 * creation or the&nbsp;last restart
+	 * (see&nbsp;{@link Solo_counter#counting_had_started()}). */
+	TCS_initial,
+	/** {@link Solo_counter} which has reached the&nbsp;maximum possible value
+	 * (see&nbsp;{@link Solo_counter#numeric_overflow_status()}). */
+	TCS_overflowed,
+	/** Time&nbsp;counter which value is positive
+	 * (see&nbsp;{@link Time_counter#is_positive_value()}). */
+	TCS_positive,
+	/** Time&nbsp;counter which value is negative, i.e.&nbsp;the&nbsp;countdown
+	 * has elapsed or the&nbsp;designated time&nbsp;point is&nbsp;not reached
+	 * yet (see&nbsp;{@link Time_counter#is_positive_value()}). */
+	TCS_elapsed
+}
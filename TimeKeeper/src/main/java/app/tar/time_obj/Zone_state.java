@@ -0,0 +1,138 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+
+/**
+ * Current date and time in a&nbsp;single time&nbsp;zone, shared by all
+ * {@link Instance_counter}s of the&nbsp;zone. {@link Time_counter_control}
+ * moves each distinct zone once per engine tick, so current date and time
+ * are computed once per zone instead of once per time&nbsp;counter.
+ * <p>The&nbsp;zone offset is obtained from {@link ZoneRules} together with
+ * the&nbsp;next offset transition instant, and is reused until
+ * the&nbsp;transition is crossed. {@link #transitions} is changed each time
+ * the&nbsp;offset changes, so time&nbsp;counters recheck their offset
+ * difference with the&nbsp;target time only then.<br>
+ * <i>Note.</i> The&nbsp;class <u>is&nbsp;not</u> thread&#8209;safe. It is
+ * used under {@link Time_counter_control} {@code lock}.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+final class Zone_state
+{
+	///// Fields default-access of-instance ===============================/////
+	/** Time&nbsp;zone. */
+	final ZoneId zone;
+	/** Quantity of {@link Instance_counter}s which use the&nbsp;object. Is
+	 * managed by {@link Time_counter_control} only. */
+	int users;
+	/** Current date and time in {@link #zone} with zeroed nanoseconds.
+	 * {@code null} before the&nbsp;first {@link #move(Instant)} call. */
+	ZonedDateTime time_current;
+	/** {@link #zone} offset in seconds for {@link #time_current}. */
+	int offset_seconds;
+	/** Is incremented each time {@link #offset_seconds} changes. */
+	int transitions;
+	
+	
+	///// Fields private of-instance ======================================/////
+	/** {@link #zone} rules. */
+	private final ZoneRules rules;
+	/** Current instant. {@code null} before the&nbsp;first
+	 * {@link #move(Instant)} call. */
+	private Instant moment;
+	/** Epoch second since which {@link #offset_seconds} is valid
+	 * (the&nbsp;moment it has&nbsp;been obtained for). */
+	private long offset_valid_from;
+	/** Epoch second of the&nbsp;next offset transition, till which
+	 * {@link #offset_seconds} is valid (exclusive). */
+	private long offset_valid_until;
+	
+	
+	///// Constructors default-access =====================================/////
+	/**
+	 * @param zone Time&nbsp;zone.
+	 */
+	Zone_state(final ZoneId zone)
+	{
+		this.zone = zone;
+		rules = zone.getRules();
+		users = 0;
+		time_current = null;
+		offset_seconds = 0;
+		transitions = 0;
+		moment = null;
+		offset_valid_from = Long.MAX_VALUE;
+		offset_valid_until = Long.MIN_VALUE;
+	}
+	
+	
+	///// Methods default-access of-instance ==============================/////
+	/**
+	 * Sets {@link #time_current} to {@code now}. Zone&nbsp;rules are consulted
+	 * for the&nbsp;offset only if {@code now} is out of the&nbsp;period
+	 * the&nbsp;current offset is valid for.
+	 * 
+	 * @param now Current instant.
+	 */
+	void move(Instant now)
+	{
+		now = now.truncatedTo(ChronoUnit.SECONDS);
+		
+		// If the zone is already moved to this instant
+		if (now.equals(moment))
+		{
+			return;
+		}
+		
+		moment = now;
+		
+		// Epoch second to check offset validity for
+		final long seconds = now.getEpochSecond();
+		
+		// If an offset transition is crossed (or the clock is moved backward)
+		if (seconds < offset_valid_from || seconds >= offset_valid_until)
+		{
+			// New offset
+			final ZoneOffset offset = rules.getOffset(now);
+			// The next offset transition
+			final ZoneOffsetTransition next = rules.nextTransition(now);
+			
+			offset_valid_from = seconds;
+			offset_valid_until =
+					(next == null ? Long.MAX_VALUE : next.toEpochSecond());
+			
+			// If the offset is changed
+			if (time_current == null ||
+					offset.getTotalSeconds() != offset_seconds)
+			{
+				offset_seconds = offset.getTotalSeconds();
+				++transitions;
+			}
+		}
+		
+		time_current = ZonedDateTime.ofInstant(now, zone);
+	}
+}
@@ -0,0 +1,132 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * Interned time&nbsp;zones table. Each distinct {@link ZoneId} used by
+ * time&nbsp;counters is stored once and is referred by its index, so
+ * a&nbsp;time&nbsp;counter keeps a&nbsp;primitive instead of a&nbsp;reference
+ * to zone object graph. Indexes are valid within the&nbsp;program run only and
+ * <u>must&nbsp;not</u> be persisted.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+final class Zone_table
+{
+	///// Fields private static ===========================================/////
+	/** Interned zones by their indexes. Is replaced (never modified) when
+	 * a&nbsp;zone is added, so it is read without locking. */
+	private static volatile ZoneId[] zones;
+	/** {@link #zones} indexes.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #lock}. */
+	private static final HashMap<ZoneId, Integer> indexes;
+	/** Synchronizes zones adding. */
+	private static final ReentrantLock lock;
+	
+	
+	static
+	{
+		zones = new ZoneId[0];
+		indexes = new HashMap<>();
+		lock = new ReentrantLock();
+	}
+	
+	
+	///// Constructors private ============================================/////
+	/**
+	 * Is&nbsp;not used.
+	 */
+	private Zone_table() {}
+	
+	
+	///// Methods default-access static ===================================/////
+	/**
+	 * Adds {@code zone} to the&nbsp;table if it is&nbsp;not there yet.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param zone Time&nbsp;zone to intern.
+	 * 
+	 * @return {@code zone} index.
+	 * 
+	 * @exception NullPointerException Passed argument is {@code null}.
+	 */
+	static int intern(final ZoneId zone)
+	{
+		// Argument cannot be null
+		if (zone == null)
+		{
+			throw new NullPointerException(
+					ZoneId.class.getName() + " argument is null");
+		}
+		
+		lock.lock();
+		
+		try
+		{
+			// The zone index if it is interned already
+			final Integer index = indexes.get(zone);
+			
+			// If the zone is interned already
+			if (index != null)
+			{
+				return index;
+			}
+			
+			// New zone index
+			final int new_index = zones.length;
+			// New zones table
+			final ZoneId[] new_zones = Arrays.copyOf(zones, new_index + 1);
+			
+			new_zones[new_index] = zone;
+			indexes.put(zone, new_index);
+			zones = new_zones;
+			
+			return new_index;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * @param index Time&nbsp;zone index obtained from {@link #intern(ZoneId)}.
+	 * 
+	 * @return Interned time&nbsp;zone.
+	 */
+	static ZoneId get(final int index)
+	{
+		return zones[index];
+	}
+	
+	
+	/**
+	 * @return Interned time&nbsp;zones quantity.
+	 */
+	static int size()
+	{
+		return zones.length;
+	}
+}
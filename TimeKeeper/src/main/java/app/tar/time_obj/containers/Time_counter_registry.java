@@ -0,0 +1,1214 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj.containers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import app.tar.time_obj.Instance_counter;
+import app.tar.time_obj.Mode;
+import app.tar.time_obj.Solo_counter;
+import app.tar.time_obj.Time_counter;
+import app.tar.time_obj.Time_counter_control;
+import app.tar.time_obj.Time_counter_state;
+
+
+/**
+ * Registry of all {@link Time_counter} objects, stored in
+ * {@link Time_counter_control} singleton. Provides interaction with
+ * {@link Time_counter_control} for synchronously executed
+ * {@link Instance_counter}s.
+ * <p>Each registered time&nbsp;counter obtains stable identifier (see
+ * {@link #get_id(Time_counter)}) which <u>is&nbsp;not</u> reused while
+ * the&nbsp;program runs. Time&nbsp;counter lookup by object or by identifier,
+ * adding and removing are performed in constant time. Removing
+ * does&nbsp;not preserve the&nbsp;elements order (the&nbsp;last element takes
+ * the&nbsp;place of removed one); use {@link #sort(Comparator)} when
+ * the&nbsp;order matters.
+ * <p>Besides the&nbsp;main list the&nbsp;registry keeps secondary indexes by
+ * {@link Mode} and by {@link Time_counter_state}, so time&nbsp;counters in
+ * specified mode and/or state are obtained in time proportional to their
+ * quantity (see {@link #get(Mode)}, {@link #get(Time_counter_state)},
+ * {@link #get(Mode, Time_counter_state)}) and their quantity is obtained in
+ * constant time without locking. Time&nbsp;counters update their state in
+ * the&nbsp;indexes themselves via {@link #update_state(Time_counter)}.
+ * The&nbsp;indexes <u>do&nbsp;not</u> keep the&nbsp;main list order.
+ * <p>Modifications are synchronized. Reading methods
+ * ({@link #snapshot()}, {@link #iterator()}, {@link #size()},
+ * {@link #get_quantity(Mode)}, {@link #get_quantity(Time_counter_state)},
+ * {@link #get_quantity(Mode, Time_counter_state)}) <u>do&nbsp;not</u> lock: {@link #snapshot()}
+ * returns immutable copy which is built once after each modification and is
+ * shared by readers until the&nbsp;next one.
+ * <p><i>Notes.</i>
+ * <ul><li>Cannot contain {@code null} elements.</li>
+ * <li>Cannot contain the&nbsp;same object twice (objects are compared by
+ * reference).</li>
+ * <li>Removed time&nbsp;counters are shut&nbsp;down (see
+ * {@link Time_counter#shutdown()}) after the&nbsp;registry is unlocked.</li></ul>
+ *
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public class Time_counter_registry implements Iterable<Time_counter>
+{
+	///// Nested classes private ==========================================/////
+	/**
+	 * Registered time&nbsp;counter with its identifier and current indexes in
+	 * {@link Time_counter_registry#entries} and secondary indexes.
+	 */
+	private static final class Entry
+	{
+		/** Registered time&nbsp;counter. */
+		final Time_counter time_counter;
+		/** Time&nbsp;counter identifier. */
+		final long id;
+		/** Index in {@link Time_counter_registry#entries}. */
+		int slot;
+		/** Index in time&nbsp;counter's mode list from
+		 * {@link Time_counter_registry#mode_indexes}. */
+		int mode_slot;
+		/** Indexes in time&nbsp;counter's mode and state lists from
+		 * {@link Time_counter_registry#state_indexes} (array index is
+		 * {@link Time_counter_state#ordinal()}). {@code -1} if
+		 * the&nbsp;time&nbsp;counter is&nbsp;not in the&nbsp;state. */
+		final int[] state_slots;
+		
+		
+		/**
+		 * @param time_counter Registered time&nbsp;counter.
+		 * 
+		 * @param id Time&nbsp;counter identifier.
+		 */
+		Entry(final Time_counter time_counter, final long id)
+		{
+			this.time_counter = time_counter;
+			this.id = id;
+			slot = -1;
+			mode_slot = -1;
+			state_slots = new int[states_quantity];
+			Arrays.fill(state_slots, -1);
+		}
+	}
+	
+	
+	///// Fields private static ===========================================/////
+	/** Logs this class's events. */
+	private static final Logger logger;
+	
+	/** {@link Mode} values. */
+	private static final Mode[] mode_values;
+	/** {@link Time_counter_state} values. */
+	private static final Time_counter_state[] state_values;
+	/** {@link Time_counter_state} values quantity. */
+	private static final int states_quantity;
+	
+	
+	static
+	{
+		logger = Logger.getLogger(Time_counter_registry.class.getName());
+		mode_values = Mode.values();
+		state_values = Time_counter_state.values();
+		states_quantity = state_values.length;
+	}
+	
+	
+	///// Fields private of-instance ======================================/////
+	/** Registered time&nbsp;counters in dense order.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #modification_lock}. */
+	private final ArrayList<Entry> entries;
+	/** Time&nbsp;counter to its entry mapping.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #modification_lock} or {@link #index_lock}. Modifications must be
+	 * synchronized by both of them. */
+	private final IdentityHashMap<Time_counter, Entry> by_time_counter;
+	/** Identifier to entry mapping.<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #modification_lock}. */
+	private final HashMap<Long, Entry> by_id;
+	/** Identifier to be assigned to the&nbsp;next registered time&nbsp;counter. */
+	private long next_id;
+	
+	/** Time&nbsp;counters quantity for each {@link Mode} (array index is
+	 * {@link Mode#ordinal()}). */
+	private final AtomicIntegerArray mode_quantities;
+	
+	/** Registered time&nbsp;counters lists for each {@link Mode} (list index
+	 * is {@link Mode#ordinal()}).<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #index_lock}. */
+	private final ArrayList<ArrayList<Entry>> mode_indexes;
+	/** Registered time&nbsp;counters lists for each {@link Mode} and
+	 * {@link Time_counter_state} pair (list index is obtained by
+	 * {@link #index_key(Mode, Time_counter_state)}).<br>
+	 * <b>Warning!</b> Access to the&nbsp;field must be synchronized by
+	 * {@link #index_lock}. */
+	private final ArrayList<ArrayList<Entry>> state_indexes;
+	/** Time&nbsp;counters quantity for each {@link Mode} and
+	 * {@link Time_counter_state} pair (array index is obtained by
+	 * {@link #index_key(Mode, Time_counter_state)}). */
+	private final AtomicIntegerArray state_quantities;
+	
+	/** Immutable copy of registered time&nbsp;counters. {@code null} if it
+	 * needs to be built again after modification. */
+	private volatile List<Time_counter> snapshot;
+	
+	/** Synchronizes all modifying methods. */
+	private final ReentrantLock modification_lock;
+	/** Synchronizes access to secondary indexes. Is acquired after
+	 * {@link #modification_lock} (if the&nbsp;latter is needed).<br>
+	 * <b>Warning!</b> Other locks <u>must&nbsp;not</u> be acquired while
+	 * holding this lock, because time&nbsp;counters update their state while
+	 * holding their own locks. */
+	private final ReentrantLock index_lock;
+	
+	
+	///// Constructors public =============================================/////
+	/**
+	 * Creates empty registry.
+	 */
+	public Time_counter_registry()
+	{
+		entries = new ArrayList<>();
+		by_time_counter = new IdentityHashMap<>();
+		by_id = new HashMap<>();
+		next_id = 1;
+		mode_quantities = new AtomicIntegerArray(mode_values.length);
+		mode_indexes = new ArrayList<>(mode_values.length);
+		
+		for (int i = 0; i < mode_values.length; ++i)
+		{
+			mode_indexes.add(new ArrayList<Entry>());
+		}
+		
+		state_indexes = new ArrayList<>(mode_values.length * states_quantity);
+		
+		for (int i = 0, end = mode_values.length * states_quantity; i < end; ++i)
+		{
+			state_indexes.add(new ArrayList<Entry>());
+		}
+		
+		state_quantities =
+				new AtomicIntegerArray(mode_values.length * states_quantity);
+		snapshot = Collections.emptyList();
+		modification_lock = new ReentrantLock();
+		index_lock = new ReentrantLock();
+	}
+	
+	
+	///// Methods public of-instance ======================================/////
+	/**
+	 * Registers specified time&nbsp;counter and assigns identifier to it.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param time_counter Time&nbsp;counter to register.
+	 * 
+	 * @return Identifier assigned to the&nbsp;time&nbsp;counter.
+	 * 
+	 * @exception NullPointerException {@code time_counter} argument is
+	 * {@code null}.
+	 * 
+	 * @exception IllegalArgumentException The&nbsp;registry already contains
+	 * specified time&nbsp;counter.
+	 */
+	public long add(final Time_counter time_counter)
+	{
+		// Argument cannot be null
+		if (time_counter == null)
+		{
+			throw new NullPointerException(
+					Time_counter.class.getName() + " argument is null");
+		}
+		
+		lock();
+		
+		try
+		{
+			// If the time counter is registered already
+			if (by_time_counter.containsKey(time_counter))
+			{
+				throw new IllegalArgumentException(Time_counter.class.getName() +
+						" argument already exists in container");
+			}
+			
+			// New entry
+			final Entry entry = new Entry(time_counter, next_id++);
+			
+			entry.slot = entries.size();
+			entries.add(entry);
+			by_id.put(entry.id, entry);
+			index_lock.lock();
+			
+			try
+			{
+				by_time_counter.put(time_counter, entry);
+				
+				// Time counter's mode list
+				final ArrayList<Entry> mode_index =
+						mode_indexes.get(time_counter.instance_mode.ordinal());
+				
+				entry.mode_slot = mode_index.size();
+				mode_index.add(entry);
+				mode_quantities.incrementAndGet(
+						time_counter.instance_mode.ordinal());
+				update_state_locked(entry);
+			}
+			finally
+			{
+				index_lock.unlock();
+			}
+			
+			snapshot = null;
+			
+			// If added time counter needs to be executed synchronously
+			if (time_counter instanceof Instance_counter)
+			{
+				Time_counter_control.get_instance().add_instance_counter(
+						(Instance_counter)time_counter);
+			}
+			
+			return entry.id;
+		}
+		finally
+		{
+			modification_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Increases capacity of the&nbsp;registry, if necessary, to hold
+	 * {@code capacity} time&nbsp;counters without reallocation.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param capacity Desired capacity.
+	 */
+	public void ensure_capacity(final int capacity)
+	{
+		lock();
+		
+		try
+		{
+			entries.ensureCapacity(capacity);
+		}
+		finally
+		{
+			modification_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Removes specified time&nbsp;counter from the&nbsp;registry and shuts it
+	 * down.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param time_counter Time&nbsp;counter to remove.
+	 * 
+	 * @return {@code true}&nbsp;&#0151; the&nbsp;time&nbsp;counter is removed;
+	 * {@code false}&nbsp;&#0151; the&nbsp;registry does&nbsp;not contain it.
+	 * 
+	 * @exception NullPointerException {@code time_counter} argument is
+	 * {@code null}.
+	 */
+	public boolean remove(final Time_counter time_counter)
+	{
+		// Argument cannot be null
+		if (time_counter == null)
+		{
+			throw new NullPointerException(
+					Time_counter.class.getName() + " argument is null");
+		}
+		
+		lock();
+		
+		try
+		{
+			// Entry to remove
+			final Entry entry = by_time_counter.get(time_counter);
+			
+			// If there is no such time counter
+			if (entry == null)
+			{
+				return false;
+			}
+			
+			remove_entry(entry);
+			
+			// If removed time counter was executed synchronously
+			if (time_counter instanceof Instance_counter)
+			{
+				Time_counter_control.get_instance().remove_instance_counter(
+						(Instance_counter)time_counter);
+			}
+		}
+		finally
+		{
+			modification_lock.unlock();
+		}
+		
+		time_counter.shutdown();
+		
+		return true;
+	}
+	
+	
+	/**
+	 * Removes time&nbsp;counter with specified identifier from
+	 * the&nbsp;registry and shuts it down.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param id Identifier of time&nbsp;counter to remove.
+	 * 
+	 * @return Removed time&nbsp;counter. {@code null} if there is no
+	 * time&nbsp;counter with such identifier.
+	 */
+	public Time_counter remove_by_id(final long id)
+	{
+		// Time counter to remove
+		final Time_counter time_counter = get_by_id(id);
+		
+		// If there is no such time counter or it is removed concurrently
+		if (time_counter == null || !remove(time_counter))
+		{
+			return null;
+		}
+		
+		return time_counter;
+	}
+	
+	
+	/**
+	 * Removes all time&nbsp;counters which satisfy specified {@code filter}
+	 * and shuts them down. {@code filter} is tested <u>once</u> for each
+	 * registered time&nbsp;counter (see {@link #snapshot()}) while
+	 * the&nbsp;registry <u>is&nbsp;not</u> locked, so {@code filter} may lock
+	 * time&nbsp;counters.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param filter Condition returning {@code true} for time&nbsp;counter
+	 * to be removed.
+	 * 
+	 * @return Removed time&nbsp;counters. May be empty.
+	 * 
+	 * @exception NullPointerException {@code filter} argument is {@code null}.
+	 */
+	public List<Time_counter> remove_if(
+			final Predicate<? super Time_counter> filter)
+	{
+		// Argument cannot be null
+		if (filter == null)
+		{
+			throw new NullPointerException(
+					Predicate.class.getName() + " argument is null");
+		}
+		
+		// Time counters to remove
+		final ArrayList<Time_counter> to_remove = new ArrayList<>();
+		
+		for (final Time_counter i : snapshot())
+		{
+			// If the time counter needs to be removed
+			if (filter.test(i))
+			{
+				to_remove.add(i);
+			}
+		}
+		
+		return remove_all(to_remove);
+	}
+	
+	
+	/**
+	 * Removes specified time&nbsp;counters from the&nbsp;registry and shuts
+	 * them down. Works in time proportional to {@code time_counters}
+	 * quantity. Time&nbsp;counters which are&nbsp;not registered are
+	 * ignored.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param time_counters Time&nbsp;counters to remove.
+	 * 
+	 * @return Removed time&nbsp;counters. May be empty.
+	 * 
+	 * @exception NullPointerException {@code time_counters} argument is
+	 * {@code null}.
+	 */
+	public List<Time_counter> remove_all(
+			final Collection<? extends Time_counter> time_counters)
+	{
+		// Argument cannot be null
+		if (time_counters == null)
+		{
+			throw new NullPointerException(
+					Collection.class.getName() + " argument is null");
+		}
+		
+		// Removed time counters
+		final ArrayList<Time_counter> removed =
+				new ArrayList<>(time_counters.size());
+		
+		lock();
+		
+		try
+		{
+			// Removed time counters which were executed synchronously
+			final ArrayList<Instance_counter> removed_instance_counters =
+					new ArrayList<>();
+			
+			for (final Time_counter i : time_counters)
+			{
+				// Entry to remove
+				final Entry entry = by_time_counter.get(i);
+				
+				// If there is no such time counter (or it is met twice)
+				if (entry == null)
+				{
+					continue;
+				}
+				
+				remove_entry(entry);
+				removed.add(i);
+				
+				// If removed time counter was executed synchronously
+				if (i instanceof Instance_counter)
+				{
+					removed_instance_counters.add((Instance_counter)i);
+				}
+			}
+			
+			// If synchronously executed time counters were removed
+			if (!removed_instance_counters.isEmpty())
+			{
+				Time_counter_control.get_instance().remove_instance_counter_group(
+						removed_instance_counters);
+			}
+		}
+		finally
+		{
+			modification_lock.unlock();
+		}
+		
+		for (final Time_counter i : removed)
+		{
+			i.shutdown();
+		}
+		
+		return removed;
+	}
+	
+	
+	/**
+	 * Removes all time&nbsp;counters from the&nbsp;registry and shuts them
+	 * down.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 */
+	public void clear()
+	{
+		// Removed time counters
+		final List<Time_counter> removed;
+		
+		lock();
+		
+		try
+		{
+			removed = snapshot_locked();
+			entries.clear();
+			by_id.clear();
+			index_lock.lock();
+			
+			try
+			{
+				by_time_counter.clear();
+				
+				for (int i = 0; i < mode_values.length; ++i)
+				{
+					mode_indexes.get(i).clear();
+					mode_quantities.set(i, 0);
+				}
+				
+				for (int i = 0, end = state_indexes.size(); i < end; ++i)
+				{
+					state_indexes.get(i).clear();
+					state_quantities.set(i, 0);
+				}
+			}
+			finally
+			{
+				index_lock.unlock();
+			}
+			
+			snapshot = Collections.emptyList();
+			Time_counter_control.get_instance().clear_instance_counters_list();
+		}
+		finally
+		{
+			modification_lock.unlock();
+		}
+		
+		for (final Time_counter i : removed)
+		{
+			i.shutdown();
+		}
+	}
+	
+	
+	/**
+	 * Sorts registered time&nbsp;counters using specified
+	 * {@code comparator}.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param comparator Time&nbsp;counters comparator.
+	 * 
+	 * @exception NullPointerException {@code comparator} argument is
+	 * {@code null}.
+	 */
+	public void sort(final Comparator<? super Time_counter> comparator)
+	{
+		// Argument cannot be null
+		if (comparator == null)
+		{
+			throw new NullPointerException(
+					Comparator.class.getName() + " argument is null");
+		}
+		
+		lock();
+		
+		try
+		{
+			entries.sort(new Comparator<Entry>()
+			{
+				@Override
+				public int compare(final Entry o1, final Entry o2)
+				{
+					return comparator.compare(o1.time_counter, o2.time_counter);
+				}
+			});
+			
+			for (int i = 0, end = entries.size(); i < end; ++i)
+			{
+				entries.get(i).slot = i;
+			}
+			
+			snapshot = null;
+		}
+		finally
+		{
+			modification_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param time_counter Time&nbsp;counter to check.
+	 * 
+	 * @return {@code true}&nbsp;&#0151; specified time&nbsp;counter is
+	 * registered; {@code false}&nbsp;&#0151; otherwise.
+	 */
+	public boolean contains(final Time_counter time_counter)
+	{
+		return get_id(time_counter) != -1;
+	}
+	
+	
+	/**
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param time_counter Registered time&nbsp;counter.
+	 * 
+	 * @return Time&nbsp;counter identifier. {@code -1} if specified
+	 * time&nbsp;counter is&nbsp;not registered.
+	 */
+	public long get_id(final Time_counter time_counter)
+	{
+		lock();
+		
+		try
+		{
+			// Registered time counter entry
+			final Entry entry = by_time_counter.get(time_counter);
+			
+			return entry == null ? -1 : entry.id;
+		}
+		finally
+		{
+			modification_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param id Time&nbsp;counter identifier.
+	 * 
+	 * @return Registered time&nbsp;counter with specified identifier.
+	 * {@code null} if there is no such time&nbsp;counter.
+	 */
+	public Time_counter get_by_id(final long id)
+	{
+		lock();
+		
+		try
+		{
+			// Registered time counter entry
+			final Entry entry = by_id.get(id);
+			
+			return entry == null ? null : entry.time_counter;
+		}
+		finally
+		{
+			modification_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Returns immutable copy of registered time&nbsp;counters. The&nbsp;copy is
+	 * built once after each modification and is shared by all callers until
+	 * the&nbsp;next modification, so the&nbsp;method does&nbsp;not lock
+	 * the&nbsp;registry in most cases.
+	 * 
+	 * @return Registered time&nbsp;counters. <b>Warning!</b> The&nbsp;list
+	 * <u>is&nbsp;immutable</u>. An&nbsp;attempt to change it results in
+	 * runtime&nbsp;exception.
+	 */
+	public List<Time_counter> snapshot()
+	{
+		// Cached copy
+		final List<Time_counter> cached = snapshot;
+		
+		// If the copy is actual
+		if (cached != null)
+		{
+			return cached;
+		}
+		
+		lock();
+		
+		try
+		{
+			return snapshot_locked();
+		}
+		finally
+		{
+			modification_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Iterates over {@link #snapshot()}. Modifications performed while
+	 * iterating <u>are&nbsp;not</u> reflected.
+	 */
+	@Override
+	public Iterator<Time_counter> iterator()
+	{
+		return snapshot().iterator();
+	}
+	
+	
+	/**
+	 * @return Registered time&nbsp;counters quantity.
+	 */
+	public int size()
+	{
+		return snapshot().size();
+	}
+	
+	
+	/**
+	 * @param mode Time&nbsp;counters mode.
+	 * 
+	 * @return Quantity of registered time&nbsp;counters working in specified
+	 * {@code mode}.
+	 * 
+	 * @exception NullPointerException {@code mode} argument is {@code null}.
+	 */
+	public int get_quantity(final Mode mode)
+	{
+		return mode_quantities.get(mode.ordinal());
+	}
+	
+	
+	/**
+	 * @param state Time&nbsp;counters state.
+	 * 
+	 * @return Quantity of registered time&nbsp;counters being in specified
+	 * {@code state}.
+	 * 
+	 * @exception NullPointerException {@code state} argument is {@code null}.
+	 */
+	public int get_quantity(final Time_counter_state state)
+	{
+		// Time counters quantity to return
+		int quantity = 0;
+		
+		for (final Mode i : mode_values)
+		{
+			quantity += state_quantities.get(index_key(i, state));
+		}
+		
+		return quantity;
+	}
+	
+	
+	/**
+	 * @param mode Time&nbsp;counters mode.
+	 * 
+	 * @param state Time&nbsp;counters state.
+	 * 
+	 * @return Quantity of registered time&nbsp;counters working in specified
+	 * {@code mode} and being in specified {@code state}.
+	 * 
+	 * @exception NullPointerException At&nbsp;least one of passed arguments is
+	 * {@code null}.
+	 */
+	public int get_quantity(final Mode mode, final Time_counter_state state)
+	{
+		return state_quantities.get(index_key(mode, state));
+	}
+	
+	
+	/**
+	 * Returns registered time&nbsp;counters working in specified {@code mode}
+	 * in time proportional to their quantity.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param mode Time&nbsp;counters mode.
+	 * 
+	 * @return Time&nbsp;counters copy. Elements order is unspecified.
+	 * 
+	 * @exception NullPointerException {@code mode} argument is {@code null}.
+	 */
+	public List<Time_counter> get(final Mode mode)
+	{
+		// Time counters to return
+		final ArrayList<Time_counter> result =
+				new ArrayList<>(get_quantity(mode));
+		
+		index_lock.lock();
+		
+		try
+		{
+			return copy(mode_indexes.get(mode.ordinal()), result);
+		}
+		finally
+		{
+			index_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Returns registered time&nbsp;counters being in specified {@code state}
+	 * in time proportional to their quantity.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param state Time&nbsp;counters state.
+	 * 
+	 * @return Time&nbsp;counters copy. Elements order is unspecified.
+	 * 
+	 * @exception NullPointerException {@code state} argument is {@code null}.
+	 */
+	public List<Time_counter> get(final Time_counter_state state)
+	{
+		// Time counters to return
+		final ArrayList<Time_counter> result =
+				new ArrayList<>(get_quantity(state));
+		
+		index_lock.lock();
+		
+		try
+		{
+			for (final Mode i : mode_values)
+			{
+				copy(state_indexes.get(index_key(i, state)), result);
+			}
+			
+			return result;
+		}
+		finally
+		{
+			index_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Returns registered time&nbsp;counters working in specified {@code mode}
+	 * and being in specified {@code state} in time proportional to their
+	 * quantity.<br>
+	 * <i>Performance note.</i> Contains synchronized sections.
+	 * 
+	 * @param mode Time&nbsp;counters mode.
+	 * 
+	 * @param state Time&nbsp;counters state.
+	 * 
+	 * @return Time&nbsp;counters copy. Elements order is unspecified.
+	 * 
+	 * @exception NullPointerException At&nbsp;least one of passed arguments is
+	 * {@code null}.
+	 */
+	public List<Time_counter> get(
+			final Mode mode, final Time_counter_state state)
+	{
+		// Time counters to return
+		final ArrayList<Time_counter> result =
+				new ArrayList<>(get_quantity(mode, state));
+		
+		index_lock.lock();
+		
+		try
+		{
+			return copy(state_indexes.get(index_key(mode, state)), result);
+		}
+		finally
+		{
+			index_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * Brings specified time&nbsp;counter's {@link Time_counter_state}s in
+	 * the&nbsp;secondary indexes in accordance with its current state.
+	 * Is&nbsp;called by time&nbsp;counters after their state changes;
+	 * the&nbsp;state is read from the&nbsp;time&nbsp;counter itself, so
+	 * concurrent calls for the&nbsp;same time&nbsp;counter leave
+	 * the&nbsp;indexes actual. Does&nbsp;nothing if specified
+	 * time&nbsp;counter is&nbsp;not registered.<br>
+	 * <i>Performance note.</i> Contains synchronized sections. Takes constant
+	 * time. Does&nbsp;not lock the&nbsp;time&nbsp;counter.
+	 * 
+	 * @param time_counter Time&nbsp;counter which state has changed.
+	 */
+	public void update_state(final Time_counter time_counter)
+	{
+		index_lock.lock();
+		
+		try
+		{
+			// Registered time counter entry
+			final Entry entry = by_time_counter.get(time_counter);
+			
+			// If the time counter is registered
+			if (entry != null)
+			{
+				update_state_locked(entry);
+			}
+		}
+		finally
+		{
+			index_lock.unlock();
+		}
+	}
+	
+	
+	/**
+	 * This method is declared for interaction with
+	 * {@link Time_counter_control} singleton, and is likely to throw exception
+	 * when called not from mentioned object.
+	 * 
+	 * @return Quantity of registered {@link Instance_counter}s.
+	 * 
+	 * @exception IllegalStateException The&nbsp;method is called
+	 * <u>not&nbsp;while</u> the&nbsp;registry is modified. Most likely this
+	 * happened when called not from {@link Time_counter_control}.
+	 */
+	public int get_instance_counters_quantity()
+	{
+		// If the method is not called while the registry is modified
+		if (!modification_lock.isHeldByCurrentThread())
+		{
+			throw new IllegalStateException("Method invoked in inappropriate way");
+		}
+		
+		return mode_quantities.get(Mode.M_elapsed_from.ordinal()) +
+				mode_quantities.get(Mode.M_remains_till.ordinal());
+	}
+	
+	
+	///// Methods private static ==========================================/////
+	/**
+	 * @param mode Time&nbsp;counters mode.
+	 * 
+	 * @param state Time&nbsp;counters state.
+	 * 
+	 * @return Index in {@link #state_indexes} and {@link #state_quantities}.
+	 * 
+	 * @exception NullPointerException At&nbsp;least one of passed arguments is
+	 * {@code null}.
+	 */
+	private static int index_key(
+			final Mode mode, final Time_counter_state state)
+	{
+		return mode.ordinal() * states_quantity + state.ordinal();
+	}
+	
+	
+	/**
+	 * Appends time&nbsp;counters from {@code source} entries to
+	 * {@code destination}.
+	 * 
+	 * @param source Entries to copy.
+	 * 
+	 * @param destination List to append time&nbsp;counters to.
+	 * 
+	 * @return {@code destination}.
+	 */
+	private static List<Time_counter> copy(
+			final List<Entry> source, final List<Time_counter> destination)
+	{
+		for (final Entry i : source)
+		{
+			destination.add(i.time_counter);
+		}
+		
+		return destination;
+	}
+	
+	
+	///// Methods private of-instance =====================================/////
+	/**
+	 * Acquires {@link #modification_lock}.
+	 */
+	private void lock()
+	{
+		try
+		{
+			modification_lock.lockInterruptibly();
+		}
+		catch (final InterruptedException exc)
+		{
+			logger.log(Level.INFO, "Thread interrupts. Exception stack trace:", exc);
+			Thread.currentThread().interrupt();
+			modification_lock.lock();
+		}
+	}
+	
+	
+	/**
+	 * Removes {@code entry} from all indexes in constant time.<br>
+	 * <b>Warning!</b> {@link #modification_lock} must be held by the&nbsp;caller.
+	 * {@link #index_lock} <u>must&nbsp;not</u> be held.
+	 * 
+	 * @param entry Entry to remove.
+	 */
+	private void remove_entry(final Entry entry)
+	{
+		// The last element takes place of removed one
+		final Entry last = entries.remove(entries.size() - 1);
+		
+		// If removed element isn't the last one
+		if (last != entry)
+		{
+			entries.set(entry.slot, last);
+			last.slot = entry.slot;
+		}
+		
+		entry.slot = -1;
+		by_id.remove(entry.id);
+		index_lock.lock();
+		
+		try
+		{
+			by_time_counter.remove(entry.time_counter);
+			
+			// Time counter's mode ordinal
+			final int mode_ordinal = entry.time_counter.instance_mode.ordinal();
+			// Time counter's mode list
+			final ArrayList<Entry> mode_index = mode_indexes.get(mode_ordinal);
+			// The last element takes place of removed one
+			final Entry last_in_mode = mode_index.remove(mode_index.size() - 1);
+			
+			// If removed element isn't the last one
+			if (last_in_mode != entry)
+			{
+				mode_index.set(entry.mode_slot, last_in_mode);
+				last_in_mode.mode_slot = entry.mode_slot;
+			}
+			
+			entry.mode_slot = -1;
+			mode_quantities.decrementAndGet(mode_ordinal);
+			
+			for (final Time_counter_state i : state_values)
+			{
+				// If the time counter is in this state
+				if (entry.state_slots[i.ordinal()] != -1)
+				{
+					leave_state(entry, i);
+				}
+			}
+		}
+		finally
+		{
+			index_lock.unlock();
+		}
+		
+		snapshot = null;
+	}
+	
+	
+	/**
+	 * Brings {@code entry} {@link Time_counter_state}s in accordance with
+	 * the&nbsp;time&nbsp;counter current state.<br>
+	 * <b>Warning!</b> {@link #index_lock} must be held by the&nbsp;caller.
+	 * 
+	 * @param entry Entry to update.
+	 */
+	private void update_state_locked(final Entry entry)
+	{
+		// Time counter value sign
+		final boolean is_positive = entry.time_counter.is_positive_value();
+		
+		update_state_locked(entry, Time_counter_state.TCS_positive, is_positive);
+		update_state_locked(entry, Time_counter_state.TCS_elapsed, !is_positive);
+		
+		// If the time counter has run state
+		if (entry.time_counter instanceof Solo_counter)
+		{
+			// The time counter to update
+			final Solo_counter solo_counter = (Solo_counter)entry.time_counter;
+			// Time counter run state
+			final boolean is_running = solo_counter.is_running();
+			
+			update_state_locked(
+					entry, Time_counter_state.TCS_running, is_running);
+			update_state_locked(
+					entry, Time_counter_state.TCS_paused, !is_running);
+			update_state_locked(entry, Time_counter_state.TCS_initial,
+					!solo_counter.counting_had_started());
+			update_state_locked(entry, Time_counter_state.TCS_overflowed,
+					solo_counter.numeric_overflow_status());
+		}
+	}
+	
+	
+	/**
+	 * Adds {@code entry} to or removes it from {@code state} list if it is
+	 * necessary.<br>
+	 * <b>Warning!</b> {@link #index_lock} must be held by the&nbsp;caller.
+	 * 
+	 * @param entry Entry to update.
+	 * 
+	 * @param state Time&nbsp;counter state.
+	 * 
+	 * @param is_in_state {@code true}&nbsp;&#0151; the&nbsp;time&nbsp;counter
+	 * is in {@code state} now; {@code false}&nbsp;&#0151; otherwise.
+	 */
+	private void update_state_locked(final Entry entry,
+			final Time_counter_state state, final boolean is_in_state)
+	{
+		// If the time counter was in the state before
+		final boolean was_in_state = entry.state_slots[state.ordinal()] != -1;
+		
+		// If the state hasn't changed
+		if (was_in_state == is_in_state)
+		{
+			return;
+		}
+		
+		// If the time counter enters the state
+		if (is_in_state)
+		{
+			// Index key
+			final int key = index_key(entry.time_counter.instance_mode, state);
+			// The state list
+			final ArrayList<Entry> state_index = state_indexes.get(key);
+			
+			entry.state_slots[state.ordinal()] = state_index.size();
+			state_index.add(entry);
+			state_quantities.incrementAndGet(key);
+		}
+		else
+		{
+			leave_state(entry, state);
+		}
+	}
+	
+	
+	/**
+	 * Removes {@code entry} from {@code state} list in constant time.<br>
+	 * <b>Warning!</b> {@link #index_lock} must be held by the&nbsp;caller.
+	 * 
+	 * @param entry Entry which is in {@code state}.
+	 * 
+	 * @param state Time&nbsp;counter state.
+	 */
+	private void leave_state(final Entry entry, final Time_counter_state state)
+	{
+		// Index key
+		final int key = index_key(entry.time_counter.instance_mode, state);
+		// The state list
+		final ArrayList<Entry> state_index = state_indexes.get(key);
+		// Index of removed element
+		final int slot = entry.state_slots[state.ordinal()];
+		// The last element takes place of removed one
+		final Entry last = state_index.remove(state_index.size() - 1);
+		
+		// If removed element isn't the last one
+		if (last != entry)
+		{
+			state_index.set(slot, last);
+			last.state_slots[state.ordinal()] = slot;
+		}
+		
+		entry.state_slots[state.ordinal()] = -1;
+		state_quantities.decrementAndGet(key);
+	}
+	
+	
+	/**
+	 * Returns {@link #snapshot}, building it if necessary.<br>
+	 * <b>Warning!</b> {@link #modification_lock} must be held by the&nbsp;caller.
+	 * 
+	 * @return Immutable copy of registered time&nbsp;counters.
+	 */
+	private List<Time_counter> snapshot_locked()
+	{
+		// If the copy is actual
+		if (snapshot != null)
+		{
+			return snapshot;
+		}
+		
+		// Registered time counters copy
+		final Time_counter[] copy = new Time_counter[entries.size()];
+		
+		for (int i = 0; i < copy.length; ++i)
+		{
+			copy[i] = entries.get(i).time_counter;
+		}
+		
+		snapshot = Collections.unmodifiableList(Arrays.asList(copy));
+		
+		return snapshot;
+	}
+}
@@ -19,6 +19,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import app.tar.time_obj.Flight_recorder;
 import app.tar.time_obj.Instance_counter;
 import app.tar.time_obj.Settings;
 import app.tar.time_obj.Time_counter_control;
@@ -154,6 +155,10 @@ public class User_notification_dialog
 					+ source.getClass().getName() + " type");
 		}
 		
+		/* Flight recorder event. Includes waiting for other notification to be
+		 * handled */
+		final Object wait_event = Flight_recorder.begin_notification_wait();
+		
 		try
 		{
 			lock.lockInterruptibly();
@@ -176,6 +181,8 @@ public class User_notification_dialog
 		finally
 		{
 			lock.unlock();
+			Flight_recorder.end_notification_wait(
+					wait_event, user_notification_type);
 		}
 	}
 	
@@ -0,0 +1,111 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj.events;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.EventObject;
+import java.util.List;
+
+import app.tar.time_obj.Time_counter;
+import app.tar.time_obj.Time_counter_control;
+
+
+/**
+ * Event object representing batch operation performed by
+ * {@link Time_counter_control} on the&nbsp;group of time&nbsp;counters. Single
+ * event is generated for the&nbsp;whole group.<br>
+ * <i>Note.</i> <u>Does&nbsp;not</u> support serialization.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+@SuppressWarnings("serial")
+public class Batch_operation_event extends EventObject
+{
+	///// Fields public of-instance =======================================/////
+	/** Performed operation. */
+	public final Batch_operation_type operation;
+	/** Time&nbsp;counters which state has&nbsp;been changed by
+	 * the&nbsp;operation.<br>
+	 * <b>Warning!</b> The&nbsp;container <u>is&nbsp;immutable</u>.
+	 * An&nbsp;attempt to change its content results in runtime&nbsp;exception. */
+	public final List<Time_counter> time_counters;
+	
+	
+	///// Constructors public =============================================/////
+	/**
+	 * <b>Warning!</b> {@code time_counters} argument is stored as&nbsp;is. It
+	 * <u>must</u> be unmodifiable.
+	 * 
+	 * @param source The&nbsp;{@link Time_counter_control} object on which
+	 * the&nbsp;event initially occurred.
+	 * 
+	 * @param operation Performed operation.
+	 * 
+	 * @param time_counters Time&nbsp;counters which state has&nbsp;been
+	 * changed by the&nbsp;operation.
+	 * 
+	 * @exception IllegalArgumentException {@code source} argument is {@code null}.
+	 * 
+	 * @exception NullPointerException {@code operation} or
+	 * {@code time_counters} argument is {@code null}.
+	 */
+	public Batch_operation_event(final Time_counter_control source,
+			final Batch_operation_type operation,
+			final List<Time_counter> time_counters)
+	{
+		super(source);
+		
+		// Arguments cannot be null
+		if (operation == null || time_counters == null)
+		{
+			throw new NullPointerException("At least one of arguments is null");
+		}
+		
+		this.operation = operation;
+		this.time_counters = time_counters;
+	}
+	
+	
+	///// Methods private of-instance =====================================/////
+	/**
+	 * This class <u>does&nbsp;not</u> support serialization.
+	 * 
+	 * @exception NotSerializableException When this method called.
+	 */
+	@SuppressWarnings("javadoc")
+	private void writeObject(final ObjectOutputStream output_stream)
+			throws IOException
+	{
+		throw new NotSerializableException(Batch_operation_event.class.getName());
+	}
+	
+	
+	/**
+	 * This class <u>does&nbsp;not</u> support serialization.
+	 * 
+	 * @exception NotSerializableException When this method called.
+	 */
+	@SuppressWarnings("javadoc")
+	private void readObject(final ObjectInputStream input_stream)
+			throws IOException, ClassNotFoundException
+	{
+		throw new NotSerializableException(Batch_operation_event.class.getName());
+	}
+}
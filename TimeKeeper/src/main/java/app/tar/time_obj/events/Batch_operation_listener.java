@@ -0,0 +1,45 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj.events;
+
+import java.util.EventListener;
+
+import app.tar.time_obj.Time_counter_control;
+
+
+/**
+ * The&nbsp;listener interface for receiving batch operation event from
+ * {@link Time_counter_control}. The&nbsp;class that is interested in
+ * processing the&nbsp;event implements this interface, and the&nbsp;object
+ * created with that class is subscribed for the&nbsp;event using
+ * {@link Time_counter_control#add_Batch_operation_listener(Batch_operation_listener)}
+ * method.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public interface Batch_operation_listener extends EventListener
+{
+	/**
+	 * Invoked when batch operation is performed. Is&nbsp;invoked
+	 * <u>once</u> for the&nbsp;whole group of time&nbsp;counters, in
+	 * the&nbsp;thread which has&nbsp;requested the&nbsp;operation.
+	 * 
+	 * @param event Event object containing performed operation and changed
+	 * time&nbsp;counters.
+	 */
+	void batch_operation_performed(Batch_operation_event event);
+}
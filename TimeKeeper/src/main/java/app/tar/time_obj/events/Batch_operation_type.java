@@ -0,0 +1,40 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj.events;
+
+import app.tar.time_obj.Time_counter_control;
+
+
+/**
+ * Batch operation types performed by {@link Time_counter_control} on
+ * the&nbsp;group of time&nbsp;counters at&nbsp;once.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public enum Batch_operation_type
+{
+	/** Time&nbsp;counters are started (resumed). */
+	BOT_start,
+	/** Time&nbsp;counters are paused. */
+	BOT_pause,
+	/** Time&nbsp;counters are restarted. */
+	BOT_restart,
+	/** Time&nbsp;counters are closed (removed from
+	 * {@link Time_counter_control#get_time_counters()} container and shut
+	 * down). */
+	BOT_close
+}
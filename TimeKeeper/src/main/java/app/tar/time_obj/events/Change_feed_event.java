@@ -0,0 +1,202 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj.events;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.EventObject;
+
+import app.tar.time_obj.Time_counter;
+import app.tar.time_obj.Time_counter_control;
+
+
+/**
+ * Event object carrying all time&nbsp;counters which text value has&nbsp;been
+ * changed during one engine tick of {@link Time_counter_control}. Single
+ * event is generated for all changed time&nbsp;counters instead of
+ * a&nbsp;{@link Time_counter_text_listener} notification for each of them.
+ * Changes are stored in parallel arrays: element {@code i} of the&nbsp;event
+ * consists of {@link #get_time_counter(int)}, {@link #get_text(int)} and
+ * {@link #is_positive(int)} results. Each time&nbsp;counter is present
+ * <u>once</u> with its latest text value.<br>
+ * <i>Note.</i> <u>Does&nbsp;not</u> support serialization.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+@SuppressWarnings("serial")
+public class Change_feed_event extends EventObject
+{
+	///// Fields public of-instance =======================================/////
+	/** Quantity of changed time&nbsp;counters. */
+	public final int size;
+	
+	
+	///// Fields private of-instance ======================================/////
+	/** Changed time&nbsp;counters. */
+	private final Time_counter[] time_counters;
+	/** New text values of {@link #time_counters}. */
+	private final String[] texts;
+	/** Value signs of {@link #time_counters}. */
+	private final boolean[] signs;
+	
+	
+	///// Constructors public =============================================/////
+	/**
+	 * <b>Warning!</b> Array arguments are stored as&nbsp;is. They
+	 * <u>must&nbsp;not</u> be changed after the&nbsp;event is created.
+	 * 
+	 * @param source The&nbsp;{@link Time_counter_control} object on which
+	 * the&nbsp;event initially occurred.
+	 * 
+	 * @param time_counters Changed time&nbsp;counters.
+	 * 
+	 * @param texts New text values of {@code time_counters}.
+	 * 
+	 * @param signs Value signs of {@code time_counters}
+	 * (see&nbsp;{@link Time_counter#is_positive_value()}).
+	 * 
+	 * @param size Quantity of changed time&nbsp;counters (i.e.&nbsp;quantity
+	 * of used elements in each array).
+	 * 
+	 * @exception IllegalArgumentException {@code source} argument is
+	 * {@code null} or {@code size} exceeds at&nbsp;least one of arrays length.
+	 * 
+	 * @exception NullPointerException At&nbsp;least one of array arguments is
+	 * {@code null}.
+	 */
+	public Change_feed_event(final Time_counter_control source,
+			final Time_counter[] time_counters, final String[] texts,
+			final boolean[] signs, final int size)
+	{
+		super(source);
+		
+		// Arguments cannot be null
+		if (time_counters == null || texts == null || signs == null)
+		{
+			throw new NullPointerException("At least one of arguments is null");
+		}
+		
+		// If arrays cannot contain specified quantity of elements
+		if (size < 0 || size > time_counters.length || size > texts.length ||
+				size > signs.length)
+		{
+			throw new IllegalArgumentException("Incorrect size argument");
+		}
+		
+		this.size = size;
+		this.time_counters = time_counters;
+		this.texts = texts;
+		this.signs = signs;
+	}
+	
+	
+	///// Methods public of-instance ======================================/////
+	/**
+	 * @param index Element index.
+	 * 
+	 * @return Changed time&nbsp;counter.
+	 * 
+	 * @exception IndexOutOfBoundsException {@code index} is negative or
+	 * is&nbsp;not less than {@link #size}.
+	 */
+	public Time_counter get_time_counter(final int index)
+	{
+		check_index(index);
+		
+		return time_counters[index];
+	}
+	
+	
+	/**
+	 * @param index Element index.
+	 * 
+	 * @return New time&nbsp;counter text value.
+	 * 
+	 * @exception IndexOutOfBoundsException {@code index} is negative or
+	 * is&nbsp;not less than {@link #size}.
+	 */
+	public String get_text(final int index)
+	{
+		check_index(index);
+		
+		return texts[index];
+	}
+	
+	
+	/**
+	 * @param index Element index.
+	 * 
+	 * @return Time&nbsp;counter value sign. {@code true}&nbsp;&#0151;
+	 * text value represents <u>positive</u> value; {@code false}&nbsp;&#0151;
+	 * <u>negative</u> value.
+	 * 
+	 * @exception IndexOutOfBoundsException {@code index} is negative or
+	 * is&nbsp;not less than {@link #size}.
+	 */
+	public boolean is_positive(final int index)
+	{
+		check_index(index);
+		
+		return signs[index];
+	}
+	
+	
+	///// Methods private of-instance =====================================/////
+	/**
+	 * @param index Element index to check.
+	 * 
+	 * @exception IndexOutOfBoundsException {@code index} is negative or
+	 * is&nbsp;not less than {@link #size}.
+	 */
+	private void check_index(final int index)
+	{
+		// If there is no such element
+		if (index < 0 || index >= size)
+		{
+			throw new IndexOutOfBoundsException(
+					"Index: " + index + ", size: " + size);
+		}
+	}
+	
+	
+	/**
+	 * This class <u>does&nbsp;not</u> support serialization.
+	 * 
+	 * @exception NotSerializableException When this method called.
+	 */
+	@SuppressWarnings("javadoc")
+	private void writeObject(final ObjectOutputStream output_stream)
+			throws IOException
+	{
+		throw new NotSerializableException(Change_feed_event.class.getName());
+	}
+	
+	
+	/**
+	 * This class <u>does&nbsp;not</u> support serialization.
+	 * 
+	 * @exception NotSerializableException When this method called.
+	 */
+	@SuppressWarnings("javadoc")
+	private void readObject(final ObjectInputStream input_stream)
+			throws IOException, ClassNotFoundException
+	{
+		throw new NotSerializableException(Change_feed_event.class.getName());
+	}
+}
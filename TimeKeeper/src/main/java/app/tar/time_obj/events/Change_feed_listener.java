@@ -0,0 +1,48 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj.events;
+
+import java.util.EventListener;
+
+import app.tar.time_obj.Time_counter_control;
+
+
+/**
+ * The&nbsp;listener interface for receiving all time&nbsp;counters text value
+ * changes of one engine tick from {@link Time_counter_control} at&nbsp;once.
+ * The&nbsp;class that is interested in processing the&nbsp;event implements
+ * this interface, and the&nbsp;object created with that class is subscribed
+ * for the&nbsp;event using
+ * {@link Time_counter_control#add_Change_feed_listener(Change_feed_listener)}
+ * method.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public interface Change_feed_listener extends EventListener
+{
+	/**
+	 * Invoked after each engine tick which has changed at&nbsp;least one
+	 * time&nbsp;counter text value. Changes made outside engine ticks
+	 * (e.g.&nbsp;time&nbsp;counter restart) are delivered the&nbsp;same way.
+	 * Is&nbsp;invoked in the&nbsp;engine thread, so implementation must
+	 * return quickly.
+	 * 
+	 * @param event Event object containing changed time&nbsp;counters with
+	 * their new text values.
+	 */
+	void time_counters_changed(Change_feed_event event);
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj.events;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+import java.util.EventObject;
+
+import app.tar.time_obj.Clock_jump_policy;
+import app.tar.time_obj.Time_counter_control;
+
+
+/**
+ * Event object representing the&nbsp;engine clock jump (NTP step, manual
+ * system time change, resume from hibernation) detected by
+ * {@link Time_counter_control}. By the&nbsp;time the&nbsp;event is sent all
+ * time&nbsp;counters are already resynchronized with the&nbsp;clock.<br>
+ * <i>Note.</i> <u>Does&nbsp;not</u> support serialization.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+@SuppressWarnings("serial")
+public class Clock_jump_event extends EventObject
+{
+	///// Fields public of-instance =======================================/////
+	/** The&nbsp;jump amount. Negative for backward jump. Is accurate within
+	 * engine tick period. */
+	public final Duration jump;
+	/** The&nbsp;policy which has&nbsp;been applied to running
+	 * {@link app.tar.time_obj.Solo_counter}s. */
+	public final Clock_jump_policy policy;
+	
+	
+	///// Constructors public =============================================/////
+	/**
+	 * @param source The&nbsp;{@link Time_counter_control} object on which
+	 * the&nbsp;event initially occurred.
+	 * 
+	 * @param jump The&nbsp;jump amount. Negative for backward jump.
+	 * 
+	 * @param policy The&nbsp;policy which has&nbsp;been applied to running
+	 * {@link app.tar.time_obj.Solo_counter}s.
+	 * 
+	 * @exception IllegalArgumentException {@code source} argument is {@code null}.
+	 * 
+	 * @exception NullPointerException {@code jump} or {@code policy} argument
+	 * is {@code null}.
+	 */
+	public Clock_jump_event(final Time_counter_control source,
+			final Duration jump, final Clock_jump_policy policy)
+	{
+		super(source);
+		
+		// Arguments cannot be null
+		if (jump == null || policy == null)
+		{
+			throw new NullPointerException("At least one of arguments is null");
+		}
+		
+		this.jump = jump;
+		this.policy = policy;
+	}
+	
+	
+	///// Methods private of-instance =====================================/////
+	/**
+	 * This class <u>does&nbsp;not</u> support serialization.
+	 * 
+	 * @exception NotSerializableException When this method called.
+	 */
+	@SuppressWarnings("javadoc")
+	private void writeObject(final ObjectOutputStream output_stream)
+			throws IOException
+	{
+		throw new NotSerializableException(Clock_jump_event.class.getName());
+	}
+	
+	
+	/**
+	 * This class <u>does&nbsp;not</u> support serialization.
+	 * 
+	 * @exception NotSerializableException When this method called.
+	 */
+	@SuppressWarnings("javadoc")
+	private void readObject(final ObjectInputStream input_stream)
+			throws IOException, ClassNotFoundException
+	{
+		throw new NotSerializableException(Clock_jump_event.class.getName());
+	}
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj.events;
+
+import java.util.EventListener;
+
+import app.tar.time_obj.Time_counter_control;
+
+
+/**
+ * The&nbsp;listener interface for receiving clock jump event from
+ * {@link Time_counter_control}. The&nbsp;class that is interested in
+ * processing the&nbsp;event implements this interface, and the&nbsp;object
+ * created with that class is subscribed for the&nbsp;event using
+ * {@link Time_counter_control#add_Clock_jump_listener(Clock_jump_listener)}
+ * method.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public interface Clock_jump_listener extends EventListener
+{
+	/**
+	 * Invoked when the&nbsp;engine clock jump is detected, after all
+	 * time&nbsp;counters have&nbsp;been resynchronized. Is&nbsp;invoked in
+	 * the&nbsp;engine thread, so the&nbsp;implementation must return fast.
+	 * 
+	 * @param event Event object containing the&nbsp;jump amount and
+	 * the&nbsp;applied policy.
+	 */
+	void clock_jumped(Clock_jump_event event);
+}
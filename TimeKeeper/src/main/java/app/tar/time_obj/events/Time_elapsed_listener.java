@@ -36,10 +36,10 @@ public interface Time_elapsed_listener extends EventListener
 {
 	/**
 	 * Invoked when time&nbsp;counter time&nbsp;value reaches zero.<br>
-	 * To be correct the&nbsp;method invoked <u>by zero value</u> when there is
-	 * transition <u>from negative to positive</u> time&nbsp;value. When
-	 * transition is <u>from positive to negative</u> time&nbsp;value, method
-	 * invoked <u>by &#8209;1&nbsp;second</u> value.
+	 * The&nbsp;method is invoked by the&nbsp;engine timer <u>at&nbsp;the&nbsp;moment</u>
+	 * zero is reached (with millisecond accuracy) for both transitions: from
+	 * negative to positive and from positive to negative time&nbsp;value.
+	 * Time&nbsp;counter's displayed value may be updated a&nbsp;bit later.
 	 * 
 	 * @param event {@link Time_counter} object which has generated
 	 * the&nbsp;event.
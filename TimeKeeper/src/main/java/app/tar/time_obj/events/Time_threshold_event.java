@@ -0,0 +1,97 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj.events;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+
+import app.tar.time_obj.Time_counter;
+
+
+/**
+ * Event object representing {@link Time_counter} time&nbsp;value reaching
+ * a&nbsp;threshold subscribed using
+ * {@link Time_counter#add_Time_threshold_listener(Duration, Time_threshold_listener)}.<br>
+ * <i>Note.</i> <u>Does&nbsp;not</u> support serialization.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+@SuppressWarnings("serial")
+public class Time_threshold_event extends Time_counter_event<Time_counter>
+{
+	///// Fields public of-instance =======================================/////
+	/** Reached threshold. */
+	public final Duration threshold;
+	
+	
+	///// Constructors public =============================================/////
+	/**
+	 * @param source The&nbsp;{@link Time_counter} object which time&nbsp;value
+	 * has reached the&nbsp;threshold.
+	 * 
+	 * @param threshold Reached threshold.
+	 * 
+	 * @exception IllegalArgumentException {@code source} argument is {@code null}.
+	 * 
+	 * @exception NullPointerException {@code threshold} argument is
+	 * {@code null}.
+	 */
+	public Time_threshold_event(
+			final Time_counter source, final Duration threshold)
+	{
+		super(source);
+		
+		// Argument cannot be null
+		if (threshold == null)
+		{
+			throw new NullPointerException(
+					Duration.class.getName() + " argument is null");
+		}
+		
+		this.threshold = threshold;
+	}
+	
+	
+	///// Methods private of-instance =====================================/////
+	/**
+	 * This class <u>does&nbsp;not</u> support serialization.
+	 * 
+	 * @exception NotSerializableException When this method called.
+	 */
+	@SuppressWarnings("javadoc")
+	private void writeObject(final ObjectOutputStream output_stream)
+			throws IOException
+	{
+		throw new NotSerializableException(Time_threshold_event.class.getName());
+	}
+	
+	
+	/**
+	 * This class <u>does&nbsp;not</u> support serialization.
+	 * 
+	 * @exception NotSerializableException When this method called.
+	 */
+	@SuppressWarnings("javadoc")
+	private void readObject(final ObjectInputStream input_stream)
+			throws IOException, ClassNotFoundException
+	{
+		throw new NotSerializableException(Time_threshold_event.class.getName());
+	}
+}
@@ -0,0 +1,46 @@
+/**
+ * Copyright 2016 Igor Taranenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.tar.time_obj.events;
+
+import java.time.Duration;
+import java.util.EventListener;
+
+import app.tar.time_obj.Time_counter;
+
+
+/**
+ * The&nbsp;listener interface for receiving event of time&nbsp;counter value
+ * reaching specified threshold (e.g.&nbsp;<i>10&nbsp;minutes remain</i>).
+ * The&nbsp;class that is interested in processing the&nbsp;event implements
+ * this interface, and the&nbsp;object created with that class is subscribed
+ * for the&nbsp;event using
+ * {@link Time_counter#add_Time_threshold_listener(Duration, Time_threshold_listener)}
+ * method.
+ * 
+ * @version 1.0
+ * @author Igor Taranenko
+ */
+public interface Time_threshold_listener extends EventListener
+{
+	/**
+	 * Invoked by the&nbsp;engine timer at&nbsp;the&nbsp;moment time&nbsp;counter
+	 * value reaches subscribed threshold.
+	 * 
+	 * @param event Event containing {@link Time_counter} object which has
+	 * generated the&nbsp;event and reached threshold.
+	 */
+	void time_threshold_reached(Time_threshold_event event);
+}
@@ -97,11 +97,11 @@
  * a&nbsp;singleton. Especially it concerns to {@link app.tar.time_obj.Instance_counter}
  * objects. {@link app.tar.time_obj.Time_counter_control} provides synchronous
  * per&#8209;second execution to them (because current&nbsp;time is mutual for
- * all!). But {@link app.tar.time_obj.Solo_counter} objects have individual
- * per&#8209;1/10th&nbsp;second task execution (however user&#8209;provided
- * accuracy is only {@code 1}&nbsp;second).
+ * all!). Running {@link app.tar.time_obj.Solo_counter} objects are ticked
+ * each 1/10th&nbsp;second by the&nbsp;same engine scheduler (however
+ * user&#8209;provided accuracy is only {@code 1}&nbsp;second).
  * <p>Each {@link app.tar.time_obj.Time_counter} puts itself to
- * {@link app.tar.time_obj.containers.Modified_ArrayList} container at
+ * {@link app.tar.time_obj.containers.Time_counter_registry} at
  * the&nbsp;initialization time, which is stored in mentioned
  * {@link app.tar.time_obj.Time_counter_control} class.
  * <p>The last meaningful class that deserves attention is